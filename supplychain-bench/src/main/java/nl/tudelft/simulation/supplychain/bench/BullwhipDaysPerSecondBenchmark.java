@@ -0,0 +1,100 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.logger.CategoryLogger;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.demo.bullwhip.BullwhipModel;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+
+/**
+ * BullwhipDaysPerSecondBenchmark runs complete replications of the BullwhipModel headless, and reports the number of simulated
+ * days per second of wall clock time in the <code>simulatedDays</code> counter. The construction of the model is part of the
+ * measurement, as it is for every replication of an experiment.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BullwhipDaysPerSecondBenchmark
+{
+    /** the run length of one replication in days. */
+    @Param({"125"})
+    private int runLengthDays;
+
+    /**
+     * Switch off the logging of the model.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        CategoryLogger.setAllLogLevel(org.pmw.tinylog.Level.WARNING);
+    }
+
+    /**
+     * Run one replication of the bullwhip model.
+     * @param counters the counter for the simulated days
+     * @throws Exception on simulation error
+     */
+    @Benchmark
+    public void runReplication(final SimulatedDays counters) throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("BullwhipBenchmark", Time.ZERO);
+        BullwhipModel model = new BullwhipModel(simulator);
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.initialize(model, new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO,
+                new Duration(this.runLengthDays, DurationUnit.DAY)));
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        counters.simulatedDays += this.runLengthDays;
+    }
+
+    /**
+     * Counter for the number of simulated days, reported by JMH as a rate per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SimulatedDays
+    {
+        /** the number of simulated days. */
+        public long simulatedDays;
+
+        /**
+         * Reset the counter at the start of each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            this.simulatedDays = 0;
+        }
+    }
+
+}
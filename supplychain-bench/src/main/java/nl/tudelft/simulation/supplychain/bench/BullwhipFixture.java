@@ -0,0 +1,116 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.logger.CategoryLogger;
+import org.pmw.tinylog.Level;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.demo.bullwhip.BullwhipModel;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportingActor;
+
+/**
+ * BullwhipFixture constructs the BullwhipModel on a simulator that is initialized but not started, so the benchmarks can use
+ * realistic actors, roles and products without running the simulation.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class BullwhipFixture
+{
+    /** the simulator. */
+    private final SupplyChainSimulator simulator;
+
+    /** the model. */
+    private final BullwhipModel model;
+
+    /** a make-to-stock retailer. */
+    private final Retailer retailer;
+
+    /** a second make-to-stock retailer. */
+    private final Retailer otherRetailer;
+
+    /** the transporter. */
+    private final TransportingActor transporter;
+
+    /** the PC product that is sold by the retailers. */
+    private final Product product;
+
+    /**
+     * Construct the BullwhipModel, and look up the actors and product that the benchmarks use.
+     * @throws Exception when the model cannot be constructed
+     */
+    public BullwhipFixture() throws Exception
+    {
+        CategoryLogger.setAllLogLevel(Level.WARNING);
+        this.simulator = new SupplyChainSimulator("bench", Time.ZERO);
+        this.model = new BullwhipModel(this.simulator);
+        this.simulator.initialize(this.model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(365.0, DurationUnit.DAY)));
+        this.retailer = (Retailer) this.model.getActor("Seattle_MTS");
+        this.otherRetailer = (Retailer) this.model.getActor("Miami_MTS");
+        this.transporter = (TransportingActor) this.model.getActor("Trucker");
+        this.product = this.retailer.getWarehousingRole().getInventory().getProducts().iterator().next();
+    }
+
+    /**
+     * Return the simulator.
+     * @return the simulator
+     */
+    public SupplyChainSimulator getSimulator()
+    {
+        return this.simulator;
+    }
+
+    /**
+     * Return the model.
+     * @return the model
+     */
+    public BullwhipModel getModel()
+    {
+        return this.model;
+    }
+
+    /**
+     * Return a make-to-stock retailer.
+     * @return a make-to-stock retailer
+     */
+    public Retailer getRetailer()
+    {
+        return this.retailer;
+    }
+
+    /**
+     * Return a second make-to-stock retailer.
+     * @return a second make-to-stock retailer
+     */
+    public Retailer getOtherRetailer()
+    {
+        return this.otherRetailer;
+    }
+
+    /**
+     * Return the transporter.
+     * @return the transporter
+     */
+    public TransportingActor getTransporter()
+    {
+        return this.transporter;
+    }
+
+    /**
+     * Return the PC product that is sold by the retailers.
+     * @return the PC product
+     */
+    public Product getProduct()
+    {
+        return this.product;
+    }
+
+}
@@ -0,0 +1,127 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.djunits.value.vdouble.scalar.Time;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.supplychain.content.Demand;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreFull;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreIndexed;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreInterface;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreSingleThreaded;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+
+/**
+ * ContentStoreBenchmark measures addContent and getContentList of the content store implementations on a store that already
+ * contains a realistic number of transactions. Both the lookup by groupingId and the lookup by groupingId for sent or received
+ * content are measured, since the handlers use the latter. The added content is removed again in the same invocation, so the
+ * size of the store is stable.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentStoreBenchmark
+{
+    /** the number of transactions in the store. */
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    /** the content store implementation. */
+    @Param({"ContentStoreFull", "ContentStoreIndexed", "ContentStoreSingleThreaded"})
+    private String storeType;
+
+    /** the content store. */
+    private ContentStoreInterface store;
+
+    /** the content in the store. */
+    private Demand[] contents;
+
+    /** extra content that is added and removed. */
+    private Demand extra;
+
+    /** the index of the next content to look up. */
+    private int next = 0;
+
+    /**
+     * Fill the content store.
+     * @throws Exception on error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        BullwhipFixture fixture = new BullwhipFixture();
+        Retailer retailer = fixture.getRetailer();
+        this.store = switch (this.storeType)
+        {
+            case "ContentStoreIndexed" -> new ContentStoreIndexed();
+            case "ContentStoreSingleThreaded" -> new ContentStoreSingleThreaded();
+            default -> new ContentStoreFull();
+        };
+        this.store.setOwner(retailer);
+        this.contents = new Demand[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.contents[i] = new Demand(retailer, retailer, Time.ZERO, i, i, fixture.getProduct(), 1.0, Time.ZERO, Time.ZERO);
+            this.store.addContent(this.contents[i], true);
+        }
+        this.extra = new Demand(retailer, retailer, Time.ZERO, this.size, this.size, fixture.getProduct(), 1.0, Time.ZERO,
+                Time.ZERO);
+    }
+
+    /**
+     * Add content to the store and remove it again.
+     * @return whether the store contained the content
+     */
+    @Benchmark
+    public boolean addRemoveContent()
+    {
+        this.store.addContent(this.extra, true);
+        boolean contains = this.store.contains(this.extra);
+        this.store.removeContent(this.extra, true);
+        return contains;
+    }
+
+    /**
+     * Look up the content of a transaction.
+     * @return the content of the transaction
+     */
+    @Benchmark
+    public List<Demand> getContentList()
+    {
+        this.next = (this.next + 7919) % this.size;
+        return this.store.getContentList(this.contents[this.next].groupingId(), Demand.class);
+    }
+
+    /**
+     * Look up the sent content of a transaction.
+     * @return the sent content of the transaction
+     */
+    @Benchmark
+    public List<Demand> getSentContentList()
+    {
+        this.next = (this.next + 7919) % this.size;
+        return this.store.getContentList(this.contents[this.next].groupingId(), Demand.class, true);
+    }
+
+}
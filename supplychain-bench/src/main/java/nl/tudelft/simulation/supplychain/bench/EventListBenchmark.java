@@ -0,0 +1,120 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.dsol.eventlists.EventListInterface;
+import nl.tudelft.simulation.dsol.eventlists.RedBlackTree;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.Executable;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.supplychain.dsol.CalendarEventList;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimEvent;
+
+/**
+ * EventListBenchmark compares the CalendarEventList with the RedBlackTree of DSOL in the classic hold model: the event list
+ * contains a fixed number of pending events, and every operation removes the first event and schedules a new one. The new
+ * events follow the pattern of a supply chain model: most are periodic events at the same time of a later day, such as the
+ * depreciation, interest, fixed costs and restocking checks of the actors, and the others are near-term message deliveries with
+ * an exponential delay with a mean of one hour.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventListBenchmark
+{
+    /** the number of seconds in a day. */
+    private static final double DAY = 86400.0;
+
+    /** the event list implementation. */
+    @Param({"RedBlackTree", "CalendarEventList"})
+    private String eventListType;
+
+    /** the number of pending events. */
+    @Param({"100000", "1000000"})
+    private int pendingEvents;
+
+    /** the fraction of the events that is periodic. */
+    @Param({"0.8"})
+    private double periodicFraction;
+
+    /** the event list. */
+    private EventListInterface<Duration> eventList;
+
+    /** the random stream for the event times. */
+    private SplittableRandom random;
+
+    /** the action of the events. */
+    private final Executable action = () ->
+    {
+        // no action
+    };
+
+    /**
+     * Fill the event list with the pending events.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        this.eventList = "CalendarEventList".equals(this.eventListType) ? new CalendarEventList() : new RedBlackTree<>();
+        this.random = new SplittableRandom(17L);
+        for (int i = 0; i < this.pendingEvents; i++)
+        {
+            this.eventList.add(newEvent(0.0));
+        }
+    }
+
+    /**
+     * Create a new event after the current time, following the supply chain event pattern.
+     * @param now the current time in seconds
+     * @return a new event
+     */
+    private SimEventInterface<Duration> newEvent(final double now)
+    {
+        double time;
+        if (this.random.nextDouble() < this.periodicFraction)
+        {
+            double timeOfDay = 3600.0 * this.random.nextInt(24);
+            time = (Math.floor(now / DAY) + 1.0 + this.random.nextInt(7)) * DAY + timeOfDay;
+        }
+        else
+        {
+            time = now + Math.ceil(-3600.0 * Math.log(1.0 - this.random.nextDouble()));
+        }
+        return new SupplyChainSimEvent(Duration.instantiateSI(time), SimEventInterface.NORMAL_PRIORITY, this.action);
+    }
+
+    /**
+     * Remove the first event and schedule a new one.
+     * @return the removed event
+     */
+    @Benchmark
+    public SimEventInterface<Duration> hold()
+    {
+        SimEventInterface<Duration> event = this.eventList.removeFirst();
+        this.eventList.add(newEvent(event.getAbsoluteExecutionTime().si));
+        return event;
+    }
+
+}
@@ -0,0 +1,83 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.role.warehousing.Inventory;
+import nl.tudelft.simulation.supplychain.role.warehousing.InventoryEventMode;
+
+/**
+ * InventoryBenchmark measures a cycle of inventory updates (receive, reserve and ship one product) in the inventory of a
+ * bullwhip retailer. In the IMMEDIATE event mode, every update fires an INVENTORY_CHANGE_EVENT to the listeners of the
+ * inventory; in the COALESCED event mode, the cycle is one instant that ends with the publication of one change event and one
+ * batch change event. The cycle leaves the amounts in the inventory unchanged.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark
+{
+    /** the way in which the inventory publishes its changes. */
+    @Param({"IMMEDIATE", "COALESCED"})
+    private String eventMode;
+
+    /** the inventory. */
+    private Inventory inventory;
+
+    /** the product. */
+    private Product product;
+
+    /** the price of one product. */
+    private Money price;
+
+    /**
+     * Look up the inventory of a retailer.
+     * @throws Exception on error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        BullwhipFixture fixture = new BullwhipFixture();
+        this.inventory = fixture.getRetailer().getWarehousingRole().getInventory();
+        this.inventory.setEventMode(InventoryEventMode.valueOf(this.eventMode));
+        this.product = fixture.getProduct();
+        this.price = this.product.getUnitMarketPrice();
+    }
+
+    /**
+     * Receive, reserve and ship one product, and publish the pending changes.
+     * @return the actual amount in inventory
+     */
+    @Benchmark
+    public double updateCycle()
+    {
+        this.inventory.addToInventory(this.product, 1.0, this.price);
+        this.inventory.reserveAmount(this.product, 1.0);
+        this.inventory.releaseReservedAmount(this.product, 1.0);
+        this.inventory.publishChanges();
+        return this.inventory.getActualAmount(this.product);
+    }
+
+}
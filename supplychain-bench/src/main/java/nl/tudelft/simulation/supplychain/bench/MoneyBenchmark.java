@@ -0,0 +1,111 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyAccumulator;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
+
+/**
+ * MoneyBenchmark measures chains of Money arithmetic as they occur in the price calculations and bank accounts of the actors:
+ * unit price times amount plus margin, sums over order lines, and comparisons with a budget.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark
+{
+    /** the unit price. */
+    private Money unitPrice = new Money(1100.0, MoneyUnit.USD);
+
+    /** the transport cost. */
+    private Money transportCost = new Money(35.25, MoneyUnit.USD);
+
+    /** the budget. */
+    private Money budget = new Money(1.0E6, MoneyUnit.USD);
+
+    /** the amounts of the order lines. */
+    private double[] amounts = {2.0, 5.0, 10.0, 4.0, 8.0, 3.0, 12.0, 1.0};
+
+    /**
+     * Calculate the total price of a number of order lines with margin and transport cost, and compare it with the budget.
+     * @return whether the total is within the budget
+     */
+    @Benchmark
+    public boolean priceChain()
+    {
+        Money total = new Money(0.0, MoneyUnit.USD);
+        for (double amount : this.amounts)
+        {
+            Money line = this.unitPrice.multiplyBy(amount).multiplyBy(1.15).plus(this.transportCost.multiplyBy(amount));
+            total = total.plus(line);
+        }
+        Money remaining = this.budget.minus(total);
+        return remaining.ge(total.divideBy(10.0));
+    }
+
+    /**
+     * Accumulate many small payments, as a bank account does.
+     * @return the balance
+     */
+    @Benchmark
+    public Money accumulate()
+    {
+        Money balance = this.budget;
+        for (int i = 0; i < 100; i++)
+        {
+            balance = balance.minus(this.transportCost).plus(this.unitPrice.multiplyBy(0.01));
+        }
+        return balance;
+    }
+
+    /**
+     * Calculate the same total price as priceChain with a MoneyAccumulator in minor units.
+     * @return whether the total is within the budget
+     */
+    @Benchmark
+    public boolean priceChainFixed()
+    {
+        MoneyAccumulator total = new MoneyAccumulator(MoneyUnit.USD);
+        for (double amount : this.amounts)
+        {
+            total.addProduct(this.unitPrice, amount * 1.15).addProduct(this.transportCost, amount);
+        }
+        long remaining = this.budget.toMinorUnits() - total.getMinorUnits();
+        return remaining >= total.getMinorUnits() / 10;
+    }
+
+    /**
+     * Accumulate the same payments as accumulate with a MoneyAccumulator in minor units.
+     * @return the balance in minor units
+     */
+    @Benchmark
+    public long accumulateFixed()
+    {
+        MoneyAccumulator balance = new MoneyAccumulator(this.budget);
+        for (int i = 0; i < 100; i++)
+        {
+            balance.subtract(this.transportCost).addProduct(this.unitPrice, 0.01);
+        }
+        return balance.getMinorUnits();
+    }
+
+}
@@ -0,0 +1,136 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
+import nl.tudelft.simulation.supplychain.content.Demand;
+import nl.tudelft.simulation.supplychain.content.Quote;
+import nl.tudelft.simulation.supplychain.content.RequestForQuote;
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+import nl.tudelft.simulation.supplychain.role.purchasing.PurchasingActor;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.QuoteComparatorEnum;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.QuoteHandlerAll;
+import nl.tudelft.simulation.supplychain.role.selling.SellingActor;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportMode;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportPreference;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportPreference.CostTimeImportance;
+
+/**
+ * QuoteSelectionBenchmark measures QuoteHandler.selectBestQuote with the QuoteComparator, for lists of quotes with random
+ * prices and delivery dates from two sellers at different distances.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteSelectionBenchmark
+{
+    /** the number of quotes to select from. */
+    @Param({"4", "32", "256"})
+    private int numberOfQuotes;
+
+    /** the sorting order of the comparator. */
+    @Param({"SORT_PRICE_DATE_DISTANCE", "SORT_DATE_DISTANCE_PRICE", "SORT_DISTANCE_PRICE_DATE"})
+    private QuoteComparatorEnum comparatorType;
+
+    /** the quote handler. */
+    private BenchQuoteHandler handler;
+
+    /** the quotes to select from. */
+    private List<Quote> quotes;
+
+    /**
+     * Create the quote handler and the quotes.
+     * @throws Exception on error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        BullwhipFixture fixture = new BullwhipFixture();
+        Retailer buyer = fixture.getRetailer();
+        Product product = fixture.getProduct();
+        SellingActor[] sellers = new SellingActor[] {fixture.getOtherRetailer(),
+                (SellingActor) fixture.getModel().getActor("Omaha_MTS")};
+        this.handler = new BenchQuoteHandler(buyer, this.comparatorType);
+        StreamInterface stream = new MersenneTwister(10L);
+        Time latest = Time.instantiateSI(new Duration(30.0, DurationUnit.DAY).si);
+        Demand demand = new Demand(buyer, buyer, Time.ZERO, 1L, 1L, product, 10.0, Time.ZERO, latest);
+        TransportPreference preference = new TransportPreference(List.of(TransportMode.TRUCK), CostTimeImportance.COST);
+        this.quotes = new ArrayList<>();
+        for (int i = 0; i < this.numberOfQuotes; i++)
+        {
+            SellingActor seller = sellers[i % sellers.length];
+            RequestForQuote rfq = new RequestForQuote(buyer, seller, Time.ZERO, 2L * i + 2, 1L, demand, preference, latest);
+            Money price = product.getUnitMarketPrice().multiplyBy(10.0 * (0.9 + 0.2 * stream.nextDouble()));
+            Time delivery = Time.instantiateSI(new Duration(1.0 + 20.0 * stream.nextDouble(), DurationUnit.DAY).si);
+            this.quotes.add(new Quote(seller, buyer, Time.ZERO, 2L * i + 3, 1L, rfq, price, delivery, null, latest));
+        }
+    }
+
+    /**
+     * Select the best quote.
+     * @return the best quote
+     */
+    @Benchmark
+    public Quote selectBestQuote()
+    {
+        return this.handler.select(this.quotes);
+    }
+
+    /**
+     * QuoteHandler that makes the selection of the best quote accessible to the benchmark.
+     */
+    static class BenchQuoteHandler extends QuoteHandlerAll
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param owner the purchasing actor
+         * @param comparatorType the sorting order of the quotes
+         */
+        BenchQuoteHandler(final PurchasingActor owner, final QuoteComparatorEnum comparatorType)
+        {
+            super(owner, comparatorType, 0.4, 0.1);
+        }
+
+        /**
+         * Select the best quote.
+         * @param quotes the quotes to select from
+         * @return the best quote, or null when none of the quotes is valid
+         */
+        Quote select(final List<Quote> quotes)
+        {
+            return selectBestQuote(quotes);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.djunits.value.vdouble.scalar.Time;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.Role;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.Demand;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
+import nl.tudelft.simulation.supplychain.handler.ContentHandler;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+
+/**
+ * RoleDispatchBenchmark measures Role.handleContent: finding the handlers for the content class, checking the validity of the
+ * content, and invoking the handler. The benchmark has a handler registered for the exact content class, and a handler that
+ * is found via a Content interface of the content class.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleDispatchBenchmark
+{
+    /** role with a handler for the exact content class. */
+    private BenchRole exactRole;
+
+    /** role with a handler for an interface of the content class. */
+    private BenchRole interfaceRole;
+
+    /** the content to dispatch. */
+    private Demand demand;
+
+    /**
+     * Create the roles and handlers.
+     * @throws Exception on error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        BullwhipFixture fixture = new BullwhipFixture();
+        Retailer retailer = fixture.getRetailer();
+        this.exactRole = new BenchRole("exact", retailer);
+        new CountingHandler<>("exactHandler", this.exactRole, Demand.class);
+        this.interfaceRole = new BenchRole("interface", retailer);
+        new CountingHandler<>("interfaceHandler", this.interfaceRole, GroupedContent.class);
+        this.demand = new Demand(retailer, retailer, Time.ZERO, 1L, 1L, fixture.getProduct(), 1.0, Time.ZERO, Time.ZERO);
+    }
+
+    /**
+     * Dispatch content to a handler for the exact content class.
+     * @return whether the content was handled
+     */
+    @Benchmark
+    public boolean dispatchExactClass()
+    {
+        return this.exactRole.handleContent(this.demand);
+    }
+
+    /**
+     * Dispatch content to a handler for an interface of the content class.
+     * @return whether the content was handled
+     */
+    @Benchmark
+    public boolean dispatchInterface()
+    {
+        return this.interfaceRole.handleContent(this.demand);
+    }
+
+    /**
+     * Role that handles content directly.
+     */
+    static class BenchRole extends Role<BenchRole>
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param id the id of the role
+         * @param actor the actor that owns the role
+         */
+        BenchRole(final String id, final Actor actor)
+        {
+            super(id, actor, new ContentReceiverDirect());
+        }
+    }
+
+    /**
+     * Handler that counts the content it handles.
+     * @param <C> the content class
+     */
+    static class CountingHandler<C extends Content> extends ContentHandler<C, BenchRole>
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the number of handled content items. */
+        private long count = 0;
+
+        /**
+         * @param id the id of the handler
+         * @param role the role that owns the handler
+         * @param contentClass the content class that the handler processes
+         */
+        CountingHandler(final String id, final BenchRole role, final Class<C> contentClass)
+        {
+            super(id, role, contentClass);
+        }
+
+        @Override
+        public boolean handleContent(final C content)
+        {
+            this.count++;
+            return true;
+        }
+    }
+
+}
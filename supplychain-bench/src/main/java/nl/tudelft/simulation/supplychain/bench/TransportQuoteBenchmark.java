@@ -0,0 +1,82 @@
+package nl.tudelft.simulation.supplychain.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nl.tudelft.simulation.supplychain.content.Demand;
+import nl.tudelft.simulation.supplychain.content.RequestForQuote;
+import nl.tudelft.simulation.supplychain.content.TransportQuote;
+import nl.tudelft.simulation.supplychain.content.TransportQuoteRequest;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportMode;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportPreference;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportPreference.CostTimeImportance;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportingActor;
+
+/**
+ * TransportQuoteBenchmark measures TransportingRole.makeTransportQuotes for a transport between two retailers of the bullwhip
+ * model, including the construction of the transport options and steps and the estimation of the transport costs.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransportQuoteBenchmark
+{
+    /** the transporter. */
+    private TransportingActor transporter;
+
+    /** the transport quote request. */
+    private TransportQuoteRequest request;
+
+    /**
+     * Create the transport quote request.
+     * @throws Exception on error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        BullwhipFixture fixture = new BullwhipFixture();
+        Retailer buyer = fixture.getRetailer();
+        Retailer seller = fixture.getOtherRetailer();
+        this.transporter = fixture.getTransporter();
+        Time latest = Time.instantiateSI(new Duration(30.0, DurationUnit.DAY).si);
+        Demand demand = new Demand(buyer, buyer, Time.ZERO, 1L, 1L, fixture.getProduct(), 10.0, Time.ZERO, latest);
+        RequestForQuote rfq = new RequestForQuote(buyer, seller, Time.ZERO, 2L, 1L, demand,
+                new TransportPreference(List.of(TransportMode.TRUCK), CostTimeImportance.COST), latest);
+        this.request = new TransportQuoteRequest(seller, this.transporter, Time.ZERO, 3L, 1L, rfq, latest);
+    }
+
+    /**
+     * Make the transport quotes for the request.
+     * @return the transport quotes
+     */
+    @Benchmark
+    public List<TransportQuote> makeTransportQuotes()
+    {
+        return this.transporter.getTransportingRole().makeTransportQuotes(this.request);
+    }
+
+}
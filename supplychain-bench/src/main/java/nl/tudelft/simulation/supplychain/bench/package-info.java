@@ -0,0 +1,12 @@
+/**
+ * JMH benchmarks for the hot paths of the supply chain library: the content store, the dispatching of content to handlers, the
+ * selection of quotes, the calculation of transport quotes, money arithmetic, inventory updates, the event list, and an
+ * end-to-end run of the bullwhip model. Build the module with <code>mvn package</code> and run <code>java -jar
+ * target/benchmarks.jar</code>.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+package nl.tudelft.simulation.supplychain.bench;
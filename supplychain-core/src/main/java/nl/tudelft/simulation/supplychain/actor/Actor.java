@@ -39,6 +39,12 @@ public interface Actor extends NamedLocation, EventProducer
      */
     <R extends Role<R>> void registerRole(Class<R> roleClass, R role);
 
+    /**
+     * Return the dense index of the actor in the model, which can be used for fast lookups, e.g., in a BitSet.
+     * @return the dense index of the actor in the model, numbered 0, 1, 2, ... in order of registration
+     */
+    int getIndex();
+
     /**
      * Return the collection of roles for this actor.
      * @return the roles of this actor
@@ -61,6 +67,19 @@ public interface Actor extends NamedLocation, EventProducer
      */
     void receiveContent(Content content);
 
+    /**
+     * Notify the actor that the content handlers of one of its roles have changed, so the routing of content to the roles
+     * has to be resolved again.
+     * @param role the role of which the content handlers have changed
+     */
+    void contentHandlersChanged(Role<?> role);
+
+    /**
+     * Return the number of received content items for which none of the roles of the actor had a content handler.
+     * @return the number of received content items that could not be routed to a role
+     */
+    long getUnroutedContentCount();
+
     /**
      * Send content to another actor or this actor with a delay. This method is public, so Roles, Policies, Departments, and
      * other sub-components of the Actor can send content on its behalf. The method has the risk that the conent is sent from
@@ -93,12 +112,13 @@ public interface Actor extends NamedLocation, EventProducer
     SupplyChainModelInterface getModel();
 
     /**
-     * Return the simulator to schedule simulation events on.
+     * Return the simulator to schedule the simulation events of this actor on. This is the simulator of the model, or the
+     * logical process of the actor when the model runs on a partitioned simulator.
      * @return the simulator
      */
     default SupplyChainSimulatorInterface getSimulator()
     {
-        return getModel().getSimulator();
+        return getModel().getSimulator().getActorSimulator(this);
     }
 
     /**
@@ -49,7 +49,7 @@ public interface ActorMethods
      */
     default StreamInterface getDefaultStream()
     {
-        return getModel().getDefaultStream();
+        return getModel().getDefaultStream(getActor());
     }
 
     /**
@@ -58,7 +58,7 @@ public interface ActorMethods
      */
     default SupplyChainSimulatorInterface getSimulator()
     {
-        return getModel().getSimulator();
+        return getActor().getSimulator();
     }
 
     /**
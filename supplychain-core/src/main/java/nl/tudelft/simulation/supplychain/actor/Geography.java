@@ -1,5 +1,6 @@
 package nl.tudelft.simulation.supplychain.actor;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,7 +25,7 @@ import nl.tudelft.simulation.supplychain.role.transporting.TransportMode;
  * @param transferLocations List with accessible transfer locations by truck
  */
 public record Geography(Point2d location, String locationDescription, String landmass, Speed truckSpeed,
-        List<TransferLocation> transferLocations)
+        List<TransferLocation> transferLocations) implements Serializable
 {
     /**
      * A Geography without any transport details, e.g., for a Bank.
@@ -50,6 +51,7 @@ public record Geography(Point2d location, String locationDescription, String lan
      * @param travelTime the travel time to the transfer location
      */
     public record TransferLocation(NamedLocation namedLocation, TransportMode mode, Length distance, Duration travelTime)
+            implements Serializable
     {
     }
 }
@@ -1,8 +1,11 @@
 package nl.tudelft.simulation.supplychain.actor;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -45,6 +48,9 @@ public abstract class Role<R extends Role<R>> extends LocalEventProducer impleme
     /** the handlers for incoming content. */
     private final Map<Class<? extends Content>, ContentHandler<? extends Content, R>> contentHandlers = new LinkedHashMap<>();
 
+    /** the cached dispatch table from the concrete content class to the resolved handlers; cleared when a handler is set. */
+    private transient Map<Class<? extends Content>, List<ContentHandler<? extends Content, R>>> dispatchTable;
+
     /** the autonomous processes for this role. */
     private final Set<AutonomousProcess<R>> autonomousProcesses = new LinkedHashSet<>();
 
@@ -73,6 +79,8 @@ public abstract class Role<R extends Role<R>> extends LocalEventProducer impleme
     {
         Throw.whenNull(handler, "handler cannot be null");
         this.contentHandlers.put(handler.getContentClass(), handler);
+        this.dispatchTable = null;
+        this.actor.contentHandlersChanged(this);
     }
 
     /**
@@ -91,18 +99,61 @@ public abstract class Role<R extends Role<R>> extends LocalEventProducer impleme
      * @param <C> The content class to ensure that the content and handler align
      * @return whether the ContentHandler processed the content or not
      */
+    @SuppressWarnings("unchecked")
     public <C extends Content> boolean handleContent(final C content)
     {
-        return handleContentClass(content, content.getClass());
+        List<ContentHandler<? extends Content, R>> handlers = getContentHandlers(content.getClass());
+        for (int i = 0; i < handlers.size(); i++)
+        {
+            this.contentReceiver.receiveContent(content, (ContentHandler<C, R>) handlers.get(i));
+        }
+        return !handlers.isEmpty();
     }
 
+    /**
+     * Return the handlers that process content of the given concrete class. When a handler is registered for the class
+     * itself, only that handler is returned. Otherwise, the handlers for the Content interfaces of the class are returned
+     * (searched recursively), and when there are none, the handlers for the superclass. The result is cached per content
+     * class, so the class hierarchy is only examined the first time a content class is received.
+     * @param contentClass the concrete content class
+     * @return the (possibly empty) list of handlers for the content class
+     */
+    public List<ContentHandler<? extends Content, R>> getContentHandlers(final Class<? extends Content> contentClass)
+    {
+        if (this.dispatchTable == null)
+        {
+            this.dispatchTable = new LinkedHashMap<>();
+        }
+        List<ContentHandler<? extends Content, R>> handlers = this.dispatchTable.get(contentClass);
+        if (handlers == null)
+        {
+            List<ContentHandler<? extends Content, R>> resolved = new ArrayList<>();
+            resolveContentHandlers(contentClass, resolved);
+            handlers = resolved.isEmpty() ? List.of() : Collections.unmodifiableList(resolved);
+            this.dispatchTable.put(contentClass, handlers);
+        }
+        return handlers;
+    }
+
+    /**
+     * Resolve the handlers for a content class by walking the class hierarchy. A handler that can be reached through multiple
+     * interfaces is only added once.
+     * @param contentClass the content class to resolve
+     * @param handlers the list to which the resolved handlers are added
+     * @return whether one or more handlers were found for the content class
+     */
     @SuppressWarnings("unchecked")
-    private <C extends Content> boolean handleContentClass(final C content, final Class<? extends Content> contentClass)
+    private boolean resolveContentHandlers(final Class<? extends Content> contentClass,
+            final List<ContentHandler<? extends Content, R>> handlers)
     {
         // Note: Content.class.isAssignableFrom(Order.class) --> true
-        if (this.contentHandlers.containsKey(contentClass))
+        ContentHandler<? extends Content, R> handler = this.contentHandlers.get(contentClass);
+        if (handler != null)
         {
-            this.contentReceiver.receiveContent(content, (ContentHandler<C, R>) this.contentHandlers.get(contentClass));
+            if (!handlers.contains(handler))
+            {
+                handlers.add(handler);
+            }
             return true;
         }
         boolean received = false;
@@ -110,7 +161,7 @@ public abstract class Role<R extends Role<R>> extends LocalEventProducer impleme
         {
             if (Content.class.isAssignableFrom(intf))
             {
-                received |= handleContentClass(content, (Class<? extends Content>) intf);
+                received |= resolveContentHandlers((Class<? extends Content>) intf, handlers);
             }
         }
         if (!received)
@@ -120,7 +171,7 @@ public abstract class Role<R extends Role<R>> extends LocalEventProducer impleme
             {
                 if (Content.class.isAssignableFrom(superClass))
                 {
-                    received |= handleContentClass(content, (Class<? extends Content>) superClass);
+                    received |= resolveContentHandlers((Class<? extends Content>) superClass, handlers);
                 }
             }
         }
@@ -1,7 +1,10 @@
 package nl.tudelft.simulation.supplychain.actor;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -12,15 +15,22 @@ import org.djutils.event.LocalEventProducer;
 import org.djutils.exceptions.Throw;
 import org.djutils.logger.CategoryLogger;
 
+import nl.tudelft.simulation.dsol.simtime.SimTime;
 import nl.tudelft.simulation.supplychain.content.Content;
 import nl.tudelft.simulation.supplychain.content.store.ContentStoreInterface;
 import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
 
 /**
  * SupplyChainActor is the abstract class for an Actor that implements the behavior of a 'communicating' object, that is able to
  * exchange messages with other actors and process the incoming messages through the policies that are present in the Roles that
  * the Actor fulfills. The Actor delegates the handling of its messages to it roles.
  * <p>
+ * Normally, every content item that is sent results in its own simulation event for the delivery. When content batching is
+ * switched on for the sending actor, all content that this actor sends to the same receiver for the same delivery time is
+ * delivered in one simulation event, in the order in which the content was sent. This reduces the number of events in, e.g.,
+ * RFQ fan-outs in large networks.
+ * <p>
  * Copyright (c) 2003-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
  * </p>
@@ -37,12 +47,30 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
     /** the longer name of the actor. */
     private final String name;
 
+    /** the dense index of the actor in the model. */
+    private final int index;
+
+    /** the cached hash code of the id, which is available before the other fields when the actor is deserialized. */
+    private final int hashCode;
+
     /** the model. */
     private final SupplyChainModelInterface model;
 
     /** the roles. */
     private Map<Class<? extends Role<?>>, Role<?>> roles = new LinkedHashMap<>();
 
+    /** the routing table from the concrete content class to the roles that have a handler for it; cleared on changes. */
+    private transient Map<Class<? extends Content>, List<Role<?>>> routingTable;
+
+    /** the number of received content items for which none of the roles had a handler. */
+    private long unroutedContentCount = 0;
+
+    /** whether content sent to the same receiver for the same delivery time is delivered in one simulation event. */
+    private boolean contentBatching = false;
+
+    /** the batches of content that are scheduled for delivery, per receiver and delivery time, in order of sending. */
+    private final Map<DeliveryKey, List<Content>> pendingDeliveries = new LinkedHashMap<>();
+
     /** the bounds of the object (size and relative height in the animation). */
     private Bounds2d bounds = new Bounds2d(-1.0, 1.0, -1.0, 1.0);
 
@@ -71,12 +99,13 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
         Throw.whenNull(geography, "geography cannot be null");
         Throw.whenNull(contentStore, "messageStore cannot be null");
         this.id = id;
+        this.hashCode = Objects.hash(id);
         this.name = name;
         this.model = model;
         this.geography = geography;
         this.contentStore = contentStore;
         this.contentStore.setOwner(this);
-        model.registerActor(this);
+        this.index = model.registerActor(this);
     }
 
     @Override
@@ -85,6 +114,42 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
         Throw.whenNull(roleClass, "roleClass cannot be null");
         Throw.whenNull(role, "role cannot be null");
         this.roles.put(roleClass, role);
+        this.routingTable = null;
+    }
+
+    @Override
+    public void contentHandlersChanged(final Role<?> role)
+    {
+        this.routingTable = null;
+    }
+
+    /**
+     * Return the roles that have a content handler for the given concrete content class, in the order in which the roles were
+     * registered. The result is cached per content class until a role is registered or the content handlers of a role change.
+     * @param contentClass the concrete content class
+     * @return the (possibly empty) list of roles that handle the content class
+     */
+    public List<Role<?>> getRoutedRoles(final Class<? extends Content> contentClass)
+    {
+        if (this.routingTable == null)
+        {
+            this.routingTable = new LinkedHashMap<>();
+        }
+        List<Role<?>> routedRoles = this.routingTable.get(contentClass);
+        if (routedRoles == null)
+        {
+            routedRoles = new ArrayList<>();
+            for (Role<?> role : this.roles.values())
+            {
+                if (!role.getContentHandlers(contentClass).isEmpty())
+                {
+                    routedRoles.add(role);
+                }
+            }
+            routedRoles = routedRoles.isEmpty() ? List.of() : List.copyOf(routedRoles);
+            this.routingTable.put(contentClass, routedRoles);
+        }
+        return routedRoles;
     }
 
     @Override
@@ -109,19 +174,26 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
         }
         else
         {
-            boolean processed = false;
-            for (Role<?> role : getRoles())
+            List<Role<?>> routedRoles = getRoutedRoles(content.getClass());
+            for (int i = 0; i < routedRoles.size(); i++)
             {
-                processed |= role.handleContent(content);
+                routedRoles.get(i).handleContent(content);
             }
-            if (!processed)
+            if (routedRoles.isEmpty())
             {
-                CategoryLogger.always().warn(toString() + " does not have a handler for " + content.getClass().getSimpleName());
+                this.unroutedContentCount++;
+                CategoryLogger.always().debug(toString() + " does not have a handler for " + content.getClass().getSimpleName());
             }
         }
         this.contentStore.addContent(content, false);
     }
 
+    @Override
+    public long getUnroutedContentCount()
+    {
+        return this.unroutedContentCount;
+    }
+
     @Override
     public void sendContent(final Content content, final Duration delay)
     {
@@ -129,11 +201,61 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
         {
             CategoryLogger.always().warn("Message " + content + " not originating from sender " + toString());
         }
-        getSimulator().scheduleEventRel(delay, content.receiver(), "receiveContent", new Object[] {content});
+        // the delivery is scheduled on the simulator of the receiver, which differs from ours on a partitioned simulator
+        SupplyChainSimulatorInterface receiverSimulator = content.receiver().getSimulator();
+        if (this.contentBatching && receiverSimulator == getSimulator())
+        {
+            DeliveryKey key = new DeliveryKey(content.receiver(), getSimulator().getSimulatorTime().si + delay.si);
+            List<Content> batch = this.pendingDeliveries.get(key);
+            if (batch == null)
+            {
+                batch = new ArrayList<>();
+                this.pendingDeliveries.put(key, batch);
+                getSimulator().scheduleEventRel(delay, this::deliverBatch, key);
+            }
+            batch.add(content);
+        }
+        else
+        {
+            receiverSimulator.scheduleEventAbs(SimTime.plus(getSimulator().getSimulatorTime(), delay),
+                    () -> content.receiver().receiveContent(content));
+        }
         this.contentStore.addContent(content, true);
         fireEvent(SEND_CONTENT_EVENT, content);
     }
 
+    /**
+     * Deliver a batch of content to the receiver, in the order in which the content was sent.
+     * @param key the receiver and delivery time of the batch
+     */
+    protected void deliverBatch(final DeliveryKey key)
+    {
+        List<Content> batch = this.pendingDeliveries.remove(key);
+        for (int i = 0; i < batch.size(); i++)
+        {
+            key.receiver().receiveContent(batch.get(i));
+        }
+    }
+
+    /**
+     * Return whether content sent to the same receiver for the same delivery time is delivered in one simulation event.
+     * @return whether content batching is switched on for this actor
+     */
+    public boolean isContentBatching()
+    {
+        return this.contentBatching;
+    }
+
+    /**
+     * Set whether content sent to the same receiver for the same delivery time is delivered in one simulation event. Content
+     * that has already been scheduled for delivery is not affected.
+     * @param contentBatching whether content batching is switched on for this actor
+     */
+    public void setContentBatching(final boolean contentBatching)
+    {
+        this.contentBatching = contentBatching;
+    }
+
     /**
      * Return the short id of the actor.
      * @return the short id of the actor
@@ -144,6 +266,12 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
         return this.id;
     }
 
+    @Override
+    public int getIndex()
+    {
+        return this.index;
+    }
+
     @Override
     public String getName()
     {
@@ -195,7 +323,7 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
     @Override
     public int hashCode()
     {
-        return Objects.hash(this.id);
+        return this.hashCode;
     }
 
     @Override
@@ -218,4 +346,13 @@ public abstract class SupplyChainActor extends LocalEventProducer implements Act
         return this.id;
     }
 
+    /**
+     * The receiver and delivery time of a batch of content.
+     * @param receiver the actor that receives the batch
+     * @param deliveryTime the simulation time of the delivery, in seconds
+     */
+    protected record DeliveryKey(Actor receiver, double deliveryTime) implements Serializable
+    {
+    }
+
 }
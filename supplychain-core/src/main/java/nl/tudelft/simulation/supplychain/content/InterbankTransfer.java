@@ -0,0 +1,33 @@
+package nl.tudelft.simulation.supplychain.content;
+
+import org.djunits.value.vdouble.scalar.Time;
+
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.role.banking.BankingActor;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingActor;
+
+/**
+ * The InterbankTransfer is sent by the bank of the sender of a BankTransfer to the bank of the payee, when the sender and the
+ * payee have a different bank. The bank of the sender has already withdrawn the money from the account of the sender; the bank
+ * of the payee adds the money to the account of the payee when it handles the InterbankTransfer.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param sender the bank of the sender of the bank transfer
+ * @param receiver the bank of the payee
+ * @param timestamp the absolute time when the message was created
+ * @param uniqueId the unique id of the message
+ * @param payee the beneficiary of the bank transfer, who has an account at the receiving bank
+ * @param money the amount of money being transfered
+ */
+public record InterbankTransfer(BankingActor sender, BankingActor receiver, Time timestamp, long uniqueId, FinancingActor payee,
+        Money money) implements Content
+{
+    public InterbankTransfer(final BankingActor sender, final BankingActor receiver, final FinancingActor payee,
+            final Money money)
+    {
+        this(sender, receiver, sender.getSimulatorTime(), sender.getModel().getUniqueContentId(), payee, money);
+    }
+}
@@ -0,0 +1,364 @@
+package nl.tudelft.simulation.supplychain.content.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.rmi.RemoteException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.djutils.event.Event;
+import org.djutils.event.EventListener;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.content.BankTransfer;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.InterbankTransfer;
+import nl.tudelft.simulation.supplychain.content.Invoice;
+import nl.tudelft.simulation.supplychain.content.Order;
+import nl.tudelft.simulation.supplychain.content.ProductContent;
+import nl.tudelft.simulation.supplychain.content.Quote;
+import nl.tudelft.simulation.supplychain.content.TransportInvoice;
+import nl.tudelft.simulation.supplychain.content.TransportQuote;
+import nl.tudelft.simulation.supplychain.money.Money;
+
+/**
+ * ContentJournal is an append-only journal of the content that is sent between actors. It listens to the
+ * Actor.SEND_CONTENT_EVENT, and writes a compact binary record per content item to a memory-mapped file. When a file (segment)
+ * is full, the journal rolls over to a new segment. Strings such as the content type, actor ids and product names are written
+ * only once to the journal, and are referred to by an integer id in the content records. A new journal deletes the segments
+ * that an earlier journal with the same directory and base name left behind. The journal can be read back after
+ * the run with the ContentJournalReader, which streams the records without loading the files into the heap. When all analysis
+ * takes place on the journal, the actors can use a ContentStoreEmpty, which saves time and memory in large experiments.
+ * <p>
+ * The format of a segment is a header (magic number and version), followed by records that start with a one-byte tag: a string
+ * definition (tag, int id, short length, UTF-8 bytes), a content record (tag, int type, long uniqueId, long groupingId, int
+ * sender, int receiver, double timestamp, int product, double amount, double price, int priceUnit), or the end of the segment.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentJournal implements EventListener, Closeable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the magic number at the start of each segment ("SCJ1"). */
+    static final int MAGIC = 0x53434A31;
+
+    /** the version of the journal format. */
+    static final int VERSION = 1;
+
+    /** the size of the segment header. */
+    static final int HEADER_SIZE = 8;
+
+    /** the tag that indicates the end of the segment. */
+    static final byte TAG_END = 0;
+
+    /** the tag for a string definition. */
+    static final byte TAG_STRING = 1;
+
+    /** the tag for a content record. */
+    static final byte TAG_CONTENT = 2;
+
+    /** the size of a content record, including the tag. */
+    static final int CONTENT_RECORD_SIZE = 1 + 4 + 8 + 8 + 4 + 4 + 8 + 4 + 8 + 8 + 4;
+
+    /** the id used for a missing string, e.g., when the content has no product. */
+    static final int NO_STRING = -1;
+
+    /** the default segment size: 64 MB. */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /** the directory of the journal files. */
+    private final Path directory;
+
+    /** the base name of the journal files. */
+    private final String baseName;
+
+    /** the size of one segment in bytes. */
+    private final int segmentSize;
+
+    /** the ids of the strings that have been written to the journal. */
+    private final Map<String, Integer> stringIds = new LinkedHashMap<>();
+
+    /** the number of the current segment. */
+    private int segmentNumber = -1;
+
+    /** the file channel of the current segment. */
+    private transient FileChannel channel;
+
+    /** the memory-mapped buffer of the current segment. */
+    private transient MappedByteBuffer buffer;
+
+    /** the number of content records written. */
+    private long recordCount = 0;
+
+    /**
+     * Create a content journal that writes memory-mapped segments of the given size.
+     * @param directory the directory of the journal files
+     * @param baseName the base name of the journal files; the segment number and extension are appended
+     * @param segmentSize the size of one segment in bytes
+     * @throws IOException when the first segment cannot be created
+     */
+    public ContentJournal(final Path directory, final String baseName, final int segmentSize) throws IOException
+    {
+        Throw.whenNull(directory, "directory cannot be null");
+        Throw.whenNull(baseName, "baseName cannot be null");
+        Throw.when(segmentSize < 1024, IllegalArgumentException.class, "segmentSize should be at least 1024 bytes");
+        this.directory = directory;
+        this.baseName = baseName;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        // the reader reads segments until a number is missing; stale segments of a longer earlier run would be read as well
+        int n = 0;
+        while (Files.deleteIfExists(segmentPath(directory, baseName, n)))
+        {
+            n++;
+        }
+        rollSegment();
+    }
+
+    /**
+     * Create a content journal that writes memory-mapped segments of the default size.
+     * @param directory the directory of the journal files
+     * @param baseName the base name of the journal files; the segment number and extension are appended
+     * @throws IOException when the first segment cannot be created
+     */
+    public ContentJournal(final Path directory, final String baseName) throws IOException
+    {
+        this(directory, baseName, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Return the path of a segment file.
+     * @param directory the directory of the journal files
+     * @param baseName the base name of the journal files
+     * @param segmentNumber the number of the segment
+     * @return the path of the segment file
+     */
+    static Path segmentPath(final Path directory, final String baseName, final int segmentNumber)
+    {
+        return directory.resolve(String.format("%s-%05d.scj", baseName, segmentNumber));
+    }
+
+    /**
+     * Subscribe the journal to the Actor.SEND_CONTENT_EVENT of an actor.
+     * @param actor the actor that sends content
+     * @throws RemoteException on network error
+     */
+    public void subscribe(final Actor actor) throws RemoteException
+    {
+        actor.addListener(this, Actor.SEND_CONTENT_EVENT);
+    }
+
+    @Override
+    public void notify(final Event event) throws RemoteException
+    {
+        if (event.getType().equals(Actor.SEND_CONTENT_EVENT))
+        {
+            write((Content) event.getContent());
+        }
+    }
+
+    /**
+     * Write a record for the content to the journal.
+     * @param content the content to write
+     * @throws SupplyChainRuntimeException when the journal has been closed, or when a new segment cannot be created
+     */
+    public synchronized void write(final Content content)
+    {
+        Throw.when(this.buffer == null, SupplyChainRuntimeException.class, "ContentJournal has been closed");
+        try
+        {
+            int typeId = stringId(content.getClass().getSimpleName());
+            int senderId = stringId(content.sender().getId());
+            int receiverId = stringId(content.receiver().getId());
+            int productId = NO_STRING;
+            double amount = Double.NaN;
+            if (content instanceof ProductContent productContent)
+            {
+                productId = stringId(productContent.product().getName());
+                amount = productContent.amount();
+            }
+            Money price = getPrice(content);
+            int priceUnitId = price == null ? NO_STRING : stringId(price.getMoneyUnit().getName());
+            ensureSpace(CONTENT_RECORD_SIZE);
+            this.buffer.put(TAG_CONTENT);
+            this.buffer.putInt(typeId);
+            this.buffer.putLong(content.uniqueId());
+            this.buffer.putLong(content instanceof GroupedContent groupedContent ? groupedContent.groupingId()
+                    : ContentJournalRecord.NO_GROUPING_ID);
+            this.buffer.putInt(senderId);
+            this.buffer.putInt(receiverId);
+            this.buffer.putDouble(content.timestamp().si);
+            this.buffer.putInt(productId);
+            this.buffer.putDouble(amount);
+            this.buffer.putDouble(price == null ? Double.NaN : price.getAmount());
+            this.buffer.putInt(priceUnitId);
+            this.recordCount++;
+        }
+        catch (IOException exception)
+        {
+            throw new SupplyChainRuntimeException("ContentJournal could not write content " + content, exception);
+        }
+    }
+
+    /**
+     * Return the price or monetary amount in the content, or null when the content does not contain a price.
+     * @param content the content
+     * @return the price or monetary amount in the content, or null when the content does not contain a price
+     */
+    private static Money getPrice(final Content content)
+    {
+        if (content instanceof Order order)
+        {
+            return order.price();
+        }
+        if (content instanceof Quote quote)
+        {
+            return quote.price();
+        }
+        if (content instanceof Invoice invoice)
+        {
+            return invoice.price();
+        }
+        if (content instanceof TransportQuote transportQuote)
+        {
+            return transportQuote.price();
+        }
+        if (content instanceof TransportInvoice transportInvoice)
+        {
+            return transportInvoice.price();
+        }
+        if (content instanceof BankTransfer bankTransfer)
+        {
+            return bankTransfer.money();
+        }
+        if (content instanceof InterbankTransfer interbankTransfer)
+        {
+            return interbankTransfer.money();
+        }
+        return null;
+    }
+
+    /**
+     * Return the id of a string, and write the string definition to the journal when it is used for the first time.
+     * @param s the string
+     * @return the id of the string
+     * @throws IOException when a new segment cannot be created
+     */
+    private int stringId(final String s) throws IOException
+    {
+        Integer id = this.stringIds.get(s);
+        if (id == null)
+        {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            Throw.when(bytes.length > Short.MAX_VALUE, IllegalArgumentException.class, "string too long for ContentJournal");
+            Throw.when(1 + 4 + 2 + bytes.length + 1 > this.segmentSize - HEADER_SIZE, IllegalArgumentException.class,
+                    "string of %d bytes does not fit in a ContentJournal segment of %d bytes", bytes.length, this.segmentSize);
+            id = this.stringIds.size();
+            ensureSpace(1 + 4 + 2 + bytes.length);
+            this.buffer.put(TAG_STRING);
+            this.buffer.putInt(id);
+            this.buffer.putShort((short) bytes.length);
+            this.buffer.put(bytes);
+            this.stringIds.put(s, id);
+        }
+        return id;
+    }
+
+    /**
+     * Make sure that the given number of bytes fits in the current segment, plus one byte for the end tag. If not, the segment
+     * is closed, and a new segment is started.
+     * @param size the number of bytes to write
+     * @throws IOException when a new segment cannot be created
+     * @throws IllegalArgumentException when the record does not fit in an empty segment
+     */
+    private void ensureSpace(final int size) throws IOException
+    {
+        Throw.when(size + 1 > this.segmentSize - HEADER_SIZE, IllegalArgumentException.class,
+                "record of %d bytes does not fit in a ContentJournal segment of %d bytes", size, this.segmentSize);
+        if (this.buffer.remaining() < size + 1)
+        {
+            rollSegment();
+        }
+    }
+
+    /**
+     * Close the current segment (when present) and start a new segment.
+     * @throws IOException when the new segment cannot be created
+     */
+    private void rollSegment() throws IOException
+    {
+        closeSegment();
+        this.segmentNumber++;
+        this.channel = FileChannel.open(segmentPath(this.directory, this.baseName, this.segmentNumber),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, this.segmentSize);
+        this.buffer.putInt(MAGIC);
+        this.buffer.putInt(VERSION);
+    }
+
+    /**
+     * Write the end tag to the current segment, flush it to disk, and trim the file to the used size.
+     * @throws IOException when the segment cannot be flushed or closed
+     */
+    private void closeSegment() throws IOException
+    {
+        if (this.buffer != null)
+        {
+            this.buffer.put(TAG_END);
+            this.buffer.force();
+            long size = this.buffer.position();
+            this.buffer = null;
+            try
+            {
+                this.channel.truncate(size);
+            }
+            catch (IOException exception)
+            {
+                // some platforms do not allow truncating a mapped file; the end tag marks the end of the segment
+            }
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+
+    /**
+     * Return the number of content records written to the journal.
+     * @return the number of content records written to the journal
+     */
+    public synchronized long getRecordCount()
+    {
+        return this.recordCount;
+    }
+
+    /**
+     * Return the number of segments written by the journal.
+     * @return the number of segments written by the journal
+     */
+    public synchronized int getNumberOfSegments()
+    {
+        return this.segmentNumber + 1;
+    }
+
+    @Override
+    public synchronized void close() throws IOException
+    {
+        closeSegment();
+    }
+
+}
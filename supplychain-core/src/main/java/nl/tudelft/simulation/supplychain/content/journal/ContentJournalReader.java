@@ -0,0 +1,211 @@
+package nl.tudelft.simulation.supplychain.content.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+
+/**
+ * ContentJournalReader streams the records of a content journal that was written by the ContentJournal. The segments are
+ * memory-mapped one at a time, so the journal is not loaded into the heap. Each iterator (or stream) reads the journal from the
+ * start, since the string definitions that the records refer to are spread over the journal.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentJournalReader implements Iterable<ContentJournalRecord>
+{
+    /** the directory of the journal files. */
+    private final Path directory;
+
+    /** the base name of the journal files. */
+    private final String baseName;
+
+    /**
+     * Create a reader for a content journal.
+     * @param directory the directory of the journal files
+     * @param baseName the base name of the journal files, as used by the ContentJournal
+     */
+    public ContentJournalReader(final Path directory, final String baseName)
+    {
+        Throw.whenNull(directory, "directory cannot be null");
+        Throw.whenNull(baseName, "baseName cannot be null");
+        this.directory = directory;
+        this.baseName = baseName;
+    }
+
+    /**
+     * Return the number of segments of the journal.
+     * @return the number of segments of the journal
+     */
+    public int getNumberOfSegments()
+    {
+        int n = 0;
+        while (Files.exists(ContentJournal.segmentPath(this.directory, this.baseName, n)))
+        {
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public Iterator<ContentJournalRecord> iterator()
+    {
+        return new RecordIterator();
+    }
+
+    /**
+     * Return a sequential stream of the records in the journal.
+     * @return a sequential stream of the records in the journal
+     */
+    public Stream<ContentJournalRecord> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * The iterator that reads the records of the journal segment by segment.
+     */
+    private class RecordIterator implements Iterator<ContentJournalRecord>
+    {
+        /** the strings defined in the journal so far. */
+        private final List<String> strings = new ArrayList<>();
+
+        /** the number of the current segment. */
+        private int segmentNumber = -1;
+
+        /** the buffer of the current segment; null when the journal has been read completely. */
+        private ByteBuffer buffer;
+
+        /** the next record to return, or null when it still has to be read. */
+        private ContentJournalRecord next;
+
+        /**
+         * Create the iterator and open the first segment.
+         */
+        RecordIterator()
+        {
+            openNextSegment();
+        }
+
+        /**
+         * Map the next segment into memory, or set the buffer to null when there are no more segments.
+         */
+        private void openNextSegment()
+        {
+            this.segmentNumber++;
+            Path path = ContentJournal.segmentPath(ContentJournalReader.this.directory, ContentJournalReader.this.baseName,
+                    this.segmentNumber);
+            if (!Files.exists(path))
+            {
+                this.buffer = null;
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+            {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                Throw.when(mapped.remaining() < ContentJournal.HEADER_SIZE || mapped.getInt() != ContentJournal.MAGIC,
+                        SupplyChainRuntimeException.class, "%s is not a content journal segment", path);
+                int version = mapped.getInt();
+                Throw.when(version != ContentJournal.VERSION, SupplyChainRuntimeException.class,
+                        "%s has unsupported content journal version %d", path, version);
+                this.buffer = mapped;
+            }
+            catch (IOException exception)
+            {
+                throw new SupplyChainRuntimeException("ContentJournalReader could not open " + path, exception);
+            }
+        }
+
+        /**
+         * Return a string for an id, or null for a missing string.
+         * @param id the string id
+         * @return the string for the id, or null for a missing string
+         */
+        private String string(final int id)
+        {
+            return id == ContentJournal.NO_STRING ? null : this.strings.get(id);
+        }
+
+        /**
+         * Read records until the next content record, and store it in next.
+         */
+        private void readNext()
+        {
+            while (this.next == null && this.buffer != null)
+            {
+                byte tag = this.buffer.hasRemaining() ? this.buffer.get() : ContentJournal.TAG_END;
+                if (tag == ContentJournal.TAG_END)
+                {
+                    openNextSegment();
+                }
+                else if (tag == ContentJournal.TAG_STRING)
+                {
+                    int id = this.buffer.getInt();
+                    byte[] bytes = new byte[this.buffer.getShort()];
+                    this.buffer.get(bytes);
+                    Throw.when(id != this.strings.size(), SupplyChainRuntimeException.class,
+                            "content journal string definitions out of order");
+                    this.strings.add(new String(bytes, StandardCharsets.UTF_8));
+                }
+                else if (tag == ContentJournal.TAG_CONTENT)
+                {
+                    String contentType = string(this.buffer.getInt());
+                    long uniqueId = this.buffer.getLong();
+                    long groupingId = this.buffer.getLong();
+                    String senderId = string(this.buffer.getInt());
+                    String receiverId = string(this.buffer.getInt());
+                    double timestamp = this.buffer.getDouble();
+                    String product = string(this.buffer.getInt());
+                    double amount = this.buffer.getDouble();
+                    double price = this.buffer.getDouble();
+                    String priceUnit = string(this.buffer.getInt());
+                    this.next = new ContentJournalRecord(contentType, uniqueId, groupingId, senderId, receiverId, timestamp,
+                            product, amount, price, priceUnit);
+                }
+                else
+                {
+                    throw new SupplyChainRuntimeException("content journal contains unknown tag " + tag + " in segment "
+                            + this.segmentNumber);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            readNext();
+            return this.next != null;
+        }
+
+        @Override
+        public ContentJournalRecord next()
+        {
+            readNext();
+            if (this.next == null)
+            {
+                throw new NoSuchElementException();
+            }
+            ContentJournalRecord result = this.next;
+            this.next = null;
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package nl.tudelft.simulation.supplychain.content.journal;
+
+/**
+ * ContentJournalRecord contains the information of one content item as it was written to the content journal. The strings in
+ * the record are shared between records, so streaming through a journal does not create new strings per record.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param contentType the simple class name of the content, e.g., Order or Quote
+ * @param uniqueId the unique id of the content
+ * @param groupingId the grouping id of the content, or NO_GROUPING_ID when the content has no grouping id
+ * @param senderId the id of the sending actor
+ * @param receiverId the id of the receiving actor
+ * @param timestamp the timestamp of the content in SI units (seconds)
+ * @param product the name of the product, or null when the content is not about a product
+ * @param amount the amount of product, or NaN when the content is not about a product
+ * @param price the price or monetary amount in the content, or NaN when the content does not contain a price
+ * @param priceUnit the name of the money unit of the price, or null when the content does not contain a price
+ */
+public record ContentJournalRecord(String contentType, long uniqueId, long groupingId, String senderId, String receiverId,
+        double timestamp, String product, double amount, double price, String priceUnit)
+{
+    /** the value of the groupingId for content without a grouping id. */
+    public static final long NO_GROUPING_ID = Long.MIN_VALUE;
+
+    /**
+     * Return whether the content of this record has a grouping id.
+     * @return whether the content of this record has a grouping id
+     */
+    public boolean hasGroupingId()
+    {
+        return this.groupingId != NO_GROUPING_ID;
+    }
+
+}
@@ -0,0 +1,10 @@
+/**
+ * The content journal writes a compact binary record for every content item that is sent, to memory-mapped files that can be
+ * analyzed after the simulation run without keeping the content in memory.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+package nl.tudelft.simulation.supplychain.content.journal;
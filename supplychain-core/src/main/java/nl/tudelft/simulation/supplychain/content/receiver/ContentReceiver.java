@@ -8,6 +8,7 @@ import org.djutils.exceptions.Throw;
 import nl.tudelft.simulation.supplychain.actor.Role;
 import nl.tudelft.simulation.supplychain.content.Content;
 import nl.tudelft.simulation.supplychain.handler.ContentHandler;
+import nl.tudelft.simulation.supplychain.metrics.HandlerMetricsRegistry;
 
 /**
  * Base implementation of a content receiver. A content receiver simulates the queuing method for incoming contents before they
@@ -60,6 +61,31 @@ public abstract class ContentReceiver implements Identifiable, Serializable
      */
     public abstract <C extends Content> void receiveContent(C content, ContentHandler<C, ?> contentHandler);
 
+    /**
+     * Let the content handler handle the content. When the model has a registry for handler metrics, the invocation, its wall
+     * clock time and the simulated queueing delay since the receipt of the content are recorded.
+     * @param content the content to process
+     * @param contentHandler the handler to execute on the content
+     * @param receiptTimeSi the simulation time at which the content was received, in seconds, or NaN when the content is
+     *            handled immediately upon receipt
+     * @param <C> The content type to ensure that the content and handler align
+     */
+    protected <C extends Content> void handleContent(final C content, final ContentHandler<C, ?> contentHandler,
+            final double receiptTimeSi)
+    {
+        HandlerMetricsRegistry metrics = this.role.getActor().getModel().getHandlerMetrics();
+        if (metrics == null)
+        {
+            contentHandler.handleContent(content);
+            return;
+        }
+        double queueingDelaySi =
+                Double.isNaN(receiptTimeSi) ? 0.0 : this.role.getSimulator().getSimulatorTime().si - receiptTimeSi;
+        long start = System.nanoTime();
+        contentHandler.handleContent(content);
+        metrics.getMetrics(contentHandler).recordInvocation(System.nanoTime() - start, queueingDelaySi);
+    }
+
     @Override
     public String getId()
     {
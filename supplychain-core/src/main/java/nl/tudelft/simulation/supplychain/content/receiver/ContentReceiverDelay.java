@@ -36,8 +36,9 @@ public class ContentReceiverDelay extends ContentReceiver
     @Override
     public <C extends Content> void receiveContent(final C content, final ContentHandler<C, ?> contentHandler)
     {
-        getRole().getActor().getSimulator().scheduleEventRel(this.delayDistribution.draw(), contentHandler, "handleContent",
-                new Object[] {content});
+        double receiptTimeSi = getRole().getSimulator().getSimulatorTime().si;
+        getRole().getActor().getSimulator().scheduleEventRel(this.delayDistribution.draw(),
+                () -> handleContent(content, contentHandler, receiptTimeSi));
     }
 
     /**
@@ -0,0 +1,29 @@
+package nl.tudelft.simulation.supplychain.content.store;
+
+import java.io.Serializable;
+import java.util.List;
+
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.content.Content;
+
+/**
+ * A ContentArchive receives the content of transactions that are retired from a content store, e.g., to write them to a file
+ * or a database for later analysis, or to calculate statistics on completed transactions.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@FunctionalInterface
+public interface ContentArchiveInterface extends Serializable
+{
+    /**
+     * Archive the content of a transaction that has been retired from the content store of an actor.
+     * @param owner the actor that owns the content store
+     * @param groupingId the grouping id of the retired transaction
+     * @param contentList the content of the transaction that was still present in the content store
+     */
+    void archive(Actor owner, long groupingId, List<Content> contentList);
+
+}
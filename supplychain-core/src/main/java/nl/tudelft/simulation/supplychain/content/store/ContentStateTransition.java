@@ -0,0 +1,159 @@
+package nl.tudelft.simulation.supplychain.content.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.pmw.tinylog.Logger;
+
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.Invoice;
+import nl.tudelft.simulation.supplychain.content.Order;
+import nl.tudelft.simulation.supplychain.content.OrderBasedOnQuote;
+import nl.tudelft.simulation.supplychain.content.OrderConfirmation;
+import nl.tudelft.simulation.supplychain.content.Payment;
+import nl.tudelft.simulation.supplychain.content.Quote;
+import nl.tudelft.simulation.supplychain.content.RequestForQuote;
+
+/**
+ * ContentStateTransition describes which "old state" content of a transaction becomes obsolete when a new content item of the
+ * same transaction is sent or received. When, e.g., a Quote is received, the RequestForQuote that was sent earlier is no longer
+ * needed in the sent / received administration of the content store. The transitions are the same for every content store that
+ * keeps the latest state of the transactions, so they are listed here once. The indexed content stores also share the walk
+ * over the transitions, through the {@link Index} of their latest state content.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param triggerClass the content class that makes older content obsolete
+ * @param triggerSent whether the trigger content is sent (true) or received (false)
+ * @param oldStateClass the content class that becomes obsolete
+ * @param oldStateSent whether the obsolete content was sent (true) or received (false)
+ * @param description a description of the transition for the log
+ */
+record ContentStateTransition(Class<? extends GroupedContent> triggerClass, boolean triggerSent,
+        Class<? extends Content> oldStateClass, boolean oldStateSent, String description)
+{
+    /** the transitions that remove old state content from the sent / received administration. */
+    static final List<ContentStateTransition> TRANSITIONS = List.of(
+            new ContentStateTransition(Quote.class, false, RequestForQuote.class, true, "RFQ for quote"),
+            new ContentStateTransition(OrderBasedOnQuote.class, true, Quote.class, false, "quote for order"),
+            new ContentStateTransition(OrderConfirmation.class, false, Order.class, true, "order for order confirmation"),
+            new ContentStateTransition(Payment.class, true, Invoice.class, false, "invoice for payment"),
+            new ContentStateTransition(Quote.class, true, RequestForQuote.class, false, "RFQ for quote"),
+            new ContentStateTransition(OrderBasedOnQuote.class, false, Quote.class, true, "quote for order"),
+            new ContentStateTransition(OrderConfirmation.class, true, Order.class, false, "order for order confirmation"),
+            new ContentStateTransition(Payment.class, false, Invoice.class, true, "invoice for payment"));
+
+    /**
+     * Return whether this transition applies to the given content.
+     * @param content the content that is stored
+     * @param sent whether the content is sent (true) or received (false)
+     * @return whether this transition applies to the given content
+     */
+    boolean appliesTo(final GroupedContent content, final boolean sent)
+    {
+        return this.triggerSent == sent && this.triggerClass.isInstance(content);
+    }
+
+    /**
+     * Remove the content from the sent / received administration of a content store that has become obsolete by storing the
+     * given content.
+     * @param store the content store in which the content has just been stored
+     * @param index the index of the latest state content of the content store
+     * @param content the content that has just been stored
+     * @param sent indicates whether the content is sent or received
+     */
+    static void removeOldStateContent(final ContentStoreInterface store, final Index index, final GroupedContent content,
+            final boolean sent)
+    {
+        for (ContentStateTransition transition : TRANSITIONS)
+        {
+            if (transition.appliesTo(content, sent))
+            {
+                List<Content> oldStateList = transition.getOldStateContent(index, content.groupingId());
+                if (oldStateList.isEmpty())
+                {
+                    Logger.warn("t=" + store.getOwner().getSimulatorTime() + " removeOldStateContent - could not find "
+                            + transition.description() + " uniqueId=" + content.uniqueId() + ", IDid=" + content.groupingId()
+                            + " " + content.toString());
+                }
+                for (Content oldState : oldStateList)
+                {
+                    store.removeSentReceivedContent(oldState, transition.oldStateSent());
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the old state content of this transition. The index is keyed on the concrete content class, so when the old state
+     * class is an interface such as Order, the index entries of all implementing classes are combined.
+     * @param index the index of the latest state content of the content store
+     * @param groupingId the groupingId of the transaction
+     * @return the old state content for the transition
+     */
+    List<Content> getOldStateContent(final Index index, final long groupingId)
+    {
+        List<Content> result = new ArrayList<>();
+        if (this.oldStateClass.isInterface())
+        {
+            for (Class<? extends Content> contentClass : index.getIndexedClasses(this.oldStateSent))
+            {
+                if (this.oldStateClass.isAssignableFrom(contentClass))
+                {
+                    addIndexedContent(index, contentClass, groupingId, result);
+                }
+            }
+        }
+        else
+        {
+            addIndexedContent(index, this.oldStateClass, groupingId, result);
+        }
+        return result;
+    }
+
+    /**
+     * Add the indexed old state content of one content class to a result list.
+     * @param index the index of the latest state content of the content store
+     * @param contentClass the concrete content class
+     * @param groupingId the groupingId of the transaction
+     * @param result the list to which the content is added
+     */
+    private void addIndexedContent(final Index index, final Class<? extends Content> contentClass, final long groupingId,
+            final List<Content> result)
+    {
+        Collection<Content> indexed = index.getIndexedContent(contentClass, groupingId, this.oldStateSent);
+        if (indexed != null)
+        {
+            result.addAll(indexed);
+        }
+    }
+
+    /**
+     * Index gives access to the latest state content of the transactions in a content store, keyed on the concrete content
+     * class, the groupingId, and whether the content was sent or received.
+     */
+    interface Index
+    {
+        /**
+         * Return the concrete content classes in the sent or received index.
+         * @param sent whether to look in the sent (true) or received (false) index
+         * @return the concrete content classes in the index
+         */
+        Set<Class<? extends Content>> getIndexedClasses(boolean sent);
+
+        /**
+         * Return the latest state content of a concrete content class for a transaction.
+         * @param contentClass the concrete content class
+         * @param groupingId the groupingId of the transaction
+         * @param sent whether to look in the sent (true) or received (false) index
+         * @return the content of the class for the transaction, or null when there is none
+         */
+        Collection<Content> getIndexedContent(Class<? extends Content> contentClass, long groupingId, boolean sent);
+    }
+
+}
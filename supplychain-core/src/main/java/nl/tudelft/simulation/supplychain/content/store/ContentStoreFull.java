@@ -11,19 +11,14 @@ import org.pmw.tinylog.Logger;
 
 import nl.tudelft.simulation.supplychain.actor.Actor;
 import nl.tudelft.simulation.supplychain.content.Content;
-import nl.tudelft.simulation.supplychain.content.Demand;
 import nl.tudelft.simulation.supplychain.content.GroupedContent;
 import nl.tudelft.simulation.supplychain.content.Invoice;
 import nl.tudelft.simulation.supplychain.content.Order;
 import nl.tudelft.simulation.supplychain.content.OrderBasedOnQuote;
 import nl.tudelft.simulation.supplychain.content.OrderConfirmation;
-import nl.tudelft.simulation.supplychain.content.OrderStandalone;
 import nl.tudelft.simulation.supplychain.content.Payment;
-import nl.tudelft.simulation.supplychain.content.ProductionOrder;
 import nl.tudelft.simulation.supplychain.content.Quote;
 import nl.tudelft.simulation.supplychain.content.RequestForQuote;
-import nl.tudelft.simulation.supplychain.content.SearchAnswer;
-import nl.tudelft.simulation.supplychain.content.SearchRequest;
 import nl.tudelft.simulation.supplychain.product.Shipment;
 
 /**
@@ -134,24 +129,18 @@ public class ContentStoreFull implements ContentStoreInterface
     }
 
     @Override
-    public void removeAllContent(final long groupingId)
+    public synchronized void removeAllContent(final long groupingId)
     {
         Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
         Map<Class<? extends Content>, List<? super Content>> contentMap = this.groupingContentMap.get(groupingId);
         if (contentMap != null)
         {
-            removeContentList(contentMap, SearchRequest.class);
-            removeContentList(contentMap, SearchAnswer.class);
-            removeContentList(contentMap, RequestForQuote.class);
-            removeContentList(contentMap, Quote.class);
-            removeContentList(contentMap, Order.class);
-            removeContentList(contentMap, OrderStandalone.class);
-            removeContentList(contentMap, OrderBasedOnQuote.class);
-            removeContentList(contentMap, OrderConfirmation.class);
-            removeContentList(contentMap, Invoice.class);
-            removeContentList(contentMap, Payment.class);
-            removeContentList(contentMap, Demand.class);
-            removeContentList(contentMap, ProductionOrder.class);
+            for (Class<? extends Content> contentType : new ArrayList<>(contentMap.keySet()))
+            {
+                removeContentList(contentMap, contentType);
+            }
+            // drop the groupingId itself, so the map does not keep growing with finished transactions
+            this.groupingContentMap.remove(groupingId);
         }
     }
 
@@ -0,0 +1,471 @@
+package nl.tudelft.simulation.supplychain.content.store;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainCheckpoint;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainCheckpoint.DeferredState;
+
+/**
+ * ContentStoreIndexed is a content store that keeps the same information as the ContentStoreFull, but indexes the sent and
+ * received content on the combination (content class, groupingId, sent). Within an index entry the content is keyed on its
+ * uniqueId. Lookups of the content for one transaction, removal of content, and the contains check are therefore constant time
+ * operations, independent of the number of open transactions of the owner.
+ * <p>
+ * When the store is serialized, the maps are written as flat lists of content with their keys, and the maps are rebuilt in
+ * the same order when the store is read back. In a SupplyChainCheckpoint, the content is written after the model.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentStoreIndexed implements ContentStoreInterface, ContentStateTransition.Index, DeferredState
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** all content per groupingId, per content class, keyed on uniqueId. */
+    private transient Map<Long, Map<Class<? extends Content>, Map<Long, Content>>> groupingContentMap = new LinkedHashMap<>();
+
+    /** the received content with a groupingId, latest state, per content class and groupingId, keyed on uniqueId. */
+    private transient Map<Class<? extends Content>, Map<Long, Map<Long, Content>>> receivedIndex = new LinkedHashMap<>();
+
+    /** the sent content with a groupingId, latest state, per content class and groupingId, keyed on uniqueId. */
+    private transient Map<Class<? extends Content>, Map<Long, Map<Long, Content>>> sentIndex = new LinkedHashMap<>();
+
+    /** the received content without a groupingId, per content class, keyed on uniqueId. */
+    private transient Map<Class<? extends Content>, Map<Long, Content>> receivedUngrouped = new LinkedHashMap<>();
+
+    /** the sent content without a groupingId, per content class, keyed on uniqueId. */
+    private transient Map<Class<? extends Content>, Map<Long, Content>> sentUngrouped = new LinkedHashMap<>();
+
+    /** the owner. */
+    private Actor owner;
+
+    @Override
+    public void setOwner(final Actor owner)
+    {
+        Throw.whenNull(owner, "owner cannot be null");
+        Throw.when(this.owner != null, RuntimeException.class,
+                "ContentStore - setting owner for %s while it has been set before", owner.toString());
+        this.owner = owner;
+    }
+
+    @Override
+    public synchronized void addContent(final Content content, final boolean sent)
+    {
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        if (content instanceof GroupedContent groupedContent)
+        {
+            long groupingId = groupedContent.groupingId();
+            this.groupingContentMap.computeIfAbsent(groupingId, g -> new LinkedHashMap<>())
+                    .computeIfAbsent(content.getClass(), c -> new LinkedHashMap<>()).put(content.uniqueId(), content);
+            (sent ? this.sentIndex : this.receivedIndex).computeIfAbsent(content.getClass(), c -> new LinkedHashMap<>())
+                    .computeIfAbsent(groupingId, g -> new LinkedHashMap<>()).put(content.uniqueId(), content);
+            ContentStateTransition.removeOldStateContent(this, this, groupedContent, sent);
+        }
+        else
+        {
+            (sent ? this.sentUngrouped : this.receivedUngrouped).computeIfAbsent(content.getClass(), c -> new LinkedHashMap<>())
+                    .put(content.uniqueId(), content);
+        }
+    }
+
+    @Override
+    public synchronized void removeContent(final Content content, final boolean sent)
+    {
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        if (content instanceof GroupedContent groupedContent)
+        {
+            long groupingId = groupedContent.groupingId();
+            Map<Class<? extends Content>, Map<Long, Content>> contentMap = this.groupingContentMap.get(groupingId);
+            if (contentMap != null)
+            {
+                Map<Long, Content> contentList = contentMap.get(content.getClass());
+                if (contentList != null)
+                {
+                    contentList.remove(content.uniqueId());
+                    if (contentList.isEmpty())
+                    {
+                        contentMap.remove(content.getClass());
+                        if (contentMap.isEmpty())
+                        {
+                            this.groupingContentMap.remove(groupingId);
+                        }
+                    }
+                }
+            }
+        }
+        removeSentReceivedContent(content, sent);
+    }
+
+    @Override
+    public synchronized void removeSentReceivedContent(final Content content, final boolean sent)
+    {
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        Class<? extends Content> contentClass = content.getClass();
+        if (content instanceof GroupedContent groupedContent)
+        {
+            Map<Long, Map<Long, Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(contentClass);
+            if (classIndex != null)
+            {
+                long groupingId = groupedContent.groupingId();
+                Map<Long, Content> srMap = classIndex.get(groupingId);
+                if (srMap != null)
+                {
+                    srMap.remove(content.uniqueId());
+                    if (srMap.isEmpty())
+                    {
+                        classIndex.remove(groupingId);
+                    }
+                }
+            }
+        }
+        else
+        {
+            Map<Long, Content> srMap = (sent ? this.sentUngrouped : this.receivedUngrouped).get(contentClass);
+            if (srMap != null)
+            {
+                srMap.remove(content.uniqueId());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void removeAllContent(final long groupingId)
+    {
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        Map<Class<? extends Content>, Map<Long, Content>> contentMap = this.groupingContentMap.remove(groupingId);
+        if (contentMap != null)
+        {
+            for (Map<Long, Content> contentList : contentMap.values())
+            {
+                for (Content content : contentList.values())
+                {
+                    removeSentReceivedContent(content, true);
+                    removeSentReceivedContent(content, false);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public synchronized <T extends Content> List<T> getContentList(final long groupingId, final Class<T> contentClass)
+    {
+        Map<Class<? extends Content>, Map<Long, Content>> contentMap = this.groupingContentMap.get(groupingId);
+        if (contentMap == null)
+        {
+            return new ArrayList<>();
+        }
+        Map<Long, Content> contentList = contentMap.get(contentClass);
+        return contentList == null ? new ArrayList<>() : new ArrayList<>((Collection<T>) (Collection<?>) contentList.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public synchronized <T extends Content> List<T> getContentList(final long groupingId, final Class<T> contentClass,
+            final boolean sent)
+    {
+        Map<Long, Map<Long, Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(contentClass);
+        if (classIndex == null)
+        {
+            return new ArrayList<>();
+        }
+        Map<Long, Content> srMap = classIndex.get(groupingId);
+        return srMap == null ? new ArrayList<>() : new ArrayList<>((Collection<T>) (Collection<?>) srMap.values());
+    }
+
+    @Override
+    public synchronized boolean contains(final Content content)
+    {
+        return containsSentReceived(content, true) || containsSentReceived(content, false);
+    }
+
+    /**
+     * Return whether the sent or received administration contains the content.
+     * @param content the content to look up
+     * @param sent whether to look in the sent (true) or received (false) administration
+     * @return whether the sent or received administration contains the content
+     */
+    private boolean containsSentReceived(final Content content, final boolean sent)
+    {
+        if (content instanceof GroupedContent groupedContent)
+        {
+            Map<Long, Map<Long, Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(content.getClass());
+            if (classIndex == null)
+            {
+                return false;
+            }
+            Map<Long, Content> srMap = classIndex.get(groupedContent.groupingId());
+            return srMap != null && srMap.containsKey(content.uniqueId());
+        }
+        Map<Long, Content> srMap = (sent ? this.sentUngrouped : this.receivedUngrouped).get(content.getClass());
+        return srMap != null && srMap.containsKey(content.uniqueId());
+    }
+
+    @Override
+    public synchronized boolean contains(final long groupingId, final Class<? extends Content> contentClass)
+    {
+        Map<Class<? extends Content>, Map<Long, Content>> contentMap = this.groupingContentMap.get(groupingId);
+        if (contentMap == null)
+        {
+            return false;
+        }
+        Map<Long, Content> contentList = contentMap.get(contentClass);
+        return contentList != null && !contentList.isEmpty();
+    }
+
+    @Override
+    public synchronized Set<Class<? extends Content>> getIndexedClasses(final boolean sent)
+    {
+        return Collections.unmodifiableSet((sent ? this.sentIndex : this.receivedIndex).keySet());
+    }
+
+    @Override
+    public synchronized Collection<Content> getIndexedContent(final Class<? extends Content> contentClass, final long groupingId,
+            final boolean sent)
+    {
+        Map<Long, Map<Long, Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(contentClass);
+        if (classIndex == null)
+        {
+            return null;
+        }
+        Map<Long, Content> srMap = classIndex.get(groupingId);
+        return srMap == null ? null : srMap.values();
+    }
+
+    @Override
+    public Actor getOwner()
+    {
+        return this.owner;
+    }
+
+    /**
+     * Write the store. The content is written directly, or after the model when the store is part of a checkpoint.
+     * @param out the stream to write the store to
+     * @throws IOException on I/O error
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        boolean deferred = SupplyChainCheckpoint.defer(out, this);
+        out.writeBoolean(deferred);
+        if (!deferred)
+        {
+            writeDeferredState(out);
+        }
+    }
+
+    /**
+     * Write the content of each map as a flat list of content with its keys.
+     * @param out the stream to write the content to
+     * @throws IOException on I/O error
+     */
+    @Override
+    public synchronized void writeDeferredState(final ObjectOutputStream out) throws IOException
+    {
+        int n = 0;
+        for (Map<Class<? extends Content>, Map<Long, Content>> contentMap : this.groupingContentMap.values())
+        {
+            for (Map<Long, Content> contentList : contentMap.values())
+            {
+                n += contentList.size();
+            }
+        }
+        out.writeInt(n);
+        for (Map.Entry<Long, Map<Class<? extends Content>, Map<Long, Content>>> groupEntry : this.groupingContentMap.entrySet())
+        {
+            for (Map.Entry<Class<? extends Content>, Map<Long, Content>> classEntry : groupEntry.getValue().entrySet())
+            {
+                for (Map.Entry<Long, Content> entry : classEntry.getValue().entrySet())
+                {
+                    out.writeLong(groupEntry.getKey());
+                    out.writeObject(classEntry.getKey());
+                    out.writeLong(entry.getKey());
+                    out.writeObject(entry.getValue());
+                }
+            }
+        }
+        writeIndex(out, this.receivedIndex);
+        writeIndex(out, this.sentIndex);
+        writeUngrouped(out, this.receivedUngrouped);
+        writeUngrouped(out, this.sentUngrouped);
+    }
+
+    /**
+     * Read the store. The content is read directly, or after the model when the store is part of a checkpoint.
+     * @param in the stream to read the store from
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        if (!in.readBoolean())
+        {
+            readDeferredState(in);
+        }
+    }
+
+    /**
+     * Read the content, and rebuild the maps in the order in which they were written. The keys are read from the stream instead
+     * of from the content, since the content might not have been read completely yet.
+     * @param in the stream to read the content from
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void readDeferredState(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        this.groupingContentMap = new LinkedHashMap<>();
+        int n = readSize(in);
+        for (int i = 0; i < n; i++)
+        {
+            long groupingId = in.readLong();
+            Class<? extends Content> contentClass = (Class<? extends Content>) in.readObject();
+            long uniqueId = in.readLong();
+            this.groupingContentMap.computeIfAbsent(groupingId, g -> new LinkedHashMap<>())
+                    .computeIfAbsent(contentClass, c -> new LinkedHashMap<>()).put(uniqueId, (Content) in.readObject());
+        }
+        this.receivedIndex = readIndex(in);
+        this.sentIndex = readIndex(in);
+        this.receivedUngrouped = readUngrouped(in);
+        this.sentUngrouped = readUngrouped(in);
+    }
+
+    /**
+     * Write a sent or received index as a flat list of content with its keys.
+     * @param out the stream to write the index to
+     * @param index the index to write
+     * @throws IOException on I/O error
+     */
+    private static void writeIndex(final ObjectOutputStream out,
+            final Map<Class<? extends Content>, Map<Long, Map<Long, Content>>> index) throws IOException
+    {
+        int n = 0;
+        for (Map<Long, Map<Long, Content>> classIndex : index.values())
+        {
+            for (Map<Long, Content> srMap : classIndex.values())
+            {
+                n += srMap.size();
+            }
+        }
+        out.writeInt(n);
+        for (Map.Entry<Class<? extends Content>, Map<Long, Map<Long, Content>>> classEntry : index.entrySet())
+        {
+            for (Map.Entry<Long, Map<Long, Content>> groupEntry : classEntry.getValue().entrySet())
+            {
+                for (Map.Entry<Long, Content> entry : groupEntry.getValue().entrySet())
+                {
+                    out.writeObject(classEntry.getKey());
+                    out.writeLong(groupEntry.getKey());
+                    out.writeLong(entry.getKey());
+                    out.writeObject(entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a sent or received index that was written with writeIndex.
+     * @param in the stream to read the index from
+     * @return the index
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Class<? extends Content>, Map<Long, Map<Long, Content>>> readIndex(final ObjectInputStream in)
+            throws IOException, ClassNotFoundException
+    {
+        Map<Class<? extends Content>, Map<Long, Map<Long, Content>>> index = new LinkedHashMap<>();
+        int n = readSize(in);
+        for (int i = 0; i < n; i++)
+        {
+            Class<? extends Content> contentClass = (Class<? extends Content>) in.readObject();
+            long groupingId = in.readLong();
+            long uniqueId = in.readLong();
+            index.computeIfAbsent(contentClass, c -> new LinkedHashMap<>())
+                    .computeIfAbsent(groupingId, g -> new LinkedHashMap<>()).put(uniqueId, (Content) in.readObject());
+        }
+        return index;
+    }
+
+    /**
+     * Write the sent or received content without a groupingId as a flat list of content with its keys.
+     * @param out the stream to write the content to
+     * @param ungrouped the content without a groupingId
+     * @throws IOException on I/O error
+     */
+    private static void writeUngrouped(final ObjectOutputStream out,
+            final Map<Class<? extends Content>, Map<Long, Content>> ungrouped) throws IOException
+    {
+        int n = 0;
+        for (Map<Long, Content> srMap : ungrouped.values())
+        {
+            n += srMap.size();
+        }
+        out.writeInt(n);
+        for (Map.Entry<Class<? extends Content>, Map<Long, Content>> classEntry : ungrouped.entrySet())
+        {
+            for (Map.Entry<Long, Content> entry : classEntry.getValue().entrySet())
+            {
+                out.writeObject(classEntry.getKey());
+                out.writeLong(entry.getKey());
+                out.writeObject(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Read the sent or received content without a groupingId that was written with writeUngrouped.
+     * @param in the stream to read the content from
+     * @return the content without a groupingId, per content class, keyed on uniqueId
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Class<? extends Content>, Map<Long, Content>> readUngrouped(final ObjectInputStream in)
+            throws IOException, ClassNotFoundException
+    {
+        Map<Class<? extends Content>, Map<Long, Content>> ungrouped = new LinkedHashMap<>();
+        int n = readSize(in);
+        for (int i = 0; i < n; i++)
+        {
+            Class<? extends Content> contentClass = (Class<? extends Content>) in.readObject();
+            long uniqueId = in.readLong();
+            ungrouped.computeIfAbsent(contentClass, c -> new LinkedHashMap<>()).put(uniqueId, (Content) in.readObject());
+        }
+        return ungrouped;
+    }
+
+    /**
+     * Read the number of content items of a map from the stream.
+     * @param in the stream to read the number from
+     * @return the number of content items
+     * @throws IOException on I/O error, or when the number is negative
+     */
+    private static int readSize(final ObjectInputStream in) throws IOException
+    {
+        int n = in.readInt();
+        Throw.when(n < 0, IOException.class, "negative size of ContentStoreIndexed map in stream");
+        return n;
+    }
+
+}
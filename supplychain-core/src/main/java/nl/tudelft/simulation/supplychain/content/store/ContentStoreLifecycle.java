@@ -0,0 +1,304 @@
+package nl.tudelft.simulation.supplychain.content.store;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.Fulfillment;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.Payment;
+
+/**
+ * ContentStoreLifecycle is a content store that wraps another content store, and that retires a whole transaction (all
+ * content with the same groupingId) when the transaction has ended. A transaction ends when terminal content, by default a
+ * Payment or a Fulfillment, is stored, or when no content for the transaction has been stored for a given time-to-live in
+ * simulation time. Retired content can optionally be handed to an archive. This keeps the memory use of the content store
+ * bounded for long simulation runs.
+ * <p>
+ * Note that content for a transaction that arrives after the transaction has been retired (e.g., a late transport invoice)
+ * starts a new administration for the groupingId, which is retired again by terminal content or the time-to-live.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentStoreLifecycle implements ContentStoreInterface
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the content store that actually stores the content. */
+    private final ContentStoreInterface contentStore;
+
+    /** the open transactions, ordered from least recently to most recently active. */
+    private final Map<Long, Transaction> transactions = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** the content classes that end a transaction. */
+    private Set<Class<? extends Content>> terminalContentClasses =
+            new LinkedHashSet<>(List.of(Payment.class, Fulfillment.class));
+
+    /** the time-to-live of an inactive transaction; null means no time-to-live. */
+    private Duration timeToLive = null;
+
+    /** the archive for retired transactions; null means no archive. */
+    private ContentArchiveInterface archive = null;
+
+    /** the number of retired transactions. */
+    private long retiredCount = 0;
+
+    /**
+     * Create a lifecycle-aware content store that wraps another content store.
+     * @param contentStore the content store that actually stores the content
+     */
+    public ContentStoreLifecycle(final ContentStoreInterface contentStore)
+    {
+        Throw.whenNull(contentStore, "contentStore cannot be null");
+        this.contentStore = contentStore;
+    }
+
+    /**
+     * Create a lifecycle-aware content store that wraps a ContentStoreIndexed.
+     */
+    public ContentStoreLifecycle()
+    {
+        this(new ContentStoreIndexed());
+    }
+
+    /**
+     * Set the content classes that end a transaction. When content of one of these classes (or a subclass) is stored, the
+     * entire transaction is retired.
+     * @param terminalContentClasses the content classes that end a transaction
+     * @return the object for method chaining
+     */
+    public ContentStoreLifecycle setTerminalContentClasses(final Set<Class<? extends Content>> terminalContentClasses)
+    {
+        Throw.whenNull(terminalContentClasses, "terminalContentClasses cannot be null");
+        this.terminalContentClasses = new LinkedHashSet<>(terminalContentClasses);
+        return this;
+    }
+
+    /**
+     * Set the time-to-live of a transaction. When no content has been stored for a transaction during this simulation time,
+     * the transaction is retired. The check takes place when new content is stored, so no simulation events are needed.
+     * @param timeToLive the time-to-live of an inactive transaction, or null for no time-to-live
+     * @return the object for method chaining
+     */
+    public ContentStoreLifecycle setTimeToLive(final Duration timeToLive)
+    {
+        Throw.when(timeToLive != null && timeToLive.si <= 0.0, IllegalArgumentException.class,
+                "timeToLive should be positive");
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    /**
+     * Set the archive that receives the content of retired transactions.
+     * @param archive the archive for retired transactions, or null for no archive
+     * @return the object for method chaining
+     */
+    public ContentStoreLifecycle setArchive(final ContentArchiveInterface archive)
+    {
+        this.archive = archive;
+        return this;
+    }
+
+    @Override
+    public void setOwner(final Actor owner)
+    {
+        this.contentStore.setOwner(owner);
+    }
+
+    @Override
+    public synchronized void addContent(final Content content, final boolean sent)
+    {
+        this.contentStore.addContent(content, sent);
+        Time now = getOwner().getSimulatorTime();
+        if (content instanceof GroupedContent groupedContent)
+        {
+            long groupingId = groupedContent.groupingId();
+            Transaction transaction = this.transactions.get(groupingId);
+            if (transaction == null)
+            {
+                transaction = new Transaction();
+                this.transactions.put(groupingId, transaction);
+            }
+            transaction.lastActivity = now;
+            transaction.contentClasses.add(content.getClass());
+            if (isTerminal(content))
+            {
+                retire(groupingId);
+            }
+        }
+        if (this.timeToLive != null)
+        {
+            retireExpired(now);
+        }
+    }
+
+    /**
+     * Return whether the content ends a transaction.
+     * @param content the content to check
+     * @return whether the content ends a transaction
+     */
+    private boolean isTerminal(final Content content)
+    {
+        for (Class<? extends Content> terminalClass : this.terminalContentClasses)
+        {
+            if (terminalClass.isInstance(content))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retire the transactions that have not been active for the time-to-live. The transactions are ordered from least
+     * recently to most recently active, so only the expired transactions at the head of the map are visited.
+     * @param now the current simulation time
+     */
+    private void retireExpired(final Time now)
+    {
+        Iterator<Map.Entry<Long, Transaction>> it = this.transactions.entrySet().iterator();
+        List<Long> expired = new ArrayList<>();
+        while (it.hasNext())
+        {
+            Map.Entry<Long, Transaction> entry = it.next();
+            if (now.minus(entry.getValue().lastActivity).si < this.timeToLive.si)
+            {
+                break;
+            }
+            expired.add(entry.getKey());
+        }
+        for (long groupingId : expired)
+        {
+            retire(groupingId);
+        }
+    }
+
+    /**
+     * Retire a transaction: hand the content to the archive (when present), and remove all content of the transaction.
+     * @param groupingId the grouping id of the transaction
+     */
+    private void retire(final long groupingId)
+    {
+        Transaction transaction = this.transactions.remove(groupingId);
+        if (this.archive != null && transaction != null)
+        {
+            List<Content> contentList = new ArrayList<>();
+            for (Class<? extends Content> contentClass : transaction.contentClasses)
+            {
+                contentList.addAll(this.contentStore.getContentList(groupingId, contentClass));
+            }
+            this.archive.archive(getOwner(), groupingId, contentList);
+        }
+        this.contentStore.removeAllContent(groupingId);
+        this.retiredCount++;
+    }
+
+    @Override
+    public synchronized void removeContent(final Content content, final boolean sent)
+    {
+        this.contentStore.removeContent(content, sent);
+    }
+
+    @Override
+    public synchronized void removeSentReceivedContent(final Content content, final boolean sent)
+    {
+        this.contentStore.removeSentReceivedContent(content, sent);
+    }
+
+    @Override
+    public synchronized void removeAllContent(final long groupingId)
+    {
+        this.transactions.remove(groupingId);
+        this.contentStore.removeAllContent(groupingId);
+    }
+
+    @Override
+    public synchronized <T extends Content> List<T> getContentList(final long groupingId, final Class<T> contentClass)
+    {
+        return this.contentStore.getContentList(groupingId, contentClass);
+    }
+
+    @Override
+    public synchronized <T extends Content> List<T> getContentList(final long groupingId, final Class<T> contentClass,
+            final boolean sent)
+    {
+        return this.contentStore.getContentList(groupingId, contentClass, sent);
+    }
+
+    @Override
+    public synchronized boolean contains(final Content content)
+    {
+        return this.contentStore.contains(content);
+    }
+
+    @Override
+    public synchronized boolean contains(final long groupingId, final Class<? extends Content> contentClass)
+    {
+        return this.contentStore.contains(groupingId, contentClass);
+    }
+
+    /**
+     * Return the number of open transactions in the content store.
+     * @return the number of open transactions in the content store
+     */
+    public synchronized int getNumberOpenTransactions()
+    {
+        return this.transactions.size();
+    }
+
+    /**
+     * Return the number of transactions that have been retired.
+     * @return the number of transactions that have been retired
+     */
+    public synchronized long getRetiredCount()
+    {
+        return this.retiredCount;
+    }
+
+    /**
+     * Return the wrapped content store that actually stores the content.
+     * @return the wrapped content store
+     */
+    public ContentStoreInterface getContentStore()
+    {
+        return this.contentStore;
+    }
+
+    @Override
+    public Actor getOwner()
+    {
+        return this.contentStore.getOwner();
+    }
+
+    /**
+     * The administration of an open transaction: the time of the last activity and the classes of stored content.
+     */
+    private static class Transaction implements Serializable
+    {
+        /** */
+        private static final long serialVersionUID = 20250301L;
+
+        /** the time content was last stored for the transaction. */
+        private Time lastActivity;
+
+        /** the classes of the content that was stored for the transaction. */
+        private final Set<Class<? extends Content>> contentClasses = new LinkedHashSet<>();
+    }
+
+}
@@ -0,0 +1,527 @@
+package nl.tudelft.simulation.supplychain.content.store;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainCheckpoint;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainCheckpoint.DeferredState;
+import nl.tudelft.simulation.supplychain.util.LongMap;
+
+/**
+ * ContentStoreSingleThreaded is an indexed content store for models that run on a single thread, such as a model on the
+ * SupplyChainSimulator (a DEVS simulator). It keeps the same information and index as the ContentStoreIndexed, but uses maps
+ * with primitive long keys for the groupingId and uniqueId, and it does not use any locking. The content store may therefore
+ * only be used from one thread. When assertions are enabled (debug mode, java -ea), every access checks that it takes place on
+ * the thread that first used the store.
+ * <p>
+ * When the store is serialized, the maps are written as flat lists of content with their keys, and the maps are rebuilt when
+ * the store is read back. In a SupplyChainCheckpoint, the content is written after the model.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentStoreSingleThreaded implements ContentStoreInterface, ContentStateTransition.Index, DeferredState
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** all content per groupingId, per content class. */
+    private transient LongMap<Map<Class<? extends Content>, List<Content>>> groupingContentMap = new LongMap<>();
+
+    /** the received content with a groupingId, latest state, per content class and groupingId. */
+    private transient Map<Class<? extends Content>, LongMap<List<Content>>> receivedIndex = new HashMap<>();
+
+    /** the sent content with a groupingId, latest state, per content class and groupingId. */
+    private transient Map<Class<? extends Content>, LongMap<List<Content>>> sentIndex = new HashMap<>();
+
+    /** the received content without a groupingId, per content class, keyed on uniqueId. */
+    private transient Map<Class<? extends Content>, LongMap<Content>> receivedUngrouped = new HashMap<>();
+
+    /** the sent content without a groupingId, per content class, keyed on uniqueId. */
+    private transient Map<Class<? extends Content>, LongMap<Content>> sentUngrouped = new HashMap<>();
+
+    /** the owner. */
+    private Actor owner;
+
+    /** the thread that uses this content store; only registered when assertions are enabled. */
+    private transient Thread confinedThread;
+
+    @Override
+    public void setOwner(final Actor owner)
+    {
+        Throw.whenNull(owner, "owner cannot be null");
+        Throw.when(this.owner != null, RuntimeException.class,
+                "ContentStore - setting owner for %s while it has been set before", owner.toString());
+        this.owner = owner;
+    }
+
+    /**
+     * Check that the content store is used from the thread that first used it. The method is only called from assert
+     * statements, so it does not cost anything when assertions are disabled.
+     * @return true when the store is used from the confined thread
+     * @throws IllegalStateException when the content store is used from another thread
+     */
+    private boolean checkThreadConfinement()
+    {
+        Thread current = Thread.currentThread();
+        if (this.confinedThread == null)
+        {
+            this.confinedThread = current;
+        }
+        Throw.when(this.confinedThread != current, IllegalStateException.class,
+                "ContentStoreSingleThreaded of %s used from thread %s, but confined to thread %s", this.owner,
+                current.getName(), this.confinedThread.getName());
+        return true;
+    }
+
+    @Override
+    public void addContent(final Content content, final boolean sent)
+    {
+        assert checkThreadConfinement();
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        if (content instanceof GroupedContent groupedContent)
+        {
+            long groupingId = groupedContent.groupingId();
+            this.groupingContentMap.computeIfAbsent(groupingId, g -> new HashMap<>())
+                    .computeIfAbsent(content.getClass(), c -> new ArrayList<>(2)).add(content);
+            (sent ? this.sentIndex : this.receivedIndex).computeIfAbsent(content.getClass(), c -> new LongMap<>())
+                    .computeIfAbsent(groupingId, g -> new ArrayList<>(2)).add(content);
+            ContentStateTransition.removeOldStateContent(this, this, groupedContent, sent);
+        }
+        else
+        {
+            (sent ? this.sentUngrouped : this.receivedUngrouped).computeIfAbsent(content.getClass(), c -> new LongMap<>())
+                    .put(content.uniqueId(), content);
+        }
+    }
+
+    /**
+     * Remove the content with the uniqueId of the given content from a list.
+     * @param list the list to remove the content from
+     * @param content the content to remove
+     */
+    private static void removeFromList(final List<Content> list, final Content content)
+    {
+        long uniqueId = content.uniqueId();
+        for (int i = 0; i < list.size(); i++)
+        {
+            if (list.get(i).uniqueId() == uniqueId)
+            {
+                list.remove(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void removeContent(final Content content, final boolean sent)
+    {
+        assert checkThreadConfinement();
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        if (content instanceof GroupedContent groupedContent)
+        {
+            long groupingId = groupedContent.groupingId();
+            Map<Class<? extends Content>, List<Content>> contentMap = this.groupingContentMap.get(groupingId);
+            if (contentMap != null)
+            {
+                List<Content> contentList = contentMap.get(content.getClass());
+                if (contentList != null)
+                {
+                    removeFromList(contentList, content);
+                    if (contentList.isEmpty())
+                    {
+                        contentMap.remove(content.getClass());
+                        if (contentMap.isEmpty())
+                        {
+                            this.groupingContentMap.remove(groupingId);
+                        }
+                    }
+                }
+            }
+        }
+        removeSentReceivedContent(content, sent);
+    }
+
+    @Override
+    public void removeSentReceivedContent(final Content content, final boolean sent)
+    {
+        assert checkThreadConfinement();
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        Class<? extends Content> contentClass = content.getClass();
+        if (content instanceof GroupedContent groupedContent)
+        {
+            LongMap<List<Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(contentClass);
+            if (classIndex != null)
+            {
+                long groupingId = groupedContent.groupingId();
+                List<Content> srList = classIndex.get(groupingId);
+                if (srList != null)
+                {
+                    removeFromList(srList, content);
+                    if (srList.isEmpty())
+                    {
+                        classIndex.remove(groupingId);
+                    }
+                }
+            }
+        }
+        else
+        {
+            LongMap<Content> srMap = (sent ? this.sentUngrouped : this.receivedUngrouped).get(contentClass);
+            if (srMap != null)
+            {
+                srMap.remove(content.uniqueId());
+            }
+        }
+    }
+
+    @Override
+    public void removeAllContent(final long groupingId)
+    {
+        assert checkThreadConfinement();
+        Throw.whenNull(this.owner, "ContentStore - owner has not been initialized");
+        Map<Class<? extends Content>, List<Content>> contentMap = this.groupingContentMap.remove(groupingId);
+        if (contentMap != null)
+        {
+            for (List<Content> contentList : contentMap.values())
+            {
+                for (Content content : contentList)
+                {
+                    removeSentReceivedContent(content, true);
+                    removeSentReceivedContent(content, false);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Content> List<T> getContentList(final long groupingId, final Class<T> contentClass)
+    {
+        assert checkThreadConfinement();
+        Map<Class<? extends Content>, List<Content>> contentMap = this.groupingContentMap.get(groupingId);
+        if (contentMap == null)
+        {
+            return new ArrayList<>();
+        }
+        List<Content> contentList = contentMap.get(contentClass);
+        return contentList == null ? new ArrayList<>() : new ArrayList<>((List<T>) (List<?>) contentList);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Content> List<T> getContentList(final long groupingId, final Class<T> contentClass,
+            final boolean sent)
+    {
+        assert checkThreadConfinement();
+        LongMap<List<Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(contentClass);
+        if (classIndex == null)
+        {
+            return new ArrayList<>();
+        }
+        List<Content> srList = classIndex.get(groupingId);
+        return srList == null ? new ArrayList<>() : new ArrayList<>((List<T>) (List<?>) srList);
+    }
+
+    @Override
+    public boolean contains(final Content content)
+    {
+        assert checkThreadConfinement();
+        return containsSentReceived(content, true) || containsSentReceived(content, false);
+    }
+
+    /**
+     * Return whether the sent or received administration contains the content.
+     * @param content the content to look up
+     * @param sent whether to look in the sent (true) or received (false) administration
+     * @return whether the sent or received administration contains the content
+     */
+    private boolean containsSentReceived(final Content content, final boolean sent)
+    {
+        if (content instanceof GroupedContent groupedContent)
+        {
+            LongMap<List<Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(content.getClass());
+            if (classIndex == null)
+            {
+                return false;
+            }
+            List<Content> srList = classIndex.get(groupedContent.groupingId());
+            if (srList != null)
+            {
+                for (Content c : srList)
+                {
+                    if (c.uniqueId() == content.uniqueId())
+                    {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        LongMap<Content> srMap = (sent ? this.sentUngrouped : this.receivedUngrouped).get(content.getClass());
+        return srMap != null && srMap.containsKey(content.uniqueId());
+    }
+
+    @Override
+    public boolean contains(final long groupingId, final Class<? extends Content> contentClass)
+    {
+        assert checkThreadConfinement();
+        Map<Class<? extends Content>, List<Content>> contentMap = this.groupingContentMap.get(groupingId);
+        if (contentMap == null)
+        {
+            return false;
+        }
+        List<Content> contentList = contentMap.get(contentClass);
+        return contentList != null && !contentList.isEmpty();
+    }
+
+    @Override
+    public Set<Class<? extends Content>> getIndexedClasses(final boolean sent)
+    {
+        assert checkThreadConfinement();
+        return Collections.unmodifiableSet((sent ? this.sentIndex : this.receivedIndex).keySet());
+    }
+
+    @Override
+    public Collection<Content> getIndexedContent(final Class<? extends Content> contentClass, final long groupingId,
+            final boolean sent)
+    {
+        assert checkThreadConfinement();
+        LongMap<List<Content>> classIndex = (sent ? this.sentIndex : this.receivedIndex).get(contentClass);
+        return classIndex == null ? null : classIndex.get(groupingId);
+    }
+
+    @Override
+    public Actor getOwner()
+    {
+        return this.owner;
+    }
+
+    /**
+     * Write the store. The content is written directly, or after the model when the store is part of a checkpoint.
+     * @param out the stream to write the store to
+     * @throws IOException on I/O error
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        boolean deferred = SupplyChainCheckpoint.defer(out, this);
+        out.writeBoolean(deferred);
+        if (!deferred)
+        {
+            writeDeferredState(out);
+        }
+    }
+
+    /**
+     * Write the content of each map as a flat list of content with its keys.
+     * @param out the stream to write the content to
+     * @throws IOException on I/O error
+     */
+    @Override
+    public void writeDeferredState(final ObjectOutputStream out) throws IOException
+    {
+        int n = 0;
+        for (Map<Class<? extends Content>, List<Content>> contentMap : this.groupingContentMap.values())
+        {
+            for (List<Content> contentList : contentMap.values())
+            {
+                n += contentList.size();
+            }
+        }
+        out.writeInt(n);
+        for (long groupingId : this.groupingContentMap.keys())
+        {
+            for (Map.Entry<Class<? extends Content>, List<Content>> classEntry : this.groupingContentMap.get(groupingId)
+                    .entrySet())
+            {
+                for (Content content : classEntry.getValue())
+                {
+                    out.writeLong(groupingId);
+                    out.writeObject(classEntry.getKey());
+                    out.writeObject(content);
+                }
+            }
+        }
+        writeIndex(out, this.receivedIndex);
+        writeIndex(out, this.sentIndex);
+        writeUngrouped(out, this.receivedUngrouped);
+        writeUngrouped(out, this.sentUngrouped);
+    }
+
+    /**
+     * Read the store. The content is read directly, or after the model when the store is part of a checkpoint.
+     * @param in the stream to read the store from
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        if (!in.readBoolean())
+        {
+            readDeferredState(in);
+        }
+    }
+
+    /**
+     * Read the content, and rebuild the maps. The keys are read from the stream instead of from the content, since the content
+     * might not have been read completely yet.
+     * @param in the stream to read the content from
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void readDeferredState(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        this.groupingContentMap = new LongMap<>();
+        int n = readSize(in);
+        for (int i = 0; i < n; i++)
+        {
+            long groupingId = in.readLong();
+            Class<? extends Content> contentClass = (Class<? extends Content>) in.readObject();
+            this.groupingContentMap.computeIfAbsent(groupingId, g -> new HashMap<>())
+                    .computeIfAbsent(contentClass, c -> new ArrayList<>(2)).add((Content) in.readObject());
+        }
+        this.receivedIndex = readIndex(in);
+        this.sentIndex = readIndex(in);
+        this.receivedUngrouped = readUngrouped(in);
+        this.sentUngrouped = readUngrouped(in);
+    }
+
+    /**
+     * Write a sent or received index as a flat list of content with its keys.
+     * @param out the stream to write the index to
+     * @param index the index to write
+     * @throws IOException on I/O error
+     */
+    private static void writeIndex(final ObjectOutputStream out,
+            final Map<Class<? extends Content>, LongMap<List<Content>>> index) throws IOException
+    {
+        int n = 0;
+        for (LongMap<List<Content>> classIndex : index.values())
+        {
+            for (List<Content> srList : classIndex.values())
+            {
+                n += srList.size();
+            }
+        }
+        out.writeInt(n);
+        for (Map.Entry<Class<? extends Content>, LongMap<List<Content>>> classEntry : index.entrySet())
+        {
+            LongMap<List<Content>> classIndex = classEntry.getValue();
+            for (long groupingId : classIndex.keys())
+            {
+                for (Content content : classIndex.get(groupingId))
+                {
+                    out.writeObject(classEntry.getKey());
+                    out.writeLong(groupingId);
+                    out.writeObject(content);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a sent or received index that was written with writeIndex.
+     * @param in the stream to read the index from
+     * @return the index
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Class<? extends Content>, LongMap<List<Content>>> readIndex(final ObjectInputStream in)
+            throws IOException, ClassNotFoundException
+    {
+        Map<Class<? extends Content>, LongMap<List<Content>>> index = new HashMap<>();
+        int n = readSize(in);
+        for (int i = 0; i < n; i++)
+        {
+            Class<? extends Content> contentClass = (Class<? extends Content>) in.readObject();
+            long groupingId = in.readLong();
+            index.computeIfAbsent(contentClass, c -> new LongMap<>()).computeIfAbsent(groupingId, g -> new ArrayList<>(2))
+                    .add((Content) in.readObject());
+        }
+        return index;
+    }
+
+    /**
+     * Write the sent or received content without a groupingId as a flat list of content with its keys.
+     * @param out the stream to write the content to
+     * @param ungrouped the content without a groupingId
+     * @throws IOException on I/O error
+     */
+    private static void writeUngrouped(final ObjectOutputStream out,
+            final Map<Class<? extends Content>, LongMap<Content>> ungrouped) throws IOException
+    {
+        int n = 0;
+        for (LongMap<Content> srMap : ungrouped.values())
+        {
+            n += srMap.size();
+        }
+        out.writeInt(n);
+        for (Map.Entry<Class<? extends Content>, LongMap<Content>> classEntry : ungrouped.entrySet())
+        {
+            LongMap<Content> srMap = classEntry.getValue();
+            for (long uniqueId : srMap.keys())
+            {
+                out.writeObject(classEntry.getKey());
+                out.writeLong(uniqueId);
+                out.writeObject(srMap.get(uniqueId));
+            }
+        }
+    }
+
+    /**
+     * Read the sent or received content without a groupingId that was written with writeUngrouped.
+     * @param in the stream to read the content from
+     * @return the content without a groupingId, per content class, keyed on uniqueId
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of the content cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Class<? extends Content>, LongMap<Content>> readUngrouped(final ObjectInputStream in)
+            throws IOException, ClassNotFoundException
+    {
+        Map<Class<? extends Content>, LongMap<Content>> ungrouped = new HashMap<>();
+        int n = readSize(in);
+        for (int i = 0; i < n; i++)
+        {
+            Class<? extends Content> contentClass = (Class<? extends Content>) in.readObject();
+            long uniqueId = in.readLong();
+            ungrouped.computeIfAbsent(contentClass, c -> new LongMap<>()).put(uniqueId, (Content) in.readObject());
+        }
+        return ungrouped;
+    }
+
+    /**
+     * Read the number of content items of a map from the stream.
+     * @param in the stream to read the number from
+     * @return the number of content items
+     * @throws IOException on I/O error, or when the number is negative
+     */
+    private static int readSize(final ObjectInputStream in) throws IOException
+    {
+        int n = in.readInt();
+        Throw.when(n < 0, IOException.class, "negative size of ContentStoreSingleThreaded map in stream");
+        return n;
+    }
+
+}
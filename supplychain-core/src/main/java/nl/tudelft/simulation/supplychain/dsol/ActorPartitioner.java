@@ -0,0 +1,45 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+
+import org.djunits.value.vdouble.scalar.Duration;
+
+import nl.tudelft.simulation.supplychain.actor.Actor;
+
+/**
+ * ActorPartitioner assigns an actor to a partition of the model. All actors in the same partition are simulated by the same
+ * logical process of a {@link SupplyChainParallelSimulator}. Actors in different partitions may only interact through content
+ * that is sent with a delay of at least the lookahead of the simulator. A partitioner can declare the minimum delay of content
+ * between two partitions, which the simulator checks against its lookahead when the partitions are created.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@FunctionalInterface
+public interface ActorPartitioner extends Serializable
+{
+    /** Partitioner that puts all actors on the same landmass in the same partition. */
+    ActorPartitioner BY_LANDMASS = actor -> actor.getGeography().landmass();
+
+    /**
+     * Return the name of the partition of the actor. The partition of an actor may not change during a replication.
+     * @param actor the actor to assign to a partition
+     * @return the name of the partition of the actor
+     */
+    String partition(Actor actor);
+
+    /**
+     * Return the minimum delay of content that is sent from an actor in one partition to an actor in another partition, e.g.,
+     * the shortest transport or administrative time between two landmasses, or null when the minimum delay is not known. The
+     * default implementation returns null, in which case only the delay of each content is checked when it is sent.
+     * @param fromPartition the name of the partition of the sender
+     * @param toPartition the name of the partition of the receiver
+     * @return the minimum delay of content from the one partition to the other, or null when it is not known
+     */
+    default Duration minimumDelay(final String fromPartition, final String toPartition)
+    {
+        return null;
+    }
+}
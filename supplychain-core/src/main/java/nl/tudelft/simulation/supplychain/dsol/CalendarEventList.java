@@ -0,0 +1,544 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.eventlists.EventListInterface;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+
+/**
+ * CalendarEventList is an event list based on the calendar queue of R. Brown (1988), which inserts and removes events in O(1)
+ * amortized time, where the RedBlackTree of DSOL takes O(log n). The time axis is divided into buckets of equal width, which
+ * wrap around like the days of a calendar year; an event is stored in the bucket of its execution time, and the next event is
+ * found by scanning the buckets from the bucket of the last removed event. The number of buckets is doubled or halved when the
+ * number of events grows beyond twice or drops below half the number of buckets, and the bucket width is then estimated from
+ * the separation of the first events, so that a bucket contains a few events around the current time.
+ * <p>
+ * The events in a bucket are kept sorted on the natural order of the events (time, priority, id), so the events are executed in
+ * exactly the same order as with the RedBlackTree. Supply chain models schedule many events at the same instant, e.g., the
+ * daily depreciation, interest and restocking checks of all actors; such events are appended at the end of their bucket in
+ * constant time, and are removed from the front of the bucket in constant time. The iterator returns a sorted snapshot of the
+ * events, which takes O(n log n); it is meant for inspection and checkpoints, not for the simulation loop. Like the
+ * RedBlackTree, the event list is accessed under the lock of the simulator and is not thread-safe otherwise.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class CalendarEventList implements EventListInterface<Duration>
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the minimum number of buckets; always a power of 2. */
+    private static final int MIN_BUCKETS = 16;
+
+    /** the number of events that is used to estimate the bucket width. */
+    private static final int SAMPLE_SIZE = 25;
+
+    /** the buckets; the length is a power of 2. */
+    private Bucket[] buckets;
+
+    /** the mask to calculate the bucket index from the bucket number. */
+    private int mask;
+
+    /** the width of a bucket in seconds. */
+    private double width;
+
+    /** the number of events in the event list. */
+    private int size = 0;
+
+    /** the bucket number from which the scan for the next event starts; no event has a lower bucket number. */
+    private long currentBucket = 0;
+
+    /** the cached first event, or null when it has to be searched. */
+    private SimEventInterface<Duration> first = null;
+
+    /**
+     * Create a calendar event list with an initial bucket width of one hour. The width is adapted to the events when the number
+     * of buckets changes.
+     */
+    public CalendarEventList()
+    {
+        this(3600.0);
+    }
+
+    /**
+     * Create a calendar event list with an initial bucket width. The width is adapted to the events when the number of buckets
+     * changes.
+     * @param initialWidthSi the initial width of a bucket in seconds
+     */
+    public CalendarEventList(final double initialWidthSi)
+    {
+        Throw.when(!(initialWidthSi > 0.0) || Double.isInfinite(initialWidthSi), IllegalArgumentException.class,
+                "initial width should be positive and finite");
+        this.width = initialWidthSi;
+        createBuckets(MIN_BUCKETS);
+    }
+
+    /**
+     * Create empty buckets.
+     * @param numberOfBuckets the number of buckets, a power of 2
+     */
+    private void createBuckets(final int numberOfBuckets)
+    {
+        this.buckets = new Bucket[numberOfBuckets];
+        for (int i = 0; i < numberOfBuckets; i++)
+        {
+            this.buckets[i] = new Bucket();
+        }
+        this.mask = numberOfBuckets - 1;
+    }
+
+    /**
+     * Return the bucket number of an event, i.e., the number of bucket widths since time 0.
+     * @param event the event
+     * @return the bucket number of the event
+     */
+    private long bucketNumber(final SimEventInterface<Duration> event)
+    {
+        return (long) Math.floor(event.getAbsoluteExecutionTime().si / this.width);
+    }
+
+    /**
+     * Return the bucket for a bucket number.
+     * @param bucketNumber the bucket number
+     * @return the bucket for the bucket number
+     */
+    private Bucket bucket(final long bucketNumber)
+    {
+        return this.buckets[(int) (bucketNumber & this.mask)];
+    }
+
+    @Override
+    public void add(final SimEventInterface<Duration> event)
+    {
+        long bucketNumber = bucketNumber(event);
+        bucket(bucketNumber).insert(event);
+        if (this.size++ == 0 || bucketNumber < this.currentBucket)
+        {
+            this.currentBucket = bucketNumber;
+        }
+        if (this.first != null && event.compareTo(this.first) < 0)
+        {
+            this.first = event;
+        }
+        if (this.size > 2 * this.buckets.length)
+        {
+            resize(2 * this.buckets.length);
+        }
+    }
+
+    @Override
+    public boolean contains(final SimEventInterface<Duration> event)
+    {
+        return event != null && bucket(bucketNumber(event)).indexOf(event) >= 0;
+    }
+
+    @Override
+    public void clear()
+    {
+        createBuckets(MIN_BUCKETS);
+        this.size = 0;
+        this.currentBucket = 0;
+        this.first = null;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Return a sorted snapshot of the events in the event list. Changes to the event list are not reflected in the iterator,
+     * and the iterator does not support removal.
+     */
+    @Override
+    public Iterator<SimEventInterface<Duration>> iterator()
+    {
+        List<SimEventInterface<Duration>> events = new ArrayList<>(this.size);
+        for (Bucket bucket : this.buckets)
+        {
+            bucket.addTo(events);
+        }
+        Collections.sort(events);
+        return Collections.unmodifiableList(events).iterator();
+    }
+
+    @Override
+    public boolean remove(final SimEventInterface<Duration> event)
+    {
+        if (event == null)
+        {
+            return false;
+        }
+        Bucket bucket = bucket(bucketNumber(event));
+        int index = bucket.indexOf(event);
+        if (index < 0)
+        {
+            return false;
+        }
+        bucket.removeAt(index);
+        this.size--;
+        if (event.equals(this.first))
+        {
+            this.first = null;
+        }
+        shrinkIfSparse();
+        return true;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public SimEventInterface<Duration> first()
+    {
+        if (this.first == null && this.size > 0)
+        {
+            this.first = searchFirst();
+        }
+        return this.first;
+    }
+
+    @Override
+    public SimEventInterface<Duration> removeFirst()
+    {
+        SimEventInterface<Duration> event = first();
+        if (event != null)
+        {
+            bucket(bucketNumber(event)).poll();
+            this.size--;
+            this.first = null;
+            shrinkIfSparse();
+        }
+        return event;
+    }
+
+    /**
+     * Search the first event, and set the current bucket to the bucket number of that event. The buckets are scanned for one
+     * calendar year from the current bucket; when the year contains no events, the first event is found by a direct search of
+     * the first events of all buckets.
+     * @return the first event; the event list should not be empty
+     */
+    private SimEventInterface<Duration> searchFirst()
+    {
+        for (int i = 0; i < this.buckets.length; i++)
+        {
+            long bucketNumber = this.currentBucket + i;
+            Bucket bucket = bucket(bucketNumber);
+            if (!bucket.isEmpty() && bucketNumber(bucket.peek()) <= bucketNumber)
+            {
+                this.currentBucket = bucketNumber;
+                return bucket.peek();
+            }
+        }
+        SimEventInterface<Duration> min = null;
+        for (Bucket bucket : this.buckets)
+        {
+            if (!bucket.isEmpty() && (min == null || bucket.peek().compareTo(min) < 0))
+            {
+                min = bucket.peek();
+            }
+        }
+        this.currentBucket = bucketNumber(min);
+        return min;
+    }
+
+    /**
+     * Halve the number of buckets when the number of events has dropped below half the number of buckets.
+     */
+    private void shrinkIfSparse()
+    {
+        if (this.buckets.length > MIN_BUCKETS && this.size < this.buckets.length / 2)
+        {
+            resize(this.buckets.length / 2);
+        }
+    }
+
+    /**
+     * Redistribute the events over a new number of buckets, with a bucket width that is estimated from the events.
+     * @param numberOfBuckets the new number of buckets, a power of 2
+     */
+    private void resize(final int numberOfBuckets)
+    {
+        List<SimEventInterface<Duration>> events = new ArrayList<>(this.size);
+        for (Bucket bucket : this.buckets)
+        {
+            bucket.addTo(events);
+        }
+        this.width = estimateWidth(events);
+        createBuckets(numberOfBuckets);
+        long minBucketNumber = Long.MAX_VALUE;
+        for (SimEventInterface<Duration> event : events)
+        {
+            long bucketNumber = bucketNumber(event);
+            bucket(bucketNumber).append(event);
+            minBucketNumber = Math.min(minBucketNumber, bucketNumber);
+        }
+        for (Bucket bucket : this.buckets)
+        {
+            bucket.sort();
+        }
+        this.currentBucket = events.isEmpty() ? 0 : minBucketNumber;
+        this.first = null;
+    }
+
+    /**
+     * Estimate the bucket width as three times the average separation of the distinct execution times of the first events,
+     * where separations that are more than twice the average are left out. Events at the same instant are not counted, since
+     * they share a bucket anyway. When the first events do not have distinct times, the current width is kept.
+     * @param events the events in the event list
+     * @return the estimated bucket width in seconds
+     */
+    private double estimateWidth(final List<SimEventInterface<Duration>> events)
+    {
+        double[] sample = new double[SAMPLE_SIZE];
+        int n = 0;
+        for (SimEventInterface<Duration> event : events)
+        {
+            double time = event.getAbsoluteExecutionTime().si;
+            if (n < SAMPLE_SIZE || time < sample[n - 1])
+            {
+                int i = n < SAMPLE_SIZE ? n++ : n - 1;
+                while (i > 0 && sample[i - 1] > time)
+                {
+                    sample[i] = sample[i - 1];
+                    i--;
+                }
+                sample[i] = time;
+            }
+        }
+        double sum = 0.0;
+        int count = 0;
+        for (int i = 1; i < n; i++)
+        {
+            if (sample[i] > sample[i - 1])
+            {
+                sum += sample[i] - sample[i - 1];
+                count++;
+            }
+        }
+        if (count == 0)
+        {
+            return this.width;
+        }
+        double average = sum / count;
+        double trimmedSum = 0.0;
+        int trimmedCount = 0;
+        for (int i = 1; i < n; i++)
+        {
+            double separation = sample[i] - sample[i - 1];
+            if (separation > 0.0 && separation <= 2.0 * average)
+            {
+                trimmedSum += separation;
+                trimmedCount++;
+            }
+        }
+        return 3.0 * trimmedSum / trimmedCount;
+    }
+
+    /**
+     * Return the number of buckets.
+     * @return the number of buckets
+     */
+    public int getNumberOfBuckets()
+    {
+        return this.buckets.length;
+    }
+
+    /**
+     * Return the width of a bucket.
+     * @return the width of a bucket
+     */
+    public Duration getBucketWidth()
+    {
+        return Duration.instantiateSI(this.width);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CalendarEventList [size=" + this.size + ", buckets=" + this.buckets.length + ", width=" + this.width + "s]";
+    }
+
+    /**
+     * Bucket stores the events of one bucket in an array that is sorted on the natural order of the events. The events occupy
+     * the range [head, tail) of the array, so the first event can be removed by advancing the head, and events that come after
+     * the last event can be appended at the tail.
+     */
+    private static class Bucket implements Serializable
+    {
+        /** */
+        private static final long serialVersionUID = 20250301L;
+
+        /** the events; the range [head, tail) is in use. */
+        @SuppressWarnings("unchecked")
+        private SimEventInterface<Duration>[] events = (SimEventInterface<Duration>[]) new SimEventInterface<?>[4];
+
+        /** the index of the first event. */
+        private int head = 0;
+
+        /** the index after the last event. */
+        private int tail = 0;
+
+        /**
+         * Return whether the bucket is empty.
+         * @return whether the bucket is empty
+         */
+        boolean isEmpty()
+        {
+            return this.head == this.tail;
+        }
+
+        /**
+         * Return the first event of the bucket.
+         * @return the first event of the bucket; the bucket should not be empty
+         */
+        SimEventInterface<Duration> peek()
+        {
+            return this.events[this.head];
+        }
+
+        /**
+         * Remove the first event of the bucket.
+         */
+        void poll()
+        {
+            this.events[this.head++] = null;
+            if (this.head == this.tail)
+            {
+                this.head = 0;
+                this.tail = 0;
+            }
+        }
+
+        /**
+         * Insert an event at its sorted position.
+         * @param event the event to insert
+         */
+        void insert(final SimEventInterface<Duration> event)
+        {
+            if (this.head == this.tail || event.compareTo(this.events[this.tail - 1]) > 0)
+            {
+                append(event);
+                return;
+            }
+            int index = -1 - search(event);
+            if (index == this.head && this.head > 0)
+            {
+                this.events[--this.head] = event;
+                return;
+            }
+            int offset = index - this.head;
+            ensureCapacity();
+            index = this.head + offset;
+            System.arraycopy(this.events, index, this.events, index + 1, this.tail - index);
+            this.events[index] = event;
+            this.tail++;
+        }
+
+        /**
+         * Append an event at the end of the bucket, without keeping the bucket sorted.
+         * @param event the event to append
+         */
+        void append(final SimEventInterface<Duration> event)
+        {
+            ensureCapacity();
+            this.events[this.tail++] = event;
+        }
+
+        /**
+         * Make room for one more event at the tail, by moving the events to the start of the array or by growing the array.
+         */
+        private void ensureCapacity()
+        {
+            if (this.tail < this.events.length)
+            {
+                return;
+            }
+            int n = this.tail - this.head;
+            if (this.head > 0 && n < this.events.length / 2)
+            {
+                System.arraycopy(this.events, this.head, this.events, 0, n);
+                Arrays.fill(this.events, n, this.tail, null);
+            }
+            else
+            {
+                this.events = Arrays.copyOfRange(this.events, this.head, this.head + 2 * this.events.length);
+            }
+            this.head = 0;
+            this.tail = n;
+        }
+
+        /**
+         * Binary search for an event.
+         * @param event the event
+         * @return the index of the event, or (-(insertion point) - 1) when the bucket does not contain the event
+         */
+        private int search(final SimEventInterface<Duration> event)
+        {
+            return Arrays.binarySearch(this.events, this.head, this.tail, event);
+        }
+
+        /**
+         * Return the index of an event.
+         * @param event the event
+         * @return the index of the event, or -1 when the bucket does not contain the event
+         */
+        int indexOf(final SimEventInterface<Duration> event)
+        {
+            int index = search(event);
+            return index >= 0 && this.events[index].equals(event) ? index : -1;
+        }
+
+        /**
+         * Remove the event at an index.
+         * @param index the index of the event
+         */
+        void removeAt(final int index)
+        {
+            if (index == this.head)
+            {
+                poll();
+                return;
+            }
+            System.arraycopy(this.events, index + 1, this.events, index, this.tail - index - 1);
+            this.events[--this.tail] = null;
+        }
+
+        /**
+         * Sort the events after they have been appended.
+         */
+        void sort()
+        {
+            Arrays.sort(this.events, this.head, this.tail);
+        }
+
+        /**
+         * Add the events of the bucket to a list.
+         * @param list the list to add the events to
+         */
+        void addTo(final List<SimEventInterface<Duration>> list)
+        {
+            for (int i = this.head; i < this.tail; i++)
+            {
+                list.add(this.events[i]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+import java.util.function.BiConsumer;
+
+/**
+ * SerializableBiConsumer is a BiConsumer that can be serialized, used for the typed method calls with two arguments that are
+ * scheduled on the SupplyChainSimulatorInterface.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <A> the type of the first argument
+ * @param <B> the type of the second argument
+ */
+@FunctionalInterface
+public interface SerializableBiConsumer<A, B> extends BiConsumer<A, B>, Serializable
+{
+    // no additional methods
+}
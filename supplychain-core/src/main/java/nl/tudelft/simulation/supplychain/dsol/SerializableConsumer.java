@@ -0,0 +1,20 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * SerializableConsumer is a Consumer that can be serialized, used for the typed method calls with one argument that are
+ * scheduled on the SupplyChainSimulatorInterface, e.g., <code>scheduleEventRel(delay, this::pay, invoice)</code>.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <A> the argument type
+ */
+@FunctionalInterface
+public interface SerializableConsumer<A> extends Consumer<A>, Serializable
+{
+    // no additional methods
+}
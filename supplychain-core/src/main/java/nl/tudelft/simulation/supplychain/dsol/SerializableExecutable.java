@@ -0,0 +1,21 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.Executable;
+
+/**
+ * SerializableExecutable is an Executable that can be serialized. Lambda expressions and method references that are passed to
+ * the scheduling methods of the SupplyChainSimulatorInterface get this type, so the pending events of a simulator can be
+ * stored in a {@link SupplyChainCheckpoint}, as long as the objects that the lambda expression captures are serializable.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+@FunctionalInterface
+public interface SerializableExecutable extends Executable, Serializable
+{
+    // no additional methods
+}
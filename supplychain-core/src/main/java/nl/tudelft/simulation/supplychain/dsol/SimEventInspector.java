@@ -0,0 +1,207 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEvent;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+
+/**
+ * SimEventInspector describes scheduled events for instrumentation such as the event list profiler and the event trace. The
+ * source of a reflective SimEvent is the class of its target and its method, e.g., Inventory.postDepreciation; the source of a
+ * lambda event is the class and method in which the lambda expression is implemented, e.g., RestockingProcess.checkLoop. The
+ * implementation method and the captured arguments of a lambda expression are retrieved from its serialized form, which is
+ * available for the lambda expressions that are scheduled through SupplyChainSimulatorInterface. The lambda expressions that
+ * the typed schedule methods of SupplyChainSimulatorInterface create are wrappers; they are described by the lambda expression
+ * of the caller that they wrap.
+ * <p>
+ * The source of a lambda class is determined once and cached; the arguments are retrieved for every call, which involves a
+ * reflective call, so the arguments should only be inspected by tools that accept that cost.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public final class SimEventInspector
+{
+    /** the internal name of the interface whose lambda expressions wrap the lambda expression of the caller. */
+    private static final String WRAPPER_CLASS = SupplyChainSimulatorInterface.class.getName().replace('.', '/');
+
+    /** the cached source per lambda class; wrapper classes are not cached, since their source depends on the caller. */
+    private static final Map<Class<?>, String> LAMBDA_SOURCES = new ConcurrentHashMap<>();
+
+    /** the cached writeReplace method per lambda class. */
+    private static final Map<Class<?>, Method> WRITE_REPLACE = new ConcurrentHashMap<>();
+
+    /** Utility class, not to be instantiated. */
+    private SimEventInspector()
+    {
+        // utility class
+    }
+
+    /**
+     * Return the source of an event: the class of the target and the method for a reflective event, the implementing class and
+     * method for a lambda event, and the class of the event otherwise.
+     * @param event the event
+     * @return the source of the event
+     */
+    public static String getSource(final SimEventInterface<?> event)
+    {
+        if (event instanceof SimEvent<?> simEvent)
+        {
+            return simEvent.getTarget().getClass().getSimpleName() + "." + simEvent.getMethod();
+        }
+        if (event instanceof SupplyChainSimEvent lambdaEvent)
+        {
+            return getLambdaSource(lambdaEvent.getExecutable());
+        }
+        return event.getClass().getSimpleName();
+    }
+
+    /**
+     * Return the arguments of an event: the target and the arguments of a reflective event, and the captured arguments of a
+     * lambda event, where the wrapped lambda expressions are replaced by their own captured arguments. For a lambda expression
+     * that captures 'this', the first argument is the object that scheduled the event.
+     * @param event the event
+     * @return the arguments of the event, or an empty list when they are unknown
+     */
+    public static List<Object> getArguments(final SimEventInterface<?> event)
+    {
+        List<Object> arguments = new ArrayList<>();
+        if (event instanceof SimEvent<?> simEvent)
+        {
+            arguments.add(simEvent.getTarget());
+            if (simEvent.getArgs() != null)
+            {
+                arguments.addAll(Arrays.asList(simEvent.getArgs()));
+            }
+        }
+        else if (event instanceof SupplyChainSimEvent lambdaEvent)
+        {
+            addCapturedArguments(lambdaEvent.getExecutable(), arguments);
+        }
+        return arguments;
+    }
+
+    /**
+     * Add the captured arguments of a lambda expression to a list, where captured lambda expressions are replaced by their own
+     * captured arguments.
+     * @param lambda the lambda expression
+     * @param arguments the list to add the arguments to
+     */
+    private static void addCapturedArguments(final Object lambda, final List<Object> arguments)
+    {
+        SerializedLambda serializedLambda = serializedLambda(lambda);
+        if (serializedLambda == null)
+        {
+            return;
+        }
+        for (int i = 0; i < serializedLambda.getCapturedArgCount(); i++)
+        {
+            Object arg = serializedLambda.getCapturedArg(i);
+            if (arg != null && arg.getClass().isSynthetic() && arg instanceof Serializable)
+            {
+                addCapturedArguments(arg, arguments);
+            }
+            else
+            {
+                arguments.add(arg);
+            }
+        }
+    }
+
+    /**
+     * Return the source of a lambda expression, i.e., the class and method that implement it. The source of a wrapper of
+     * SupplyChainSimulatorInterface is the source of the wrapped lambda expression.
+     * @param lambda the lambda expression
+     * @return the class and method that implement the lambda expression
+     */
+    public static String getLambdaSource(final Object lambda)
+    {
+        String source = LAMBDA_SOURCES.get(lambda.getClass());
+        if (source != null)
+        {
+            return source;
+        }
+        SerializedLambda serializedLambda = serializedLambda(lambda);
+        if (serializedLambda != null && serializedLambda.getImplClass().equals(WRAPPER_CLASS))
+        {
+            for (int i = 0; i < serializedLambda.getCapturedArgCount(); i++)
+            {
+                Object arg = serializedLambda.getCapturedArg(i);
+                if (arg != null && arg.getClass().isSynthetic())
+                {
+                    return getLambdaSource(arg);
+                }
+            }
+        }
+        source = describe(lambda.getClass(), serializedLambda);
+        LAMBDA_SOURCES.put(lambda.getClass(), source);
+        return source;
+    }
+
+    /**
+     * Describe a lambda class by its implementation class and method, or by the class in which the lambda expression was
+     * defined when the serialized form is not available.
+     * @param lambdaClass the class of the lambda expression
+     * @param serializedLambda the serialized form of the lambda expression, or null
+     * @return the description of the lambda class
+     */
+    private static String describe(final Class<?> lambdaClass, final SerializedLambda serializedLambda)
+    {
+        if (serializedLambda != null)
+        {
+            String implClass = serializedLambda.getImplClass();
+            String method = serializedLambda.getImplMethodName();
+            if (method.startsWith("lambda$"))
+            {
+                int end = method.indexOf('$', 7);
+                method = method.substring(7, end < 0 ? method.length() : end) + " (lambda)";
+            }
+            return implClass.substring(implClass.lastIndexOf('/') + 1) + "." + method;
+        }
+        String name = lambdaClass.getName();
+        int lambdaIndex = name.indexOf("$$Lambda");
+        name = lambdaIndex < 0 ? name : name.substring(0, lambdaIndex) + " (lambda)";
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Return the serialized form of a serializable lambda expression.
+     * @param lambda the lambda expression
+     * @return the serialized form of the lambda expression, or null when the object is not a serializable lambda expression or
+     *         its serialized form is not accessible
+     */
+    private static SerializedLambda serializedLambda(final Object lambda)
+    {
+        if (!(lambda instanceof Serializable) || !lambda.getClass().isSynthetic())
+        {
+            return null;
+        }
+        try
+        {
+            Method writeReplace = WRITE_REPLACE.get(lambda.getClass());
+            if (writeReplace == null)
+            {
+                writeReplace = lambda.getClass().getDeclaredMethod("writeReplace");
+                writeReplace.setAccessible(true);
+                WRITE_REPLACE.put(lambda.getClass(), writeReplace);
+            }
+            return writeReplace.invoke(lambda) instanceof SerializedLambda serializedLambda ? serializedLambda : null;
+        }
+        catch (ReflectiveOperationException | RuntimeException exception)
+        {
+            // the serialized form is not accessible
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+
+import org.djunits.value.vdouble.scalar.Time;
+
+/**
+ * SupplyChainCalendarSimulator is a SupplyChainSimulator that stores its events in a {@link CalendarEventList} instead of the
+ * RedBlackTree of DSOL. The calendar queue inserts and removes events in O(1) amortized time, which pays off for large models
+ * with many pending periodic events, such as the daily depreciation, interest, fixed costs and restocking checks of all actors.
+ * Since the calendar event list executes the events in the same order as the RedBlackTree, a model produces the same results on
+ * both simulators.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SupplyChainCalendarSimulator extends SupplyChainSimulator
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /**
+     * Construct a SupplyChainSimulator that uses a calendar event list with an initial bucket width of one hour.
+     * @param id the simulator id
+     * @param absStartTime the start time of the simulator
+     */
+    public SupplyChainCalendarSimulator(final Serializable id, final Time absStartTime)
+    {
+        this(id, absStartTime, new CalendarEventList());
+    }
+
+    /**
+     * Construct a SupplyChainSimulator that uses a given calendar event list, e.g., with an initial bucket width that fits the
+     * model.
+     * @param id the simulator id
+     * @param absStartTime the start time of the simulator
+     * @param eventList the calendar event list to use
+     */
+    public SupplyChainCalendarSimulator(final Serializable id, final Time absStartTime, final CalendarEventList eventList)
+    {
+        super(id, absStartTime);
+        setEventList(eventList);
+    }
+
+}
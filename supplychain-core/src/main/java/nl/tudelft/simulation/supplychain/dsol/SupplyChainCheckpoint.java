@@ -0,0 +1,399 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEvent;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
+
+/**
+ * SupplyChainCheckpoint is a snapshot of a supply chain model that is running on a SupplyChainSimulator: the actors with their
+ * roles, inventories, content stores and bank accounts, the random streams of the model, and the events that are pending on
+ * the simulator. A checkpoint is captured when the simulator is not running, e.g., after the warmup of the model has been run
+ * with runUpTo(...). It can be written to disk and read back, and restored into any number of fresh simulators, either as an
+ * exact continuation of the original run, or as a fork with newly seeded random streams, so many replications can start from
+ * one warmed-up state.
+ * <p>
+ * The snapshot is a compressed serialization of the model and the pending events. The classes with the large and frequently
+ * written state do not use the default serialization of their fields: the Inventory writes the used part of its product
+ * arrays, the BankingRole writes the balance per account holder, the content stores write their maps as flat lists of content
+ * with its keys, and the pending SupplyChainSimEvents are written as execution time, priority and lambda expression. The
+ * content of the stores is written after the model and the pending events, as DeferredState. At that moment all actors have
+ * been written completely, so content records, which cannot be read back through a cyclic reference, do not refer back to
+ * an actor that is still being read. The simulator itself, with its replication,
+ * its listeners and its worker thread, is not part of the snapshot: the object streams of the checkpoint replace the simulator
+ * by a reference that is resolved to the simulator into which the checkpoint is restored. The pending events have to be
+ * SupplyChainSimEvents with a serializable lambda expression, which is the case for all events that are scheduled with a
+ * lambda expression or method reference through the SupplyChainSimulatorInterface. Resources that are transient, such as the
+ * file of a ContentJournal, or that are registered on the simulator, such as the listener of a HandlerMetricsRegistry, are not
+ * restored. Checkpoints of a SupplyChainParallelSimulator are not supported.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SupplyChainCheckpoint
+{
+    /** the magic number at the start of a checkpoint file ("SCCP"). */
+    private static final int MAGIC = 0x53434350;
+
+    /** the version of the checkpoint file format. */
+    private static final int VERSION = 1;
+
+    /** the buffer size of the compression of the snapshot. */
+    private static final int BUFFER_SIZE = 65536;
+
+    /** the simulator time at which the checkpoint was captured. */
+    private final Duration simulatorTime;
+
+    /** the compressed serialization of the model and the pending events. */
+    private final byte[] snapshot;
+
+    /**
+     * Create a checkpoint.
+     * @param simulatorTime the simulator time at which the checkpoint was captured
+     * @param snapshot the compressed serialization of the model and the pending events
+     */
+    private SupplyChainCheckpoint(final Duration simulatorTime, final byte[] snapshot)
+    {
+        this.simulatorTime = simulatorTime;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Capture a checkpoint of the model that runs on the simulator. The simulator should have been initialized, and should not
+     * be running. The warmup and end of the replication of the simulator are not part of the checkpoint; they are scheduled by
+     * the replication into which the checkpoint is restored.
+     * @param simulator the simulator with the model to capture
+     * @return a checkpoint of the model and the pending events of the simulator
+     * @throws IOException when the model or one of the pending events cannot be serialized
+     * @throws IllegalStateException when the simulator is running, or when a pending event is not a SupplyChainSimEvent
+     */
+    public static SupplyChainCheckpoint capture(final SupplyChainSimulator simulator) throws IOException
+    {
+        Throw.whenNull(simulator, "simulator cannot be null");
+        Throw.when(simulator instanceof SupplyChainParallelSimulator, IllegalArgumentException.class,
+                "checkpoints of a SupplyChainParallelSimulator are not supported");
+        Throw.when(simulator.getModel() == null, IllegalStateException.class, "simulator has not been initialized");
+        Throw.when(simulator.isStartingOrRunning(), IllegalStateException.class,
+                "cannot capture a checkpoint of a running simulator");
+        List<SupplyChainSimEvent> pendingEvents = new ArrayList<>();
+        for (SimEventInterface<Duration> event : simulator.getEventList())
+        {
+            if (event instanceof SimEvent<Duration> simEvent && simEvent.getTarget() == simulator)
+            {
+                continue; // the warmup and the end of the replication
+            }
+            Throw.when(!(event instanceof SupplyChainSimEvent), IllegalStateException.class,
+                    "pending event %s cannot be captured; schedule it with a lambda expression instead", event);
+            pendingEvents.add((SupplyChainSimEvent) event);
+        }
+        pendingEvents.sort((e1, e2) -> e1.compareTo(e2));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ObjectOutputStream out =
+                new CheckpointOutputStream(new DeflaterOutputStream(bytes, deflater, BUFFER_SIZE), simulator))
+        {
+            out.writeObject(simulator.getModel());
+            out.writeObject(pendingEvents);
+            ((CheckpointOutputStream) out).writeDeferredStates();
+        }
+        finally
+        {
+            deflater.end();
+        }
+        return new SupplyChainCheckpoint(simulator.getSimulatorTime(), bytes.toByteArray());
+    }
+
+    /**
+     * Restore the model of the checkpoint into a fresh simulator, as an exact continuation of the run in which the checkpoint
+     * was captured. The simulator is initialized with the replication, and can be started afterwards. The start time of the
+     * replication has to be the time of the checkpoint; its warmup period and run length are counted from that time.
+     * @param simulator the fresh simulator into which the model is restored
+     * @param replication the replication that continues from the checkpoint
+     * @return the restored model
+     * @param <M> the model type
+     * @throws IOException when the model or the pending events cannot be deserialized
+     */
+    @SuppressWarnings("unchecked")
+    public <M extends SupplyChainModelInterface> M restore(final SupplyChainSimulator simulator,
+            final Replication<Duration> replication) throws IOException
+    {
+        Throw.whenNull(simulator, "simulator cannot be null");
+        Throw.whenNull(replication, "replication cannot be null");
+        Throw.when(simulator instanceof SupplyChainParallelSimulator, IllegalArgumentException.class,
+                "checkpoints of a SupplyChainParallelSimulator are not supported");
+        Throw.when(replication.getStartTime().si != this.simulatorTime.si, IllegalArgumentException.class,
+                "start time of the replication %s is not the time of the checkpoint %s", replication.getStartTime(),
+                this.simulatorTime);
+        SupplyChainModelInterface model;
+        List<SupplyChainSimEvent> pendingEvents;
+        Inflater inflater = new Inflater();
+        try (ObjectInputStream in = new CheckpointInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(this.snapshot), inflater, BUFFER_SIZE), simulator))
+        {
+            model = (SupplyChainModelInterface) in.readObject();
+            pendingEvents = (List<SupplyChainSimEvent>) in.readObject();
+            while (in.readBoolean())
+            {
+                ((DeferredState) in.readObject()).readDeferredState(in);
+            }
+        }
+        catch (ClassNotFoundException exception)
+        {
+            throw new IOException("checkpoint refers to a class that cannot be found", exception);
+        }
+        finally
+        {
+            inflater.end();
+        }
+        // the restored events get new ids in their original order, before any event that is created by the restored model
+        for (SupplyChainSimEvent event : pendingEvents)
+        {
+            event.renumber();
+        }
+        simulator.initialize(model, replication, pendingEvents);
+        return (M) model;
+    }
+
+    /**
+     * Restore the model of the checkpoint into a fresh simulator as a new replication. The random streams of the model are
+     * seeded anew from the given seed, in the order of their names in the StreamInformation of the model, so forks with
+     * different seeds continue differently from the same state. Random streams that the model uses but that are not registered
+     * in its StreamInformation keep the state of the checkpoint.
+     * @param simulator the fresh simulator into which the model is restored
+     * @param replication the replication that continues from the checkpoint
+     * @param seed the seed from which the seeds of the random streams of the model are derived
+     * @return the restored model
+     * @param <M> the model type
+     * @throws IOException when the model or the pending events cannot be deserialized
+     */
+    public <M extends SupplyChainModelInterface> M fork(final SupplyChainSimulator simulator,
+            final Replication<Duration> replication, final long seed) throws IOException
+    {
+        M model = restore(simulator, replication);
+        StreamInterface seeds = new MersenneTwister(seed);
+        for (StreamInterface stream : new TreeMap<>(model.getStreamInformation().getStreams()).values())
+        {
+            stream.setSeed(1L + seeds.nextInt(0, Integer.MAX_VALUE - 1));
+        }
+        return model;
+    }
+
+    /**
+     * Write the checkpoint to a file.
+     * @param path the file to write the checkpoint to
+     * @throws IOException on I/O error
+     */
+    public void write(final Path path) throws IOException
+    {
+        Throw.whenNull(path, "path cannot be null");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path))))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeDouble(this.simulatorTime.si);
+            out.writeInt(this.snapshot.length);
+            out.write(this.snapshot);
+        }
+    }
+
+    /**
+     * Read a checkpoint from a file that was written with the write method.
+     * @param path the file to read the checkpoint from
+     * @return the checkpoint in the file
+     * @throws IOException on I/O error, or when the file is not a checkpoint file
+     */
+    public static SupplyChainCheckpoint read(final Path path) throws IOException
+    {
+        Throw.whenNull(path, "path cannot be null");
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path))))
+        {
+            Throw.when(in.readInt() != MAGIC, IOException.class, "file %s is not a checkpoint file", path);
+            int version = in.readInt();
+            Throw.when(version != VERSION, IOException.class, "checkpoint file %s has unsupported version %d", path, version);
+            Duration simulatorTime = new Duration(in.readDouble(), DurationUnit.SI);
+            byte[] snapshot = new byte[in.readInt()];
+            in.readFully(snapshot);
+            return new SupplyChainCheckpoint(simulatorTime, snapshot);
+        }
+    }
+
+    /**
+     * Return the simulator time at which the checkpoint was captured.
+     * @return the simulator time at which the checkpoint was captured
+     */
+    public Duration getSimulatorTime()
+    {
+        return this.simulatorTime;
+    }
+
+    /**
+     * Return the size of the compressed snapshot of the model and the pending events, in bytes.
+     * @return the size of the snapshot in bytes
+     */
+    public int getSize()
+    {
+        return this.snapshot.length;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SupplyChainCheckpoint [simulatorTime=" + this.simulatorTime + ", size=" + this.snapshot.length + "]";
+    }
+
+    /**
+     * Register an object of which the state is written to the snapshot after the model and the pending events, when the object
+     * is written to the stream of a checkpoint. The object is expected to call this method from its writeObject method, and to
+     * write its state itself when the method returns false, e.g., for another stream than that of a checkpoint.
+     * @param out the stream to which the object is written
+     * @param state the object of which the state is deferred
+     * @return whether the state is written later by the checkpoint (true), or has to be written by the object itself (false)
+     */
+    public static boolean defer(final ObjectOutputStream out, final DeferredState state)
+    {
+        if (out instanceof CheckpointOutputStream checkpointOut)
+        {
+            checkpointOut.deferredStates.add(state);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * DeferredState is implemented by objects that can write (part of) their state after the model and the pending events
+     * have been written to the snapshot of a checkpoint. When the object is read, its deferred state is read at the end of the
+     * snapshot, so it is not available in readObject.
+     */
+    public interface DeferredState extends Serializable
+    {
+        /**
+         * Write the deferred state of the object.
+         * @param out the stream to write the state to
+         * @throws IOException on I/O error
+         */
+        void writeDeferredState(ObjectOutputStream out) throws IOException;
+
+        /**
+         * Read the deferred state of the object.
+         * @param in the stream to read the state from
+         * @throws IOException on I/O error
+         * @throws ClassNotFoundException when a class in the state cannot be found
+         */
+        void readDeferredState(ObjectInputStream in) throws IOException, ClassNotFoundException;
+    }
+
+    /**
+     * SimulatorReference is written to the snapshot instead of the simulator.
+     */
+    private enum SimulatorReference
+    {
+        /** the simulator of the model. */
+        SIMULATOR;
+    }
+
+    /**
+     * CheckpointOutputStream writes the model, and replaces the simulator by a reference.
+     */
+    private static class CheckpointOutputStream extends ObjectOutputStream
+    {
+        /** the simulator to replace. */
+        private final SupplyChainSimulatorInterface simulator;
+
+        /** the objects of which the state is written after the model and the pending events. */
+        private final List<DeferredState> deferredStates = new ArrayList<>();
+
+        /**
+         * Create an object stream that replaces the simulator by a reference.
+         * @param out the stream to write to
+         * @param simulator the simulator to replace
+         * @throws IOException on I/O error
+         */
+        CheckpointOutputStream(final OutputStream out, final SupplyChainSimulatorInterface simulator) throws IOException
+        {
+            super(out);
+            this.simulator = simulator;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object object) throws IOException
+        {
+            return object == this.simulator ? SimulatorReference.SIMULATOR : object;
+        }
+
+        /**
+         * Write the deferred states, each preceded by true and a reference to its object, and followed by false. Objects that
+         * are deferred while the deferred states are written are written as well.
+         * @throws IOException on I/O error
+         */
+        void writeDeferredStates() throws IOException
+        {
+            for (int i = 0; i < this.deferredStates.size(); i++)
+            {
+                writeBoolean(true);
+                writeObject(this.deferredStates.get(i));
+                this.deferredStates.get(i).writeDeferredState(this);
+            }
+            writeBoolean(false);
+        }
+    }
+
+    /**
+     * CheckpointInputStream reads the model, and resolves the reference to the simulator to the simulator of the restore.
+     */
+    private static class CheckpointInputStream extends ObjectInputStream
+    {
+        /** the simulator into which the model is restored. */
+        private final SupplyChainSimulatorInterface simulator;
+
+        /**
+         * Create an object stream that resolves the reference to the simulator.
+         * @param in the stream to read from
+         * @param simulator the simulator into which the model is restored
+         * @throws IOException on I/O error
+         */
+        CheckpointInputStream(final InputStream in, final SupplyChainSimulatorInterface simulator) throws IOException
+        {
+            super(in);
+            this.simulator = simulator;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(final Object object) throws IOException
+        {
+            return object == SimulatorReference.SIMULATOR ? this.simulator : object;
+        }
+    }
+
+}
@@ -12,6 +12,8 @@ import nl.tudelft.simulation.dsol.model.AbstractDsolModel;
 import nl.tudelft.simulation.supplychain.actor.Actor;
 import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
 import nl.tudelft.simulation.supplychain.actor.ActorNotFoundException;
+import nl.tudelft.simulation.supplychain.metrics.HandlerMetricsRegistry;
+import nl.tudelft.simulation.supplychain.product.Product;
 
 /**
  * SupplyChainModel is the default model implementation from which model implementations can extend. It defines an empty set of
@@ -34,6 +36,12 @@ public abstract class SupplyChainModel extends AbstractDsolModel<Duration, Suppl
     /** the map of actors based on their id. */
     private Map<String, Actor> actorMap = new LinkedHashMap<>();
 
+    /** the dense index of the registered products. */
+    private Map<Product, Integer> productIndexMap = new LinkedHashMap<>();
+
+    /** the registry for the metrics of the content handlers; null when instrumentation is switched off. */
+    private HandlerMetricsRegistry handlerMetrics = null;
+
     /**
      * Create a supply chain model with a specific set of random streams for this replication.
      * @param simulator the simulator
@@ -56,16 +64,44 @@ public abstract class SupplyChainModel extends AbstractDsolModel<Duration, Suppl
     @Override
     public long getUniqueContentId()
     {
-        return this.uniqueMessageId.getAndIncrement();
+        long id = getSimulator().allocateContentId();
+        return id >= 0L ? id : this.uniqueMessageId.getAndIncrement();
     }
 
     @Override
-    public void registerActor(final Actor actor) throws ActorAlreadyDefinedException
+    public int registerActor(final Actor actor) throws ActorAlreadyDefinedException
     {
         Throw.whenNull(actor, "actor cannot be null");
         Throw.when(this.actorMap.containsKey(actor.getId()), ActorAlreadyDefinedException.class,
                 "Actor with id " + actor.getId() + " already defined in model");
         this.actorMap.put(actor.getId(), actor);
+        return this.actorMap.size() - 1;
+    }
+
+    @Override
+    public int registerProduct(final Product product)
+    {
+        Throw.whenNull(product, "product cannot be null");
+        return this.productIndexMap.computeIfAbsent(product, p -> this.productIndexMap.size());
+    }
+
+    @Override
+    public HandlerMetricsRegistry getHandlerMetrics()
+    {
+        return this.handlerMetrics;
+    }
+
+    /**
+     * Switch on the instrumentation of the content handlers by setting a metrics registry, or switch it off with null. The
+     * registry is not thread-safe, so the content handlers cannot be instrumented on the parallel simulator.
+     * @param handlerMetrics the registry for the metrics of the content handlers, or null to switch off instrumentation
+     * @throws IllegalStateException when a registry is set on a model that runs on the parallel simulator
+     */
+    public void setHandlerMetrics(final HandlerMetricsRegistry handlerMetrics)
+    {
+        Throw.when(handlerMetrics != null && getSimulator() instanceof SupplyChainParallelSimulator,
+                IllegalStateException.class, "the content handlers cannot be instrumented on the parallel simulator");
+        this.handlerMetrics = handlerMetrics;
     }
 
     @Override
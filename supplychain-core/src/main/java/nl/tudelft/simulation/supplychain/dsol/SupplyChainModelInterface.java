@@ -5,9 +5,14 @@ import org.djunits.value.vdouble.scalar.Length;
 import org.djutils.draw.point.Point;
 
 import nl.tudelft.simulation.dsol.model.DsolModel;
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
 import nl.tudelft.simulation.supplychain.actor.Actor;
 import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
 import nl.tudelft.simulation.supplychain.actor.ActorNotFoundException;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreIndexed;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreInterface;
+import nl.tudelft.simulation.supplychain.metrics.HandlerMetricsRegistry;
+import nl.tudelft.simulation.supplychain.product.Product;
 
 /**
  * SupplyChainModelInterface defines the specific methods of a supply chain model.
@@ -25,6 +30,39 @@ public interface SupplyChainModelInterface extends DsolModel<Duration, SupplyCha
      */
     long getUniqueContentId();
 
+    /**
+     * Create a new content store for an actor that does not specify its own content store. The default is a
+     * ContentStoreIndexed. Models that run on a single thread can override this method to return, e.g., a
+     * ContentStoreSingleThreaded, so all actors of the model that use the default content store get the lock-free variant.
+     * @return a new content store for an actor
+     */
+    default ContentStoreInterface createContentStore()
+    {
+        return new ContentStoreIndexed();
+    }
+
+    /**
+     * Return the default stream that the roles, handlers and processes of the given actor use for their distributions. The
+     * default implementation returns the default stream of the model. A model that is run on a partitioned simulator can
+     * return a separate stream per partition, so the random draws in one partition do not depend on the progress of another.
+     * @param actor the actor to return the default stream for
+     * @return the default stream for the distributions of the actor
+     */
+    default StreamInterface getDefaultStream(final Actor actor)
+    {
+        return getDefaultStream();
+    }
+
+    /**
+     * Return the registry for the metrics of the content handlers, or null when the content handlers are not instrumented.
+     * The default implementation does not instrument the content handlers.
+     * @return the registry for the metrics of the content handlers, or null when instrumentation is switched off
+     */
+    default HandlerMetricsRegistry getHandlerMetrics()
+    {
+        return null;
+    }
+
     /**
      * Calculate the distance between two points as a Length. The point could be in lat/lon, on an orthogonal grid, or based on
      * a GIS projection.
@@ -47,11 +85,20 @@ public interface SupplyChainModelInterface extends DsolModel<Duration, SupplyCha
     }
 
     /**
-     * Retrieve an actor based on its id.
+     * Register an actor in the model, and give it a dense index.
      * @param actor the actor to register
+     * @return the dense index of the actor in the model; actors are numbered 0, 1, 2, ... in order of registration
      * @throws ActorAlreadyDefinedException when the actor was already registered in the Actor map
      */
-    void registerActor(Actor actor) throws ActorAlreadyDefinedException;
+    int registerActor(Actor actor) throws ActorAlreadyDefinedException;
+
+    /**
+     * Register a product in the model, and give it a dense index. When an equal product (same name and sku) was registered
+     * before, the index of that product is returned.
+     * @param product the product to register
+     * @return the dense index of the product in the model; products are numbered 0, 1, 2, ... in order of registration
+     */
+    int registerProduct(Product product);
 
     /**
      * Retrieve an actor based on its id.
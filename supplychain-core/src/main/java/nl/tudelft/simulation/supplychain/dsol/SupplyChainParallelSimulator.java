@@ -0,0 +1,1085 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.SimRuntimeException;
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.Executable;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.dsol.model.DsolModel;
+import nl.tudelft.simulation.dsol.simtime.SimTime;
+import nl.tudelft.simulation.dsol.simulators.ReplicationState;
+import nl.tudelft.simulation.dsol.simulators.RunState;
+import nl.tudelft.simulation.dsol.simulators.SimulatorInterface;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingActor;
+
+/**
+ * SupplyChainParallelSimulator executes the events of a supply chain model in parallel, using a conservative synchronization
+ * protocol. The actors are assigned to partitions by an {@link ActorPartitioner}, by default on the basis of their landmass.
+ * Each partition is a logical process with its own event list, and {@link Actor#getSimulator()} returns the logical process of
+ * the actor, so all events that an actor schedules for itself end up in its own partition. Content that is sent to an actor in
+ * another partition is scheduled on the logical process of the receiver; the delay of such content has to be at least the
+ * <i>lookahead</i> of the simulator, which is the minimum administrative or transport delay of content between partitions.
+ * When the partitioner declares the minimum delay between two partitions, the lookahead is checked against it as soon as the
+ * partitions are created; otherwise, the delay of each content is checked when it is sent.
+ * <p>
+ * The simulator advances in windows. When the earliest pending event in the partitions is at time t, every partition executes
+ * its events before t + lookahead in parallel, since no content from another partition can arrive before that time. Content
+ * for other partitions is kept in an outbox and delivered at the end of the window. Events that are scheduled on this
+ * simulator outside of a partition, such as the warmup and the end of the replication, are executed on their own between the
+ * windows.
+ * </p>
+ * <p>
+ * The results are identical to those of the sequential {@link SupplyChainSimulator}. Events at the same time and with the same
+ * priority are executed in the order in which the sequential simulator would have created them, which is derived from the
+ * order of execution of the events that scheduled them. Identical results require that the partitions do not share mutable
+ * state other than through content, and that they draw from their own random streams, e.g., by letting the model return a
+ * stream per partition in {@link SupplyChainModelInterface#getDefaultStream(Actor)}. A bank changes the accounts of its
+ * customers directly, so the simulator refuses a model in which an actor uses a bank in another partition; a payment to a payee
+ * at another bank travels as an InterbankTransfer between the banks, with the handling time of the BankTransferHandler as
+ * delay. The unique ids of the content that is created in a partition are allocated from a counter of the partition, so they
+ * do not depend on the interleaving of the partitions; they differ from the ids of the sequential simulator, which allocates
+ * all ids from one counter of the model. The registry of the handler metrics is shared by all actors and is not thread-safe,
+ * so the simulator refuses a model that instruments its content handlers.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SupplyChainParallelSimulator extends SupplyChainSimulator
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the number of bits of a content id that is allocated in a partition that count the content of the partition. */
+    private static final int CONTENT_ID_BITS = 40;
+
+    /** the logical process that executes events on the current thread, if any. */
+    private static final ThreadLocal<LogicalProcess> CURRENT_PROCESS = new ThreadLocal<>();
+
+    /** the partitioner that assigns actors to partitions. */
+    private final ActorPartitioner partitioner;
+
+    /** the minimum delay of content that is sent between partitions. */
+    private final Duration lookahead;
+
+    /** the number of threads to execute the partitions on. */
+    private final int numberOfThreads;
+
+    /** the logical processes in order of creation. */
+    private final List<LogicalProcess> processes = new CopyOnWriteArrayList<>();
+
+    /** the logical processes by partition name. */
+    private final Map<String, LogicalProcess> processMap = new ConcurrentHashMap<>();
+
+    /** the logical process of each actor. */
+    private final Map<Actor, LogicalProcess> actorProcesses = new ConcurrentHashMap<>();
+
+    /** the record of the event that is executed outside the partitions, or of the scheduling outside of any event. */
+    private ExecutionRecord globalRecord = null;
+
+    /** the rank of the next executed event in the order of the sequential simulator. */
+    private long nextRank = 0L;
+
+    /** the number of windows that has been executed. */
+    private long numberOfWindows = 0L;
+
+    /** the index of the next partition that is indexed for the allocation of content ids. */
+    private int nextPartitionIndex = 0;
+
+    /**
+     * Construct a parallel simulator with a given partitioner and number of threads.
+     * @param id the simulator id
+     * @param absStartTime the start time of the simulator
+     * @param partitioner the partitioner that assigns actors to partitions
+     * @param lookahead the minimum delay of content that is sent between partitions, larger than zero
+     * @param numberOfThreads the number of threads to execute the partitions on
+     */
+    public SupplyChainParallelSimulator(final Serializable id, final Time absStartTime, final ActorPartitioner partitioner,
+            final Duration lookahead, final int numberOfThreads)
+    {
+        super(id, absStartTime);
+        Throw.whenNull(partitioner, "partitioner cannot be null");
+        Throw.whenNull(lookahead, "lookahead cannot be null");
+        Throw.when(lookahead.si <= 0.0 || Double.isNaN(lookahead.si), IllegalArgumentException.class,
+                "lookahead should be larger than zero");
+        Throw.when(numberOfThreads < 1, IllegalArgumentException.class, "numberOfThreads should be at least 1");
+        this.partitioner = partitioner;
+        this.lookahead = lookahead;
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    /**
+     * Construct a parallel simulator that partitions the actors by landmass, and that uses a thread per available processor.
+     * @param id the simulator id
+     * @param absStartTime the start time of the simulator
+     * @param lookahead the minimum delay of content that is sent between landmasses, larger than zero
+     */
+    public SupplyChainParallelSimulator(final Serializable id, final Time absStartTime, final Duration lookahead)
+    {
+        this(id, absStartTime, ActorPartitioner.BY_LANDMASS, lookahead, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public SupplyChainSimulatorInterface getActorSimulator(final Actor actor)
+    {
+        LogicalProcess process = this.actorProcesses.get(actor);
+        if (process == null)
+        {
+            String partition = this.partitioner.partition(actor);
+            Throw.whenNull(partition, "partition of actor %s cannot be null", actor);
+            process = this.processMap.computeIfAbsent(partition, name -> addProcess(name));
+            this.actorProcesses.put(actor, process);
+            checkBank(actor, process);
+        }
+        return process;
+    }
+
+    /**
+     * Check that a financing actor has its bank in its own partition. The bank withdraws the fixed costs and the depreciation
+     * of the actor directly from its account, which is only safe when the bank is simulated by the same logical process.
+     * Payments to a payee at another bank travel as content between the banks, so the banks of payer and payee can be in
+     * different partitions.
+     * @param actor the actor to check
+     * @param process the logical process of the actor
+     * @throws SimRuntimeException when the bank of the actor is in another partition
+     */
+    private void checkBank(final Actor actor, final LogicalProcess process)
+    {
+        if (actor instanceof FinancingActor financingActor && financingActor.getFinancingRole() != null)
+        {
+            Actor bank = financingActor.getFinancingRole().getBank().getActor();
+            LogicalProcess bankProcess = (LogicalProcess) getActorSimulator(bank);
+            Throw.when(bankProcess != process, SimRuntimeException.class,
+                    "actor %s in partition %s uses bank %s in partition %s; an actor and its bank have to be in the same "
+                            + "partition",
+                    actor.getId(), process.name, bank.getId(), bankProcess.name);
+        }
+    }
+
+    /**
+     * Check that the minimum delay of content between two partitions that the partitioner declares is not shorter than the
+     * lookahead, so a model with a lookahead that is too long fails when its partitions are created rather than when the
+     * first content with a short delay is sent.
+     * @param fromPartition the name of the partition of the sender
+     * @param toPartition the name of the partition of the receiver
+     * @throws SimRuntimeException when the declared minimum delay is shorter than the lookahead
+     */
+    private void checkLookahead(final String fromPartition, final String toPartition)
+    {
+        Duration minimumDelay = this.partitioner.minimumDelay(fromPartition, toPartition);
+        Throw.when(minimumDelay != null && minimumDelay.lt(this.lookahead), SimRuntimeException.class,
+                "the minimum delay %s of content from partition %s to partition %s is shorter than the lookahead %s",
+                minimumDelay, fromPartition, toPartition, this.lookahead);
+    }
+
+    /**
+     * Create a new logical process and add it to the list of processes, after checking the lookahead against the minimum delay
+     * of content between the new partition and the existing partitions.
+     * @param name the name of the partition
+     * @return the new logical process
+     * @throws SimRuntimeException when a declared minimum delay is shorter than the lookahead
+     */
+    private LogicalProcess addProcess(final String name)
+    {
+        // partitions can be created concurrently by the threads of other partitions
+        synchronized (this.processes)
+        {
+            for (LogicalProcess other : this.processes)
+            {
+                checkLookahead(other.name, name);
+                checkLookahead(name, other.name);
+            }
+            LogicalProcess process = new LogicalProcess(this, name);
+            this.processes.add(process);
+            return process;
+        }
+    }
+
+    /**
+     * Return the names of the partitions, in the order in which they were created.
+     * @return the names of the partitions
+     */
+    public List<String> getPartitionNames()
+    {
+        List<String> names = new ArrayList<>();
+        for (LogicalProcess process : this.processes)
+        {
+            names.add(process.name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Return the minimum delay of content that is sent between partitions.
+     * @return the lookahead
+     */
+    public Duration getLookahead()
+    {
+        return this.lookahead;
+    }
+
+    /**
+     * Return the number of windows in which the partitions have executed events in parallel.
+     * @return the number of executed windows
+     */
+    public long getNumberOfWindows()
+    {
+        return this.numberOfWindows;
+    }
+
+    /**
+     * Return the logical process of this simulator that executes events on the current thread.
+     * @return the logical process of the current thread, or null when the current thread is not executing a partition
+     */
+    private LogicalProcess currentProcess()
+    {
+        LogicalProcess process = CURRENT_PROCESS.get();
+        return process != null && process.master == this ? process : null;
+    }
+
+    /**
+     * Return the record of the event that is currently being executed on this thread, to which new events are attributed.
+     * Scheduling outside of any event, e.g., when the model is constructed, is attributed to a record that is ranked after all
+     * events that have been executed so far.
+     * @return the record of the event that schedules new events on this thread
+     */
+    private ExecutionRecord contextRecord()
+    {
+        LogicalProcess process = currentProcess();
+        if (process != null)
+        {
+            return process.executing;
+        }
+        if (this.globalRecord == null)
+        {
+            this.globalRecord = new ExecutionRecord(0L);
+            this.globalRecord.rank = this.nextRank++;
+        }
+        return this.globalRecord;
+    }
+
+    /**
+     * Wrap an event in a partition event that carries its position in the creation order of the sequential simulator.
+     * @param event the event to wrap
+     * @return the partition event
+     */
+    private PartitionEvent wrap(final SimEventInterface<Duration> event)
+    {
+        if (event instanceof PartitionEvent partitionEvent)
+        {
+            return partitionEvent;
+        }
+        ExecutionRecord creator = contextRecord();
+        return new PartitionEvent(event, creator, creator.children++);
+    }
+
+    @Override
+    public void initialize(final DsolModel<Duration, ? extends SimulatorInterface<Duration>> model,
+            final Replication<Duration> replication) throws SimRuntimeException
+    {
+        this.processes.clear();
+        this.processMap.clear();
+        this.actorProcesses.clear();
+        this.globalRecord = null;
+        this.nextRank = 0L;
+        this.numberOfWindows = 0L;
+        this.nextPartitionIndex = 0;
+        super.initialize(model, replication);
+        Throw.when(model instanceof SupplyChainModelInterface supplyChainModel && supplyChainModel.getHandlerMetrics() != null,
+                SimRuntimeException.class, "the content handlers cannot be instrumented on the parallel simulator");
+        // the financing role of an actor can be set after the actor has been assigned to its partition
+        for (Map.Entry<Actor, LogicalProcess> entry : this.actorProcesses.entrySet())
+        {
+            checkBank(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc} The content that is created in a partition gets an id from the counter of the partition, with the index of
+     * the partition in the high bits. Content that is created outside the partitions, e.g., when the model is constructed or
+     * in an event of this simulator, gets its id from the counter of the model.
+     */
+    @Override
+    public long allocateContentId()
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.nextContentId() : -1L;
+    }
+
+    /**
+     * Give the partitions that have been created since the previous window an index for the allocation of content ids. A
+     * partition that is created during a window is created by the thread of another partition, so the new partitions are
+     * indexed in the order of their names instead of their order of creation. A partition executes no events in the window in
+     * which it is created, so it always has an index when it allocates a content id.
+     */
+    private void indexPartitions()
+    {
+        List<LogicalProcess> unindexed = new ArrayList<>();
+        for (LogicalProcess process : this.processes)
+        {
+            if (process.index < 0)
+            {
+                unindexed.add(process);
+            }
+        }
+        unindexed.sort(Comparator.comparing(process -> process.name));
+        for (LogicalProcess process : unindexed)
+        {
+            process.index = this.nextPartitionIndex++;
+        }
+    }
+
+    @Override
+    public Duration getSimulatorTime()
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.getSimulatorTime() : super.getSimulatorTime();
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEvent(final SimEventInterface<Duration> event) throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        if (process != null)
+        {
+            return process.scheduleEvent(event);
+        }
+        synchronized (this.semaphore)
+        {
+            Throw.when(event.getAbsoluteExecutionTime().compareTo(this.simulatorTime) < 0, SimRuntimeException.class,
+                    "cannot schedule event %s in past %s > %s", event, this.simulatorTime, event.getAbsoluteExecutionTime());
+            PartitionEvent partitionEvent = wrap(event);
+            this.eventList.add(partitionEvent);
+            return partitionEvent;
+        }
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay, final short priority,
+            final Object target, final String method, final Object[] args) throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventRel(relativeDelay, priority, target, method, args)
+                : super.scheduleEventRel(relativeDelay, priority, target, method, args);
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay, final Object target,
+            final String method, final Object[] args) throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventRel(relativeDelay, target, method, args)
+                : super.scheduleEventRel(relativeDelay, target, method, args);
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventNow(final short priority, final Object target, final String method,
+            final Object[] args) throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventNow(priority, target, method, args)
+                : super.scheduleEventNow(priority, target, method, args);
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventNow(final Object target, final String method, final Object[] args)
+            throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventNow(target, method, args)
+                : super.scheduleEventNow(target, method, args);
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay, final short priority,
+            final Executable executable) throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventRel(relativeDelay, priority, executable)
+                : super.scheduleEventRel(relativeDelay, priority, executable);
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay, final Executable executable)
+            throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventRel(relativeDelay, executable)
+                : super.scheduleEventRel(relativeDelay, executable);
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventNow(final short priority, final Executable executable)
+            throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventNow(priority, executable) : super.scheduleEventNow(priority, executable);
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventNow(final Executable executable) throws SimRuntimeException
+    {
+        LogicalProcess process = currentProcess();
+        return process != null ? process.scheduleEventNow(executable) : super.scheduleEventNow(executable);
+    }
+
+    @Override
+    public boolean cancelEvent(final SimEventInterface<Duration> event)
+    {
+        LogicalProcess process = currentProcess();
+        if (process != null)
+        {
+            return process.cancelEvent(event);
+        }
+        if (cancel(this, event))
+        {
+            return true;
+        }
+        for (LogicalProcess lp : this.processes)
+        {
+            if (cancel(lp, event))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove an event, or the partition event that wraps it, from the event list of a simulator.
+     * @param simulator the simulator to remove the event from
+     * @param event the event to remove
+     * @return whether the event was removed
+     */
+    static boolean cancel(final SupplyChainSimulator simulator, final SimEventInterface<Duration> event)
+    {
+        if (event instanceof PartitionEvent)
+        {
+            return simulator.getEventList().remove(event);
+        }
+        for (SimEventInterface<Duration> scheduled : simulator.getEventList())
+        {
+            if (((PartitionEvent) scheduled).event == event)
+            {
+                return simulator.getEventList().remove(scheduled);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void endReplication() throws SimRuntimeException
+    {
+        super.endReplication();
+        for (LogicalProcess process : this.processes)
+        {
+            process.getEventList().clear();
+        }
+    }
+
+    /**
+     * Return whether an event at the given time lies beyond the time up to which the simulator has been asked to run.
+     * @param time the execution time of the event
+     * @return whether an event at the given time should not be executed in the current run
+     */
+    boolean beyondRunUntil(final Duration time)
+    {
+        int cmp = time.compareTo(this.runUntilTime);
+        return cmp > 0 || (cmp == 0 && !this.runUntilIncluding);
+    }
+
+    /**
+     * Set the time of this simulator and of all logical processes.
+     * @param time the new simulation time
+     */
+    private void setTime(final Duration time)
+    {
+        if (time.compareTo(this.simulatorTime) != 0)
+        {
+            fireUnverifiedTimedEvent(SimulatorInterface.TIME_CHANGED_EVENT, null, time);
+        }
+        this.simulatorTime = time;
+        for (LogicalProcess process : this.processes)
+        {
+            process.advanceTo(time);
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        this.runflag = true;
+        ExecutorService executor = null;
+        try
+        {
+            while (!isStoppingOrStopped())
+            {
+                PartitionEvent first;
+                synchronized (this.semaphore)
+                {
+                    PartitionEvent global = this.eventList.isEmpty() ? null : (PartitionEvent) this.eventList.first();
+                    PartitionEvent local = firstPartitionEvent();
+                    first = global == null || (local != null && local.compareTo(global) < 0) ? local : global;
+                    if (first == null || beyondRunUntil(first.getAbsoluteExecutionTime()))
+                    {
+                        setTime(this.runUntilTime);
+                        this.runState = RunState.STOPPING;
+                        break;
+                    }
+                    if (first == global)
+                    {
+                        executeGlobalEvent();
+                        continue;
+                    }
+                    setTime(first.getAbsoluteExecutionTime());
+                }
+                if (executor == null)
+                {
+                    executor = createExecutor();
+                }
+                executeWindow(executor, first);
+            }
+        }
+        finally
+        {
+            if (executor != null)
+            {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Return the first event over the event lists of all logical processes.
+     * @return the first event of the logical processes, or null when all their event lists are empty
+     */
+    private PartitionEvent firstPartitionEvent()
+    {
+        PartitionEvent first = null;
+        for (LogicalProcess process : this.processes)
+        {
+            if (!process.getEventList().isEmpty())
+            {
+                PartitionEvent event = (PartitionEvent) process.getEventList().first();
+                if (first == null || event.compareTo(first) < 0)
+                {
+                    first = event;
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Execute the first event of the event list of this simulator, while the partitions are idle.
+     */
+    private void executeGlobalEvent()
+    {
+        PartitionEvent event = (PartitionEvent) this.eventList.removeFirst();
+        setTime(event.getAbsoluteExecutionTime());
+        event.record = new ExecutionRecord(0L);
+        event.record.rank = this.nextRank++;
+        this.globalRecord = event.record;
+        try
+        {
+            event.execute();
+        }
+        catch (Exception exception)
+        {
+            handleSimulationException(exception);
+        }
+        finally
+        {
+            this.globalRecord = null;
+        }
+    }
+
+    /**
+     * Execute a window in which all partitions execute their events before the time of the first event plus the lookahead,
+     * and before the first event of this simulator. Afterwards, the executed events are ranked in the order of the sequential
+     * simulator, and the content for other partitions is delivered.
+     * @param executor the executor to run the partitions on
+     * @param first the first event of the partitions
+     */
+    private void executeWindow(final ExecutorService executor, final PartitionEvent first)
+    {
+        indexPartitions();
+        Duration bound = first.getAbsoluteExecutionTime().plus(this.lookahead);
+        PartitionEvent global = this.eventList.isEmpty() ? null : (PartitionEvent) this.eventList.first();
+        List<LogicalProcess> active = new ArrayList<>();
+        for (LogicalProcess process : this.processes)
+        {
+            if (!process.getEventList().isEmpty()
+                    && process.getEventList().first().getAbsoluteExecutionTime().compareTo(bound) < 0)
+            {
+                active.add(process);
+            }
+        }
+        if (active.size() == 1)
+        {
+            active.get(0).executeWindow(bound, global);
+        }
+        else
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (LogicalProcess process : active)
+            {
+                futures.add(executor.submit(() -> process.executeWindow(bound, global)));
+            }
+            awaitAll(futures);
+        }
+        this.numberOfWindows++;
+        synchronized (this.semaphore)
+        {
+            rankExecutedEvents(active);
+            for (LogicalProcess process : active)
+            {
+                for (Transfer transfer : process.outbox)
+                {
+                    transfer.target().getEventList().add(transfer.event());
+                }
+                process.outbox.clear();
+            }
+            this.globalRecord = null;
+        }
+        for (LogicalProcess process : active)
+        {
+            if (process.exception != null)
+            {
+                Exception exception = process.exception;
+                process.exception = null;
+                handleSimulationException(exception);
+            }
+        }
+    }
+
+    /**
+     * Rank the events that the partitions executed in the last window in the order in which the sequential simulator would
+     * have executed them. The executed events of each partition are already in that order, so they are merged by comparing
+     * the next executed event of each partition. The creators of these events have already been ranked, either in an earlier
+     * window or earlier in this merge.
+     * @param active the partitions that executed events in the last window
+     */
+    private void rankExecutedEvents(final List<LogicalProcess> active)
+    {
+        int[] next = new int[active.size()];
+        while (true)
+        {
+            int best = -1;
+            PartitionEvent bestEvent = null;
+            for (int i = 0; i < active.size(); i++)
+            {
+                List<PartitionEvent> executed = active.get(i).executed;
+                if (next[i] < executed.size() && (bestEvent == null || executed.get(next[i]).compareTo(bestEvent) < 0))
+                {
+                    best = i;
+                    bestEvent = executed.get(next[i]);
+                }
+            }
+            if (bestEvent == null)
+            {
+                break;
+            }
+            bestEvent.record.rank = this.nextRank++;
+            next[best]++;
+        }
+        for (LogicalProcess process : active)
+        {
+            process.executed.clear();
+        }
+    }
+
+    /**
+     * Create the executor with daemon threads to run the partitions on.
+     * @return the executor
+     */
+    private ExecutorService createExecutor()
+    {
+        AtomicInteger threadNumber = new AtomicInteger(0);
+        return Executors.newFixedThreadPool(this.numberOfThreads, runnable ->
+        {
+            Thread thread = new Thread(runnable, "SupplyChainParallelSimulator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Wait until all partitions have finished their window. Interrupts of the simulator thread, e.g., by the end of the
+     * replication, do not abort the window; the interrupt status is restored afterwards.
+     * @param futures the futures of the partitions that execute the window
+     */
+    private static void awaitAll(final List<Future<?>> futures)
+    {
+        boolean interrupted = false;
+        for (Future<?> future : futures)
+        {
+            while (true)
+            {
+                try
+                {
+                    future.get();
+                    break;
+                }
+                catch (InterruptedException exception)
+                {
+                    interrupted = true;
+                }
+                catch (ExecutionException exception)
+                {
+                    throw new SimRuntimeException(exception.getCause());
+                }
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * LogicalProcess is the simulator for the actors of one partition. It has its own event list and simulation time, and it is
+     * driven by the parallel simulator; it should not be initialized or started itself.
+     */
+    static final class LogicalProcess extends SupplyChainSimulator
+    {
+        /** */
+        private static final long serialVersionUID = 20250301L;
+
+        /** the parallel simulator that drives this logical process. */
+        private final SupplyChainParallelSimulator master;
+
+        /** the name of the partition. */
+        private final String name;
+
+        /** the events that were executed in the current window, in order of execution. */
+        private final List<PartitionEvent> executed = new ArrayList<>();
+
+        /** the events for other partitions that were scheduled in the current window. */
+        private final List<Transfer> outbox = new ArrayList<>();
+
+        /** the record of the event that is being executed. */
+        private ExecutionRecord executing = null;
+
+        /** the number of events that this logical process has executed. */
+        private long executionCount = 0L;
+
+        /** the first exception that occurred in the current window. */
+        private Exception exception = null;
+
+        /** the index of the partition for the allocation of content ids, or -1 when it has not been indexed yet. */
+        private int index = -1;
+
+        /** the number of content ids that this logical process has allocated. */
+        private long contentIds = 0L;
+
+        /**
+         * Create a logical process for a partition.
+         * @param master the parallel simulator that drives this logical process
+         * @param name the name of the partition
+         */
+        LogicalProcess(final SupplyChainParallelSimulator master, final String name)
+        {
+            super(name, master.getAbsStartTime());
+            this.master = master;
+            this.name = name;
+            this.simulatorTime = master.simulatorTime;
+        }
+
+        /**
+         * Execute the events of this partition before the bound and before the first event of the parallel simulator.
+         * @param bound the time before which the events are executed
+         * @param global the first event of the parallel simulator, or null when there is none
+         */
+        void executeWindow(final Duration bound, final PartitionEvent global)
+        {
+            CURRENT_PROCESS.set(this);
+            try
+            {
+                while (!this.eventList.isEmpty())
+                {
+                    PartitionEvent event = (PartitionEvent) this.eventList.first();
+                    Duration time = event.getAbsoluteExecutionTime();
+                    if (time.compareTo(bound) >= 0 || (global != null && event.compareTo(global) > 0)
+                            || this.master.beyondRunUntil(time))
+                    {
+                        break;
+                    }
+                    this.eventList.removeFirst();
+                    this.simulatorTime = time;
+                    this.executing = new ExecutionRecord(this.executionCount++);
+                    event.record = this.executing;
+                    this.executed.add(event);
+                    try
+                    {
+                        event.execute();
+                    }
+                    catch (Exception e)
+                    {
+                        this.exception = e;
+                        break;
+                    }
+                }
+            }
+            finally
+            {
+                this.executing = null;
+                CURRENT_PROCESS.remove();
+            }
+        }
+
+        /**
+         * Allocate a content id from the counter of this partition. The index of the partition plus one is stored in the bits
+         * above the counter, so the ids of different partitions never overlap, nor do they overlap with the ids of the model.
+         * @return a unique content id
+         */
+        long nextContentId()
+        {
+            return ((this.index + 1L) << CONTENT_ID_BITS) + this.contentIds++;
+        }
+
+        /**
+         * Advance the time of this logical process when it lies before the given time.
+         * @param time the time to advance to
+         */
+        void advanceTo(final Duration time)
+        {
+            if (this.simulatorTime.compareTo(time) < 0)
+            {
+                this.simulatorTime = time;
+            }
+        }
+
+        @Override
+        public SimEventInterface<Duration> scheduleEvent(final SimEventInterface<Duration> event) throws SimRuntimeException
+        {
+            LogicalProcess current = this.master.currentProcess();
+            if (current != null && current != this)
+            {
+                Duration earliest = SimTime.plus(current.simulatorTime, this.master.lookahead);
+                Throw.when(event.getAbsoluteExecutionTime().compareTo(earliest) < 0, SimRuntimeException.class,
+                        "event %s from partition %s to partition %s at %s is scheduled within the lookahead %s", event,
+                        current.name, this.name, event.getAbsoluteExecutionTime(), this.master.lookahead);
+                PartitionEvent partitionEvent = this.master.wrap(event);
+                current.outbox.add(new Transfer(this, partitionEvent));
+                return partitionEvent;
+            }
+            Throw.when(event.getAbsoluteExecutionTime().compareTo(this.simulatorTime) < 0, SimRuntimeException.class,
+                    "cannot schedule event %s in past %s > %s", event, this.simulatorTime, event.getAbsoluteExecutionTime());
+            PartitionEvent partitionEvent = this.master.wrap(event);
+            this.eventList.add(partitionEvent);
+            return partitionEvent;
+        }
+
+        @Override
+        public boolean cancelEvent(final SimEventInterface<Duration> event)
+        {
+            return cancel(this, event);
+        }
+
+        @Override
+        public SupplyChainSimulatorInterface getActorSimulator(final Actor actor)
+        {
+            return this.master.getActorSimulator(actor);
+        }
+
+        @Override
+        public SupplyChainModelInterface getModel()
+        {
+            return this.master.getModel();
+        }
+
+        @Override
+        public Replication<Duration> getReplication()
+        {
+            return this.master.getReplication();
+        }
+
+        @Override
+        public RunState getRunState()
+        {
+            return this.master.getRunState();
+        }
+
+        @Override
+        public ReplicationState getReplicationState()
+        {
+            return this.master.getReplicationState();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LogicalProcess[" + this.name + "]";
+        }
+    }
+
+    /**
+     * ExecutionRecord stores the position of an executed event in the execution order, and counts the events that the executed
+     * event schedules. The rank is the position in the execution order of the sequential simulator, and is assigned at the end
+     * of the window in which the event was executed; until then, the local sequence number orders the events of one partition.
+     */
+    static final class ExecutionRecord implements Serializable
+    {
+        /** */
+        private static final long serialVersionUID = 20250301L;
+
+        /** the sequence number of the execution within its logical process. */
+        private final long sequence;
+
+        /** the rank in the execution order of the sequential simulator, or -1 when not yet ranked. */
+        private long rank = -1L;
+
+        /** the number of events that were scheduled by the executed event. */
+        private long children = 0L;
+
+        /**
+         * Create a record for an executed event.
+         * @param sequence the sequence number of the execution within its logical process
+         */
+        ExecutionRecord(final long sequence)
+        {
+            this.sequence = sequence;
+        }
+
+        /**
+         * Compare the execution order of two records. Ranked records were executed before unranked records, and unranked
+         * records that are compared always belong to the same logical process.
+         * @param other the record to compare with
+         * @return a negative number, zero, or a positive number when this record was executed before, is the same as, or was
+         *         executed after the other record
+         */
+        int compareTo(final ExecutionRecord other)
+        {
+            if (this.rank >= 0 && other.rank >= 0)
+            {
+                return Long.compare(this.rank, other.rank);
+            }
+            if (this.rank >= 0 || other.rank >= 0)
+            {
+                return this.rank >= 0 ? -1 : 1;
+            }
+            return Long.compare(this.sequence, other.sequence);
+        }
+    }
+
+    /**
+     * PartitionEvent wraps a scheduled event, and orders events at the same time and with the same priority in the order in
+     * which the sequential simulator would have created them: by the execution order of the event that scheduled them, and
+     * then by the order in which that event scheduled them.
+     */
+    static final class PartitionEvent implements SimEventInterface<Duration>
+    {
+        /** */
+        private static final long serialVersionUID = 20250301L;
+
+        /** the wrapped event. */
+        private final SimEventInterface<Duration> event;
+
+        /** the record of the event that scheduled this event. */
+        private final ExecutionRecord creator;
+
+        /** the index of this event among the events scheduled by the creator. */
+        private final long index;
+
+        /** the record of the execution of this event; null until executed. */
+        private ExecutionRecord record = null;
+
+        /**
+         * Wrap an event.
+         * @param event the wrapped event
+         * @param creator the record of the event that scheduled this event
+         * @param index the index of this event among the events scheduled by the creator
+         */
+        PartitionEvent(final SimEventInterface<Duration> event, final ExecutionRecord creator, final long index)
+        {
+            this.event = event;
+            this.creator = creator;
+            this.index = index;
+        }
+
+        @Override
+        public void execute() throws SimRuntimeException
+        {
+            this.event.execute();
+        }
+
+        @Override
+        public Duration getAbsoluteExecutionTime()
+        {
+            return this.event.getAbsoluteExecutionTime();
+        }
+
+        @Override
+        public short getPriority()
+        {
+            return this.event.getPriority();
+        }
+
+        @Override
+        public long getId()
+        {
+            return this.event.getId();
+        }
+
+        @Override
+        public int compareTo(final SimEventInterface<Duration> other)
+        {
+            if (this == other)
+            {
+                return 0;
+            }
+            int cmp = getAbsoluteExecutionTime().compareTo(other.getAbsoluteExecutionTime());
+            if (cmp != 0)
+            {
+                return cmp;
+            }
+            cmp = Short.compare(other.getPriority(), getPriority());
+            if (cmp != 0)
+            {
+                return cmp;
+            }
+            PartitionEvent that = (PartitionEvent) other;
+            if (this.creator == that.creator)
+            {
+                return Long.compare(this.index, that.index);
+            }
+            return this.creator.compareTo(that.creator);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.event.toString();
+        }
+    }
+
+    /**
+     * Transfer of an event to the logical process of another partition at the end of a window.
+     * @param target the logical process to deliver the event to
+     * @param event the event to deliver
+     */
+    record Transfer(LogicalProcess target, PartitionEvent event) implements Serializable
+    {
+    }
+}
@@ -0,0 +1,104 @@
+package nl.tudelft.simulation.supplychain.dsol;
+
+import java.io.Serializable;
+
+import org.djunits.value.vdouble.scalar.Duration;
+
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.Executable;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.LambdaSimEvent;
+
+/**
+ * SupplyChainSimEvent is the event that the SupplyChainSimulator creates for a lambda expression. Events with the same time
+ * and priority are executed in the order of their id, which is taken from a global counter when the event is created. When
+ * the event is restored from a {@link SupplyChainCheckpoint}, it gets a new id, so the restored events keep their mutual
+ * order, and are executed before the events with the same time and priority that are created after the restore. The event is
+ * serialized as its execution time in SI units, its priority and its lambda expression only.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SupplyChainSimEvent extends LambdaSimEvent<Duration>
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /**
+     * Create an event that executes a lambda expression.
+     * @param executionTime the time at which the event has to be executed
+     * @param priority the priority compared to other events scheduled at the same time
+     * @param executable the lambda expression to execute
+     */
+    public SupplyChainSimEvent(final Duration executionTime, final short priority, final Executable executable)
+    {
+        super(executionTime, priority, executable);
+    }
+
+    /**
+     * Return the lambda expression that the event executes.
+     * @return the lambda expression that the event executes
+     */
+    public Executable getExecutable()
+    {
+        return this.executable;
+    }
+
+    /**
+     * Give the event a new id from the global counter of the events, as if the event was created at this moment.
+     */
+    void renumber()
+    {
+        this.id = new LambdaSimEvent<Duration>(this.absoluteExecutionTime, this.priority, this.executable).getId();
+    }
+
+    /**
+     * Replace the event by its compact serialized form.
+     * @return the compact serialized form of the event
+     */
+    private Object writeReplace()
+    {
+        return new SerializedEvent(this.absoluteExecutionTime.si, this.priority, this.executable);
+    }
+
+    /**
+     * SerializedEvent is the compact serialized form of a SupplyChainSimEvent. It is resolved to a new event with a new id.
+     */
+    private static final class SerializedEvent implements Serializable
+    {
+        /** */
+        private static final long serialVersionUID = 20250301L;
+
+        /** the execution time of the event in SI units. */
+        private final double executionTime;
+
+        /** the priority of the event. */
+        private final short priority;
+
+        /** the lambda expression of the event. */
+        private final Executable executable;
+
+        /**
+         * Create the serialized form of an event.
+         * @param executionTime the execution time of the event in SI units
+         * @param priority the priority of the event
+         * @param executable the lambda expression of the event
+         */
+        SerializedEvent(final double executionTime, final short priority, final Executable executable)
+        {
+            this.executionTime = executionTime;
+            this.priority = priority;
+            this.executable = executable;
+        }
+
+        /**
+         * Resolve the serialized form to a new event.
+         * @return the event
+         */
+        private Object readResolve()
+        {
+            return new SupplyChainSimEvent(Duration.instantiateSI(this.executionTime), this.priority, this.executable);
+        }
+    }
+
+}
@@ -1,16 +1,25 @@
 package nl.tudelft.simulation.supplychain.dsol;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.djunits.value.vdouble.scalar.Duration;
 import org.djunits.value.vdouble.scalar.Time;
 
+import nl.tudelft.simulation.dsol.SimRuntimeException;
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.Executable;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.dsol.model.AbstractDsolModel;
+import nl.tudelft.simulation.dsol.simtime.SimTime;
 import nl.tudelft.simulation.dsol.simulators.DevsSimulator;
+import nl.tudelft.simulation.dsol.simulators.RunState;
 import nl.tudelft.simulation.naming.context.ContextInterface;
 
 /**
  * SupplyChainSimulator extends the DevsSimulator, and offers absolute Time for the simulation time in addition to relative
- * duration.
+ * duration. Lambda expressions are scheduled as a {@link SupplyChainSimEvent}, so a simulator that has been restored from a
+ * {@link SupplyChainCheckpoint} executes the restored events in the same order as the original simulator.
  * <p>
  * Copyright (c) 2022-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
@@ -55,4 +64,101 @@ public class SupplyChainSimulator extends DevsSimulator<Duration> implements Sup
         return (SupplyChainModelInterface) super.getModel();
     }
 
+    @Override
+    public SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay, final short priority,
+            final Executable executable) throws SimRuntimeException
+    {
+        synchronized (super.semaphore)
+        {
+            return scheduleEvent(
+                    new SupplyChainSimEvent(SimTime.plus(this.simulatorTime, relativeDelay), priority, executable));
+        }
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventAbs(final Duration absoluteTime, final short priority,
+            final Executable executable) throws SimRuntimeException
+    {
+        synchronized (super.semaphore)
+        {
+            return scheduleEvent(new SupplyChainSimEvent(absoluteTime, priority, executable));
+        }
+    }
+
+    @Override
+    public SimEventInterface<Duration> scheduleEventNow(final short priority, final Executable executable)
+            throws SimRuntimeException
+    {
+        synchronized (super.semaphore)
+        {
+            return scheduleEvent(new SupplyChainSimEvent(SimTime.copy(this.simulatorTime), priority, executable));
+        }
+    }
+
+    /**
+     * Stop the simulator after the event that is currently executed, without waiting for the worker thread. Unlike stop(),
+     * this method can be called from within an event, e.g., when a model decides that the replication has produced enough
+     * output. The simulator time remains the time of the current event, and the remaining events stay in the event list.
+     * The call has no effect when the simulator is not running.
+     */
+    public void stopAfterCurrentEvent()
+    {
+        synchronized (super.semaphore)
+        {
+            if (this.runState == RunState.STARTED)
+            {
+                this.runState = RunState.STOPPING;
+            }
+        }
+    }
+
+    /**
+     * Initialize the simulator with a model that has been restored from a checkpoint. Instead of constructing the model, the
+     * pending events of the checkpoint are scheduled, after which the warmup and the end of the replication are scheduled as
+     * usual. The start time of the replication is the time of the checkpoint.
+     * @param restoredModel the model that has been restored from the checkpoint
+     * @param replication the replication that continues from the checkpoint
+     * @param pendingEvents the events that were pending at the time of the checkpoint, in the order of execution
+     * @throws SimRuntimeException when the simulator is running, or when an event lies before the start of the replication
+     */
+    void initialize(final SupplyChainModelInterface restoredModel, final Replication<Duration> replication,
+            final List<SupplyChainSimEvent> pendingEvents) throws SimRuntimeException
+    {
+        initialize(new RestoredModel(this, pendingEvents), replication);
+        this.model = restoredModel;
+    }
+
+    /**
+     * RestoredModel stands in for a model that has been restored from a checkpoint while the simulator is initialized. Its
+     * construction schedules the pending events of the checkpoint.
+     */
+    private static class RestoredModel extends AbstractDsolModel<Duration, SupplyChainSimulatorInterface>
+    {
+        /** */
+        private static final long serialVersionUID = 20250301L;
+
+        /** the events that were pending at the time of the checkpoint. */
+        private final List<SupplyChainSimEvent> pendingEvents;
+
+        /**
+         * Create the stand-in for the restored model.
+         * @param simulator the simulator
+         * @param pendingEvents the events that were pending at the time of the checkpoint
+         */
+        RestoredModel(final SupplyChainSimulatorInterface simulator, final List<SupplyChainSimEvent> pendingEvents)
+        {
+            super(simulator);
+            this.pendingEvents = pendingEvents;
+        }
+
+        @Override
+        public void constructModel() throws SimRuntimeException
+        {
+            for (SupplyChainSimEvent event : this.pendingEvents)
+            {
+                getSimulator().scheduleEvent(event);
+            }
+        }
+    }
+
 }
@@ -8,10 +8,16 @@ import nl.tudelft.simulation.dsol.formalisms.eventscheduling.Executable;
 import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
 import nl.tudelft.simulation.dsol.simulators.DevsSimulatorInterface;
 import nl.tudelft.simulation.naming.context.Contextualized;
+import nl.tudelft.simulation.supplychain.actor.Actor;
 
 /**
  * SupplyChainSimulatorInterface adds a start time to the simulator, so the current simulator time can be printed as a date,
  * possibly with a time on that date. The SupplyChainSimulatorInterface also allows to schedule events on absolute times.
+ * Finally, it offers typed helpers to schedule a method call with one or two arguments as a lambda expression, e.g.,
+ * <code>scheduleEventRel(delay, this::pay, invoice)</code>. These avoid the reflective method lookup and the boxing of the
+ * arguments in an Object[] of the string-based scheduling methods, which remain available for backward compatibility.
+ * Lambda expressions and method references that are scheduled through this interface are serializable, so the pending events
+ * can be stored in a {@link SupplyChainCheckpoint}.
  * <p>
  * Copyright (c) 2022-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
@@ -78,6 +84,205 @@ public interface SupplyChainSimulatorInterface extends DevsSimulatorInterface<Du
         return scheduleEventAbs(absoluteTime.minus(getAbsStartTime()), executable);
     }
 
+    /**
+     * schedules a serializable lambda expression at a relative delay.
+     * @param relativeDelay the delay relative to the current simulation time
+     * @param priority the priority compared to other events scheduled at the same time.
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the delay is negative
+     */
+    default SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay, final short priority,
+            final SerializableExecutable executable) throws SimRuntimeException
+    {
+        return scheduleEventRel(relativeDelay, priority, (Executable) executable);
+    }
+
+    /**
+     * schedules a serializable lambda expression at a relative delay.
+     * @param relativeDelay the delay relative to the current simulation time
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the delay is negative
+     */
+    default SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay, final SerializableExecutable executable)
+            throws SimRuntimeException
+    {
+        return scheduleEventRel(relativeDelay, (Executable) executable);
+    }
+
+    /**
+     * schedules a serializable lambda expression at an absolute simulation time.
+     * @param absoluteTime the exact time to schedule the method on the simulator.
+     * @param priority the priority compared to other events scheduled at the same time.
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the event is scheduled in the past.
+     */
+    default SimEventInterface<Duration> scheduleEventAbs(final Duration absoluteTime, final short priority,
+            final SerializableExecutable executable) throws SimRuntimeException
+    {
+        return scheduleEventAbs(absoluteTime, priority, (Executable) executable);
+    }
+
+    /**
+     * schedules a serializable lambda expression at an absolute simulation time.
+     * @param absoluteTime the exact time to schedule the method on the simulator.
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the event is scheduled in the past.
+     */
+    default SimEventInterface<Duration> scheduleEventAbs(final Duration absoluteTime, final SerializableExecutable executable)
+            throws SimRuntimeException
+    {
+        return scheduleEventAbs(absoluteTime, (Executable) executable);
+    }
+
+    /**
+     * schedules a serializable lambda expression at the current simulation time.
+     * @param priority the priority compared to other events scheduled at the same time.
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException on scheduling error
+     */
+    default SimEventInterface<Duration> scheduleEventNow(final short priority, final SerializableExecutable executable)
+            throws SimRuntimeException
+    {
+        return scheduleEventNow(priority, (Executable) executable);
+    }
+
+    /**
+     * schedules a serializable lambda expression at the current simulation time.
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException on scheduling error
+     */
+    default SimEventInterface<Duration> scheduleEventNow(final SerializableExecutable executable) throws SimRuntimeException
+    {
+        return scheduleEventNow((Executable) executable);
+    }
+
+    /**
+     * schedules a serializable lambda expression at an absolute time.
+     * @param absoluteTime the exact time to schedule the method on the simulator.
+     * @param priority the priority compared to other events scheduled at the same time.
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the event is scheduled in the past.
+     */
+    default SimEventInterface<Duration> scheduleEventAbs(final Time absoluteTime, final short priority,
+            final SerializableExecutable executable) throws SimRuntimeException
+    {
+        return scheduleEventAbs(absoluteTime.minus(getAbsStartTime()), priority, (Executable) executable);
+    }
+
+    /**
+     * schedules a serializable lambda expression at an absolute time.
+     * @param absoluteTime the exact time to schedule the method on the simulator.
+     * @param executable the lambda expression to execute
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the event is scheduled in the past.
+     */
+    default SimEventInterface<Duration> scheduleEventAbs(final Time absoluteTime, final SerializableExecutable executable)
+            throws SimRuntimeException
+    {
+        return scheduleEventAbs(absoluteTime.minus(getAbsStartTime()), (Executable) executable);
+    }
+
+    /**
+     * Schedules a typed method call with one argument after a relative delay.
+     * @param relativeDelay the delay relative to the current simulation time
+     * @param method the method to call, e.g., this::pay
+     * @param arg the argument of the method
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the delay is negative
+     * @param <A> the argument type
+     */
+    default <A> SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay,
+            final SerializableConsumer<A> method, final A arg) throws SimRuntimeException
+    {
+        return scheduleEventRel(relativeDelay, () -> method.accept(arg));
+    }
+
+    /**
+     * Schedules a typed method call with two arguments after a relative delay.
+     * @param relativeDelay the delay relative to the current simulation time
+     * @param method the method to call
+     * @param arg1 the first argument of the method
+     * @param arg2 the second argument of the method
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the delay is negative
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     */
+    default <A, B> SimEventInterface<Duration> scheduleEventRel(final Duration relativeDelay,
+            final SerializableBiConsumer<A, B> method, final A arg1, final B arg2) throws SimRuntimeException
+    {
+        return scheduleEventRel(relativeDelay, () -> method.accept(arg1, arg2));
+    }
+
+    /**
+     * Schedules a typed method call with one argument at an absolute time.
+     * @param absoluteTime the exact time to schedule the method on the simulator.
+     * @param method the method to call, e.g., this::pay
+     * @param arg the argument of the method
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the event is scheduled in the past.
+     * @param <A> the argument type
+     */
+    default <A> SimEventInterface<Duration> scheduleEventAbs(final Time absoluteTime, final SerializableConsumer<A> method,
+            final A arg) throws SimRuntimeException
+    {
+        return scheduleEventAbs(absoluteTime, () -> method.accept(arg));
+    }
+
+    /**
+     * Schedules a typed method call with two arguments at an absolute time.
+     * @param absoluteTime the exact time to schedule the method on the simulator.
+     * @param method the method to call
+     * @param arg1 the first argument of the method
+     * @param arg2 the second argument of the method
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException whenever the event is scheduled in the past.
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     */
+    default <A, B> SimEventInterface<Duration> scheduleEventAbs(final Time absoluteTime,
+            final SerializableBiConsumer<A, B> method, final A arg1, final B arg2) throws SimRuntimeException
+    {
+        return scheduleEventAbs(absoluteTime, () -> method.accept(arg1, arg2));
+    }
+
+    /**
+     * Schedules a typed method call with one argument at the current simulation time.
+     * @param method the method to call
+     * @param arg the argument of the method
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException on scheduling error
+     * @param <A> the argument type
+     */
+    default <A> SimEventInterface<Duration> scheduleEventNow(final SerializableConsumer<A> method, final A arg)
+            throws SimRuntimeException
+    {
+        return scheduleEventNow(() -> method.accept(arg));
+    }
+
+    /**
+     * Schedules a typed method call with two arguments at the current simulation time.
+     * @param method the method to call
+     * @param arg1 the first argument of the method
+     * @param arg2 the second argument of the method
+     * @return the simulation event so it can be cancelled later
+     * @throws SimRuntimeException on scheduling error
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     */
+    default <A, B> SimEventInterface<Duration> scheduleEventNow(final SerializableBiConsumer<A, B> method, final A arg1,
+            final B arg2) throws SimRuntimeException
+    {
+        return scheduleEventNow(() -> method.accept(arg1, arg2));
+    }
+
     /**
      * Return the absolute start time .
      * @return the absolute start time
@@ -93,6 +298,29 @@ public interface SupplyChainSimulatorInterface extends DevsSimulatorInterface<Du
         return getAbsStartTime().plus(getSimulatorTime());
     }
 
+    /**
+     * Return the simulator on which the events of the given actor are scheduled. For a sequential simulator this is the
+     * simulator itself; a partitioned simulator returns the logical process to which the actor has been assigned.
+     * @param actor the actor to return the simulator for
+     * @return the simulator on which the events of the actor are scheduled
+     */
+    default SupplyChainSimulatorInterface getActorSimulator(final Actor actor)
+    {
+        return this;
+    }
+
+    /**
+     * Return a unique content id that is allocated by the simulator, or -1 when the model allocates the content ids with its
+     * own counter. A partitioned simulator allocates the ids of the content that is created in a partition from a counter of
+     * that partition, so the ids do not depend on the order in which the partitions are executed. The default implementation
+     * returns -1.
+     * @return a unique content id that is allocated by the simulator, or -1 when the model allocates the content ids
+     */
+    default long allocateContentId()
+    {
+        return -1L;
+    }
+
     @Override
     SupplyChainModelInterface getModel();
 
@@ -0,0 +1,98 @@
+package nl.tudelft.simulation.supplychain.dsol.trace;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * EventTraceDiff compares two event traces, e.g., a golden trace of a model and the trace of the same model after a
+ * refactoring, and reports the first executed event at which they diverge. Since the hash of each record is chained with the
+ * hash of the previous record, the traces diverge at the first record where the hashes differ. Differences in only the source
+ * or the priority of an event are not reported, since these fields are not part of the hash. The main method can be used in a
+ * continuous-integration script; it exits with status 1 when the traces diverge.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public final class EventTraceDiff
+{
+    /** Utility class, not to be instantiated. */
+    private EventTraceDiff()
+    {
+        // utility class
+    }
+
+    /**
+     * Compare two event traces.
+     * @param expected the path of the expected (golden) trace
+     * @param actual the path of the actual trace
+     * @return the first divergence of the traces, or null when the traces are identical
+     * @throws nl.tudelft.simulation.supplychain.SupplyChainRuntimeException when a trace cannot be read or is corrupt
+     */
+    public static Divergence compare(final Path expected, final Path actual)
+    {
+        Throw.whenNull(expected, "expected cannot be null");
+        Throw.whenNull(actual, "actual cannot be null");
+        try (Stream<EventTraceRecord> expectedStream = new EventTraceReader(expected).stream();
+                Stream<EventTraceRecord> actualStream = new EventTraceReader(actual).stream())
+        {
+            Iterator<EventTraceRecord> expectedIterator = expectedStream.iterator();
+            Iterator<EventTraceRecord> actualIterator = actualStream.iterator();
+            long index = 0;
+            while (expectedIterator.hasNext() || actualIterator.hasNext())
+            {
+                EventTraceRecord expectedRecord = expectedIterator.hasNext() ? expectedIterator.next() : null;
+                EventTraceRecord actualRecord = actualIterator.hasNext() ? actualIterator.next() : null;
+                if (expectedRecord == null || actualRecord == null || expectedRecord.hash() != actualRecord.hash())
+                {
+                    return new Divergence(index, expectedRecord, actualRecord);
+                }
+                index++;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Compare two event traces, print the first divergence, and exit with status 1 when the traces diverge.
+     * @param args the path of the expected trace and the path of the actual trace
+     */
+    public static void main(final String[] args)
+    {
+        if (args.length != 2)
+        {
+            System.err.println("usage: EventTraceDiff <expected trace> <actual trace>");
+            System.exit(2);
+        }
+        Divergence divergence = compare(Path.of(args[0]), Path.of(args[1]));
+        if (divergence == null)
+        {
+            System.out.println("traces are identical");
+            return;
+        }
+        System.out.println(divergence);
+        System.exit(1);
+    }
+
+    /**
+     * The first divergence of two event traces.
+     * @param index the index of the first record at which the traces diverge
+     * @param expected the record of the expected trace, or null when the expected trace ends before the actual trace
+     * @param actual the record of the actual trace, or null when the actual trace ends before the expected trace
+     */
+    public record Divergence(long index, EventTraceRecord expected, EventTraceRecord actual)
+    {
+        @Override
+        public String toString()
+        {
+            return "traces diverge at event " + this.index + "\n  expected: "
+                    + (this.expected == null ? "end of trace" : this.expected) + "\n  actual:   "
+                    + (this.actual == null ? "end of trace" : this.actual);
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+package nl.tudelft.simulation.supplychain.dsol.trace;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+
+/**
+ * EventTraceReader streams the records of an event trace that was written by the EventTraceRecorder. The reader recomputes the
+ * hash chain while reading, and throws a SupplyChainRuntimeException when a record does not match its hash, or when the number
+ * of records or the final hash at the end of the trace do not match. A trace that was not closed, e.g., because the run was
+ * aborted, ends at its last complete record.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class EventTraceReader implements Iterable<EventTraceRecord>
+{
+    /** the path of the trace file. */
+    private final Path path;
+
+    /**
+     * Create a reader for an event trace.
+     * @param path the path of the trace file
+     */
+    public EventTraceReader(final Path path)
+    {
+        Throw.whenNull(path, "path cannot be null");
+        this.path = path;
+    }
+
+    /**
+     * Return the path of the trace file.
+     * @return the path of the trace file
+     */
+    public Path getPath()
+    {
+        return this.path;
+    }
+
+    /**
+     * Return an iterator over the records of the trace. The file is closed when the iterator has read the last record.
+     */
+    @Override
+    public Iterator<EventTraceRecord> iterator()
+    {
+        return new RecordIterator();
+    }
+
+    /**
+     * Return a sequential stream of the records in the trace. Closing the stream closes the file, so a stream that is not
+     * consumed completely should be used in a try-with-resources statement.
+     * @return a sequential stream of the records in the trace
+     */
+    public Stream<EventTraceRecord> stream()
+    {
+        RecordIterator iterator = new RecordIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false).onClose(iterator::close);
+    }
+
+    /**
+     * The iterator that reads the records of the trace and verifies the hash chain.
+     */
+    private class RecordIterator implements Iterator<EventTraceRecord>
+    {
+        /** the strings defined in the trace so far. */
+        private final List<String> strings = new ArrayList<>();
+
+        /** the input stream of the trace; null when the trace has been read completely. */
+        private DataInputStream in;
+
+        /** the hash of the last record. */
+        private long hash = EventTraceRecorder.INITIAL_HASH;
+
+        /** the index of the next record. */
+        private long index = 0;
+
+        /** the next record to return, or null when it still has to be read. */
+        private EventTraceRecord next;
+
+        /**
+         * Create the iterator and read the header of the trace.
+         */
+        RecordIterator()
+        {
+            Path path = EventTraceReader.this.path;
+            try
+            {
+                this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 65536));
+                Throw.when(this.in.readInt() != EventTraceRecorder.MAGIC, SupplyChainRuntimeException.class,
+                        "%s is not an event trace", path);
+                int version = this.in.readInt();
+                Throw.when(version != EventTraceRecorder.VERSION, SupplyChainRuntimeException.class,
+                        "%s has unsupported event trace version %d", path, version);
+            }
+            catch (IOException exception)
+            {
+                close();
+                throw new SupplyChainRuntimeException("EventTraceReader could not open " + path, exception);
+            }
+        }
+
+        /**
+         * Close the input stream of the trace.
+         */
+        private void close()
+        {
+            if (this.in != null)
+            {
+                try
+                {
+                    this.in.close();
+                }
+                catch (IOException exception)
+                {
+                    // the trace has been read; nothing to do
+                }
+                this.in = null;
+            }
+        }
+
+        /**
+         * Return a string for an id, or null for a missing string.
+         * @param id the string id
+         * @return the string for the id, or null for a missing string
+         */
+        private String string(final int id)
+        {
+            return id == EventTraceRecorder.NO_STRING ? null : this.strings.get(id);
+        }
+
+        /**
+         * Read records until the next event record, and store it in next.
+         */
+        private void readNext()
+        {
+            try
+            {
+                while (this.next == null && this.in != null)
+                {
+                    byte tag = this.in.readByte();
+                    if (tag == EventTraceRecorder.TAG_END)
+                    {
+                        long count = this.in.readLong();
+                        long finalHash = this.in.readLong();
+                        Throw.when(count != this.index || finalHash != this.hash, SupplyChainRuntimeException.class,
+                                "event trace %s ends with count %d and hash %x, but contains %d records with hash %x",
+                                EventTraceReader.this.path, count, finalHash, this.index, this.hash);
+                        close();
+                    }
+                    else if (tag == EventTraceRecorder.TAG_STRING)
+                    {
+                        int id = this.in.readInt();
+                        Throw.when(id != this.strings.size(), SupplyChainRuntimeException.class,
+                                "event trace string definitions out of order");
+                        this.strings.add(this.in.readUTF());
+                    }
+                    else if (tag == EventTraceRecorder.TAG_EVENT)
+                    {
+                        double time = this.in.readDouble();
+                        short priority = this.in.readShort();
+                        String source = string(this.in.readInt());
+                        String target = string(this.in.readInt());
+                        long contentId = this.in.readLong();
+                        String contentType = string(this.in.readInt());
+                        long recordHash = this.in.readLong();
+                        this.hash = EventTraceRecorder.chain(this.hash, time, target, contentId, contentType);
+                        Throw.when(recordHash != this.hash, SupplyChainRuntimeException.class,
+                                "event trace %s is corrupt at record %d", EventTraceReader.this.path, this.index);
+                        this.next = new EventTraceRecord(this.index++, time, priority, source, target, contentId, contentType,
+                                recordHash);
+                    }
+                    else
+                    {
+                        throw new SupplyChainRuntimeException(
+                                "event trace " + EventTraceReader.this.path + " contains unknown tag " + tag);
+                    }
+                }
+            }
+            catch (EOFException exception)
+            {
+                // a trace that was not closed ends at its last complete record
+                close();
+            }
+            catch (IOException exception)
+            {
+                close();
+                throw new SupplyChainRuntimeException("EventTraceReader could not read " + EventTraceReader.this.path,
+                        exception);
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            readNext();
+            return this.next != null;
+        }
+
+        @Override
+        public EventTraceRecord next()
+        {
+            readNext();
+            if (this.next == null)
+            {
+                throw new NoSuchElementException();
+            }
+            EventTraceRecord result = this.next;
+            this.next = null;
+            return result;
+        }
+    }
+
+}
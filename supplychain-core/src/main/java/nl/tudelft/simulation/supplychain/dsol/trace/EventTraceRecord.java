@@ -0,0 +1,30 @@
+package nl.tudelft.simulation.supplychain.dsol.trace;
+
+import java.util.Locale;
+
+/**
+ * EventTraceRecord is one executed event of an event trace.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param index the index of the event in the trace, starting at 0
+ * @param time the simulator time of the execution of the event, in seconds
+ * @param priority the priority of the event
+ * @param source the class and method that the event executes, e.g., RestockingProcess.checkLoop
+ * @param target the id of the actor for which the event is executed, or null when the event has no actor
+ * @param contentId the unique id of the content that the event carries, or -1 when the event carries no content
+ * @param contentType the simple class name of the content that the event carries, or null when the event carries no content
+ * @param hash the hash of the time, target and content of this record, chained with the hash of the previous record
+ */
+public record EventTraceRecord(long index, double time, short priority, String source, String target, long contentId,
+        String contentType, long hash)
+{
+    @Override
+    public String toString()
+    {
+        return String.format(Locale.US, "#%d t=%.6fs prio=%d %s target=%s content=%s", this.index, this.time, this.priority,
+                this.source, this.target, this.contentId < 0 ? "-" : this.contentType + ":" + this.contentId);
+    }
+}
@@ -0,0 +1,405 @@
+package nl.tudelft.simulation.supplychain.dsol.trace;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.rmi.RemoteException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djutils.event.Event;
+import org.djutils.event.EventListener;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.eventlists.EventListInterface;
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.ActorMethods;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.dsol.SimEventInspector;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+
+/**
+ * EventTraceRecorder is a decorator for the event list of a simulator that writes a compact trace of every executed event to
+ * a file: the simulator time, the priority, the source of the event (class and method), the id of the actor for which it is
+ * executed, and the unique id and type of the content that it carries, as determined by the SimEventInspector. Each record
+ * contains a hash that is chained with the hash of the previous record, so two traces of the same model can be compared with
+ * the EventTraceDiff, which reports the first event at which the runs diverge. A trace of a golden run can thereby prove that a
+ * performance refactoring of, e.g., the content store, the content dispatch or the scheduling leaves the behavior unchanged.
+ * The hash only covers the simulator time, the target actor, and the unique id and type of the content. The source and the
+ * priority are written as diagnostic fields outside the hash, since a refactoring may legitimately rename the method that
+ * executes an event, or change its priority, without changing the behavior of the model.
+ * <p>
+ * The format of the file is a header (magic number and version), followed by records that start with a one-byte tag: a string
+ * definition (tag, int id, modified UTF-8 string), an event record (tag, double time, short priority, int source, int target,
+ * long contentId, int contentType, long hash), or the end of the trace (tag, long count, long hash). Strings are written only
+ * once, and are referred to by their id. The recorder inspects the arguments of every executed event, which involves a
+ * reflective call per event, so it is meant for validation runs rather than for production experiments.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class EventTraceRecorder implements EventListInterface<Duration>, EventListener, Closeable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the magic number at the start of a trace ("SCT1"). */
+    static final int MAGIC = 0x53435431;
+
+    /** the version of the trace format. */
+    static final int VERSION = 2;
+
+    /** the tag that indicates the end of the trace. */
+    static final byte TAG_END = 0;
+
+    /** the tag for a string definition. */
+    static final byte TAG_STRING = 1;
+
+    /** the tag for an event record. */
+    static final byte TAG_EVENT = 2;
+
+    /** the id used for a missing string, e.g., when the event has no actor. */
+    static final int NO_STRING = -1;
+
+    /** the content id for an event that carries no content. */
+    static final long NO_CONTENT = -1L;
+
+    /** the hash before the first record. */
+    static final long INITIAL_HASH = 0x9E3779B97F4A7C15L;
+
+    /** the simulator of which the executed events are traced. */
+    private final SupplyChainSimulatorInterface simulator;
+
+    /** the event list that stores the events. */
+    private final EventListInterface<Duration> delegate;
+
+    /** the path of the trace file. */
+    private final Path path;
+
+    /** the ids of the strings that have been written to the trace. */
+    private final Map<String, Integer> stringIds = new LinkedHashMap<>();
+
+    /** the hash of the last record. */
+    private long hash = INITIAL_HASH;
+
+    /** the number of event records written. */
+    private long count = 0;
+
+    /** the output stream of the trace; null when the trace has been closed. */
+    private transient DataOutputStream out;
+
+    /**
+     * Create a recorder that decorates an event list and writes the trace to a file.
+     * @param simulator the simulator of which the executed events are traced
+     * @param delegate the event list that stores the events
+     * @param path the path of the trace file, which is overwritten when it exists
+     * @throws IOException when the trace file cannot be created
+     */
+    protected EventTraceRecorder(final SupplyChainSimulatorInterface simulator, final EventListInterface<Duration> delegate,
+            final Path path) throws IOException
+    {
+        this.simulator = simulator;
+        this.delegate = delegate;
+        this.path = path;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 65536));
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+    }
+
+    /**
+     * Install a recorder on the event list of a simulator. The trace is closed at the end of the replication. Events that are
+     * already in the event list are traced as well when they are executed.
+     * @param simulator the simulator, which should not be running
+     * @param path the path of the trace file, which is overwritten when it exists
+     * @return the installed recorder
+     * @throws IOException when the trace file cannot be created
+     */
+    public static EventTraceRecorder install(final SupplyChainSimulatorInterface simulator, final Path path) throws IOException
+    {
+        Throw.whenNull(simulator, "simulator cannot be null");
+        Throw.whenNull(path, "path cannot be null");
+        Throw.when(simulator.isStartingOrRunning(), IllegalStateException.class,
+                "cannot install an event trace recorder on a running simulator");
+        EventTraceRecorder recorder = new EventTraceRecorder(simulator, simulator.getEventList(), path);
+        simulator.setEventList(recorder);
+        simulator.addListener(recorder, Replication.END_REPLICATION_EVENT);
+        return recorder;
+    }
+
+    @Override
+    public void add(final SimEventInterface<Duration> event)
+    {
+        this.delegate.add(event);
+    }
+
+    @Override
+    public boolean contains(final SimEventInterface<Duration> event)
+    {
+        return this.delegate.contains(event);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.delegate.clear();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.delegate.isEmpty();
+    }
+
+    @Override
+    public Iterator<SimEventInterface<Duration>> iterator()
+    {
+        return this.delegate.iterator();
+    }
+
+    @Override
+    public boolean remove(final SimEventInterface<Duration> event)
+    {
+        return this.delegate.remove(event);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public SimEventInterface<Duration> first()
+    {
+        return this.delegate.first();
+    }
+
+    @Override
+    public SimEventInterface<Duration> removeFirst()
+    {
+        SimEventInterface<Duration> event = this.delegate.removeFirst();
+        if (this.out != null)
+        {
+            record(event);
+        }
+        return event;
+    }
+
+    /**
+     * Write the record for an executed event to the trace.
+     * @param event the event that is about to be executed
+     * @throws SupplyChainRuntimeException when the record cannot be written
+     */
+    private void record(final SimEventInterface<Duration> event)
+    {
+        String target = null;
+        Content content = null;
+        List<Object> arguments = SimEventInspector.getArguments(event);
+        for (Object argument : arguments)
+        {
+            if (target == null && argument instanceof Actor actor)
+            {
+                target = actor.getId();
+            }
+            else if (target == null && argument instanceof ActorMethods actorMethods && actorMethods.getActor() != null)
+            {
+                target = actorMethods.getActor().getId();
+            }
+            else if (content == null && argument instanceof Content c)
+            {
+                content = c;
+            }
+        }
+        if (target == null && content != null)
+        {
+            target = content.receiver().getId();
+        }
+        double time = event.getAbsoluteExecutionTime().si;
+        short priority = event.getPriority();
+        String source = SimEventInspector.getSource(event);
+        long contentId = content == null ? NO_CONTENT : content.uniqueId();
+        String contentType = content == null ? null : content.getClass().getSimpleName();
+        try
+        {
+            int sourceId = stringId(source);
+            int targetId = stringId(target);
+            int contentTypeId = stringId(contentType);
+            this.hash = chain(this.hash, time, target, contentId, contentType);
+            this.out.writeByte(TAG_EVENT);
+            this.out.writeDouble(time);
+            this.out.writeShort(priority);
+            this.out.writeInt(sourceId);
+            this.out.writeInt(targetId);
+            this.out.writeLong(contentId);
+            this.out.writeInt(contentTypeId);
+            this.out.writeLong(this.hash);
+            this.count++;
+        }
+        catch (IOException exception)
+        {
+            throw new SupplyChainRuntimeException("EventTraceRecorder could not write to " + this.path, exception);
+        }
+    }
+
+    /**
+     * Return the id of a string, and write the definition of the string when it is used for the first time.
+     * @param string the string, or null
+     * @return the id of the string, or NO_STRING for null
+     * @throws IOException when the definition cannot be written
+     */
+    private int stringId(final String string) throws IOException
+    {
+        if (string == null)
+        {
+            return NO_STRING;
+        }
+        Integer id = this.stringIds.get(string);
+        if (id == null)
+        {
+            id = this.stringIds.size();
+            this.stringIds.put(string, id);
+            this.out.writeByte(TAG_STRING);
+            this.out.writeInt(id);
+            this.out.writeUTF(string);
+        }
+        return id;
+    }
+
+    /**
+     * Chain the hash of the previous record with the behavioral fields of a record. The source and the priority of the event are
+     * deliberately not part of the hash.
+     * @param previous the hash of the previous record
+     * @param time the simulator time of the event in seconds
+     * @param target the id of the actor of the event, or null
+     * @param contentId the unique id of the content of the event, or NO_CONTENT
+     * @param contentType the type of the content of the event, or null
+     * @return the hash of the record
+     */
+    static long chain(final long previous, final double time, final String target, final long contentId,
+            final String contentType)
+    {
+        long h = mix(previous ^ Double.doubleToLongBits(time));
+        h = mix(h ^ hash(target));
+        h = mix(h ^ contentId);
+        return mix(h ^ hash(contentType));
+    }
+
+    /**
+     * Return the 64-bit FNV-1a hash of a string.
+     * @param string the string, or null
+     * @return the hash of the string, or 0 for null
+     */
+    private static long hash(final String string)
+    {
+        if (string == null)
+        {
+            return 0L;
+        }
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < string.length(); i++)
+        {
+            h = (h ^ string.charAt(i)) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    /**
+     * Mix the bits of a value (SplitMix64 finalizer).
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(final long value)
+    {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public void notify(final Event event) throws RemoteException
+    {
+        if (event.getType().equals(Replication.END_REPLICATION_EVENT))
+        {
+            try
+            {
+                close();
+            }
+            catch (IOException exception)
+            {
+                throw new SupplyChainRuntimeException("EventTraceRecorder could not close " + this.path, exception);
+            }
+        }
+    }
+
+    /**
+     * Write the end of the trace and close the file. Events that are executed after closing are not traced.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (this.out != null)
+        {
+            this.out.writeByte(TAG_END);
+            this.out.writeLong(this.count);
+            this.out.writeLong(this.hash);
+            this.out.close();
+            this.out = null;
+        }
+    }
+
+    /**
+     * Return the number of events that have been traced.
+     * @return the number of events that have been traced
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Return the hash of the last traced event, which covers all events that have been traced.
+     * @return the hash of the last traced event
+     */
+    public long getHash()
+    {
+        return this.hash;
+    }
+
+    /**
+     * Return the path of the trace file.
+     * @return the path of the trace file
+     */
+    public Path getPath()
+    {
+        return this.path;
+    }
+
+    /**
+     * Return the event list that stores the events.
+     * @return the event list that stores the events
+     */
+    public EventListInterface<Duration> getDelegate()
+    {
+        return this.delegate;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EventTraceRecorder [path=" + this.path + ", count=" + this.count + "]";
+    }
+
+}
@@ -0,0 +1,10 @@
+/**
+ * The event trace writes a compact, hash-chained record for every executed event of a simulation run, so the traces of two runs
+ * of the same model can be compared to find the first event at which they diverge.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+package nl.tudelft.simulation.supplychain.dsol.trace;
@@ -0,0 +1,177 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
+
+/**
+ * ExperimentDesign is a set of design points, where each design point assigns a value to every factor. A full factorial
+ * design contains all combinations of the levels of the factors; a Latin hypercube design divides the range of every factor
+ * into as many strata as there are design points, and samples each stratum of each factor exactly once.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ExperimentDesign
+{
+    /** the factors of the design. */
+    private final List<Factor> factors;
+
+    /** the design points; each row contains the values of the factors in the order of the factor list. */
+    private final double[][] points;
+
+    /**
+     * Create a design from the given factor values.
+     * @param factors the factors of the design
+     * @param points the design points; each row contains the values of the factors in the order of the factor list
+     */
+    public ExperimentDesign(final List<Factor> factors, final double[][] points)
+    {
+        Throw.whenNull(factors, "factors cannot be null");
+        Throw.whenNull(points, "points cannot be null");
+        Set<String> names = new LinkedHashSet<>();
+        for (Factor factor : factors)
+        {
+            Throw.when(!names.add(factor.name()), IllegalArgumentException.class, "duplicate factor %s", factor.name());
+        }
+        for (double[] point : points)
+        {
+            Throw.when(point.length != factors.size(), IllegalArgumentException.class,
+                    "design point should have a value for each of the %d factors", factors.size());
+        }
+        this.factors = new ArrayList<>(factors);
+        this.points = new double[points.length][];
+        for (int i = 0; i < points.length; i++)
+        {
+            this.points[i] = points[i].clone();
+        }
+    }
+
+    /**
+     * Create a full factorial design with all combinations of the levels of the factors. The last factor varies fastest.
+     * @param factors the factors of the design
+     * @return a full factorial design
+     */
+    public static ExperimentDesign fullFactorial(final List<Factor> factors)
+    {
+        Throw.whenNull(factors, "factors cannot be null");
+        long n = 1;
+        for (Factor factor : factors)
+        {
+            n *= factor.levels();
+            Throw.when(n > Integer.MAX_VALUE, IllegalArgumentException.class, "full factorial design too large");
+        }
+        double[][] points = new double[(int) n][factors.size()];
+        for (int p = 0; p < n; p++)
+        {
+            int rest = p;
+            for (int f = factors.size() - 1; f >= 0; f--)
+            {
+                Factor factor = factors.get(f);
+                points[p][f] = factor.levelValue(rest % factor.levels());
+                rest /= factor.levels();
+            }
+        }
+        return new ExperimentDesign(factors, points);
+    }
+
+    /**
+     * Create a Latin hypercube design. The range of each factor is divided into numberOfPoints strata of equal width; each
+     * design point gets a random value within one stratum per factor, where the strata are randomly permuted per factor. The
+     * number of levels of the factors is not used.
+     * @param factors the factors of the design
+     * @param numberOfPoints the number of design points
+     * @param stream the random stream to sample the design
+     * @return a Latin hypercube design
+     */
+    public static ExperimentDesign latinHypercube(final List<Factor> factors, final int numberOfPoints,
+            final StreamInterface stream)
+    {
+        Throw.whenNull(factors, "factors cannot be null");
+        Throw.when(numberOfPoints < 1, IllegalArgumentException.class, "numberOfPoints should be positive");
+        Throw.whenNull(stream, "stream cannot be null");
+        double[][] points = new double[numberOfPoints][factors.size()];
+        int[] strata = new int[numberOfPoints];
+        for (int f = 0; f < factors.size(); f++)
+        {
+            Factor factor = factors.get(f);
+            for (int i = 0; i < numberOfPoints; i++)
+            {
+                strata[i] = i;
+            }
+            // Fisher-Yates shuffle of the strata
+            for (int i = numberOfPoints - 1; i > 0; i--)
+            {
+                int j = stream.nextInt(0, i);
+                int swap = strata[i];
+                strata[i] = strata[j];
+                strata[j] = swap;
+            }
+            for (int p = 0; p < numberOfPoints; p++)
+            {
+                double u = (strata[p] + stream.nextDouble()) / numberOfPoints;
+                points[p][f] = factor.low() + (factor.high() - factor.low()) * u;
+            }
+        }
+        return new ExperimentDesign(factors, points);
+    }
+
+    /**
+     * Return the factors of the design.
+     * @return the factors of the design
+     */
+    public List<Factor> getFactors()
+    {
+        return new ArrayList<>(this.factors);
+    }
+
+    /**
+     * Return the number of design points.
+     * @return the number of design points
+     */
+    public int getNumberOfPoints()
+    {
+        return this.points.length;
+    }
+
+    /**
+     * Return the factor values of a design point, in the order of the factor list.
+     * @param point the number of the design point
+     * @return a copy of the factor values of the design point
+     */
+    public double[] getPoint(final int point)
+    {
+        return this.points[point].clone();
+    }
+
+    /**
+     * Return the factor values of a design point as a map from factor name to value.
+     * @param point the number of the design point
+     * @return the factor values of the design point, per factor name
+     */
+    public Map<String, Double> getParameters(final int point)
+    {
+        Map<String, Double> parameters = new LinkedHashMap<>();
+        for (int f = 0; f < this.factors.size(); f++)
+        {
+            parameters.put(this.factors.get(f).name(), this.points[point][f]);
+        }
+        return parameters;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ExperimentDesign [factors=" + this.factors.size() + ", points=" + this.points.length + "]";
+    }
+
+}
@@ -0,0 +1,49 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * Factor is an input parameter of a model that is varied in an experiment design, with its range and, for full factorial
+ * designs, its number of levels. Examples are the margin of a RestockingProcessOscillation, the mean interval of a
+ * DemandGeneratingProcess, the interest rate of a BankingRole, or the price margin of a QuoteHandler.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param name the name of the factor, used as the parameter name for the model factory and as the column name in the results
+ * @param low the lowest value of the factor
+ * @param high the highest value of the factor
+ * @param levels the number of equidistant levels between low and high (inclusive) in a full factorial design
+ */
+public record Factor(String name, double low, double high, int levels)
+{
+    /**
+     * Create a factor, and check the arguments.
+     * @param name the name of the factor
+     * @param low the lowest value of the factor
+     * @param high the highest value of the factor
+     * @param levels the number of equidistant levels between low and high (inclusive) in a full factorial design
+     */
+    public Factor
+    {
+        Throw.whenNull(name, "name cannot be null");
+        Throw.when(Double.isNaN(low) || Double.isNaN(high) || high < low, IllegalArgumentException.class,
+                "factor %s should have low <= high", name);
+        Throw.when(levels < 1, IllegalArgumentException.class, "factor %s should have at least one level", name);
+        Throw.when(levels == 1 && high != low, IllegalArgumentException.class,
+                "factor %s with one level should have low == high", name);
+    }
+
+    /**
+     * Return the value of a level of the factor.
+     * @param level the level, between 0 and levels - 1
+     * @return the value of the level
+     */
+    public double levelValue(final int level)
+    {
+        Throw.when(level < 0 || level >= this.levels, IndexOutOfBoundsException.class, "level %d out of range for factor %s",
+                level, this.name);
+        return this.levels == 1 ? this.low : this.low + (this.high - this.low) * level / (this.levels - 1);
+    }
+}
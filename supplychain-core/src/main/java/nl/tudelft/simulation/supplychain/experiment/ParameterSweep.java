@@ -0,0 +1,153 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+
+/**
+ * ParameterSweep runs a number of replications for every design point of an ExperimentDesign. All replications of all design
+ * points are queued on one fixed pool of threads, so the cores stay busy even when design points differ in run time.
+ * The sweep uses common random numbers: replication r of every design point uses the same seed, so differences between design
+ * points are caused by the factor values and not by different random draws. The result of every replication is added to a
+ * SweepResultsTable as soon as it is available, and the outputs are aggregated per design point in a ReplicationStatistics.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <M> the model type
+ */
+public class ParameterSweep<M extends SupplyChainModelInterface>
+{
+    /** the id of the sweep, used as a prefix for the simulator ids. */
+    private final String id;
+
+    /** the experiment design. */
+    private final ExperimentDesign design;
+
+    /** the replication runner per design point. */
+    private final List<ReplicationRunner<M>> runners = new ArrayList<>();
+
+    /** the number of threads to use; by default the number of available processors. */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Create a parameter sweep.
+     * @param id the id of the sweep, used as a prefix for the simulator ids
+     * @param design the experiment design
+     * @param modelFactory the factory that creates a model for a replication of a design point
+     * @param replicationOutput the extractor of the outputs of a model at the end of a replication
+     * @param warmupPeriod the warmup period of each replication
+     * @param runLength the run length of each replication, including the warmup period
+     */
+    public ParameterSweep(final String id, final ExperimentDesign design, final SweepModelFactory<M> modelFactory,
+            final ReplicationOutput<M> replicationOutput, final Duration warmupPeriod, final Duration runLength)
+    {
+        Throw.whenNull(id, "id cannot be null");
+        Throw.whenNull(design, "design cannot be null");
+        Throw.whenNull(modelFactory, "modelFactory cannot be null");
+        this.id = id;
+        this.design = design;
+        for (int p = 0; p < design.getNumberOfPoints(); p++)
+        {
+            Map<String, Double> parameters = design.getParameters(p);
+            this.runners.add(new ReplicationRunner<M>(id + ".dp" + p,
+                    (simulator, streamInformation) -> modelFactory.createModel(simulator, streamInformation, parameters),
+                    replicationOutput, warmupPeriod, runLength));
+        }
+    }
+
+    /**
+     * Run the given number of replications for every design point, and wait until all replications have finished.
+     * @param replicationsPerPoint the number of replications per design point
+     * @return the results table with one row per replication of a design point
+     * @throws SupplyChainRuntimeException when one of the replications fails
+     */
+    public SweepResultsTable run(final int replicationsPerPoint)
+    {
+        Throw.when(replicationsPerPoint <= 0, IllegalArgumentException.class, "replicationsPerPoint should be positive");
+        Throw.when((long) this.design.getNumberOfPoints() * replicationsPerPoint > Integer.MAX_VALUE,
+                IllegalArgumentException.class, "too many replications in the sweep");
+        List<String> factorNames = new ArrayList<>();
+        this.design.getFactors().forEach(factor -> factorNames.add(factor.name()));
+        SweepResultsTable table = new SweepResultsTable(factorNames);
+        List<Callable<ReplicationResult>> tasks = new ArrayList<>();
+        for (int point = 0; point < this.design.getNumberOfPoints(); point++)
+        {
+            for (int replication = 0; replication < replicationsPerPoint; replication++)
+            {
+                int p = point;
+                int r = replication;
+                tasks.add(() ->
+                {
+                    ReplicationResult result = this.runners.get(p).runReplication(r);
+                    table.addRow(p, this.design.getPoint(p), result);
+                    return result;
+                });
+            }
+        }
+        ReplicationRunner.invokeAll(this.id, this.parallelism, tasks);
+        return table;
+    }
+
+    /**
+     * Return the aggregated outputs of the replications of a design point.
+     * @param designPoint the number of the design point
+     * @return the aggregated outputs of the replications of the design point
+     */
+    public ReplicationStatistics getStatistics(final int designPoint)
+    {
+        return this.runners.get(designPoint).getStatistics();
+    }
+
+    /**
+     * Return the experiment design.
+     * @return the experiment design
+     */
+    public ExperimentDesign getDesign()
+    {
+        return this.design;
+    }
+
+    /**
+     * Return the number of threads that run replications.
+     * @return the number of threads that run replications
+     */
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    /**
+     * Set the number of threads that run replications. The default is the number of available processors.
+     * @param parallelism the number of threads that run replications
+     */
+    public void setParallelism(final int parallelism)
+    {
+        Throw.when(parallelism <= 0, IllegalArgumentException.class, "parallelism should be positive");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the base seed from which the (common) seeds of the replications are derived.
+     * @param baseSeed the base seed
+     */
+    public void setBaseSeed(final long baseSeed)
+    {
+        this.runners.forEach(runner -> runner.setBaseSeed(baseSeed));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ParameterSweep [id=" + this.id + ", design=" + this.design + "]";
+    }
+
+}
@@ -0,0 +1,27 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+
+/**
+ * ReplicationModelFactory creates a new model instance for one replication. Every replication gets its own simulator and its
+ * own random streams, so the model should not share mutable state with the models of other replications.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <M> the model type
+ */
+@FunctionalInterface
+public interface ReplicationModelFactory<M extends SupplyChainModelInterface>
+{
+    /**
+     * Create a new model for one replication.
+     * @param simulator the simulator of the replication
+     * @param streamInformation the seeded random streams of the replication
+     * @return a new model instance for the replication
+     */
+    M createModel(SupplyChainSimulatorInterface simulator, StreamInformation streamInformation);
+}
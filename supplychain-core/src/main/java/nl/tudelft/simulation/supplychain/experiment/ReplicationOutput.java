@@ -0,0 +1,43 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.util.Map;
+
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+
+/**
+ * ReplicationOutput extracts the named output values of a model at the end of a replication, e.g., the average inventory of a
+ * retailer or the bank balance of a manufacturer. When the ReplicationRunner uses steady state detectors, it calls
+ * resetStatistics as soon as all detectors have reached steady state, so the extracted outputs can leave out the warm-up
+ * period that the detectors found. An implementation that does not override resetStatistics extracts outputs that include
+ * the warm-up period.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <M> the model type
+ */
+@FunctionalInterface
+public interface ReplicationOutput<M extends SupplyChainModelInterface>
+{
+    /**
+     * Return the output values of the model at the end of the replication.
+     * @param model the model of the replication that has ended
+     * @return a map of output names to values
+     */
+    Map<String, Double> extract(M model);
+
+    /**
+     * Reset the statistics of the model from which the outputs are extracted, e.g., the tallies and time-weighted persistents,
+     * at the moment that all steady state detectors of the replication have reached steady state. The method is called on the
+     * thread that executes the events of the simulator, between two events, and at most once per replication. At this moment,
+     * the MSER truncation points of the detectors lie in the past, so the outputs also leave out some steady-state
+     * observations; the truncation points can still move later while the replication continues. The default implementation
+     * does nothing, so the outputs include the warm-up period.
+     * @param model the model of the replication that has reached steady state
+     */
+    default void resetStatistics(final M model)
+    {
+        // the outputs include the warm-up period by default
+    }
+}
@@ -0,0 +1,20 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.util.Map;
+
+/**
+ * ReplicationResult contains the outputs of one replication, together with the seed of its random streams and the wall clock
+ * time it took to run the replication.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param replicationNumber the number of the replication, starting at 0
+ * @param seed the seed of the random streams of the replication
+ * @param outputs the output values of the replication, per output name
+ * @param wallClockSeconds the wall clock time to run the replication, in seconds
+ */
+public record ReplicationResult(int replicationNumber, long seed, Map<String, Double> outputs, double wallClockSeconds)
+{
+}
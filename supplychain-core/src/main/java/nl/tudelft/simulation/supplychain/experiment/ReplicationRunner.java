@@ -0,0 +1,411 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.dsol.simulators.ErrorStrategy;
+import nl.tudelft.simulation.dsol.simulators.SimulatorInterface;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainCheckpoint;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+
+/**
+ * ReplicationRunner executes a number of independent replications of a supply chain model headless (without animation), in
+ * parallel. Every replication gets its own SupplyChainSimulator, its own model instance from the ReplicationModelFactory, and
+ * its own MersenneTwister stream with a seed that is derived from the base seed and the replication number, so the results
+ * are reproducible and do not depend on the number of threads. The replications are run on a fixed pool of threads. Every
+ * simulator executes its events on its own worker thread, while the pool thread that started the replication waits for its
+ * end, so the size of the pool is the number of replications that run at the same time. A work-stealing pool is not used,
+ * since its threads would be blocked by the waiting instead of taking over work. At the end of each
+ * replication, the ReplicationOutput extracts the outputs of the model, which are registered in the thread-safe
+ * ReplicationStatistics. Instead of creating a new model for every replication, the runner can also fork all replications from
+ * one SupplyChainCheckpoint, e.g., of a warmed-up model, where the streams of every fork are seeded anew. When steady state
+ * detectors are set, a replication ends as soon as the MSER-5 confidence intervals of all its KPIs are narrow enough, and the
+ * ReplicationOutput is asked to reset the statistics of the model as soon as all KPIs have reached steady state, so the
+ * extracted outputs do not include the warm-up period.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <M> the model type
+ */
+public class ReplicationRunner<M extends SupplyChainModelInterface>
+{
+    /** lock for the creation of replications, which look up or create their context in the shared root context. */
+    private static final Object CONTEXT_LOCK = new Object();
+
+    /** the id of the experiment, used as a prefix for the simulator ids. */
+    private final String id;
+
+    /** the factory that creates a model for each replication; null when the replications are forked from a checkpoint. */
+    private final ReplicationModelFactory<M> modelFactory;
+
+    /** the checkpoint from which the replications are forked; null when a model is created for each replication. */
+    private final SupplyChainCheckpoint checkpoint;
+
+    /** the extractor of the outputs of a model at the end of a replication. */
+    private final ReplicationOutput<M> replicationOutput;
+
+    /** the warmup period of each replication. */
+    private final Duration warmupPeriod;
+
+    /** the run length of each replication, including the warmup period. */
+    private final Duration runLength;
+
+    /** the number of threads to use; by default the number of available processors. */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /** the factory that creates the simulator of a replication, given its id. */
+    private Function<String, SupplyChainSimulator> simulatorFactory = id -> new SupplyChainSimulator(id, Time.ZERO);
+
+    /** the base seed from which the seeds of the replications are derived. */
+    private long baseSeed = 1L;
+
+    /** the factory for the steady state detectors of each replication; null when replications always run to their end. */
+    private SteadyStateDetectorFactory<M> detectorFactory = null;
+
+    /** the aggregated outputs of the replications. */
+    private final ReplicationStatistics statistics = new ReplicationStatistics();
+
+    /**
+     * Create a runner for independent replications of a supply chain model.
+     * @param id the id of the experiment, used as a prefix for the simulator ids
+     * @param modelFactory the factory that creates a model for each replication
+     * @param replicationOutput the extractor of the outputs of a model at the end of a replication
+     * @param warmupPeriod the warmup period of each replication
+     * @param runLength the run length of each replication, including the warmup period
+     */
+    public ReplicationRunner(final String id, final ReplicationModelFactory<M> modelFactory,
+            final ReplicationOutput<M> replicationOutput, final Duration warmupPeriod, final Duration runLength)
+    {
+        Throw.whenNull(id, "id cannot be null");
+        Throw.whenNull(modelFactory, "modelFactory cannot be null");
+        Throw.whenNull(replicationOutput, "replicationOutput cannot be null");
+        Throw.whenNull(warmupPeriod, "warmupPeriod cannot be null");
+        Throw.whenNull(runLength, "runLength cannot be null");
+        Throw.when(warmupPeriod.si < 0.0, IllegalArgumentException.class, "warmupPeriod cannot be negative");
+        Throw.when(runLength.si <= warmupPeriod.si, IllegalArgumentException.class,
+                "runLength should be larger than the warmupPeriod");
+        this.id = id;
+        this.modelFactory = modelFactory;
+        this.checkpoint = null;
+        this.replicationOutput = replicationOutput;
+        this.warmupPeriod = warmupPeriod;
+        this.runLength = runLength;
+    }
+
+    /**
+     * Create a runner for replications that are forked from a checkpoint. The warmup period and run length are counted from
+     * the time of the checkpoint, and every replication reseeds the random streams of the restored model with its own seed.
+     * @param id the id of the experiment, used as a prefix for the simulator ids
+     * @param checkpoint the checkpoint from which the replications are forked
+     * @param replicationOutput the extractor of the outputs of a model at the end of a replication
+     * @param warmupPeriod the warmup period of each replication, counted from the time of the checkpoint
+     * @param runLength the run length of each replication, including the warmup period, counted from the time of the
+     *            checkpoint
+     */
+    public ReplicationRunner(final String id, final SupplyChainCheckpoint checkpoint,
+            final ReplicationOutput<M> replicationOutput, final Duration warmupPeriod, final Duration runLength)
+    {
+        Throw.whenNull(id, "id cannot be null");
+        Throw.whenNull(checkpoint, "checkpoint cannot be null");
+        Throw.whenNull(replicationOutput, "replicationOutput cannot be null");
+        Throw.whenNull(warmupPeriod, "warmupPeriod cannot be null");
+        Throw.whenNull(runLength, "runLength cannot be null");
+        Throw.when(warmupPeriod.si < 0.0, IllegalArgumentException.class, "warmupPeriod cannot be negative");
+        Throw.when(runLength.si <= warmupPeriod.si, IllegalArgumentException.class,
+                "runLength should be larger than the warmupPeriod");
+        this.id = id;
+        this.modelFactory = null;
+        this.checkpoint = checkpoint;
+        this.replicationOutput = replicationOutput;
+        this.warmupPeriod = warmupPeriod;
+        this.runLength = runLength;
+    }
+
+    /**
+     * Run the given number of replications in parallel, and wait until all replications have finished. The outputs of the
+     * replications are added to the statistics of this runner.
+     * @param numberOfReplications the number of replications to run
+     * @return the results of the replications, ordered by replication number
+     * @throws SupplyChainRuntimeException when one of the replications fails
+     */
+    public List<ReplicationResult> run(final int numberOfReplications)
+    {
+        Throw.when(numberOfReplications <= 0, IllegalArgumentException.class, "numberOfReplications should be positive");
+        List<Callable<ReplicationResult>> tasks = new ArrayList<>(numberOfReplications);
+        for (int i = 0; i < numberOfReplications; i++)
+        {
+            int replicationNumber = i;
+            tasks.add(() -> runReplication(replicationNumber));
+        }
+        return invokeAll(this.id, this.parallelism, tasks);
+    }
+
+    /**
+     * Run tasks that each execute one or more replications on a fixed pool of daemon threads, and wait until all tasks have
+     * finished. When a task fails, the other tasks are interrupted, which ends their replications.
+     * @param id the id of the experiment, used for the names of the threads
+     * @param parallelism the number of threads of the pool
+     * @param tasks the tasks to run
+     * @param <T> the result type of the tasks
+     * @return the results of the tasks, in the order of the tasks
+     * @throws SupplyChainRuntimeException when one of the tasks fails, or when the calling thread is interrupted
+     */
+    static <T> List<T> invokeAll(final String id, final int parallelism, final List<Callable<T>> tasks)
+    {
+        AtomicInteger threadNumber = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()), runnable ->
+        {
+            Thread thread = new Thread(runnable, id + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try
+        {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks)
+            {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures)
+            {
+                results.add(future.get());
+            }
+            return results;
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            throw new SupplyChainRuntimeException("replications of " + id + " interrupted", exception);
+        }
+        catch (ExecutionException exception)
+        {
+            if (exception.getCause() instanceof RuntimeException runtimeException)
+            {
+                throw runtimeException;
+            }
+            throw new SupplyChainRuntimeException("replications of " + id + " failed", exception.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Run one replication, and block the calling thread until the replication has ended. The events of the replication are
+     * executed on the worker thread of its simulator. The outputs of the replication are added to the statistics of this
+     * runner.
+     * @param replicationNumber the number of the replication, which determines the seed of its random streams
+     * @return the result of the replication
+     * @throws SupplyChainRuntimeException when the replication fails or is interrupted
+     */
+    public ReplicationResult runReplication(final int replicationNumber)
+    {
+        long seed = seed(this.baseSeed, replicationNumber);
+        long start = System.nanoTime();
+        SupplyChainSimulator simulator = this.simulatorFactory.apply(this.id + ".rep" + replicationNumber);
+        boolean initialized = false;
+        try
+        {
+            simulator.setErrorStrategy(ErrorStrategy.WARN_AND_END);
+            Duration startTime = this.checkpoint == null ? Duration.ZERO : this.checkpoint.getSimulatorTime();
+            Replication<Duration> replication;
+            synchronized (CONTEXT_LOCK)
+            {
+                replication = new SingleReplication<Duration>("rep" + replicationNumber, startTime, this.warmupPeriod,
+                        this.runLength);
+            }
+            CountDownLatch ended = new CountDownLatch(1);
+            simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+            M model;
+            if (this.checkpoint == null)
+            {
+                model = this.modelFactory.createModel(simulator, new StreamInformation(new MersenneTwister(seed)));
+                simulator.initialize(model, replication);
+            }
+            else
+            {
+                model = this.checkpoint.fork(simulator, replication, seed);
+            }
+            initialized = true;
+            List<SteadyStateDetector> detectors =
+                    this.detectorFactory == null ? List.of() : this.detectorFactory.createDetectors(model);
+            AtomicInteger steadyStateDetectors = new AtomicInteger(0);
+            double[] resetTime = {Double.NaN};
+            for (SteadyStateDetector detector : detectors)
+            {
+                // every detector fires its steady state event once, so the statistics are reset when the last one fires
+                detector.addListener(event ->
+                {
+                    if (steadyStateDetectors.incrementAndGet() == detectors.size())
+                    {
+                        this.replicationOutput.resetStatistics(model);
+                        resetTime[0] = simulator.getSimulatorTime().si;
+                    }
+                }, SteadyStateDetector.STEADY_STATE_EVENT);
+                detector.addListener(event ->
+                {
+                    if (detectors.stream().allMatch(SteadyStateDetector::isPrecisionReached))
+                    {
+                        simulator.stopAfterCurrentEvent();
+                    }
+                }, SteadyStateDetector.PRECISION_REACHED_EVENT);
+            }
+            // a replication that reaches the target precision stops after the current event; the stop event is fired after
+            // the last event has been executed, so the outputs can be extracted safely
+            simulator.addListener(event -> ended.countDown(), SimulatorInterface.STOP_EVENT);
+            simulator.start();
+            ended.await();
+            Map<String, Double> outputs = new LinkedHashMap<>(this.replicationOutput.extract(model));
+            for (SteadyStateDetector detector : detectors)
+            {
+                outputs.put(detector.getName() + ".mean", detector.getMean());
+                outputs.put(detector.getName() + ".halfWidth", detector.getHalfWidth());
+                outputs.put(detector.getName() + ".truncationTime", detector.getTruncationTime());
+            }
+            if (!detectors.isEmpty())
+            {
+                outputs.put("resetTime", resetTime[0]);
+                outputs.put("endTime", simulator.getSimulatorTime().si);
+            }
+            this.statistics.register(outputs);
+            return new ReplicationResult(replicationNumber, seed, outputs, (System.nanoTime() - start) / 1.0E9);
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            throw new SupplyChainRuntimeException("replication " + replicationNumber + " of " + this.id + " interrupted",
+                    exception);
+        }
+        catch (Exception exception)
+        {
+            throw new SupplyChainRuntimeException("replication " + replicationNumber + " of " + this.id + " failed",
+                    exception);
+        }
+        finally
+        {
+            // the simulator only has a worker thread to clean up after a successful initialization
+            if (initialized)
+            {
+                simulator.cleanUp();
+            }
+        }
+    }
+
+    /**
+     * Derive the seed of a replication from the base seed and the replication number. The bits are mixed (SplitMix64
+     * finalizer), so replications with consecutive numbers get seeds that differ in many bits. The seed is always positive, as
+     * required by the DSOL random number generators.
+     * @param baseSeed the base seed of the experiment
+     * @param replicationNumber the number of the replication
+     * @return the seed of the random streams of the replication
+     */
+    public static long seed(final long baseSeed, final int replicationNumber)
+    {
+        long z = baseSeed + 0x9E3779B97F4A7C15L * (replicationNumber + 1L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = (z ^ (z >>> 31)) & Long.MAX_VALUE;
+        return z == 0L ? 1L : z;
+    }
+
+    /**
+     * Return the aggregated outputs of the replications that have been run so far.
+     * @return the aggregated outputs of the replications
+     */
+    public ReplicationStatistics getStatistics()
+    {
+        return this.statistics;
+    }
+
+    /**
+     * Return the number of threads that run replications.
+     * @return the number of threads that run replications
+     */
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    /**
+     * Set the number of threads that run replications. The default is the number of available processors.
+     * @param parallelism the number of threads that run replications
+     */
+    public void setParallelism(final int parallelism)
+    {
+        Throw.when(parallelism <= 0, IllegalArgumentException.class, "parallelism should be positive");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Return the base seed from which the seeds of the replications are derived.
+     * @return the base seed
+     */
+    public long getBaseSeed()
+    {
+        return this.baseSeed;
+    }
+
+    /**
+     * Set the base seed from which the seeds of the replications are derived.
+     * @param baseSeed the base seed
+     */
+    public void setBaseSeed(final long baseSeed)
+    {
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Set the factory that creates the simulator of each replication from its id, e.g., to run the replications on a
+     * SupplyChainParallelSimulator. The default creates a sequential SupplyChainSimulator that starts at Time.ZERO.
+     * @param simulatorFactory the factory that creates the simulator of a replication
+     */
+    public void setSimulatorFactory(final Function<String, SupplyChainSimulator> simulatorFactory)
+    {
+        Throw.whenNull(simulatorFactory, "simulatorFactory cannot be null");
+        this.simulatorFactory = simulatorFactory;
+    }
+
+    /**
+     * Set the factory for the steady state detectors of each replication. A replication ends early when all its detectors
+     * have reached their target precision, and the ReplicationOutput resets the statistics of the model when all detectors have
+     * reached steady state. The truncated mean, the half-width of its confidence interval and the end of the warm-up period of
+     * every detector are added to the outputs of the replication, as well as the time of the reset (NaN when steady state was
+     * not reached) and the end time of the replication. Set the factory to null to run every replication until its end time.
+     * @param detectorFactory the factory for the steady state detectors of each replication, or null
+     */
+    public void setSteadyStateDetectorFactory(final SteadyStateDetectorFactory<M> detectorFactory)
+    {
+        this.detectorFactory = detectorFactory;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ReplicationRunner [id=" + this.id + ", parallelism=" + this.parallelism + "]";
+    }
+
+}
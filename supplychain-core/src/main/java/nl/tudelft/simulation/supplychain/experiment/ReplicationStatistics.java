@@ -0,0 +1,179 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.djutils.exceptions.Throw;
+import org.djutils.stats.summarizers.Tally;
+
+/**
+ * ReplicationStatistics aggregates the output values of replications per output name. Replications that run in parallel can
+ * register their outputs concurrently: the tallies are kept in a concurrent map, and each tally is updated and read under its
+ * own lock, so replications that report different outputs do not wait for each other.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ReplicationStatistics
+{
+    /** the tally per output name. */
+    private final Map<String, Tally> tallies = new ConcurrentHashMap<>();
+
+    /**
+     * Register the output values of one replication.
+     * @param outputs the output values of the replication, per output name
+     */
+    public void register(final Map<String, Double> outputs)
+    {
+        Throw.whenNull(outputs, "outputs cannot be null");
+        for (Map.Entry<String, Double> entry : outputs.entrySet())
+        {
+            register(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Register one output value of a replication.
+     * @param name the name of the output
+     * @param value the value of the output
+     */
+    public void register(final String name, final double value)
+    {
+        Throw.whenNull(name, "name cannot be null");
+        Tally tally = this.tallies.computeIfAbsent(name, n -> new Tally(n));
+        synchronized (tally)
+        {
+            tally.register(value);
+        }
+    }
+
+    /**
+     * Return the names of the registered outputs, in alphabetical order.
+     * @return the names of the registered outputs
+     */
+    public Set<String> getOutputNames()
+    {
+        return new TreeSet<>(this.tallies.keySet());
+    }
+
+    /**
+     * Return the tally of an output.
+     * @param name the name of the output
+     * @return the tally of the output
+     * @throws IllegalArgumentException when no values have been registered for the output
+     */
+    private Tally getTally(final String name)
+    {
+        Tally tally = this.tallies.get(name);
+        Throw.when(tally == null, IllegalArgumentException.class, "no output registered with name %s", name);
+        return tally;
+    }
+
+    /**
+     * Return the number of registered values of an output.
+     * @param name the name of the output
+     * @return the number of registered values of the output
+     */
+    public long getN(final String name)
+    {
+        Tally tally = getTally(name);
+        synchronized (tally)
+        {
+            return tally.getN();
+        }
+    }
+
+    /**
+     * Return the mean of the registered values of an output.
+     * @param name the name of the output
+     * @return the mean of the registered values of the output
+     */
+    public double getMean(final String name)
+    {
+        Tally tally = getTally(name);
+        synchronized (tally)
+        {
+            return tally.getSampleMean();
+        }
+    }
+
+    /**
+     * Return the sample standard deviation of the registered values of an output.
+     * @param name the name of the output
+     * @return the sample standard deviation of the registered values of the output
+     */
+    public double getStDev(final String name)
+    {
+        Tally tally = getTally(name);
+        synchronized (tally)
+        {
+            return tally.getSampleStDev();
+        }
+    }
+
+    /**
+     * Return the minimum of the registered values of an output.
+     * @param name the name of the output
+     * @return the minimum of the registered values of the output
+     */
+    public double getMin(final String name)
+    {
+        Tally tally = getTally(name);
+        synchronized (tally)
+        {
+            return tally.getMin();
+        }
+    }
+
+    /**
+     * Return the maximum of the registered values of an output.
+     * @param name the name of the output
+     * @return the maximum of the registered values of the output
+     */
+    public double getMax(final String name)
+    {
+        Tally tally = getTally(name);
+        synchronized (tally)
+        {
+            return tally.getMax();
+        }
+    }
+
+    /**
+     * Return the two-sided confidence interval of the mean of an output. The interval uses the Student's t quantile with n - 1
+     * degrees of freedom for n replications, like the SteadyStateDetector within a replication, since the number of
+     * replications is usually small, and the normal quantile would make the interval too narrow.
+     * @param name the name of the output
+     * @param alpha the significance level, e.g., 0.05 for a 95% confidence interval
+     * @return an array with the lower and upper bound of the confidence interval, or null when fewer than two values have been
+     *         registered
+     */
+    public double[] getConfidenceInterval(final String name, final double alpha)
+    {
+        Throw.when(alpha <= 0.0 || alpha >= 1.0, IllegalArgumentException.class, "alpha should be between 0 and 1");
+        Tally tally = getTally(name);
+        synchronized (tally)
+        {
+            long n = tally.getN();
+            if (n < 2)
+            {
+                return null;
+            }
+            double mean = tally.getSampleMean();
+            double t = SteadyStateDetector.studentTQuantile(1.0 - alpha / 2.0, (int) (n - 1));
+            double halfWidth = t * tally.getSampleStDev() / Math.sqrt(n);
+            return new double[] {mean - halfWidth, mean + halfWidth};
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ReplicationStatistics [outputs=" + getOutputNames() + "]";
+    }
+
+}
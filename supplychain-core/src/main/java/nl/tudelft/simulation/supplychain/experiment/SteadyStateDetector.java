@@ -0,0 +1,475 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.io.Serializable;
+import java.rmi.RemoteException;
+import java.util.function.ToDoubleFunction;
+
+import org.djutils.event.Event;
+import org.djutils.event.EventListener;
+import org.djutils.event.EventProducer;
+import org.djutils.event.EventType;
+import org.djutils.event.LocalEventProducer;
+import org.djutils.event.TimedEvent;
+import org.djutils.exceptions.Throw;
+import org.djutils.metadata.MetaData;
+import org.djutils.metadata.ObjectDescriptor;
+import org.djutils.stats.DistNormalTable;
+
+import nl.tudelft.simulation.supplychain.content.Demand;
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.role.warehousing.InventoryUpdateData;
+
+/**
+ * SteadyStateDetector detects the end of the warm-up period of a KPI stream online, with the MSER-5 rule (Marginal Standard
+ * Error Rule on batches of 5 observations). The detector listens to the events of an event producer, e.g., the
+ * INVENTORY_CHANGE_EVENT of an Inventory, the BANK_ACCOUNT_CHANGED_EVENT of a BankingRole or the DEMAND_GENERATED_EVENT of a
+ * ConsumingActor, and extracts one value per event. The values are averaged in batches; the truncation point is the number of
+ * leading batches, searched in the first half of the batches, for which the marginal standard error of the remaining batch
+ * means is minimal. Steady state is reached when the minimum lies before the middle of the batches, and the required precision
+ * is reached when the relative half-width of the confidence interval of the truncated batch means is at most the target. The
+ * confidence interval uses the Student's t quantile with m - 1 degrees of freedom for m truncated batch means, since the
+ * number of batch means is small (by default at least 10), and the normal quantile would make the interval too narrow.
+ * <p>
+ * The memory use is constant: when the maximum number of batches has been filled, adjacent batches are merged, and the size of
+ * the batches is doubled. The detector fires a STEADY_STATE_EVENT the first time steady state is reached, so listeners can,
+ * e.g., reset their statistics, and a PRECISION_REACHED_EVENT the first time the target precision is reached, which the
+ * ReplicationRunner uses to end a replication early. The detector belongs to one replication and is not thread-safe.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SteadyStateDetector extends LocalEventProducer implements EventListener
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** an event fired when steady state has been reached for the first time. */
+    public static final EventType STEADY_STATE_EVENT = new EventType("STEADY_STATE_EVENT",
+            new MetaData("steady state", "steady state reached",
+                    new ObjectDescriptor("detector", "steady state detector", String.class),
+                    new ObjectDescriptor("truncationTime", "end of the warm-up period in seconds", Double.class)));
+
+    /** an event fired when the target precision has been reached for the first time. */
+    public static final EventType PRECISION_REACHED_EVENT = new EventType("PRECISION_REACHED_EVENT",
+            new MetaData("precision reached", "target precision reached",
+                    new ObjectDescriptor("detector", "steady state detector", String.class),
+                    new ObjectDescriptor("halfWidth", "half-width of the confidence interval", Double.class)));
+
+    /** extractor of the actual amount from an INVENTORY_CHANGE_EVENT. */
+    public static final ToDoubleFunction<Event> INVENTORY_ACTUAL_AMOUNT =
+            (ToDoubleFunction<Event> & Serializable) event -> ((InventoryUpdateData) event.getContent()).actualAmount();
+
+    /** extractor of the balance from a BANK_ACCOUNT_CHANGED_EVENT. */
+    public static final ToDoubleFunction<Event> BANK_BALANCE =
+            (ToDoubleFunction<Event> & Serializable) event -> ((Money) ((Object[]) event.getContent())[1]).getAmount();
+
+    /** extractor of the demanded amount from a DEMAND_GENERATED_EVENT. */
+    public static final ToDoubleFunction<Event> DEMAND_AMOUNT =
+            (ToDoubleFunction<Event> & Serializable) event -> ((Demand) event.getContent()).amount();
+
+    /** the number of observations in the initial batches of MSER-5. */
+    public static final int INITIAL_BATCH_SIZE = 5;
+
+    /** the name of the detector, used as a prefix for its outputs. */
+    private final String name;
+
+    /** the extractor of the observed value from an event. */
+    private final ToDoubleFunction<Event> valueExtractor;
+
+    /** the sums of the observations per batch; the array has the maximum number of batches as its length. */
+    private final double[] batchSums;
+
+    /** the time of the first observation per batch, in seconds, or NaN for untimed events. */
+    private final double[] batchStartTimes;
+
+    /** the number of completed batches. */
+    private int numberOfBatches = 0;
+
+    /** the number of observations per batch. */
+    private int batchSize = INITIAL_BATCH_SIZE;
+
+    /** the sum of the observations in the current, incomplete batch. */
+    private double currentSum = 0.0;
+
+    /** the number of observations in the current, incomplete batch. */
+    private int currentCount = 0;
+
+    /** the time of the first observation in the current batch. */
+    private double currentStartTime = Double.NaN;
+
+    /** the total number of observations. */
+    private long observations = 0;
+
+    /** the minimum number of batch means after truncation to calculate a confidence interval. */
+    private int minimumBatches = 10;
+
+    /** the significance level of the confidence interval. */
+    private double alpha = 0.05;
+
+    /** the target half-width of the confidence interval, relative to the absolute value of the mean. */
+    private double targetRelativeHalfWidth = 0.05;
+
+    /** the number of truncated batches that was calculated after the last completed batch. */
+    private int truncatedBatches = 0;
+
+    /** the mean of the batch means after truncation. */
+    private double mean = Double.NaN;
+
+    /** the half-width of the confidence interval of the mean after truncation. */
+    private double halfWidth = Double.NaN;
+
+    /** whether steady state has been reached after the last completed batch. */
+    private boolean steadyState = false;
+
+    /** whether the steady state event has been fired. */
+    private boolean steadyStateFired = false;
+
+    /** whether the target precision has been reached. */
+    private boolean precisionReached = false;
+
+    /**
+     * Create a steady state detector with a maximum of 64 batches.
+     * @param name the name of the detector, used as a prefix for its outputs
+     * @param valueExtractor the extractor of the observed value from an event
+     */
+    public SteadyStateDetector(final String name, final ToDoubleFunction<Event> valueExtractor)
+    {
+        this(name, valueExtractor, 64);
+    }
+
+    /**
+     * Create a steady state detector.
+     * @param name the name of the detector, used as a prefix for its outputs
+     * @param valueExtractor the extractor of the observed value from an event
+     * @param maximumBatches the maximum number of batches that is kept; this bounds the memory use of the detector
+     */
+    public SteadyStateDetector(final String name, final ToDoubleFunction<Event> valueExtractor, final int maximumBatches)
+    {
+        Throw.whenNull(name, "name cannot be null");
+        Throw.whenNull(valueExtractor, "valueExtractor cannot be null");
+        Throw.when(maximumBatches < 4 || maximumBatches % 2 != 0, IllegalArgumentException.class,
+                "maximumBatches should be even and at least 4");
+        this.name = name;
+        this.valueExtractor = valueExtractor;
+        this.batchSums = new double[maximumBatches];
+        this.batchStartTimes = new double[maximumBatches];
+    }
+
+    /**
+     * Attach the detector to an event producer, so every event of the given type is registered as an observation.
+     * @param producer the producer of the events
+     * @param eventType the type of the events to observe
+     * @return the detector for method chaining
+     * @throws RemoteException on network error
+     */
+    public SteadyStateDetector attach(final EventProducer producer, final EventType eventType) throws RemoteException
+    {
+        Throw.whenNull(producer, "producer cannot be null");
+        Throw.whenNull(eventType, "eventType cannot be null");
+        producer.addListener(this, eventType);
+        return this;
+    }
+
+    @Override
+    public void notify(final Event event) throws RemoteException
+    {
+        double time = event instanceof TimedEvent<?> timedEvent && timedEvent.getTimeStamp() instanceof Number number
+                ? number.doubleValue() : Double.NaN;
+        register(this.valueExtractor.applyAsDouble(event), time);
+    }
+
+    /**
+     * Register an observation.
+     * @param value the observed value
+     * @param time the time of the observation in seconds, or NaN when the time is unknown
+     */
+    public void register(final double value, final double time)
+    {
+        if (this.currentCount == 0)
+        {
+            this.currentStartTime = time;
+        }
+        this.currentSum += value;
+        this.currentCount++;
+        this.observations++;
+        if (this.currentCount == this.batchSize)
+        {
+            this.batchSums[this.numberOfBatches] = this.currentSum;
+            this.batchStartTimes[this.numberOfBatches] = this.currentStartTime;
+            this.numberOfBatches++;
+            this.currentSum = 0.0;
+            this.currentCount = 0;
+            update();
+            if (this.numberOfBatches == this.batchSums.length)
+            {
+                mergeBatches();
+            }
+        }
+    }
+
+    /**
+     * Merge pairs of adjacent batches, and double the batch size, so the number of batches is halved.
+     */
+    private void mergeBatches()
+    {
+        int half = this.numberOfBatches / 2;
+        for (int i = 0; i < half; i++)
+        {
+            this.batchSums[i] = this.batchSums[2 * i] + this.batchSums[2 * i + 1];
+            this.batchStartTimes[i] = this.batchStartTimes[2 * i];
+        }
+        this.numberOfBatches = half;
+        this.batchSize *= 2;
+    }
+
+    /**
+     * Calculate the MSER truncation point, the truncated mean and the half-width of its confidence interval, and fire the
+     * events when steady state or the target precision are reached for the first time.
+     */
+    private void update()
+    {
+        int k = this.numberOfBatches;
+        if (k < 4)
+        {
+            return;
+        }
+        // suffix sums of the batch means and their squares, so the MSER statistic of every truncation point is O(1)
+        double sum = 0.0;
+        double sumSq = 0.0;
+        double bestMser = Double.MAX_VALUE;
+        int bestD = 0;
+        for (int d = k - 1; d >= 0; d--)
+        {
+            double y = this.batchSums[d] / this.batchSize;
+            sum += y;
+            sumSq += y * y;
+            int m = k - d;
+            if (d <= k / 2)
+            {
+                double sse = Math.max(0.0, sumSq - sum * sum / m);
+                double mser = sse / ((double) m * m);
+                if (mser <= bestMser)
+                {
+                    bestMser = mser;
+                    bestD = d;
+                }
+            }
+        }
+        this.truncatedBatches = bestD;
+        this.steadyState = bestD < k / 2;
+        int m = k - bestD;
+        double tSum = 0.0;
+        double tSumSq = 0.0;
+        for (int i = bestD; i < k; i++)
+        {
+            double y = this.batchSums[i] / this.batchSize;
+            tSum += y;
+            tSumSq += y * y;
+        }
+        this.mean = tSum / m;
+        double variance = Math.max(0.0, (tSumSq - tSum * tSum / m) / (m - 1));
+        this.halfWidth = studentTQuantile(1.0 - this.alpha / 2.0, m - 1) * Math.sqrt(variance / m);
+        if (this.steadyState && !this.steadyStateFired)
+        {
+            this.steadyStateFired = true;
+            fireEvent(STEADY_STATE_EVENT, new Serializable[] {this.name, getTruncationTime()});
+        }
+        if (this.steadyState && !this.precisionReached && m >= this.minimumBatches
+                && this.halfWidth <= this.targetRelativeHalfWidth * Math.abs(this.mean))
+        {
+            this.precisionReached = true;
+            fireEvent(PRECISION_REACHED_EVENT, new Serializable[] {this.name, this.halfWidth});
+        }
+    }
+
+    /**
+     * Return the name of the detector.
+     * @return the name of the detector
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Return the total number of registered observations.
+     * @return the total number of registered observations
+     */
+    public long getObservations()
+    {
+        return this.observations;
+    }
+
+    /**
+     * Return the number of observations per batch, which starts at 5 and doubles every time the batches are merged.
+     * @return the number of observations per batch
+     */
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Return the number of completed batches that are kept.
+     * @return the number of completed batches
+     */
+    public int getNumberOfBatches()
+    {
+        return this.numberOfBatches;
+    }
+
+    /**
+     * Return the number of observations that are truncated as warm-up.
+     * @return the number of observations that are truncated as warm-up
+     */
+    public long getTruncatedObservations()
+    {
+        return (long) this.truncatedBatches * this.batchSize;
+    }
+
+    /**
+     * Return the time of the first observation after the warm-up period, in seconds, or NaN when the time is unknown or no
+     * truncation point has been calculated yet.
+     * @return the time of the end of the warm-up period in seconds
+     */
+    public double getTruncationTime()
+    {
+        return this.numberOfBatches < 4 ? Double.NaN : this.batchStartTimes[this.truncatedBatches];
+    }
+
+    /**
+     * Return whether steady state has been reached, i.e., whether the truncation point lies before the middle of the batches.
+     * @return whether steady state has been reached
+     */
+    public boolean isSteadyState()
+    {
+        return this.steadyState;
+    }
+
+    /**
+     * Return whether the target precision has been reached.
+     * @return whether the target precision has been reached
+     */
+    public boolean isPrecisionReached()
+    {
+        return this.precisionReached;
+    }
+
+    /**
+     * Return the mean of the observations after the warm-up period, based on the completed batches.
+     * @return the mean of the observations after the warm-up period, or NaN when there are too few batches
+     */
+    public double getMean()
+    {
+        return this.mean;
+    }
+
+    /**
+     * Return the half-width of the batch-means confidence interval of the mean after the warm-up period.
+     * @return the half-width of the confidence interval, or NaN when there are too few batches
+     */
+    public double getHalfWidth()
+    {
+        return this.halfWidth;
+    }
+
+    /**
+     * Set the minimum number of batch means after truncation before the precision can be reached. The default is 10.
+     * @param minimumBatches the minimum number of batch means after truncation
+     */
+    public void setMinimumBatches(final int minimumBatches)
+    {
+        Throw.when(minimumBatches < 2 || minimumBatches > this.batchSums.length, IllegalArgumentException.class,
+                "minimumBatches should be at least 2 and at most the maximum number of batches");
+        this.minimumBatches = minimumBatches;
+    }
+
+    /**
+     * Set the significance level of the confidence interval. The default is 0.05.
+     * @param alpha the significance level, e.g., 0.05 for a 95% confidence interval
+     */
+    public void setAlpha(final double alpha)
+    {
+        Throw.when(alpha <= 0.0 || alpha >= 1.0, IllegalArgumentException.class, "alpha should be between 0 and 1");
+        this.alpha = alpha;
+    }
+
+    /**
+     * Set the target half-width of the confidence interval, relative to the absolute value of the mean. The default is 0.05.
+     * @param targetRelativeHalfWidth the target half-width of the confidence interval relative to the mean
+     */
+    public void setTargetRelativeHalfWidth(final double targetRelativeHalfWidth)
+    {
+        Throw.when(targetRelativeHalfWidth <= 0.0, IllegalArgumentException.class,
+                "targetRelativeHalfWidth should be positive");
+        this.targetRelativeHalfWidth = targetRelativeHalfWidth;
+    }
+
+    /**
+     * Return the quantile of the Student's t distribution, calculated with the algorithm of G.W. Hill (1970), Algorithm 396:
+     * Student's t-quantiles, Communications of the ACM 13(10), pp. 619-620. The result is exact for 1 and 2 degrees of freedom,
+     * and has an absolute error of at most about 0.001 for more degrees of freedom.
+     * @param p the cumulative probability, between 0 and 1 (exclusive)
+     * @param degreesOfFreedom the number of degrees of freedom
+     * @return the value t for which the probability that a t-distributed variable is at most t equals p
+     */
+    public static double studentTQuantile(final double p, final int degreesOfFreedom)
+    {
+        Throw.when(p <= 0.0 || p >= 1.0, IllegalArgumentException.class, "p should be between 0 and 1");
+        Throw.when(degreesOfFreedom < 1, IllegalArgumentException.class, "degreesOfFreedom should be at least 1");
+        if (p < 0.5)
+        {
+            return -studentTQuantile(1.0 - p, degreesOfFreedom);
+        }
+        if (p == 0.5)
+        {
+            return 0.0;
+        }
+        double n = degreesOfFreedom;
+        double twoTailed = 2.0 * (1.0 - p);
+        if (degreesOfFreedom == 1)
+        {
+            return 1.0 / Math.tan(twoTailed * Math.PI / 2.0);
+        }
+        if (degreesOfFreedom == 2)
+        {
+            return Math.sqrt(2.0 / (twoTailed * (2.0 - twoTailed)) - 2.0);
+        }
+        double a = 1.0 / (n - 0.5);
+        double b = 48.0 / (a * a);
+        double c = ((20700.0 * a / b - 98.0) * a - 16.0) * a + 96.36;
+        double d = ((94.5 / (b + c) - 3.0) / b + 1.0) * Math.sqrt(a * Math.PI / 2.0) * n;
+        double y = Math.pow(d * twoTailed, 2.0 / n);
+        if (y > 0.05 + a)
+        {
+            // asymptotic inverse expansion around the normal quantile
+            double x = DistNormalTable.getInverseCumulativeProbability(0.0, 1.0, p);
+            y = x * x;
+            if (degreesOfFreedom < 5)
+            {
+                c += 0.3 * (n - 4.5) * (x + 0.6);
+            }
+            c = (((0.05 * d * x - 5.0) * x - 7.0) * x - 2.0) * x + b + c;
+            y = (((((0.4 * y + 6.3) * y + 36.0) * y + 94.5) / c - y - 3.0) / b + 1.0) * x;
+            y = a * y * y;
+            y = y > 0.002 ? Math.exp(y) - 1.0 : 0.5 * y * y + y;
+        }
+        else
+        {
+            y = ((1.0 / (((n + 6.0) / (n * y) - 0.089 * d - 0.822) * (n + 2.0) * 3.0) + 0.5 / (n + 4.0)) * y - 1.0)
+                    * (n + 1.0) / (n + 2.0) + 1.0 / y;
+        }
+        return Math.sqrt(n * y);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SteadyStateDetector [name=" + this.name + ", observations=" + this.observations + ", steadyState="
+                + this.steadyState + ", mean=" + this.mean + ", halfWidth=" + this.halfWidth + "]";
+    }
+
+}
@@ -0,0 +1,29 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.rmi.RemoteException;
+import java.util.List;
+
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+
+/**
+ * SteadyStateDetectorFactory creates the steady state detectors for the model of one replication, and attaches them to the
+ * KPI event streams of the model. The factory is called after the model has been constructed, and before the replication
+ * starts.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <M> the model type
+ */
+@FunctionalInterface
+public interface SteadyStateDetectorFactory<M extends SupplyChainModelInterface>
+{
+    /**
+     * Create the steady state detectors for the model of one replication, attached to the event streams of the model.
+     * @param model the constructed model of the replication
+     * @return the steady state detectors of the replication
+     * @throws RemoteException on network error when attaching the detectors
+     */
+    List<SteadyStateDetector> createDetectors(M model) throws RemoteException;
+}
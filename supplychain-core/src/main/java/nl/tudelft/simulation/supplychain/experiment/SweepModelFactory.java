@@ -0,0 +1,32 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.util.Map;
+
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+
+/**
+ * SweepModelFactory creates a new model instance for one replication of a design point in a parameter sweep. The factory
+ * applies the factor values of the design point to the model, e.g., by passing them to the constructors of the processes,
+ * roles and handlers of the model.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <M> the model type
+ */
+@FunctionalInterface
+public interface SweepModelFactory<M extends SupplyChainModelInterface>
+{
+    /**
+     * Create a new model for one replication of a design point.
+     * @param simulator the simulator of the replication
+     * @param streamInformation the seeded random streams of the replication
+     * @param parameters the factor values of the design point, per factor name
+     * @return a new model instance for the replication
+     */
+    M createModel(SupplyChainSimulatorInterface simulator, StreamInformation streamInformation,
+            Map<String, Double> parameters);
+}
@@ -0,0 +1,196 @@
+package nl.tudelft.simulation.supplychain.experiment;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * SweepResultsTable is a compact table with one row per replication of a design point. A row is stored as a primitive double
+ * array with the factor values followed by the output values, so a sweep with many replications does not create a map per
+ * result. Replications that run in parallel can add their rows concurrently. Output columns are added when an output name is
+ * reported for the first time; rows that do not contain a value for an output have NaN in that column.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SweepResultsTable
+{
+    /** the names of the factor columns. */
+    private final List<String> factorNames;
+
+    /** the column index of each output, relative to the first output column. */
+    private final Map<String, Integer> outputColumns = new LinkedHashMap<>();
+
+    /** the rows of the table. */
+    private final List<Row> rows = new ArrayList<>();
+
+    /**
+     * Create an empty results table for the given factors.
+     * @param factorNames the names of the factors
+     */
+    public SweepResultsTable(final List<String> factorNames)
+    {
+        Throw.whenNull(factorNames, "factorNames cannot be null");
+        this.factorNames = new ArrayList<>(factorNames);
+    }
+
+    /**
+     * Add the result of one replication of a design point to the table.
+     * @param designPoint the number of the design point
+     * @param factorValues the factor values of the design point, in the order of the factor names
+     * @param result the result of the replication
+     */
+    public synchronized void addRow(final int designPoint, final double[] factorValues, final ReplicationResult result)
+    {
+        Throw.whenNull(factorValues, "factorValues cannot be null");
+        Throw.whenNull(result, "result cannot be null");
+        Throw.when(factorValues.length != this.factorNames.size(), IllegalArgumentException.class,
+                "expected %d factor values", this.factorNames.size());
+        for (String output : result.outputs().keySet())
+        {
+            this.outputColumns.putIfAbsent(output, this.outputColumns.size());
+        }
+        int nf = this.factorNames.size();
+        double[] values = new double[nf + this.outputColumns.size()];
+        System.arraycopy(factorValues, 0, values, 0, nf);
+        Arrays.fill(values, nf, values.length, Double.NaN);
+        for (Map.Entry<String, Double> entry : result.outputs().entrySet())
+        {
+            values[nf + this.outputColumns.get(entry.getKey())] = entry.getValue();
+        }
+        this.rows.add(new Row(designPoint, result.replicationNumber(), result.seed(), values));
+    }
+
+    /**
+     * Return the number of rows in the table.
+     * @return the number of rows in the table
+     */
+    public synchronized int size()
+    {
+        return this.rows.size();
+    }
+
+    /**
+     * Return the names of the factor columns.
+     * @return the names of the factor columns
+     */
+    public List<String> getFactorNames()
+    {
+        return new ArrayList<>(this.factorNames);
+    }
+
+    /**
+     * Return the names of the output columns, in the order in which they were first reported.
+     * @return the names of the output columns
+     */
+    public synchronized List<String> getOutputNames()
+    {
+        return new ArrayList<>(this.outputColumns.keySet());
+    }
+
+    /**
+     * Return the value of an output for a replication of a design point.
+     * @param designPoint the number of the design point
+     * @param replicationNumber the number of the replication
+     * @param output the name of the output
+     * @return the value of the output, or NaN when the replication did not report the output
+     * @throws IllegalArgumentException when the output or the row does not exist
+     */
+    public synchronized double getOutput(final int designPoint, final int replicationNumber, final String output)
+    {
+        Integer column = this.outputColumns.get(output);
+        Throw.when(column == null, IllegalArgumentException.class, "unknown output %s", output);
+        int index = this.factorNames.size() + column;
+        for (Row row : this.rows)
+        {
+            if (row.designPoint() == designPoint && row.replicationNumber() == replicationNumber)
+            {
+                return index < row.values().length ? row.values()[index] : Double.NaN;
+            }
+        }
+        throw new IllegalArgumentException("no result for design point " + designPoint + ", replication " + replicationNumber);
+    }
+
+    /**
+     * Write the table as CSV, sorted on design point and replication number.
+     * @param writer the writer to write the CSV to; the writer is not closed
+     * @throws IOException on write error
+     */
+    public synchronized void writeCsv(final Writer writer) throws IOException
+    {
+        writer.write("designPoint,replication,seed");
+        for (String name : this.factorNames)
+        {
+            writer.write("," + name);
+        }
+        for (String name : this.outputColumns.keySet())
+        {
+            writer.write("," + name);
+        }
+        writer.write("\n");
+        List<Row> sorted = new ArrayList<>(this.rows);
+        sorted.sort(Comparator.comparingInt(Row::designPoint).thenComparingInt(Row::replicationNumber));
+        int columns = this.factorNames.size() + this.outputColumns.size();
+        StringBuilder line = new StringBuilder();
+        for (Row row : sorted)
+        {
+            line.setLength(0);
+            line.append(row.designPoint()).append(',').append(row.replicationNumber()).append(',').append(row.seed());
+            for (int c = 0; c < columns; c++)
+            {
+                line.append(',');
+                double value = c < row.values().length ? row.values()[c] : Double.NaN;
+                if (!Double.isNaN(value))
+                {
+                    line.append(value);
+                }
+            }
+            line.append('\n');
+            writer.write(line.toString());
+        }
+    }
+
+    /**
+     * Write the table as CSV to a file, sorted on design point and replication number.
+     * @param path the path of the file
+     * @throws IOException on write error
+     */
+    public void writeCsv(final Path path) throws IOException
+    {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8))
+        {
+            writeCsv(writer);
+        }
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return "SweepResultsTable [factors=" + this.factorNames + ", outputs=" + this.outputColumns.keySet() + ", rows="
+                + this.rows.size() + "]";
+    }
+
+    /**
+     * One row of the table.
+     * @param designPoint the number of the design point
+     * @param replicationNumber the number of the replication
+     * @param seed the seed of the replication
+     * @param values the factor values followed by the output values
+     */
+    private record Row(int designPoint, int replicationNumber, long seed, double[] values)
+    {
+    }
+
+}
@@ -0,0 +1,12 @@
+/**
+ * Headless execution of experiments with supply chain models: independent replications that run in parallel, each on its own
+ * simulator with its own model instance and seeded random streams, the thread-safe aggregation of their outputs, and parameter
+ * sweeps over full factorial or Latin hypercube experiment designs with common random numbers, and online MSER-5 warm-up
+ * detection that ends replications early once their KPIs are estimated precisely enough.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+package nl.tudelft.simulation.supplychain.experiment;
@@ -1,6 +1,8 @@
 package nl.tudelft.simulation.supplychain.handler;
 
 import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -16,10 +18,13 @@ import nl.tudelft.simulation.supplychain.actor.ActorMethods;
 import nl.tudelft.simulation.supplychain.actor.Role;
 import nl.tudelft.simulation.supplychain.content.Content;
 import nl.tudelft.simulation.supplychain.content.ProductContent;
+import nl.tudelft.simulation.supplychain.metrics.HandlerMetricsRegistry;
 import nl.tudelft.simulation.supplychain.product.Product;
 
 /**
- * ContentHandlers work on behalf of a Role and take care of processing incoming content (messages, news, shipments).
+ * ContentHandlers work on behalf of a Role and take care of processing incoming content (messages, news, shipments). The
+ * filters on valid products and valid partners are kept as a BitSet on the dense index of the products and actors in the
+ * model, so checking the validity of content does not need any hashing.
  * <p>
  * Copyright (c) 2003-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
@@ -45,9 +50,15 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
     /** the products for which this handler is valid; if empty, all products are valid. */
     private Set<Product> validProducts = new LinkedHashSet<>();
 
+    /** the dense indexes of the valid products; if empty, all products are valid. */
+    private BitSet validProductIndexes = new BitSet();
+
     /** the partner actors for which this handler is valid; if empty, all partners are valid. */
     private Set<Actor> validPartners = new LinkedHashSet<>();
 
+    /** the dense indexes of the valid partners; if empty, all partners are valid. */
+    private BitSet validPartnerIndexes = new BitSet();
+
     /** the reaction time of the handler in simulation time units. */
     private DistContinuousDuration handlingTime;
 
@@ -90,7 +101,7 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
                     + content.getClass());
             return false;
         }
-        if (!content.receiver().equals(getActor()))
+        if (content.receiver() != getActor() && !content.receiver().equals(getActor()))
         {
             Logger.warn("checkContent - Wrong receiver for content " + content.toString() + " sent to actor " + getRole());
             return false;
@@ -104,15 +115,18 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
      */
     public void addValidProduct(final Product product)
     {
+        Throw.whenNull(product, "product cannot be null");
         this.validProducts.add(product);
+        this.validProductIndexes.set(product.getIndex());
     }
 
     /**
+     * Return the valid products. The set cannot be changed; use addValidProduct or setValidProducts instead.
      * @return the valid products.
      */
     public Set<Product> getValidProducts()
     {
-        return this.validProducts;
+        return Collections.unmodifiableSet(this.validProducts);
     }
 
     /**
@@ -121,7 +135,10 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
      */
     public void setValidProducts(final Set<Product> validProducts)
     {
-        this.validProducts = validProducts;
+        Throw.whenNull(validProducts, "validProducts cannot be null");
+        this.validProducts = new LinkedHashSet<>();
+        this.validProductIndexes = new BitSet();
+        validProducts.forEach(this::addValidProduct);
     }
 
     /**
@@ -131,13 +148,13 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
      */
     private boolean checkValidProduct(final Content content)
     {
-        if (this.validProducts.size() == 0)
+        if (this.validProductIndexes.isEmpty())
         {
             return true;
         }
         if (content instanceof ProductContent productContent)
         {
-            return (this.validProducts.contains(productContent.product()));
+            return this.validProductIndexes.get(productContent.product().getIndex());
         }
         return true;
     }
@@ -148,15 +165,18 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
      */
     public void addValidPartner(final Actor partner)
     {
+        Throw.whenNull(partner, "partner cannot be null");
         this.validPartners.add(partner);
+        this.validPartnerIndexes.set(partner.getIndex());
     }
 
     /**
+     * Return the valid partners. The set cannot be changed; use addValidPartner or setValidPartners instead.
      * @return the valid partners.
      */
     public Set<Actor> getValidPartners()
     {
-        return this.validPartners;
+        return Collections.unmodifiableSet(this.validPartners);
     }
 
     /**
@@ -165,7 +185,10 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
      */
     public void setValidPartners(final Set<Actor> validPartners)
     {
-        this.validPartners = validPartners;
+        Throw.whenNull(validPartners, "validPartners cannot be null");
+        this.validPartners = new LinkedHashSet<>();
+        this.validPartnerIndexes = new BitSet();
+        validPartners.forEach(this::addValidPartner);
     }
 
     /**
@@ -175,15 +198,11 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
      */
     private boolean checkValidPartner(final Content content)
     {
-        if (this.validPartners == null)
-        {
-            return true;
-        }
-        if (this.validPartners.size() == 0)
+        if (this.validPartnerIndexes.isEmpty())
         {
             return true;
         }
-        return (this.validPartners.contains(content.sender()));
+        return this.validPartnerIndexes.get(content.sender().getIndex());
     }
 
     /**
@@ -193,7 +212,16 @@ public abstract class ContentHandler<C extends Content, R extends Role<R>> imple
      */
     protected boolean isValidContent(final Content content)
     {
-        return checkContent(content) && checkValidProduct(content) && checkValidPartner(content);
+        if (checkContent(content) && checkValidProduct(content) && checkValidPartner(content))
+        {
+            return true;
+        }
+        HandlerMetricsRegistry metrics = getActor().getModel().getHandlerMetrics();
+        if (metrics != null)
+        {
+            metrics.getMetrics(this).recordRejected();
+        }
+        return false;
     }
 
     @Override
@@ -0,0 +1,128 @@
+package nl.tudelft.simulation.supplychain.metrics;
+
+import java.io.Serializable;
+
+/**
+ * EventListMetrics contains the metrics of one source of scheduled events, i.e., a target class and method for reflective
+ * events, or the class and method that implement the lambda expression of a lambda event: the number of events that were
+ * scheduled, executed and cancelled, and the distribution of the scheduling horizon, the simulated time between scheduling
+ * and the execution time of an event, in whole seconds.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class EventListMetrics implements Serializable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the source of the events, e.g., Inventory.postDepreciation. */
+    private final String source;
+
+    /** the scheduling horizon of the events in seconds; the count of the histogram is the number of scheduled events. */
+    private final LogHistogram horizonSeconds = new LogHistogram();
+
+    /** the number of executed events. */
+    private long executedCount = 0;
+
+    /** the number of cancelled events. */
+    private long cancelledCount = 0;
+
+    /**
+     * Create the metrics for a source of events.
+     * @param source the source of the events, e.g., Inventory.postDepreciation
+     */
+    public EventListMetrics(final String source)
+    {
+        this.source = source;
+    }
+
+    /**
+     * Record that an event was scheduled.
+     * @param horizonSi the simulated time between scheduling and the execution time of the event, in seconds
+     */
+    public void recordScheduled(final double horizonSi)
+    {
+        this.horizonSeconds.record(Math.round(horizonSi));
+    }
+
+    /**
+     * Record that an event was executed.
+     */
+    public void recordExecuted()
+    {
+        this.executedCount++;
+    }
+
+    /**
+     * Record that an event was cancelled.
+     */
+    public void recordCancelled()
+    {
+        this.cancelledCount++;
+    }
+
+    /**
+     * Return the source of the events.
+     * @return the source of the events, e.g., Inventory.postDepreciation
+     */
+    public String getSource()
+    {
+        return this.source;
+    }
+
+    /**
+     * Return the number of scheduled events.
+     * @return the number of scheduled events
+     */
+    public long getScheduledCount()
+    {
+        return this.horizonSeconds.getCount();
+    }
+
+    /**
+     * Return the number of executed events.
+     * @return the number of executed events
+     */
+    public long getExecutedCount()
+    {
+        return this.executedCount;
+    }
+
+    /**
+     * Return the number of cancelled events.
+     * @return the number of cancelled events
+     */
+    public long getCancelledCount()
+    {
+        return this.cancelledCount;
+    }
+
+    /**
+     * Return the number of events that were scheduled, but neither executed nor cancelled.
+     * @return the number of pending events
+     */
+    public long getPendingCount()
+    {
+        return getScheduledCount() - this.executedCount - this.cancelledCount;
+    }
+
+    /**
+     * Return the histogram of the scheduling horizon, in seconds.
+     * @return the histogram of the scheduling horizon, in seconds
+     */
+    public LogHistogram getHorizonSeconds()
+    {
+        return this.horizonSeconds;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EventListMetrics [source=" + this.source + ", scheduled=" + getScheduledCount() + ", executed="
+                + this.executedCount + ", cancelled=" + this.cancelledCount + "]";
+    }
+
+}
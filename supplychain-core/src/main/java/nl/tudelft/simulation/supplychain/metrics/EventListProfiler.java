@@ -0,0 +1,313 @@
+package nl.tudelft.simulation.supplychain.metrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djutils.event.Event;
+import org.djutils.event.EventListener;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.eventlists.EventListInterface;
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.dsol.SimEventInspector;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+
+/**
+ * EventListProfiler is a decorator for the event list of a simulator that records which sources flood the event list. The
+ * SimEventInspector determines the source of an event: the class of the target and its method for a reflective SimEvent, e.g.,
+ * Inventory.postDepreciation, and the class and method in which the lambda expression is implemented for a lambda event, e.g.,
+ * RestockingProcess.checkLoop. Per source, the profiler records the number of events that were scheduled, executed and
+ * cancelled, and the distribution of the scheduling horizon. For the event list as a whole, it records the peak size. Since
+ * every event passes through the event list, the profiler sees the events of all actors, roles and processes, as well as the
+ * events that DSOL schedules itself.
+ * <p>
+ * The profiler is installed with {@link #install(SupplyChainSimulatorInterface)}, and can print a report at the end of the
+ * replication. Like the event list it decorates, the profiler is accessed under the lock of the simulator and is not
+ * thread-safe otherwise.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class EventListProfiler implements EventListInterface<Duration>, EventListener
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the simulator of which the event list is profiled. */
+    private final SupplyChainSimulatorInterface simulator;
+
+    /** the event list that stores the events. */
+    private final EventListInterface<Duration> delegate;
+
+    /** the metrics per source, in order of first use. */
+    private final Map<String, EventListMetrics> metricsMap = new LinkedHashMap<>();
+
+    /** the metrics of the events that are in the event list. */
+    private final Map<SimEventInterface<Duration>, EventListMetrics> pending = new IdentityHashMap<>();
+
+    /** the peak size of the event list. */
+    private int peakSize = 0;
+
+    /** the stream to print the report to at the end of the replication, or null. */
+    private transient PrintStream reportStream;
+
+    /**
+     * Create a profiler that decorates an event list.
+     * @param simulator the simulator of which the event list is profiled
+     * @param delegate the event list that stores the events
+     */
+    protected EventListProfiler(final SupplyChainSimulatorInterface simulator, final EventListInterface<Duration> delegate)
+    {
+        this.simulator = simulator;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Install a profiler on the event list of a simulator. Events that are already in the event list are not profiled.
+     * @param simulator the simulator, which should not be running
+     * @return the installed profiler
+     */
+    public static EventListProfiler install(final SupplyChainSimulatorInterface simulator)
+    {
+        Throw.whenNull(simulator, "simulator cannot be null");
+        Throw.when(simulator.isStartingOrRunning(), IllegalStateException.class,
+                "cannot install an event list profiler on a running simulator");
+        EventListProfiler profiler = new EventListProfiler(simulator, simulator.getEventList());
+        simulator.setEventList(profiler);
+        return profiler;
+    }
+
+    @Override
+    public void add(final SimEventInterface<Duration> event)
+    {
+        this.delegate.add(event);
+        EventListMetrics metrics = getMetrics(SimEventInspector.getSource(event));
+        metrics.recordScheduled(event.getAbsoluteExecutionTime().si - this.simulator.getSimulatorTime().si);
+        this.pending.put(event, metrics);
+        this.peakSize = Math.max(this.peakSize, this.delegate.size());
+    }
+
+    @Override
+    public boolean contains(final SimEventInterface<Duration> event)
+    {
+        return this.delegate.contains(event);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.delegate.clear();
+        this.pending.clear();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.delegate.isEmpty();
+    }
+
+    @Override
+    public Iterator<SimEventInterface<Duration>> iterator()
+    {
+        return this.delegate.iterator();
+    }
+
+    @Override
+    public boolean remove(final SimEventInterface<Duration> event)
+    {
+        boolean removed = this.delegate.remove(event);
+        if (removed)
+        {
+            EventListMetrics metrics = this.pending.remove(event);
+            if (metrics != null)
+            {
+                metrics.recordCancelled();
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public SimEventInterface<Duration> first()
+    {
+        return this.delegate.first();
+    }
+
+    @Override
+    public SimEventInterface<Duration> removeFirst()
+    {
+        SimEventInterface<Duration> event = this.delegate.removeFirst();
+        EventListMetrics metrics = this.pending.remove(event);
+        if (metrics != null)
+        {
+            metrics.recordExecuted();
+        }
+        return event;
+    }
+
+    /**
+     * Return the metrics for a source, and create them when the source schedules an event for the first time.
+     * @param source the source of the events
+     * @return the metrics for the source
+     */
+    private EventListMetrics getMetrics(final String source)
+    {
+        EventListMetrics metrics = this.metricsMap.get(source);
+        if (metrics == null)
+        {
+            metrics = new EventListMetrics(source);
+            this.metricsMap.put(source, metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * Return the metrics of all sources, sorted on the number of scheduled events, largest first.
+     * @return the metrics of all sources, sorted on the number of scheduled events
+     */
+    public List<EventListMetrics> getAllMetrics()
+    {
+        List<EventListMetrics> metrics = new ArrayList<>(this.metricsMap.values());
+        metrics.sort(Comparator.comparingLong(EventListMetrics::getScheduledCount).reversed());
+        return metrics;
+    }
+
+    /**
+     * Return the metrics of a source.
+     * @param source the source of the events, e.g., Inventory.postDepreciation
+     * @return the metrics of the source, or null when the source has not scheduled any events
+     */
+    public EventListMetrics getMetricsFor(final String source)
+    {
+        return this.metricsMap.get(source);
+    }
+
+    /**
+     * Return the peak size of the event list.
+     * @return the peak size of the event list
+     */
+    public int getPeakSize()
+    {
+        return this.peakSize;
+    }
+
+    /**
+     * Return the event list that stores the events.
+     * @return the event list that stores the events
+     */
+    public EventListInterface<Duration> getDelegate()
+    {
+        return this.delegate;
+    }
+
+    /**
+     * Remove all metrics and the peak size, e.g., at the end of a warmup period.
+     */
+    public void reset()
+    {
+        this.metricsMap.clear();
+        this.pending.clear();
+        this.peakSize = this.delegate.size();
+    }
+
+    /**
+     * Write a report with one line per source, sorted on the number of scheduled events, largest first. The scheduling horizon
+     * is reported in seconds.
+     * @param writer the writer to write the report to
+     * @throws IOException on write error
+     */
+    public void writeReport(final Writer writer) throws IOException
+    {
+        long scheduled = 0;
+        long executed = 0;
+        long cancelled = 0;
+        for (EventListMetrics m : this.metricsMap.values())
+        {
+            scheduled += m.getScheduledCount();
+            executed += m.getExecutedCount();
+            cancelled += m.getCancelledCount();
+        }
+        writer.write(String.format(Locale.US,
+                "Event list profile at t=%.1fs: scheduled=%d, executed=%d, cancelled=%d, size=%d, peak size=%d\n",
+                this.simulator.getSimulatorTime().si, scheduled, executed, cancelled, this.delegate.size(), this.peakSize));
+        writer.write(String.format(Locale.US, "%-50s %12s %12s %12s %12s %12s %10s %10s %10s\n", "source", "scheduled",
+                "executed", "cancelled", "pending", "horizonMean", "horizonP50", "horizonP90", "horizonMax"));
+        for (EventListMetrics m : getAllMetrics())
+        {
+            LogHistogram h = m.getHorizonSeconds();
+            writer.write(String.format(Locale.US, "%-50s %12d %12d %12d %12d %12.1f %10d %10d %10d\n", m.getSource(),
+                    m.getScheduledCount(), m.getExecutedCount(), m.getCancelledCount(), m.getPendingCount(), h.getMean(),
+                    h.getPercentile(0.5), h.getPercentile(0.9), h.getMax()));
+        }
+    }
+
+    /**
+     * Return the report with one line per source.
+     * @return the report with one line per source
+     */
+    public String getReport()
+    {
+        StringWriter writer = new StringWriter();
+        try
+        {
+            writeReport(writer);
+        }
+        catch (IOException exception)
+        {
+            throw new SupplyChainRuntimeException("EventListProfiler could not write the report", exception);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Print the report to a stream at the end of the replication of the simulator.
+     * @param stream the stream to print the report to, e.g., System.out
+     * @throws RemoteException on network error
+     */
+    public void printReportAtEndOfReplication(final PrintStream stream) throws RemoteException
+    {
+        Throw.whenNull(stream, "stream cannot be null");
+        this.reportStream = stream;
+        this.simulator.addListener(this, Replication.END_REPLICATION_EVENT);
+    }
+
+    @Override
+    public void notify(final Event event) throws RemoteException
+    {
+        if (event.getType().equals(Replication.END_REPLICATION_EVENT) && this.reportStream != null)
+        {
+            this.reportStream.print(getReport());
+            this.reportStream.flush();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EventListProfiler [sources=" + this.metricsMap.size() + ", peakSize=" + this.peakSize + "]";
+    }
+
+}
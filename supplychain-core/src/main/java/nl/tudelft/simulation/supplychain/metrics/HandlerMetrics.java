@@ -0,0 +1,174 @@
+package nl.tudelft.simulation.supplychain.metrics;
+
+import java.io.Serializable;
+
+/**
+ * HandlerMetrics contains the metrics of one content handler of a role of an actor: the number of invocations, the number of
+ * content items that were rejected as invalid, the wall clock time of the handling in nanoseconds, and the simulated queueing
+ * delay between the receipt of the content and the start of the handling, e.g., caused by a ContentReceiverDelay.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class HandlerMetrics implements Serializable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the id of the actor. */
+    private final String actorId;
+
+    /** the id of the role. */
+    private final String roleId;
+
+    /** the id of the handler. */
+    private final String handlerId;
+
+    /** the simple name of the content class of the handler. */
+    private final String contentClass;
+
+    /** the number of content items that were rejected as invalid. */
+    private long rejectedCount = 0;
+
+    /** the wall clock time of the handling, in nanoseconds. */
+    private final LogHistogram wallTimeNanos = new LogHistogram();
+
+    /** the number of queueing delays that were recorded. */
+    private long queueingCount = 0;
+
+    /** the sum of the queueing delays in seconds. */
+    private double queueingSum = 0.0;
+
+    /** the maximum queueing delay in seconds. */
+    private double queueingMax = 0.0;
+
+    /**
+     * Create the metrics for a handler.
+     * @param actorId the id of the actor
+     * @param roleId the id of the role
+     * @param handlerId the id of the handler
+     * @param contentClass the simple name of the content class of the handler
+     */
+    public HandlerMetrics(final String actorId, final String roleId, final String handlerId, final String contentClass)
+    {
+        this.actorId = actorId;
+        this.roleId = roleId;
+        this.handlerId = handlerId;
+        this.contentClass = contentClass;
+    }
+
+    /**
+     * Record an invocation of the handler.
+     * @param wallTimeNanos the wall clock time of the handling, in nanoseconds
+     * @param queueingDelaySi the simulated time between the receipt of the content and the start of the handling, in seconds
+     */
+    public void recordInvocation(final long wallTimeNanos, final double queueingDelaySi)
+    {
+        this.wallTimeNanos.record(wallTimeNanos);
+        this.queueingCount++;
+        this.queueingSum += queueingDelaySi;
+        if (queueingDelaySi > this.queueingMax)
+        {
+            this.queueingMax = queueingDelaySi;
+        }
+    }
+
+    /**
+     * Record that a content item was rejected as invalid by the handler.
+     */
+    public void recordRejected()
+    {
+        this.rejectedCount++;
+    }
+
+    /**
+     * Return the id of the actor.
+     * @return the id of the actor
+     */
+    public String getActorId()
+    {
+        return this.actorId;
+    }
+
+    /**
+     * Return the id of the role.
+     * @return the id of the role
+     */
+    public String getRoleId()
+    {
+        return this.roleId;
+    }
+
+    /**
+     * Return the id of the handler.
+     * @return the id of the handler
+     */
+    public String getHandlerId()
+    {
+        return this.handlerId;
+    }
+
+    /**
+     * Return the simple name of the content class of the handler.
+     * @return the simple name of the content class of the handler
+     */
+    public String getContentClass()
+    {
+        return this.contentClass;
+    }
+
+    /**
+     * Return the number of invocations of the handler.
+     * @return the number of invocations of the handler
+     */
+    public long getInvocationCount()
+    {
+        return this.wallTimeNanos.getCount();
+    }
+
+    /**
+     * Return the number of content items that were rejected as invalid.
+     * @return the number of content items that were rejected as invalid
+     */
+    public long getRejectedCount()
+    {
+        return this.rejectedCount;
+    }
+
+    /**
+     * Return the histogram of the wall clock time of the handling, in nanoseconds.
+     * @return the histogram of the wall clock time of the handling, in nanoseconds
+     */
+    public LogHistogram getWallTimeNanos()
+    {
+        return this.wallTimeNanos;
+    }
+
+    /**
+     * Return the mean simulated queueing delay in seconds.
+     * @return the mean simulated queueing delay in seconds, or NaN when no invocations have been recorded
+     */
+    public double getMeanQueueingDelaySi()
+    {
+        return this.queueingCount == 0 ? Double.NaN : this.queueingSum / this.queueingCount;
+    }
+
+    /**
+     * Return the maximum simulated queueing delay in seconds.
+     * @return the maximum simulated queueing delay in seconds
+     */
+    public double getMaxQueueingDelaySi()
+    {
+        return this.queueingMax;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "HandlerMetrics [actor=" + this.actorId + ", role=" + this.roleId + ", handler=" + this.handlerId
+                + ", invocations=" + getInvocationCount() + ", rejected=" + this.rejectedCount + "]";
+    }
+
+}
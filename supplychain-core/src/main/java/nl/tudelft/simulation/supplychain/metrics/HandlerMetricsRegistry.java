@@ -0,0 +1,171 @@
+package nl.tudelft.simulation.supplychain.metrics;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.djutils.event.Event;
+import org.djutils.event.EventListener;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+import nl.tudelft.simulation.supplychain.handler.ContentHandler;
+
+/**
+ * HandlerMetricsRegistry collects the HandlerMetrics of all content handlers of a model. Instrumentation is opt-in: the
+ * registry is only used when it has been set on the model with SupplyChainModel.setHandlerMetrics. When no registry has been
+ * set, the only cost of the instrumentation is one null check per handled content item. The registry belongs to one model and
+ * is not thread-safe; parallel replications should each use their own registry.
+ * <p>
+ * The metrics can be written to a CSV file with one line per handler, either on request or automatically at the end of the
+ * replication.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class HandlerMetricsRegistry implements EventListener, Serializable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the header of the CSV file. */
+    public static final String CSV_HEADER = "actor,role,handler,content,invocations,rejected,wallTotalNs,wallMeanNs,wallP50Ns,"
+            + "wallP90Ns,wallP99Ns,wallMaxNs,queueingMeanS,queueingMaxS";
+
+    /** the metrics per handler, in order of first use. */
+    private final Map<ContentHandler<?, ?>, HandlerMetrics> metricsMap = new IdentityHashMap<>();
+
+    /** the metrics in order of first use. */
+    private final List<HandlerMetrics> metricsList = new ArrayList<>();
+
+    /** the path to write the CSV file to at the end of the replication, or null. */
+    private transient Path csvPath;
+
+    /**
+     * Return the metrics for a handler, and create them when the handler is used for the first time.
+     * @param handler the content handler
+     * @return the metrics for the handler
+     */
+    public HandlerMetrics getMetrics(final ContentHandler<?, ?> handler)
+    {
+        HandlerMetrics metrics = this.metricsMap.get(handler);
+        if (metrics == null)
+        {
+            metrics = new HandlerMetrics(handler.getActor().getId(), handler.getRole().getId(), handler.getId(),
+                    handler.getContentClass().getSimpleName());
+            this.metricsMap.put(handler, metrics);
+            this.metricsList.add(metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * Return the metrics of all handlers that have been used, in order of first use.
+     * @return the metrics of all handlers that have been used
+     */
+    public List<HandlerMetrics> getAllMetrics()
+    {
+        return new ArrayList<>(this.metricsList);
+    }
+
+    /**
+     * Remove all metrics, e.g., at the end of a warmup period.
+     */
+    public void reset()
+    {
+        this.metricsMap.clear();
+        this.metricsList.clear();
+    }
+
+    /**
+     * Write the metrics as CSV, with a header line and one line per handler.
+     * @param writer the writer to write the CSV to
+     * @throws IOException on write error
+     */
+    public void writeCsv(final Writer writer) throws IOException
+    {
+        writer.write(CSV_HEADER);
+        writer.write("\n");
+        for (HandlerMetrics m : this.metricsList)
+        {
+            LogHistogram h = m.getWallTimeNanos();
+            writer.write(String.format(Locale.US, "%s,%s,%s,%s,%d,%d,%d,%.1f,%d,%d,%d,%d,%.6f,%.6f\n", csv(m.getActorId()),
+                    csv(m.getRoleId()), csv(m.getHandlerId()), csv(m.getContentClass()), m.getInvocationCount(),
+                    m.getRejectedCount(), h.getSum(), h.getMean(), h.getPercentile(0.5), h.getPercentile(0.9),
+                    h.getPercentile(0.99), h.getMax(), m.getMeanQueueingDelaySi(), m.getMaxQueueingDelaySi()));
+        }
+    }
+
+    /**
+     * Write the metrics to a CSV file.
+     * @param path the path of the CSV file
+     * @throws IOException on write error
+     */
+    public void writeCsv(final Path path) throws IOException
+    {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8))
+        {
+            writeCsv(writer);
+        }
+    }
+
+    /**
+     * Quote a CSV field when it contains a comma, a quote or a newline.
+     * @param field the field
+     * @return the field, quoted when necessary
+     */
+    private static String csv(final String field)
+    {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0)
+        {
+            return field;
+        }
+        return "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Write the metrics to a CSV file at the end of the replication of the simulator.
+     * @param simulator the simulator
+     * @param path the path of the CSV file
+     * @throws RemoteException on network error
+     */
+    public void writeCsvAtEndOfReplication(final SupplyChainSimulatorInterface simulator, final Path path)
+            throws RemoteException
+    {
+        Throw.whenNull(simulator, "simulator cannot be null");
+        Throw.whenNull(path, "path cannot be null");
+        this.csvPath = path;
+        simulator.addListener(this, Replication.END_REPLICATION_EVENT);
+    }
+
+    @Override
+    public void notify(final Event event) throws RemoteException
+    {
+        if (event.getType().equals(Replication.END_REPLICATION_EVENT) && this.csvPath != null)
+        {
+            try
+            {
+                writeCsv(this.csvPath);
+            }
+            catch (IOException exception)
+            {
+                throw new SupplyChainRuntimeException("HandlerMetricsRegistry could not write " + this.csvPath, exception);
+            }
+        }
+    }
+
+}
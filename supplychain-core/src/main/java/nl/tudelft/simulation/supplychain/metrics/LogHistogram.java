@@ -0,0 +1,164 @@
+package nl.tudelft.simulation.supplychain.metrics;
+
+import java.io.Serializable;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * LogHistogram records non-negative long values, such as durations in nanoseconds, in logarithmic buckets in the style of
+ * HdrHistogram. Values below 16 have their own bucket; larger values are stored in buckets per power of two that are split in
+ * 8 linear sub-buckets. The relative error of a reported value is therefore at most 12.5%, with a fixed memory footprint of 488
+ * counters, independent of the number of recorded values.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class LogHistogram implements Serializable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the number of bits for the sub-buckets per power of two. */
+    private static final int SUB_BITS = 3;
+
+    /** the number of sub-buckets per power of two. */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /** the values below this limit have their own bucket. */
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+
+    /** the number of buckets. */
+    private static final int NUMBER_OF_BUCKETS = LINEAR_LIMIT + (63 - (SUB_BITS + 1)) * SUB_BUCKETS;
+
+    /** the counts per bucket. */
+    private final long[] counts = new long[NUMBER_OF_BUCKETS];
+
+    /** the number of recorded values. */
+    private long count = 0;
+
+    /** the sum of the recorded values. */
+    private long sum = 0;
+
+    /** the largest recorded value. */
+    private long max = 0;
+
+    /**
+     * Return the bucket for a value.
+     * @param value the value, not negative
+     * @return the bucket for the value
+     */
+    static int bucket(final long value)
+    {
+        if (value < LINEAR_LIMIT)
+        {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BITS - 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Return the highest value that is stored in a bucket.
+     * @param bucket the bucket
+     * @return the highest value that is stored in the bucket
+     */
+    static long highestValue(final int bucket)
+    {
+        if (bucket < LINEAR_LIMIT)
+        {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BITS + 1;
+        long sub = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long lowest = (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+        return lowest + (1L << (exponent - SUB_BITS)) - 1;
+    }
+
+    /**
+     * Record a value.
+     * @param value the value to record; negative values are recorded as 0
+     */
+    public void record(final long value)
+    {
+        long v = Math.max(0L, value);
+        this.counts[bucket(v)]++;
+        this.count++;
+        this.sum += v;
+        if (v > this.max)
+        {
+            this.max = v;
+        }
+    }
+
+    /**
+     * Return the value below which the given fraction of the recorded values falls, as the highest value of the bucket in which
+     * the percentile falls.
+     * @param fraction the fraction between 0 and 1, e.g., 0.99 for the 99th percentile
+     * @return the value below which the fraction of the recorded values falls, or 0 when no values have been recorded
+     */
+    public long getPercentile(final double fraction)
+    {
+        Throw.when(fraction < 0.0 || fraction > 1.0, IllegalArgumentException.class, "fraction should be between 0 and 1");
+        if (this.count == 0)
+        {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(fraction * this.count));
+        long cumulative = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++)
+        {
+            cumulative += this.counts[i];
+            if (cumulative >= target)
+            {
+                return Math.min(highestValue(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Return the number of recorded values.
+     * @return the number of recorded values
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Return the sum of the recorded values.
+     * @return the sum of the recorded values
+     */
+    public long getSum()
+    {
+        return this.sum;
+    }
+
+    /**
+     * Return the mean of the recorded values.
+     * @return the mean of the recorded values, or NaN when no values have been recorded
+     */
+    public double getMean()
+    {
+        return this.count == 0 ? Double.NaN : (double) this.sum / this.count;
+    }
+
+    /**
+     * Return the largest recorded value.
+     * @return the largest recorded value, or 0 when no values have been recorded
+     */
+    public long getMax()
+    {
+        return this.max;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LogHistogram [count=" + this.count + ", mean=" + getMean() + ", max=" + this.max + "]";
+    }
+
+}
@@ -0,0 +1,11 @@
+/**
+ * Opt-in instrumentation of the content handlers: invocation counts, rejected content, wall clock handling time and the
+ * simulated queueing delay of content, per actor, role and handler; and an event list profiler that counts the scheduled,
+ * executed and cancelled events and their scheduling horizon per source of the events.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+package nl.tudelft.simulation.supplychain.metrics;
@@ -54,6 +54,49 @@ public class Money extends Number implements Serializable
         return this.moneyUnit;
     }
 
+    /**
+     * Create a monetary value from a whole number of minor units, e.g., cents.
+     * @param minorUnits the monetary value in minor units of the money unit
+     * @param moneyUnit the money unit for this monetary value
+     * @return the monetary value
+     */
+    public static Money ofMinorUnits(final long minorUnits, final MoneyUnit moneyUnit)
+    {
+        return new Money(moneyUnit.toAmount(minorUnits), moneyUnit);
+    }
+
+    /**
+     * Return the monetary value as a whole number of minor units, e.g., cents, rounded half up (away from zero).
+     * @return the monetary value as a whole number of minor units
+     */
+    public long toMinorUnits()
+    {
+        return this.moneyUnit.toMinorUnits(this.amount);
+    }
+
+    /**
+     * Return the monetary value rounded to a whole number of minor units, e.g., cents, rounded half up (away from zero).
+     * @return the monetary value rounded to a whole number of minor units
+     */
+    public Money round()
+    {
+        return ofMinorUnits(toMinorUnits(), this.moneyUnit);
+    }
+
+    /**
+     * Check that another monetary value has the same money unit. Equal money units are usually the same instance, so the
+     * equality check is only needed for different instances.
+     * @param other the other monetary value
+     * @throws IllegalArgumentException when the money units are not equal
+     */
+    private void checkUnit(final Money other)
+    {
+        if (this.moneyUnit != other.moneyUnit)
+        {
+            Throw.when(!this.moneyUnit.equals(other.moneyUnit), IllegalArgumentException.class, "unequal money units");
+        }
+    }
+
     /**
      * Return a monetary amount that is the sum of this monetary amount and the increment.
      * @param inc the amount of money to add
@@ -61,7 +104,7 @@ public class Money extends Number implements Serializable
      */
     public Money plus(final Money inc)
     {
-        Throw.when(!getMoneyUnit().equals(inc.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(inc);
         return new Money(this.amount + inc.getAmount(), getMoneyUnit());
     }
 
@@ -72,7 +115,7 @@ public class Money extends Number implements Serializable
      */
     public Money minus(final Money dec)
     {
-        Throw.when(!getMoneyUnit().equals(dec.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(dec);
         return new Money(this.amount - dec.getAmount(), getMoneyUnit());
     }
 
@@ -103,7 +146,7 @@ public class Money extends Number implements Serializable
      */
     public boolean eq(final Money other)
     {
-        Throw.when(!getMoneyUnit().equals(other.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(other);
         return this.amount == other.getAmount();
     }
 
@@ -114,7 +157,7 @@ public class Money extends Number implements Serializable
      */
     public boolean ne(final Money other)
     {
-        Throw.when(!getMoneyUnit().equals(other.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(other);
         return this.amount != other.getAmount();
     }
 
@@ -125,7 +168,7 @@ public class Money extends Number implements Serializable
      */
     public boolean lt(final Money other)
     {
-        Throw.when(!getMoneyUnit().equals(other.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(other);
         return this.amount < other.getAmount();
     }
 
@@ -136,7 +179,7 @@ public class Money extends Number implements Serializable
      */
     public boolean le(final Money other)
     {
-        Throw.when(!getMoneyUnit().equals(other.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(other);
         return this.amount <= other.getAmount();
     }
 
@@ -147,7 +190,7 @@ public class Money extends Number implements Serializable
      */
     public boolean gt(final Money other)
     {
-        Throw.when(!getMoneyUnit().equals(other.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(other);
         return this.amount > other.getAmount();
     }
 
@@ -158,7 +201,7 @@ public class Money extends Number implements Serializable
      */
     public boolean ge(final Money other)
     {
-        Throw.when(!getMoneyUnit().equals(other.getMoneyUnit()), IllegalArgumentException.class, "unequal money units");
+        checkUnit(other);
         return this.amount >= other.getAmount();
     }
 
@@ -0,0 +1,201 @@
+package nl.tudelft.simulation.supplychain.money;
+
+import java.io.Serializable;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * MoneyAccumulator is a mutable monetary value for hot loops, such as sums over order lines, inventory values and bank
+ * balances. The value is stored as a whole number of minor units (e.g., cents) in a long, and the money unit is checked by
+ * comparing ordinals, so adding, subtracting and multiplying do not allocate objects, and sums of many amounts are exact. Every
+ * amount that is added is rounded half up (away from zero) to minor units once. {@link Money} is used at the API boundaries:
+ * amounts are added as Money, and the result is returned as Money with {@link #toMoney()}.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class MoneyAccumulator implements Serializable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the money unit of the accumulated value. */
+    private final MoneyUnit moneyUnit;
+
+    /** the accumulated value in minor units of the money unit. */
+    private long minorUnits;
+
+    /**
+     * Create an accumulator with a value of zero.
+     * @param moneyUnit the money unit of the accumulated value
+     */
+    public MoneyAccumulator(final MoneyUnit moneyUnit)
+    {
+        Throw.whenNull(moneyUnit, "moneyUnit cannot be null");
+        this.moneyUnit = moneyUnit;
+        this.minorUnits = 0L;
+    }
+
+    /**
+     * Create an accumulator with an initial value.
+     * @param initialValue the initial value, which also determines the money unit
+     */
+    public MoneyAccumulator(final Money initialValue)
+    {
+        Throw.whenNull(initialValue, "initialValue cannot be null");
+        this.moneyUnit = initialValue.getMoneyUnit();
+        this.minorUnits = initialValue.toMinorUnits();
+    }
+
+    /**
+     * Check that a monetary value has the money unit of the accumulator.
+     * @param money the monetary value
+     * @throws IllegalArgumentException when the money unit differs
+     */
+    private void checkUnit(final Money money)
+    {
+        Throw.when(money.getMoneyUnit().getOrdinal() != this.moneyUnit.getOrdinal(), IllegalArgumentException.class,
+                "unequal money units");
+    }
+
+    /**
+     * Add a monetary value.
+     * @param money the monetary value to add
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator add(final Money money)
+    {
+        checkUnit(money);
+        this.minorUnits += this.moneyUnit.toMinorUnits(money.getAmount());
+        return this;
+    }
+
+    /**
+     * Subtract a monetary value.
+     * @param money the monetary value to subtract
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator subtract(final Money money)
+    {
+        checkUnit(money);
+        this.minorUnits -= this.moneyUnit.toMinorUnits(money.getAmount());
+        return this;
+    }
+
+    /**
+     * Add the product of a monetary value and a factor, e.g., a unit price times an amount, which is rounded to minor units
+     * once.
+     * @param money the monetary value, e.g., a unit price
+     * @param factor the factor, e.g., an amount
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator addProduct(final Money money, final double factor)
+    {
+        checkUnit(money);
+        this.minorUnits += this.moneyUnit.toMinorUnits(money.getAmount() * factor);
+        return this;
+    }
+
+    /**
+     * Subtract the product of a monetary value and a factor, e.g., a unit price times an amount, which is rounded to minor
+     * units once.
+     * @param money the monetary value, e.g., a unit price
+     * @param factor the factor, e.g., an amount
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator subtractProduct(final Money money, final double factor)
+    {
+        checkUnit(money);
+        this.minorUnits -= this.moneyUnit.toMinorUnits(money.getAmount() * factor);
+        return this;
+    }
+
+    /**
+     * Add a number of minor units.
+     * @param delta the number of minor units to add
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator addMinorUnits(final long delta)
+    {
+        this.minorUnits += delta;
+        return this;
+    }
+
+    /**
+     * Multiply the accumulated value by a factor, and round the result to minor units.
+     * @param factor the multiplication factor
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator multiplyBy(final double factor)
+    {
+        this.minorUnits = MoneyUnit.multiply(this.minorUnits, factor);
+        return this;
+    }
+
+    /**
+     * Set the accumulated value.
+     * @param money the new value
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator set(final Money money)
+    {
+        checkUnit(money);
+        this.minorUnits = this.moneyUnit.toMinorUnits(money.getAmount());
+        return this;
+    }
+
+    /**
+     * Set the accumulated value to zero.
+     * @return the accumulator for method chaining
+     */
+    public MoneyAccumulator reset()
+    {
+        this.minorUnits = 0L;
+        return this;
+    }
+
+    /**
+     * Return the accumulated value in minor units.
+     * @return the accumulated value in minor units
+     */
+    public long getMinorUnits()
+    {
+        return this.minorUnits;
+    }
+
+    /**
+     * Return the accumulated value in the money unit.
+     * @return the accumulated value in the money unit
+     */
+    public double getAmount()
+    {
+        return this.moneyUnit.toAmount(this.minorUnits);
+    }
+
+    /**
+     * Return the money unit of the accumulated value.
+     * @return the money unit of the accumulated value
+     */
+    public MoneyUnit getMoneyUnit()
+    {
+        return this.moneyUnit;
+    }
+
+    /**
+     * Return the accumulated value as Money.
+     * @return the accumulated value as Money
+     */
+    public Money toMoney()
+    {
+        return Money.ofMinorUnits(this.minorUnits, this.moneyUnit);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MoneyAccumulator [" + getAmount() + " " + this.moneyUnit.getName() + "]";
+    }
+
+}
@@ -1,11 +1,20 @@
 package nl.tudelft.simulation.supplychain.money;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.djutils.exceptions.Throw;
 
 /**
- * MoneyUnit implements a currency unit, such as the Euro or US Dollar.
+ * MoneyUnit implements a currency unit, such as the Euro or US Dollar. Each money unit has a number of fraction digits, which
+ * determines its minor unit (e.g., the cent for 2 fraction digits), and an ordinal that is shared by all equal money units, so
+ * the primitive money representation of a {@link MoneyAccumulator} can check the unit by comparing two ints.
  * <p>
  * Copyright (c) 2019-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
@@ -17,12 +26,30 @@ public class MoneyUnit implements Serializable
     /** */
     private static final long serialVersionUID = 20200211L;
 
+    /** the registered money units, in order of their ordinal. */
+    private static final List<MoneyUnit> REGISTRY = new ArrayList<>();
+
+    /** the ordinal of each registered money unit. */
+    private static final Map<MoneyUnit, Integer> ORDINALS = new LinkedHashMap<>();
+
+    /** the largest absolute number of minor units that can be represented exactly in a double. */
+    private static final double MAX_MINOR_UNITS = 0x1p53;
+
     /** The (short) name of the money unit. */
     private final String name;
 
     /** The symbol to use when displaying the money unit. */
     private final String symbol;
 
+    /** the number of fraction digits, e.g., 2 for a money unit with cents. */
+    private final int fractionDigits;
+
+    /** the number of minor units per money unit, i.e., 10 to the power of the number of fraction digits. */
+    private final long minorUnitsPerUnit;
+
+    /** the ordinal of the money unit, which is equal for equal money units. */
+    private final int ordinal;
+
     /** Default USD money unit. */
     public static final MoneyUnit USD = new MoneyUnit("USD", "$");
 
@@ -33,18 +60,70 @@ public class MoneyUnit implements Serializable
     public static final MoneyUnit GBP = new MoneyUnit("GBP", "\u00A3");
 
     /**
-     * Create a new money unit.
+     * Create a new money unit with 2 fraction digits.
      * @param name the (short) name of the money unit
      * @param symbol the symbol to use when displaying the money unit
      */
     public MoneyUnit(final String name, final String symbol)
+    {
+        this(name, symbol, 2);
+    }
+
+    /**
+     * Create a new money unit.
+     * @param name the (short) name of the money unit
+     * @param symbol the symbol to use when displaying the money unit
+     * @param fractionDigits the number of fraction digits, e.g., 2 for a money unit with cents, and 0 for the Japanese yen
+     */
+    public MoneyUnit(final String name, final String symbol, final int fractionDigits)
     {
         Throw.whenNull(name, "name cannot be null");
         Throw.whenNull(symbol, "symbol cannot be null");
         Throw.when(name.length() == 0, IllegalArgumentException.class, "name length cannot be 0");
         Throw.when(symbol.length() == 0, IllegalArgumentException.class, "symbol length cannot be 0");
+        Throw.when(fractionDigits < 0 || fractionDigits > 6, IllegalArgumentException.class,
+                "fractionDigits should be between 0 and 6");
         this.name = name;
         this.symbol = symbol;
+        this.fractionDigits = fractionDigits;
+        this.minorUnitsPerUnit = (long) Math.pow(10, fractionDigits);
+        this.ordinal = register(this);
+    }
+
+    /**
+     * Register a money unit, and return its ordinal. An equal money unit that has been registered before gives the ordinal of
+     * that money unit. Money units with the same name and symbol but a different number of fraction digits are not equal, and
+     * get a different ordinal.
+     * @param moneyUnit the money unit to register
+     * @return the ordinal of the money unit
+     */
+    private static int register(final MoneyUnit moneyUnit)
+    {
+        synchronized (REGISTRY)
+        {
+            Integer ordinal = ORDINALS.get(moneyUnit);
+            if (ordinal == null)
+            {
+                ordinal = REGISTRY.size();
+                REGISTRY.add(moneyUnit);
+                ORDINALS.put(moneyUnit, ordinal);
+            }
+            return ordinal;
+        }
+    }
+
+    /**
+     * Return the money unit with an ordinal.
+     * @param ordinal the ordinal of the money unit
+     * @return the first registered money unit with the ordinal
+     * @throws IndexOutOfBoundsException when no money unit has the ordinal
+     */
+    public static MoneyUnit ofOrdinal(final int ordinal)
+    {
+        synchronized (REGISTRY)
+        {
+            return REGISTRY.get(ordinal);
+        }
     }
 
     /**
@@ -65,4 +144,114 @@ public class MoneyUnit implements Serializable
         return this.symbol;
     }
 
+    /**
+     * Return the number of fraction digits, e.g., 2 for a money unit with cents.
+     * @return the number of fraction digits
+     */
+    public int getFractionDigits()
+    {
+        return this.fractionDigits;
+    }
+
+    /**
+     * Return the number of minor units per money unit, e.g., 100 for a money unit with cents.
+     * @return the number of minor units per money unit
+     */
+    public long getMinorUnitsPerUnit()
+    {
+        return this.minorUnitsPerUnit;
+    }
+
+    /**
+     * Return the ordinal of the money unit, which is equal for equal money units within one JVM.
+     * @return the ordinal of the money unit
+     */
+    public int getOrdinal()
+    {
+        return this.ordinal;
+    }
+
+    /**
+     * Return an amount in this money unit as a whole number of minor units, rounded half up (away from zero). The rounding is
+     * exact for the decimal value of the amount: an amount that is printed as 1.005 is rounded to 101 cents, although its
+     * binary value is slightly smaller. Only amounts that are within a millionth of a minor unit from a tie are rounded via
+     * BigDecimal; all other amounts are rounded without allocation.
+     * @param amount the amount in this money unit
+     * @return the amount as a whole number of minor units
+     * @throws IllegalArgumentException when the amount is NaN or infinite, or too large to be represented exactly
+     */
+    public long toMinorUnits(final double amount)
+    {
+        double scaled = Math.abs(amount * this.minorUnitsPerUnit);
+        Throw.when(!(scaled < MAX_MINOR_UNITS), IllegalArgumentException.class, "amount cannot be represented in minor units");
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) > 1.0E-6)
+        {
+            long minor = (long) floor + (fraction > 0.5 ? 1L : 0L);
+            return amount < 0.0 ? -minor : minor;
+        }
+        return BigDecimal.valueOf(amount).movePointRight(this.fractionDigits).setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * Return a number of minor units as an amount in this money unit. The result is the double that is closest to the decimal
+     * value, e.g., 0.07 for 7 cents, where 0.01 * 7 would give 0.07000000000000001.
+     * @param minorUnits the number of minor units
+     * @return the amount in this money unit
+     */
+    public double toAmount(final long minorUnits)
+    {
+        return minorUnits / (double) this.minorUnitsPerUnit;
+    }
+
+    /**
+     * Multiply a number of minor units by a factor, and round the result half up (away from zero) to a whole number of minor
+     * units.
+     * @param minorUnits the number of minor units
+     * @param factor the multiplication factor
+     * @return the product, rounded to a whole number of minor units
+     * @throws IllegalArgumentException when the product is NaN or infinite, or too large to be represented exactly
+     */
+    public static long multiply(final long minorUnits, final double factor)
+    {
+        double product = minorUnits * factor;
+        double abs = Math.abs(product);
+        Throw.when(!(abs < MAX_MINOR_UNITS), IllegalArgumentException.class, "product cannot be represented in minor units");
+        long rounded = (long) Math.floor(abs + 0.5);
+        return product < 0.0 ? -rounded : rounded;
+    }
+
+    /**
+     * Return the canonical instance of a deserialized money unit, i.e., the first registered equal money unit, so the ordinal
+     * of the money unit is valid in this JVM.
+     * @return the canonical instance of the money unit
+     */
+    private Object readResolve()
+    {
+        return ofOrdinal(register(this));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(this.name, this.symbol, this.fractionDigits);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:needbraces")
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        MoneyUnit other = (MoneyUnit) obj;
+        return Objects.equals(this.name, other.name) && Objects.equals(this.symbol, other.symbol)
+                && this.fractionDigits == other.fractionDigits;
+    }
+
 }
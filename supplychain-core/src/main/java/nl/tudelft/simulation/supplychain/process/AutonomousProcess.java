@@ -1,5 +1,7 @@
 package nl.tudelft.simulation.supplychain.process;
 
+import java.io.Serializable;
+
 import org.djutils.exceptions.Throw;
 
 import nl.tudelft.simulation.supplychain.actor.Actor;
@@ -16,8 +18,11 @@ import nl.tudelft.simulation.supplychain.actor.Role;
  * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
  * @param <R> the role to which this autonomous process belongs
  */
-public abstract class AutonomousProcess<R extends Role<R>> implements ActorMethods
+public abstract class AutonomousProcess<R extends Role<R>> implements ActorMethods, Serializable
 {
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
     /** the specific Role (R) to which this process belongs. */
     private final R role;
 
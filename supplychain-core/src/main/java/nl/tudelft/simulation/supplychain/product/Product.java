@@ -36,6 +36,12 @@ public class Product implements Serializable
     /** the descriptive name of the product. */
     private final String name;
 
+    /** the dense index of the product in the model. */
+    private final int index;
+
+    /** the cached hash code, based on the name and the sku. */
+    private final int hashCode;
+
     /** the average volume per unit. */
     private final Volume averageSkuVolume;
 
@@ -61,6 +67,7 @@ public class Product implements Serializable
     public Product(final SupplyChainModelInterface model, final String name, final Sku sku, final Money initialUnitMarketPrice,
             final Mass averageSkuWeight, final Volume averageSkuVolume, final double depreciation)
     {
+        Throw.whenNull(model, "model cannot be null");
         Throw.whenNull(name, "name cannot be null");
         Throw.whenNull(sku, "sku cannot be null");
         Throw.whenNull(initialUnitMarketPrice, "initialUnitMarketPrice cannot be null");
@@ -73,6 +80,17 @@ public class Product implements Serializable
         this.averageSkuWeight = averageSkuWeight;
         this.averageSkuVolume = averageSkuVolume;
         this.depreciation = depreciation;
+        this.hashCode = Objects.hash(this.name, this.sku);
+        this.index = model.registerProduct(this);
+    }
+
+    /**
+     * Return the dense index of the product in the model, which can be used for fast lookups, e.g., in a BitSet.
+     * @return the dense index of the product in the model, numbered 0, 1, 2, ... in order of registration
+     */
+    public int getIndex()
+    {
+        return this.index;
     }
 
     /**
@@ -168,7 +186,7 @@ public class Product implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(this.name, this.sku);
+        return this.hashCode;
     }
 
     @Override
@@ -182,7 +200,7 @@ public class Product implements Serializable
         if (getClass() != obj.getClass())
             return false;
         Product other = (Product) obj;
-        return Objects.equals(this.name, other.name) && Objects.equals(this.sku, other.sku);
+        return this.hashCode == other.hashCode && Objects.equals(this.name, other.name) && Objects.equals(this.sku, other.sku);
     }
 
 }
@@ -38,4 +38,18 @@ public class Customer extends SupplyChainActor implements PurchasingActor, Consu
         super(id, name, model, geography, contentStore);
     }
 
+    /**
+     * Create a new customer with the default content store of the model.
+     * @param id String, the unique id of the customer
+     * @param name the longer name of the customer
+     * @param model the model
+     * @param geography the geography of the actor
+     * @throws ActorAlreadyDefinedException when the actor was already registered in the model
+     */
+    public Customer(final String id, final String name, final SupplyChainModelInterface model, final Geography geography)
+            throws ActorAlreadyDefinedException
+    {
+        this(id, name, model, geography, model.createContentStore());
+    }
+
 }
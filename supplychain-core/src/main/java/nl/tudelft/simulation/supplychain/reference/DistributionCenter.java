@@ -32,4 +32,18 @@ public class DistributionCenter extends Retailer
         super(id, name, model, geography, contentStore);
     }
 
+    /**
+     * Create a new distribution center with the default content store of the model.
+     * @param id String, the unique id of the distribution center
+     * @param name the longer name of the distribution center
+     * @param model the model
+     * @param geography the geography of the actor
+     * @throws ActorAlreadyDefinedException when the actor was already registered in the model
+     */
+    public DistributionCenter(final String id, final String name, final SupplyChainModelInterface model,
+            final Geography geography) throws ActorAlreadyDefinedException
+    {
+        this(id, name, model, geography, model.createContentStore());
+    }
+
 }
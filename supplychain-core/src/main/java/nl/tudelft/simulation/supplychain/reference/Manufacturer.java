@@ -33,4 +33,18 @@ public class Manufacturer extends DistributionCenter implements ManufacturingAct
         super(id, name, model, geography, contentStore);
     }
 
+    /**
+     * Create a new manufacturer with the default content store of the model.
+     * @param id String, the unique id of the manufacturer
+     * @param name the longer name of the manufacturer
+     * @param model the model
+     * @param geography the geography of the actor
+     * @throws ActorAlreadyDefinedException when the actor was already registered in the model
+     */
+    public Manufacturer(final String id, final String name, final SupplyChainModelInterface model, final Geography geography)
+            throws ActorAlreadyDefinedException
+    {
+        this(id, name, model, geography, model.createContentStore());
+    }
+
 }
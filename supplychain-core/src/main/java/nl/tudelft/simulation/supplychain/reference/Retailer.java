@@ -37,4 +37,18 @@ public class Retailer extends SupplyChainActor implements PurchasingActor, Wareh
         super(id, name, model, geography, contentStore);
     }
 
+    /**
+     * Create a new retailer with the default content store of the model.
+     * @param id String, the unique id of the retailer
+     * @param name the longer name of the retailer
+     * @param model the model
+     * @param geography the geography of the actor
+     * @throws ActorAlreadyDefinedException when the actor was already registered in the model
+     */
+    public Retailer(final String id, final String name, final SupplyChainModelInterface model, final Geography geography)
+            throws ActorAlreadyDefinedException
+    {
+        this(id, name, model, geography, model.createContentStore());
+    }
+
 }
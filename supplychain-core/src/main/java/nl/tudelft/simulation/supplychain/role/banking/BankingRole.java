@@ -1,5 +1,8 @@
 package nl.tudelft.simulation.supplychain.role.banking;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -37,8 +40,8 @@ public class BankingRole extends Role<BankingRole>
     /** the interest rate for a negative bank account, as a negative number. */
     private double annualInterestRateNeg = -0.08;
 
-    /** the balance of the actors. */
-    private final Map<FinancingActor, Money> bankAccounts = new LinkedHashMap<>();
+    /** the balance of the actors; serialized as account holder, amount and money unit per account. */
+    private transient Map<FinancingActor, Money> bankAccounts = new LinkedHashMap<>();
 
     /** for who is interested, the BankAccount can send updates of changes. */
     public static final EventType BANK_ACCOUNT_CHANGED_EVENT = new EventType("BANK_ACCOUNT_CHANGED_EVENT",
@@ -81,7 +84,7 @@ public class BankingRole extends Role<BankingRole>
     }
 
     /**
-     * Add money to the bank balance.
+     * Add money to the bank balance. The new balance is rounded with roundBalance.
      * @param actor the actor for which to add money to the bank account
      * @param amount the amount of money to add
      */
@@ -93,7 +96,7 @@ public class BankingRole extends Role<BankingRole>
     }
 
     /**
-     * Withdraw money from the bank balance.
+     * Withdraw money from the bank balance. The new balance is rounded with roundBalance.
      * @param actor the actor for which to withdraw money from the bank account
      * @param amount the amount of money to withdraw
      */
@@ -115,13 +118,15 @@ public class BankingRole extends Role<BankingRole>
     }
 
     /**
-     * Round the amount of money.
+     * Round a new balance to whole minor units (e.g., cents) of its money unit. The rounding is exact for the decimal value of
+     * the amount, rounding half up (away from zero). Subclasses can override this method, e.g., for a bank that rounds
+     * balances to whole units.
      * @param money the amount of money to round
      * @return the rounded amount of money
      */
     protected Money roundBalance(final Money money)
     {
-        return new Money(0.01 * Math.round(100.0 * money.getAmount()), money.getMoneyUnit());
+        return money.round();
     }
 
     /**
@@ -177,4 +182,41 @@ public class BankingRole extends Role<BankingRole>
         return (BankingActor) super.getActor();
     }
 
+    /**
+     * Write the banking role, with the account holder, amount and money unit of each bank account.
+     * @param out the stream to write the banking role to
+     * @throws IOException on I/O error
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        out.writeInt(this.bankAccounts.size());
+        for (Map.Entry<FinancingActor, Money> entry : this.bankAccounts.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeDouble(entry.getValue().getAmount());
+            out.writeObject(entry.getValue().getMoneyUnit());
+        }
+    }
+
+    /**
+     * Read the banking role, and rebuild the bank accounts.
+     * @param in the stream to read the banking role from
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of an account holder cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        int n = in.readInt();
+        Throw.when(n < 0, IOException.class, "negative number of bank accounts in stream");
+        this.bankAccounts = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++)
+        {
+            FinancingActor actor = (FinancingActor) in.readObject();
+            double amount = in.readDouble();
+            this.bankAccounts.put(actor, new Money(amount, (MoneyUnit) in.readObject()));
+        }
+    }
+
 }
@@ -3,12 +3,15 @@ package nl.tudelft.simulation.supplychain.role.banking.handler;
 import org.djutils.logger.CategoryLogger;
 
 import nl.tudelft.simulation.supplychain.content.BankTransfer;
+import nl.tudelft.simulation.supplychain.content.InterbankTransfer;
 import nl.tudelft.simulation.supplychain.handler.ContentHandler;
 import nl.tudelft.simulation.supplychain.role.banking.BankingActor;
 import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
 
 /**
- * The BankTransferHandler is a simple implementation of the business logic for a BankTransfer that comes in.
+ * The BankTransferHandler is a simple implementation of the business logic for a BankTransfer that comes in. The money is
+ * withdrawn from the account of the sender. When the payee has an account at the same bank, the money is added to it directly;
+ * otherwise, an InterbankTransfer is sent to the bank of the payee after the handling time of this handler.
  * <p>
  * Copyright (c) 2003-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
@@ -42,9 +45,19 @@ public class BankTransferHandler extends ContentHandler<BankTransfer, BankingRol
             return false;
         }
 
-        // Note that sender and payee can each have different banks.
+        // Note that sender and payee can each have different banks; another bank is only reached through content, since it
+        // can be simulated by another logical process of a partitioned simulator.
         getRole().withdrawFromBalance(bankTransfer.sender(), bankTransfer.money());
-        bankTransfer.payee().getFinancingRole().getBank().addToBalance(bankTransfer.payee(), bankTransfer.money());
+        BankingRole payeeBank = bankTransfer.payee().getFinancingRole().getBank();
+        if (getRole().equals(payeeBank))
+        {
+            getRole().addToBalance(bankTransfer.payee(), bankTransfer.money());
+        }
+        else
+        {
+            sendContent(new InterbankTransfer(getRole().getActor(), payeeBank.getActor(), bankTransfer.payee(),
+                    bankTransfer.money()), getHandlingTime().draw());
+        }
         return true;
     }
 
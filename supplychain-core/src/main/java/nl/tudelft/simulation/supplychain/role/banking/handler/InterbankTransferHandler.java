@@ -0,0 +1,49 @@
+package nl.tudelft.simulation.supplychain.role.banking.handler;
+
+import org.djutils.logger.CategoryLogger;
+
+import nl.tudelft.simulation.supplychain.content.InterbankTransfer;
+import nl.tudelft.simulation.supplychain.handler.ContentHandler;
+import nl.tudelft.simulation.supplychain.role.banking.BankingActor;
+import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
+
+/**
+ * The InterbankTransferHandler adds the money of an InterbankTransfer from another bank to the account of the payee. Every bank
+ * that has payees with a payer at another bank needs this handler next to its BankTransferHandler.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class InterbankTransferHandler extends ContentHandler<InterbankTransfer, BankingRole>
+{
+    /** the serial version uid. */
+    private static final long serialVersionUID = 20250301L;
+
+    /**
+     * Constructs a new InterbankTransferHandler.
+     * @param owner the owner of the handler.
+     */
+    public InterbankTransferHandler(final BankingActor owner)
+    {
+        super("InterbankTransferHandler", owner.getBankingRole(), InterbankTransfer.class);
+    }
+
+    @Override
+    public boolean handleContent(final InterbankTransfer interbankTransfer)
+    {
+        if (!isValidContent(interbankTransfer))
+        {
+            return false;
+        }
+        if (!getRole().equals(interbankTransfer.payee().getFinancingRole().getBank()))
+        {
+            CategoryLogger.always().warn("Interbank transfer, but bank != payee's bank");
+            return false;
+        }
+        getRole().addToBalance(interbankTransfer.payee(), interbankTransfer.money());
+        return true;
+    }
+
+}
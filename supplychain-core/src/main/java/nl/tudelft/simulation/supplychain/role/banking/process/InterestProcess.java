@@ -18,6 +18,9 @@ import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
  */
 public class InterestProcess extends AutonomousProcess<BankingRole>
 {
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
     /**
      * Create the autonomous interest process.
      * @param actor the BankingActor to which this process belongs
@@ -26,7 +29,7 @@ public class InterestProcess extends AutonomousProcess<BankingRole>
     {
         super(actor.getBankingRole());
         getRole().addAutonomousProcess(this);
-        actor.getSimulator().scheduleEventNow(this, "interest", null);
+        actor.getSimulator().scheduleEventNow(this::interest);
     }
 
     /**
@@ -48,7 +51,7 @@ public class InterestProcess extends AutonomousProcess<BankingRole>
                         account.getValue().multiplyBy(getRole().getAnnualInterestRatePos() / 365.0));
             }
         }
-        getSimulator().scheduleEventRel(new Duration(1.0, DurationUnit.DAY), this, "interest", null);
+        getSimulator().scheduleEventRel(new Duration(1.0, DurationUnit.DAY), this::interest);
     }
 
 }
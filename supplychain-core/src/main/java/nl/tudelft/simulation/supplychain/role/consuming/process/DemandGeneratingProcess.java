@@ -29,6 +29,9 @@ import nl.tudelft.simulation.supplychain.util.DistConstantDuration;
  */
 public class DemandGeneratingProcess extends AutonomousProcess<ConsumingRole>
 {
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
     /** the product. */
     private Product product;
 
@@ -78,7 +81,7 @@ public class DemandGeneratingProcess extends AutonomousProcess<ConsumingRole>
         Throw.when(this.intervalDistribution == null, IllegalStateException.class,
                 "intervalDistribution has not been initialized");
         getRole().addAutonomousProcess(this);
-        getRole().getSimulator().scheduleEventAbs(this.startTime, this, "generateDemand", null);
+        getRole().getSimulator().scheduleEventAbs(this.startTime, this::generateDemand);
     }
 
     /**
@@ -301,7 +304,7 @@ public class DemandGeneratingProcess extends AutonomousProcess<ConsumingRole>
             this.numberGenerations++;
             if (this.numberGenerations < this.maxNumberGenerations && getSimulatorTime().lt(this.stopTime))
             {
-                getSimulator().scheduleEventRel(this.intervalDistribution.draw(), this, "generateDemand", null);
+                getSimulator().scheduleEventRel(this.intervalDistribution.draw(), this::generateDemand);
             }
 
             // we might collect some statistics for the demand
@@ -85,7 +85,7 @@ public class InvoiceHandler extends ContentHandler<Invoice, FinancingRole>
         }
         // check if payment is still possible, if it already should have taken place, schedule it immediately.
         paymentTime = Time.max(paymentTime, currentTime);
-        getSimulator().scheduleEventAbs(paymentTime, this, "pay", new Object[] {invoice});
+        getSimulator().scheduleEventAbs(paymentTime, this::pay, invoice);
         return true;
     }
 
@@ -78,7 +78,7 @@ public class TransportInvoiceHandler extends ContentHandler<TransportInvoice, Fi
         }
         // check if payment is still possible, if it already should have taken place, schedule it immediately.
         paymentTime = Time.max(paymentTime, currentTime);
-        getSimulator().scheduleEventAbs(paymentTime, this, "pay", new Object[] {invoice});
+        getSimulator().scheduleEventAbs(paymentTime, this::pay, invoice);
         return true;
     }
 
@@ -21,6 +21,9 @@ import nl.tudelft.simulation.supplychain.role.financing.FinancingRole;
  */
 public class FixedCostProcess extends AutonomousProcess<FinancingRole>
 {
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
     /** the description of the type of fixed cost. */
     private String description;
 
@@ -59,7 +62,7 @@ public class FixedCostProcess extends AutonomousProcess<FinancingRole>
      */
     private void schedule()
     {
-        this.fixedAmountEvent = getSimulator().scheduleEventRel(this.interval, this, "bookFixedCost", null);
+        this.fixedAmountEvent = getSimulator().scheduleEventRel(this.interval, this::bookFixedCost);
     }
 
     /**
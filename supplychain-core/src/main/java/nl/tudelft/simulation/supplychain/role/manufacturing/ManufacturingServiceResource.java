@@ -1,6 +1,5 @@
 package nl.tudelft.simulation.supplychain.role.manufacturing;
 
-import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -96,11 +95,12 @@ public class ManufacturingServiceResource extends ManufacturingService
             availableMaterials.put(raw, Double.valueOf(amount));
         }
         // don't do anyting before production has to start
-        Serializable[] args = new Serializable[] {productionOrder, ptime, availableMaterials};
+        Duration productionDuration = ptime;
         try
         {
             System.out.println("DelayProduction: production started for product: " + productionOrder.product());
-            getOwner().getSimulator().scheduleEventAbs(startTime, this, "startProduction", args);
+            getOwner().getSimulator().scheduleEventAbs(startTime,
+                    () -> startProduction(productionOrder, productionDuration, availableMaterials));
         }
         catch (Exception e)
         {
@@ -161,10 +161,9 @@ public class ManufacturingServiceResource extends ManufacturingService
         {
             pickRawMaterials(productionOrder, availableMaterials, true);
             // wait for the production time to put the final products together
-            Serializable[] args = new Serializable[] {productionOrder};
             try
             {
-                getOwner().getSimulator().scheduleEventRel(prodctionDuration, this, "endProduction", args);
+                getOwner().getSimulator().scheduleEventRel(prodctionDuration, this::endProduction, productionOrder);
             }
             catch (Exception e)
             {
@@ -178,10 +177,10 @@ public class ManufacturingServiceResource extends ManufacturingService
                 pickRawMaterials(productionOrder, availableMaterials, true);
             }
             // try again in one day
-            Serializable[] args = new Serializable[] {productionOrder, prodctionDuration, availableMaterials};
             try
             {
-                getOwner().getSimulator().scheduleEventRel(new Duration(1.0, DurationUnit.DAY), this, "startProduction", args);
+                getOwner().getSimulator().scheduleEventRel(new Duration(1.0, DurationUnit.DAY),
+                        () -> startProduction(productionOrder, prodctionDuration, availableMaterials));
             }
             catch (Exception e)
             {
@@ -82,11 +82,9 @@ public class QuoteHandlerTimeout extends QuoteHandler
             try
             {
                 this.unansweredIDs.add(demandId);
-                Serializable[] args = new Serializable[] {demandId};
-
                 // calculate the actual time out
                 Time time = Time.max(getSimulatorTime(), quote.rfq().cutoffDate());
-                getSimulator().scheduleEventAbs(time, this, "createOrder", args);
+                getSimulator().scheduleEventAbs(time, () -> createOrder(demandId));
             }
             catch (Exception exception)
             {
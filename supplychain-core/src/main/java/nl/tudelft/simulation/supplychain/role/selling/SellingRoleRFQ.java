@@ -1,5 +1,6 @@
 package nl.tudelft.simulation.supplychain.role.selling;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -63,7 +64,7 @@ public class SellingRoleRFQ extends SellingRole
     {
         var quoteData = new QuoteData(iq.inventoryQuoteRequest().rfq(), iq, new ArrayList<>(), new ArrayList<>(), cutoffDate);
         this.quoteDataMap.put(quoteData.rfq, quoteData);
-        getSimulator().scheduleEventAbs(cutoffDate, this, "checkTransportQuotes", new Object[] {quoteData});
+        getSimulator().scheduleEventAbs(cutoffDate, this::checkTransportQuotes, quoteData);
     }
 
     /**
@@ -216,6 +217,7 @@ public class SellingRoleRFQ extends SellingRole
      */
     public record QuoteData(RequestForQuote rfq, InventoryQuote inventoryQuote,
             List<TransportQuoteRequest> transportQuoteRequestList, List<TransportQuote> transportQuoteList, Time cutoffDate)
+            implements Serializable
     {
     }
 }
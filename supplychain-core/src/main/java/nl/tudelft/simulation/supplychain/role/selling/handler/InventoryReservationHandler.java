@@ -51,7 +51,7 @@ public class InventoryReservationHandler extends ContentHandler<InventoryReserva
         var releaseTime = order.deliveryDate()
                 .minus(order.transportQuote().transportOption().estimatedTotalTransportDuration(ir.product().getSku()));
         releaseTime = Time.max(getSimulatorTime(), releaseTime);
-        getSimulator().scheduleEventAbs(releaseTime, this, "releaseInventory", new Object[] {ir});
+        getSimulator().scheduleEventAbs(releaseTime, this::releaseInventory, ir);
         return true;
     }
 
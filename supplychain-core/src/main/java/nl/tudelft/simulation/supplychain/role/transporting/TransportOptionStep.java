@@ -11,6 +11,7 @@ import org.djutils.exceptions.Throw;
 import nl.tudelft.simulation.supplychain.actor.NamedLocation;
 import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
 import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
 import nl.tudelft.simulation.supplychain.product.Sku;
 
 /**
@@ -118,9 +119,16 @@ public class TransportOptionStep implements Identifiable, Serializable
      */
     public Money getEstimatedTransportCost(final Sku sku)
     {
-        return this.transportingRole.getEstimatedLoadingCost(sku)
-                .plus(this.transportingRole.getEstimatedUnloadingCost(sku).plus(this.transportingRole
-                        .getEstimatedTransportCostPerKm(sku).multiplyBy(getTransportDistance().si / 1000.0)));
+        // the cost per SKU can be a fraction of a cent, so it is calculated in double precision with a single allocation
+        Money loadingCost = this.transportingRole.getEstimatedLoadingCost(sku);
+        Money unloadingCost = this.transportingRole.getEstimatedUnloadingCost(sku);
+        Money costPerKm = this.transportingRole.getEstimatedTransportCostPerKm(sku);
+        MoneyUnit moneyUnit = loadingCost.getMoneyUnit();
+        Throw.when(unloadingCost.getMoneyUnit().getOrdinal() != moneyUnit.getOrdinal()
+                || costPerKm.getMoneyUnit().getOrdinal() != moneyUnit.getOrdinal(), IllegalArgumentException.class,
+                "unequal money units");
+        return new Money(loadingCost.getAmount()
+                + (unloadingCost.getAmount() + costPerKm.getAmount() * (getTransportDistance().si / 1000.0)), moneyUnit);
     }
 
     /**
@@ -1,5 +1,6 @@
 package nl.tudelft.simulation.supplychain.role.transporting;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -14,6 +15,7 @@ import java.util.List;
  * @param importance the relative importance of cost or time
  */
 public record TransportPreference(List<TransportMode> preferredTransportModes, CostTimeImportance importance)
+        implements Serializable
 {
     /** The importance of cost versus speed. */
     public enum CostTimeImportance
@@ -14,6 +14,7 @@ import nl.tudelft.simulation.supplychain.content.TransportQuote;
 import nl.tudelft.simulation.supplychain.content.TransportQuoteRequest;
 import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
 import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyAccumulator;
 import nl.tudelft.simulation.supplychain.money.MoneyUnit;
 import nl.tudelft.simulation.supplychain.product.Sku;
 
@@ -84,7 +85,8 @@ public class TransportingRole extends Role<TransportingRole>
             var transportOptionStep = new TransportOptionStep(transportOption.getId(), from, to, TransportMode.TRUCK, this);
             transportOption.addTransportStep(transportOptionStep);
             double profitMargin = getActor().getDirectingRoleTransporting().getProfitMargin(TransportMode.TRUCK);
-            Money price = transportOptionStep.getEstimatedTransportCost(sku).multiplyBy(tqr.amount() * (1.0 + profitMargin));
+            Money price = transportOptionStep.getEstimatedTransportCost(sku).multiplyBy(tqr.amount() * (1.0 + profitMargin))
+                    .round();
             var transportQuote = new TransportQuote(tqr, transportOption, price);
             tql.add(transportQuote);
         }
@@ -108,26 +110,25 @@ public class TransportingRole extends Role<TransportingRole>
                             transferLocationFrom.namedLocation(), TransportMode.TRUCK, this);
                     transportOption.addTransportStep(transportOptionStep1);
                     double profitMargin = getActor().getDirectingRoleTransporting().getProfitMargin(TransportMode.TRUCK);
-                    Money price =
-                            transportOptionStep1.getEstimatedTransportCost(sku).multiplyBy(tqr.amount() * (1.0 + profitMargin));
+                    Money stepCost = transportOptionStep1.getEstimatedTransportCost(sku);
+                    MoneyAccumulator price = new MoneyAccumulator(stepCost.getMoneyUnit());
+                    price.addProduct(stepCost, tqr.amount() * (1.0 + profitMargin));
 
                     // long distance transport between transfer points
                     var transportOptionStep2 = new TransportOptionStep(transportOption.getId(),
                             transferLocationFrom.namedLocation(), transferLocationTo.namedLocation(), mode, this);
                     transportOption.addTransportStep(transportOptionStep2);
                     profitMargin = getActor().getDirectingRoleTransporting().getProfitMargin(mode);
-                    price = price.plus(transportOptionStep2.getEstimatedTransportCost(sku)
-                            .multiplyBy(tqr.amount() * (1.0 + profitMargin)));
+                    price.addProduct(transportOptionStep2.getEstimatedTransportCost(sku), tqr.amount() * (1.0 + profitMargin));
 
                     // truck from transfer point to buyer
                     var transportOptionStep3 = new TransportOptionStep(transportOption.getId(),
                             transferLocationTo.namedLocation(), to, TransportMode.TRUCK, this);
                     transportOption.addTransportStep(transportOptionStep3);
                     profitMargin = getActor().getDirectingRoleTransporting().getProfitMargin(TransportMode.TRUCK);
-                    price = price.plus(transportOptionStep3.getEstimatedTransportCost(sku)
-                            .multiplyBy(tqr.amount() * (1.0 + profitMargin)));
+                    price.addProduct(transportOptionStep3.getEstimatedTransportCost(sku), tqr.amount() * (1.0 + profitMargin));
 
-                    var transportQuote = new TransportQuote(tqr, transportOption, price);
+                    var transportQuote = new TransportQuote(tqr, transportOption, price.toMoney());
                     tql.add(transportQuote);
                 }
             }
@@ -45,7 +45,7 @@ public class TransportOrderHandler extends ContentHandler<TransportOrder, Transp
         sendContent(tc, getHandlingTime().draw());
 
         // start the delivery process
-        getSimulator().scheduleEventNow(this, "executeTransportStep", new Object[] {transportOrder, 0});
+        getSimulator().scheduleEventNow(() -> executeTransportStep(transportOrder, 0));
         return true;
     }
 
@@ -73,7 +73,7 @@ public class TransportOrderHandler extends ContentHandler<TransportOrder, Transp
         var sku = shipment.getProduct().getSku();
         shipment.setTransit(ts.getOrigin(), ts.getDestination());
         Duration transportTime = ts.getEstimatedTransportDuration(sku);
-        getSimulator().scheduleEventRel(transportTime, this, "executeTransportStep", new Object[] {transportOrder, step + 1});
+        getSimulator().scheduleEventRel(transportTime, () -> executeTransportStep(transportOrder, step + 1));
     }
 
 }
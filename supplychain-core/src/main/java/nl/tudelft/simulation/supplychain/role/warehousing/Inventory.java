@@ -1,11 +1,18 @@
 package nl.tudelft.simulation.supplychain.role.warehousing;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
 import org.djunits.value.vdouble.scalar.Time;
 import org.djutils.event.EventProducer;
 import org.djutils.event.EventType;
@@ -14,16 +21,40 @@ import org.djutils.event.TimedEvent;
 import org.djutils.exceptions.Throw;
 import org.djutils.metadata.MetaData;
 import org.djutils.metadata.ObjectDescriptor;
+import org.pmw.tinylog.Logger;
 
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
 import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
 import nl.tudelft.simulation.supplychain.product.Product;
 import nl.tudelft.simulation.supplychain.product.ProductAmount;
 import nl.tudelft.simulation.supplychain.product.Shipment;
 
 /**
- * Simple implementation of Inventory for a Trader. The information on inventoryed amounts is stored in a HashTable of
- * InventoryRecords. Events on inventory changes are fired by Inventory, so subscribers who are interested in the inventory
- * amounts can see what is going on in the Inventory.
+ * Simple implementation of Inventory for a Trader. Each product in the inventory gets a dense index, in the order in which the
+ * products are first used, which is found from the index of the product in the model with an array lookup. The actual, reserved
+ * and ordered amounts, the monetary value and the depreciation of the products are stored in parallel primitive arrays that are
+ * indexed by the product index. Changing the amounts and values therefore does not allocate objects, and bulk queries such as
+ * the products that are below their reorder point scan the arrays instead of a map of records. The InventoryRecord is a view on
+ * the arrays for one product. Events on inventory changes are fired by Inventory, so subscribers who are interested in the
+ * inventory amounts can see what is going on in the Inventory.
+ * <p>
+ * By default, an INVENTORY_CHANGE_EVENT is fired for every change. In the COALESCED event mode, a change only marks the product
+ * as changed, and an event with the lowest priority at the current simulator time publishes one INVENTORY_CHANGE_EVENT per
+ * changed product with its final amounts, followed by one INVENTORY_BATCH_CHANGE_EVENT with all changed products. A
+ * reservation, release and entry of the same product in one instant thereby reach the listeners as a single change.
+ * </p>
+ * <p>
+ * The value of a product depreciates with its daily depreciation factor at the end of every full day since the depreciation of
+ * the product started. The depreciation is not carried out by events per product, but computed when the value is used, from
+ * the number of days since the last valuation as <i>value</i> &times; (1 - <i>d</i>)<sup><i>days</i></sup>. The depreciation
+ * cost is collected, and withdrawn from the bank account of the owner in one posting per posting interval for the whole
+ * inventory. Products without depreciation do not cause any events or computations.
+ * </p>
+ * <p>
+ * When the inventory is serialized, e.g., for a checkpoint, only the used part of the arrays is written, one product at a
+ * time, and the index of the products in the model is rebuilt when the inventory is read back.
+ * </p>
  * <p>
  * Copyright (c) 2003-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
@@ -33,17 +64,97 @@ import nl.tudelft.simulation.supplychain.product.Shipment;
 public class Inventory extends LocalEventProducer implements Serializable, EventProducer
 {
     /** the serial version uid. */
-    private static final long serialVersionUID = 20221210L;
+    private static final long serialVersionUID = 20250301L;
 
     /** An event to indicate inventory levels changed. */
     public static final EventType INVENTORY_CHANGE_EVENT = new EventType("INVENTORY_CHANGE_EVENT", new MetaData("stock_update",
             "stock update", new ObjectDescriptor("stock update", "stock update", InventoryUpdateData.class)));
 
+    /** An event with the changes of all products that changed in one simulator instant, in the COALESCED event mode. */
+    public static final EventType INVENTORY_BATCH_CHANGE_EVENT = new EventType("INVENTORY_BATCH_CHANGE_EVENT",
+            new MetaData("stock_batch_update", "stock batch update",
+                    new ObjectDescriptor("stock updates", "list of stock updates", List.class)));
+
+    /** the initial capacity of the product arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
     /** the InventoryRole of the owner. */
     private final WarehousingRole warehousingRole;
 
-    /** record keeping of the inventory. */
-    private Map<Product, InventoryRecord> inventoryRecords = new LinkedHashMap<Product, InventoryRecord>();
+    /** the money unit of the monetary values in the inventory. */
+    private final MoneyUnit moneyUnit = MoneyUnit.USD;
+
+    /** the products in the inventory, in the order of their product index. */
+    private transient Set<Product> productSet = new LinkedHashSet<>();
+
+    /** the product index plus one, by index of the product in the model; 0 when the product is not in the inventory. */
+    private transient int[] productSlots = new int[INITIAL_CAPACITY];
+
+    /** the number of products in the inventory. */
+    private int size = 0;
+
+    /** the products, by product index. */
+    private transient Product[] products = new Product[INITIAL_CAPACITY];
+
+    /** the amount currently on inventory, by product index. */
+    private transient double[] actualAmounts = new double[INITIAL_CAPACITY];
+
+    /** the amount that is reserved by orders, but not yet taken, by product index. */
+    private transient double[] reservedAmounts = new double[INITIAL_CAPACITY];
+
+    /** the amount that has been ordered, but not yet delivered, by product index. */
+    private transient double[] orderedAmounts = new double[INITIAL_CAPACITY];
+
+    /** the total monetary value of the amount of the product in inventory in minor units, by product index. */
+    private transient long[] monetaryValues = new long[INITIAL_CAPACITY];
+
+    /** the depreciation factor per day, by product index. */
+    private transient double[] dailyDepreciations = new double[INITIAL_CAPACITY];
+
+    /** whether the value of a product depreciates, by product index. */
+    private transient boolean[] depreciating = new boolean[INITIAL_CAPACITY];
+
+    /** the simulator time in days at which the depreciation of a product started, by product index. */
+    private transient double[] depreciationStartDays = new double[INITIAL_CAPACITY];
+
+    /** the number of days of depreciation that have been applied to the value of a product, by product index. */
+    private transient long[] depreciatedDays = new long[INITIAL_CAPACITY];
+
+    /** the indexes of the products of which the value depreciates. */
+    private transient int[] depreciatingIndexes = new int[INITIAL_CAPACITY];
+
+    /** the number of products of which the value depreciates. */
+    private int numberDepreciating = 0;
+
+    /** the depreciation cost in minor units that has not been posted yet. */
+    private long pendingDepreciation = 0L;
+
+    /** the depreciation cost in minor units that has been posted. */
+    private long postedDepreciation = 0L;
+
+    /** the interval at which the depreciation cost is withdrawn from the bank account of the owner. */
+    private Duration depreciationPostingInterval = new Duration(1.0, DurationUnit.DAY);
+
+    /** whether the posting of the depreciation cost has been scheduled. */
+    private boolean depreciationPostingScheduled = false;
+
+    /** the reorder point of the virtual amount, by product index; negative infinity when no reorder point has been set. */
+    private transient double[] reorderPoints = new double[INITIAL_CAPACITY];
+
+    /** the way in which changes of the inventory are published. */
+    private InventoryEventMode eventMode = InventoryEventMode.IMMEDIATE;
+
+    /** whether a product has changed since the last publication, by product index, in the COALESCED event mode. */
+    private transient boolean[] changed = new boolean[INITIAL_CAPACITY];
+
+    /** the indexes of the changed products, in the order of their first change since the last publication. */
+    private transient int[] changedIndexes = new int[INITIAL_CAPACITY];
+
+    /** the number of changed products since the last publication. */
+    private int numberChanged = 0;
+
+    /** whether the publication of the changed products has been scheduled. */
+    private boolean publicationScheduled = false;
 
     /**
      * Create a new Inventory for an actor.
@@ -72,22 +183,91 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
         }
     }
 
+    /**
+     * Return the index of a product, and add the product to the inventory with zero amounts if it is not there yet. Adding a
+     * product with a depreciation starts its daily depreciation.
+     * @param product the product to look up
+     * @return the new or existing index of the product
+     */
+    protected int retrieveProductIndex(final Product product)
+    {
+        Throw.whenNull(product, "product cannot be null");
+        int index = getProductIndex(product);
+        if (index >= 0)
+        {
+            return index;
+        }
+        if (this.size == this.products.length)
+        {
+            grow();
+        }
+        int modelIndex = product.getIndex();
+        if (modelIndex >= this.productSlots.length)
+        {
+            this.productSlots = Arrays.copyOf(this.productSlots, Math.max(modelIndex + 1, 2 * this.productSlots.length));
+        }
+        int newIndex = this.size++;
+        this.productSlots[modelIndex] = newIndex + 1;
+        this.productSet.add(product);
+        this.products[newIndex] = product;
+        this.reorderPoints[newIndex] = Double.NEGATIVE_INFINITY;
+        setDailyDepreciation(newIndex, product.getDepreciation());
+        return newIndex;
+    }
+
+    /**
+     * Double the capacity of the product arrays.
+     */
+    private void grow()
+    {
+        int capacity = 2 * this.products.length;
+        this.products = Arrays.copyOf(this.products, capacity);
+        this.actualAmounts = Arrays.copyOf(this.actualAmounts, capacity);
+        this.reservedAmounts = Arrays.copyOf(this.reservedAmounts, capacity);
+        this.orderedAmounts = Arrays.copyOf(this.orderedAmounts, capacity);
+        this.monetaryValues = Arrays.copyOf(this.monetaryValues, capacity);
+        this.dailyDepreciations = Arrays.copyOf(this.dailyDepreciations, capacity);
+        this.depreciating = Arrays.copyOf(this.depreciating, capacity);
+        this.depreciationStartDays = Arrays.copyOf(this.depreciationStartDays, capacity);
+        this.depreciatedDays = Arrays.copyOf(this.depreciatedDays, capacity);
+        this.depreciatingIndexes = Arrays.copyOf(this.depreciatingIndexes, capacity);
+        this.reorderPoints = Arrays.copyOf(this.reorderPoints, capacity);
+        this.changed = Arrays.copyOf(this.changed, capacity);
+        this.changedIndexes = Arrays.copyOf(this.changedIndexes, capacity);
+    }
+
     /**
      * Check if a record for the product is there, and make it if not.
      * @param product the product to check
-     * @return the new or existing inventory record
+     * @return a view on the new or existing inventory data of the product
      */
     protected InventoryRecord retrieveInventoryRecord(final Product product)
     {
-        InventoryRecord inventoryRecord = this.inventoryRecords.get(product);
-        if (inventoryRecord == null)
-        {
-            inventoryRecord = new InventoryRecord(getActor(), this.warehousingRole.getSimulator(), product);
-            this.inventoryRecords.put(product, inventoryRecord);
-        }
-        return inventoryRecord;
+        return new InventoryRecord(this, retrieveProductIndex(product));
+    }
+
+    /**
+     * Return the index of a product in the inventory.
+     * @param product the product
+     * @return the index of the product, or -1 when the product is not in the inventory
+     */
+    public int getProductIndex(final Product product)
+    {
+        int modelIndex = product.getIndex();
+        return modelIndex < this.productSlots.length ? this.productSlots[modelIndex] - 1 : -1;
     }
-    
+
+    /**
+     * Return the product with a product index.
+     * @param index the product index
+     * @return the product with the product index
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    public Product getProduct(final int index)
+    {
+        return this.products[Objects.checkIndex(index, this.size)];
+    }
+
     /**
      * Add products to the inventory.
      * @param product the product
@@ -96,9 +276,10 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void addToInventory(final Product product, final double amount, final Money totalPrice)
     {
-        var inventoryRecord = retrieveInventoryRecord(product);
-        inventoryRecord.addActualAmount(amount, totalPrice.divideBy(amount));
-        this.sendInventoryUpdateEvent(inventoryRecord);
+        int index = retrieveProductIndex(product);
+        addActualAmount(index, amount, totalPrice.divideBy(amount));
+        this.warehousingRole.checkInventory(product);
+        sendInventoryUpdateEvent(index);
     }
 
     /**
@@ -107,11 +288,12 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void addToInventory(final Shipment shipment)
     {
-        var inventoryRecord = retrieveInventoryRecord(shipment.getProduct());
-        inventoryRecord.addActualAmount(shipment.getAmount(), shipment.getTotalCargoValue().divideBy(shipment.getAmount()));
-        this.sendInventoryUpdateEvent(inventoryRecord);
+        int index = retrieveProductIndex(shipment.getProduct());
+        addActualAmount(index, shipment.getAmount(), shipment.getTotalCargoValue().divideBy(shipment.getAmount()));
+        this.warehousingRole.checkInventory(shipment.getProduct());
+        sendInventoryUpdateEvent(index);
     }
-    
+
     /**
      * Reserve a certain amount of product in inventory.
      * @param product the product
@@ -119,10 +301,10 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void reserveAmount(final Product product, final double reservedDelta)
     {
-        var inventoryRecord = retrieveInventoryRecord(product);
-        inventoryRecord.reserveAmount(reservedDelta);
+        int index = retrieveProductIndex(product);
+        reserveAmount(index, reservedDelta);
         this.warehousingRole.checkInventory(product);
-        this.sendInventoryUpdateEvent(inventoryRecord);
+        sendInventoryUpdateEvent(index);
     }
 
     /**
@@ -132,9 +314,10 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void releaseReservedAmount(final Product product, final double releasedDelta)
     {
-        var inventoryRecord = retrieveInventoryRecord(product);
-        inventoryRecord.releaseReservedAmount(releasedDelta);
-        this.sendInventoryUpdateEvent(inventoryRecord);
+        int index = retrieveProductIndex(product);
+        releaseReservedAmount(index, releasedDelta);
+        this.warehousingRole.checkInventory(product);
+        sendInventoryUpdateEvent(index);
     }
 
     /**
@@ -144,10 +327,10 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void orderedAmount(final Product product, final double orderedDelta)
     {
-        var inventoryRecord = retrieveInventoryRecord(product);
-        inventoryRecord.orderAmount(orderedDelta);
+        int index = retrieveProductIndex(product);
+        orderAmount(index, orderedDelta);
         this.warehousingRole.checkInventory(product);
-        this.sendInventoryUpdateEvent(inventoryRecord);
+        sendInventoryUpdateEvent(index);
     }
 
     /**
@@ -158,10 +341,202 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void enterOrderedAmount(final Product product, final double enteredDelta, final Money unitPrice)
     {
-        var inventoryRecord = retrieveInventoryRecord(product);
-        inventoryRecord.enterOrderedAmount(enteredDelta, unitPrice);
+        int index = retrieveProductIndex(product);
+        enterOrderedAmount(index, enteredDelta, unitPrice);
         this.warehousingRole.checkInventory(product);
-        this.sendInventoryUpdateEvent(inventoryRecord);
+        sendInventoryUpdateEvent(index);
+    }
+
+    /**
+     * Change the actual amount of a product with a delta (positive or negative), without firing an event.
+     * @param index the product index
+     * @param actualDelta the amount that will be added to the total actual amount
+     * @param unitPrice the unit price of the products; has to be positive
+     */
+    void addActualAmount(final int index, final double actualDelta, final Money unitPrice)
+    {
+        checkUnit(unitPrice);
+        valuate(index);
+        this.actualAmounts[index] += actualDelta;
+        this.monetaryValues[index] += this.moneyUnit.toMinorUnits(unitPrice.getAmount() * actualDelta);
+    }
+
+    /**
+     * Reserve a certain amount of a product, without firing an event.
+     * @param index the product index
+     * @param reservedDelta the reserved amount that will be added to the total reserved amount
+     */
+    void reserveAmount(final int index, final double reservedDelta)
+    {
+        this.reservedAmounts[index] += reservedDelta;
+    }
+
+    /**
+     * Release a certain amount of reserved product, and take it out of the inventory, without firing an event. The monetary
+     * value decreases proportionally with the actual amount.
+     * @param index the product index
+     * @param releasedDelta the released amount of previously reserved product
+     */
+    void releaseReservedAmount(final int index, final double releasedDelta)
+    {
+        valuate(index);
+        double actualAmount = this.actualAmounts[index];
+        if (actualAmount > 0.0)
+        {
+            this.monetaryValues[index] = MoneyUnit.multiply(this.monetaryValues[index], 1.0 - releasedDelta / actualAmount);
+        }
+        else
+        {
+            Money unitMarketPrice = this.products[index].getUnitMarketPrice();
+            checkUnit(unitMarketPrice);
+            this.monetaryValues[index] -= this.moneyUnit.toMinorUnits(unitMarketPrice.getAmount() * releasedDelta);
+        }
+        this.reservedAmounts[index] -= releasedDelta;
+        this.actualAmounts[index] = actualAmount - releasedDelta;
+    }
+
+    /**
+     * Indicate that a certain amount of a product has been ordered, without firing an event.
+     * @param index the product index
+     * @param orderedDelta the ordered amount that will be added to the total ordered amount
+     */
+    void orderAmount(final int index, final double orderedDelta)
+    {
+        this.orderedAmounts[index] += orderedDelta;
+    }
+
+    /**
+     * Indicate that a certain amount of ordered product has been delivered, without firing an event.
+     * @param index the product index
+     * @param enteredDelta the amount that will be added the actual amount and subtracted from the ordered amount
+     * @param unitPrice the unit price of the products; has to be positive
+     */
+    void enterOrderedAmount(final int index, final double enteredDelta, final Money unitPrice)
+    {
+        this.orderedAmounts[index] -= enteredDelta;
+        addActualAmount(index, enteredDelta, unitPrice);
+    }
+
+    /**
+     * Check that a monetary value has the money unit of the inventory.
+     * @param money the monetary value
+     * @throws IllegalArgumentException when the money unit differs
+     */
+    private void checkUnit(final Money money)
+    {
+        Throw.when(money.getMoneyUnit().getOrdinal() != this.moneyUnit.getOrdinal(), IllegalArgumentException.class,
+                "unequal money units");
+    }
+
+    /**
+     * Return the current simulator time in days.
+     * @return the current simulator time in days
+     */
+    private double currentDay()
+    {
+        return this.warehousingRole.getSimulator().getSimulatorTime().si / 86400.0;
+    }
+
+    /**
+     * Bring the value of a product up to date with the full days of depreciation that have passed since its last valuation,
+     * and add the decrease of the value to the depreciation cost that has not been posted yet.
+     * @param index the product index
+     */
+    private void valuate(final int index)
+    {
+        if (!this.depreciating[index])
+        {
+            return;
+        }
+        // the small tolerance makes sure that a valuation at the end of a day counts that day
+        long days = (long) Math.floor(currentDay() - this.depreciationStartDays[index] + 1.0E-9);
+        long newDays = days - this.depreciatedDays[index];
+        if (newDays > 0)
+        {
+            long value = this.monetaryValues[index];
+            long depreciatedValue = MoneyUnit.multiply(value, Math.pow(1.0 - this.dailyDepreciations[index], newDays));
+            this.monetaryValues[index] = depreciatedValue;
+            this.pendingDepreciation += value - depreciatedValue;
+            this.depreciatedDays[index] = days;
+        }
+    }
+
+    /**
+     * Bring the values of all depreciating products up to date, withdraw the depreciation cost since the last posting from the
+     * bank account of the owner in one amount, and schedule the next posting.
+     */
+    protected void postDepreciation()
+    {
+        this.depreciationPostingScheduled = false;
+        for (int i = 0; i < this.numberDepreciating; i++)
+        {
+            valuate(this.depreciatingIndexes[i]);
+        }
+        try
+        {
+            if (this.pendingDepreciation != 0L)
+            {
+                Money cost = Money.ofMinorUnits(this.pendingDepreciation, this.moneyUnit);
+                this.postedDepreciation += this.pendingDepreciation;
+                this.pendingDepreciation = 0L;
+                getActor().getFinancingRole().getBank().withdrawFromBalance(getActor(), cost);
+            }
+        }
+        catch (Exception exception)
+        {
+            Logger.error(exception, "postDepreciation");
+        }
+        scheduleDepreciationPosting();
+    }
+
+    /**
+     * Schedule the next posting of the depreciation cost, when it has not been scheduled yet.
+     */
+    private void scheduleDepreciationPosting()
+    {
+        if (!this.depreciationPostingScheduled)
+        {
+            this.depreciationPostingScheduled = true;
+            try
+            {
+                this.warehousingRole.getSimulator().scheduleEventRel(this.depreciationPostingInterval, this::postDepreciation);
+            }
+            catch (Exception exception)
+            {
+                Logger.error(exception, "scheduleDepreciationPosting");
+            }
+        }
+    }
+
+    /**
+     * Return the depreciation cost that has been withdrawn from the bank account of the owner.
+     * @return the depreciation cost that has been withdrawn from the bank account of the owner
+     */
+    public Money getPostedDepreciation()
+    {
+        return Money.ofMinorUnits(this.postedDepreciation, this.moneyUnit);
+    }
+
+    /**
+     * Return the interval at which the depreciation cost is withdrawn from the bank account of the owner.
+     * @return the interval at which the depreciation cost is withdrawn from the bank account of the owner
+     */
+    public Duration getDepreciationPostingInterval()
+    {
+        return this.depreciationPostingInterval;
+    }
+
+    /**
+     * Set the interval at which the depreciation cost is withdrawn from the bank account of the owner. The new interval is used
+     * after the posting that has already been scheduled.
+     * @param depreciationPostingInterval the interval at which the depreciation cost is withdrawn
+     */
+    public void setDepreciationPostingInterval(final Duration depreciationPostingInterval)
+    {
+        Throw.whenNull(depreciationPostingInterval, "depreciationPostingInterval cannot be null");
+        Throw.when(depreciationPostingInterval.le0(), IllegalArgumentException.class,
+                "depreciationPostingInterval duration cannot be <= 0");
+        this.depreciationPostingInterval = depreciationPostingInterval;
     }
 
     /**
@@ -171,12 +546,19 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public double getActualAmount(final Product product)
     {
-        InventoryRecord inventoryRecord = this.inventoryRecords.get(product);
-        if (inventoryRecord == null)
-        {
-            return 0.0;
-        }
-        return inventoryRecord.getActualAmount();
+        int index = getProductIndex(product);
+        return index < 0 ? 0.0 : this.actualAmounts[index];
+    }
+
+    /**
+     * Get the actual amount of the product with a product index.
+     * @param index the product index
+     * @return double the actual amount
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    public double getActualAmount(final int index)
+    {
+        return this.actualAmounts[Objects.checkIndex(index, this.size)];
     }
 
     /**
@@ -186,12 +568,19 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public double getReservedAmount(final Product product)
     {
-        InventoryRecord inventoryRecord = this.inventoryRecords.get(product);
-        if (inventoryRecord == null)
-        {
-            return 0.0;
-        }
-        return inventoryRecord.getReservedAmount();
+        int index = getProductIndex(product);
+        return index < 0 ? 0.0 : this.reservedAmounts[index];
+    }
+
+    /**
+     * Get the reserved amount of the product with a product index.
+     * @param index the product index
+     * @return double the reserved amount
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    public double getReservedAmount(final int index)
+    {
+        return this.reservedAmounts[Objects.checkIndex(index, this.size)];
     }
 
     /**
@@ -201,12 +590,19 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public double getOrderedAmount(final Product product)
     {
-        InventoryRecord inventoryRecord = this.inventoryRecords.get(product);
-        if (inventoryRecord == null)
-        {
-            return 0.0;
-        }
-        return inventoryRecord.getOrderedAmount();
+        int index = getProductIndex(product);
+        return index < 0 ? 0.0 : this.orderedAmounts[index];
+    }
+
+    /**
+     * Get the ordered amount of the product with a product index.
+     * @param index the product index
+     * @return double the ordered amount
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    public double getOrderedAmount(final int index)
+    {
+        return this.orderedAmounts[Objects.checkIndex(index, this.size)];
     }
 
     /**
@@ -216,12 +612,29 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public double getVirtualAmount(final Product product)
     {
-        InventoryRecord inventoryRecord = this.inventoryRecords.get(product);
-        if (inventoryRecord == null)
-        {
-            return 0.0;
-        }
-        return inventoryRecord.getActualAmount() + inventoryRecord.getOrderedAmount() - inventoryRecord.getReservedAmount();
+        int index = getProductIndex(product);
+        return index < 0 ? 0.0 : virtualAmount(index);
+    }
+
+    /**
+     * Get the virtual amount of the product with a product index, which is available + ordered - reserved.
+     * @param index the product index
+     * @return double the virtual amount
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    public double getVirtualAmount(final int index)
+    {
+        return virtualAmount(Objects.checkIndex(index, this.size));
+    }
+
+    /**
+     * Return the virtual amount of the product with a valid product index.
+     * @param index the product index
+     * @return the virtual amount
+     */
+    private double virtualAmount(final int index)
+    {
+        return this.actualAmounts[index] + this.orderedAmounts[index] - this.reservedAmounts[index];
     }
 
     /**
@@ -231,12 +644,142 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public Money getUnitPrice(final Product product)
     {
-        InventoryRecord inventoryRecord = this.inventoryRecords.get(product);
-        if (inventoryRecord == null)
+        int index = getProductIndex(product);
+        return index < 0 ? product.getUnitMarketPrice() : getUnitMonetaryValue(index);
+    }
+
+    /**
+     * Return the monetary value per unit of the product with a product index, or the unit market price of the product when
+     * there is no product in inventory.
+     * @param index the product index
+     * @return the monetary value per product unit
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    public Money getUnitMonetaryValue(final int index)
+    {
+        valuate(Objects.checkIndex(index, this.size));
+        double actualAmount = this.actualAmounts[index];
+        if (actualAmount > 0.0)
+        {
+            return Money.ofMinorUnits(this.monetaryValues[index], this.moneyUnit).divideBy(actualAmount);
+        }
+        return this.products[index].getUnitMarketPrice();
+    }
+
+    /**
+     * Return the total monetary value of the product with a product index in the inventory.
+     * @param index the product index
+     * @return the total monetary value of the product in the inventory
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    public Money getTotalMonetaryValue(final int index)
+    {
+        valuate(Objects.checkIndex(index, this.size));
+        return Money.ofMinorUnits(this.monetaryValues[index], this.moneyUnit);
+    }
+
+    /**
+     * Return the total monetary value of all products in the inventory.
+     * @return the total monetary value of all products in the inventory
+     */
+    public Money getTotalMonetaryValue()
+    {
+        long total = 0L;
+        for (int index = 0; index < this.size; index++)
+        {
+            valuate(index);
+            total += this.monetaryValues[index];
+        }
+        return Money.ofMinorUnits(total, this.moneyUnit);
+    }
+
+    /**
+     * Set the daily depreciation of a product in the inventory.
+     * @param product the product
+     * @param dailyDepreciation the depreciation factor per day
+     */
+    public void setDailyDepreciation(final Product product, final double dailyDepreciation)
+    {
+        setDailyDepreciation(retrieveProductIndex(product), dailyDepreciation);
+    }
+
+    /**
+     * Set the daily depreciation of the product with a product index. The value is first brought up to date with the old
+     * depreciation. A product that did not depreciate before starts its depreciation at the current time.
+     * @param index the product index
+     * @param dailyDepreciation the depreciation factor per day
+     * @throws IndexOutOfBoundsException when there is no product with the index
+     */
+    void setDailyDepreciation(final int index, final double dailyDepreciation)
+    {
+        valuate(Objects.checkIndex(index, this.size));
+        this.dailyDepreciations[index] = dailyDepreciation;
+        if (dailyDepreciation != 0.0 && !this.depreciating[index])
+        {
+            this.depreciating[index] = true;
+            this.depreciationStartDays[index] = currentDay();
+            this.depreciatedDays[index] = 0L;
+            this.depreciatingIndexes[this.numberDepreciating++] = index;
+            scheduleDepreciationPosting();
+        }
+    }
+
+    /**
+     * Set the reorder point of a product: the product is returned by getProductsBelowReorderPoint when its virtual amount is
+     * below the reorder point.
+     * @param product the product
+     * @param reorderPoint the reorder point of the virtual amount of the product
+     */
+    public void setReorderPoint(final Product product, final double reorderPoint)
+    {
+        Throw.when(Double.isNaN(reorderPoint), IllegalArgumentException.class, "reorderPoint cannot be NaN");
+        this.reorderPoints[retrieveProductIndex(product)] = reorderPoint;
+    }
+
+    /**
+     * Return the reorder point of a product.
+     * @param product the product
+     * @return the reorder point of the product, or negative infinity when no reorder point has been set
+     */
+    public double getReorderPoint(final Product product)
+    {
+        int index = getProductIndex(product);
+        return index < 0 ? Double.NEGATIVE_INFINITY : this.reorderPoints[index];
+    }
+
+    /**
+     * Return the products of which the virtual amount is below their reorder point, in the order of their product index.
+     * @return the products of which the virtual amount is below their reorder point
+     */
+    public List<Product> getProductsBelowReorderPoint()
+    {
+        List<Product> result = new ArrayList<>();
+        for (int index = 0; index < this.size; index++)
+        {
+            if (virtualAmount(index) < this.reorderPoints[index])
+            {
+                result.add(this.products[index]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the products of which the virtual amount is below a level, in the order of their product index.
+     * @param level the level of the virtual amount
+     * @return the products of which the virtual amount is below the level
+     */
+    public List<Product> getProductsBelow(final double level)
+    {
+        List<Product> result = new ArrayList<>();
+        for (int index = 0; index < this.size; index++)
         {
-            return product.getUnitMarketPrice();
+            if (virtualAmount(index) < level)
+            {
+                result.add(this.products[index]);
+            }
         }
-        return inventoryRecord.getUnitMonetaryValue();
+        return result;
     }
 
     /**
@@ -245,10 +788,7 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void sendInventoryUpdateEvent(final InventoryRecord inventoryRecord)
     {
-        InventoryUpdateData data = new InventoryUpdateData(inventoryRecord.getProduct().getName(),
-                inventoryRecord.getActualAmount(), inventoryRecord.getReservedAmount(), inventoryRecord.getOrderedAmount());
-
-        this.fireEvent(new TimedEvent<Time>(INVENTORY_CHANGE_EVENT, data, this.warehousingRole.getSimulatorTime()));
+        sendInventoryUpdateEvent(inventoryRecord.getIndex());
     }
 
     /**
@@ -257,20 +797,119 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
      */
     public void sendInventoryUpdateEvent(final Product product)
     {
-        InventoryRecord inventoryRecord = this.inventoryRecords.get(product);
-        if (inventoryRecord != null)
+        int index = getProductIndex(product);
+        if (index >= 0)
         {
-            this.sendInventoryUpdateEvent(inventoryRecord);
+            sendInventoryUpdateEvent(index);
         }
     }
 
+    /**
+     * Publish the change of the product with a product index: fire the inventory change event right away, or mark the product
+     * as changed in the COALESCED event mode.
+     * @param index the product index
+     */
+    protected void sendInventoryUpdateEvent(final int index)
+    {
+        if (this.eventMode == InventoryEventMode.IMMEDIATE)
+        {
+            if (hasListeners())
+            {
+                this.fireEvent(new TimedEvent<Time>(INVENTORY_CHANGE_EVENT, inventoryUpdateData(index),
+                        this.warehousingRole.getSimulatorTime()));
+            }
+            return;
+        }
+        if (!this.changed[index])
+        {
+            this.changed[index] = true;
+            this.changedIndexes[this.numberChanged++] = index;
+        }
+        if (!this.publicationScheduled)
+        {
+            this.publicationScheduled = true;
+            try
+            {
+                this.warehousingRole.getSimulator().scheduleEventNow(SimEventInterface.MIN_PRIORITY, this::publishChanges);
+            }
+            catch (Exception exception)
+            {
+                Logger.error(exception, "sendInventoryUpdateEvent");
+            }
+        }
+    }
+
+    /**
+     * Fire one inventory change event for every product that changed since the last publication, in the order of their first
+     * change, followed by one batch change event with all changed products. The method is called at the end of every instant
+     * with changes in the COALESCED event mode, and can be called to publish the pending changes right away. In the IMMEDIATE
+     * event mode, there are no pending changes.
+     */
+    public void publishChanges()
+    {
+        this.publicationScheduled = false;
+        if (this.numberChanged == 0)
+        {
+            return;
+        }
+        Time time = this.warehousingRole.getSimulatorTime();
+        ArrayList<InventoryUpdateData> batch = new ArrayList<>(this.numberChanged);
+        for (int i = 0; i < this.numberChanged; i++)
+        {
+            int index = this.changedIndexes[i];
+            this.changed[index] = false;
+            batch.add(inventoryUpdateData(index));
+        }
+        this.numberChanged = 0;
+        for (InventoryUpdateData data : batch)
+        {
+            this.fireEvent(new TimedEvent<Time>(INVENTORY_CHANGE_EVENT, data, time));
+        }
+        this.fireEvent(new TimedEvent<Time>(INVENTORY_BATCH_CHANGE_EVENT, batch, time));
+    }
+
+    /**
+     * Return the current amounts of the product with a product index as the content of an inventory change event.
+     * @param index the product index
+     * @return the current amounts of the product
+     */
+    private InventoryUpdateData inventoryUpdateData(final int index)
+    {
+        return new InventoryUpdateData(this.products[index].getName(), this.actualAmounts[index], this.reservedAmounts[index],
+                this.orderedAmounts[index]);
+    }
+
+    /**
+     * Set the way in which changes of the inventory are published. When the COALESCED event mode is switched off, the changes
+     * that are still pending are published right away.
+     * @param eventMode the way in which changes of the inventory are published
+     */
+    public void setEventMode(final InventoryEventMode eventMode)
+    {
+        Throw.whenNull(eventMode, "eventMode cannot be null");
+        this.eventMode = eventMode;
+        if (eventMode == InventoryEventMode.IMMEDIATE)
+        {
+            publishChanges();
+        }
+    }
+
+    /**
+     * Return the way in which changes of the inventory are published.
+     * @return the way in which changes of the inventory are published
+     */
+    public InventoryEventMode getEventMode()
+    {
+        return this.eventMode;
+    }
+
     /**
      * Return the number of product types in inventory.
      * @return int number of products
      */
     public int numberOfProducts()
     {
-        return this.inventoryRecords.keySet().size();
+        return this.size;
     }
 
     /**
@@ -283,12 +922,21 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
     }
 
     /**
-     * Return an overview of the products that we have in inventory.
+     * Return the money unit of the monetary values in the inventory.
+     * @return the money unit of the monetary values in the inventory
+     */
+    public MoneyUnit getMoneyUnit()
+    {
+        return this.moneyUnit;
+    }
+
+    /**
+     * Return an overview of the products that we have in inventory, in the order of their product index.
      * @return an overview of the products that we have in inventory
      */
     public Set<Product> getProducts()
     {
-        return this.inventoryRecords.keySet();
+        return this.productSet;
     }
 
     @Override
@@ -297,4 +945,96 @@ public class Inventory extends LocalEventProducer implements Serializable, Event
         return getActor().toString() + "_inventory";
     }
 
+    /**
+     * Write the inventory, with the used part of the product arrays only.
+     * @param out the stream to write the inventory to
+     * @throws IOException on I/O error
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        for (int i = 0; i < this.size; i++)
+        {
+            out.writeObject(this.products[i]);
+            out.writeInt(this.products[i].getIndex());
+            out.writeDouble(this.actualAmounts[i]);
+            out.writeDouble(this.reservedAmounts[i]);
+            out.writeDouble(this.orderedAmounts[i]);
+            out.writeLong(this.monetaryValues[i]);
+            out.writeDouble(this.dailyDepreciations[i]);
+            out.writeBoolean(this.depreciating[i]);
+            out.writeDouble(this.depreciationStartDays[i]);
+            out.writeLong(this.depreciatedDays[i]);
+            out.writeDouble(this.reorderPoints[i]);
+            out.writeBoolean(this.changed[i]);
+        }
+        for (int i = 0; i < this.numberDepreciating; i++)
+        {
+            out.writeInt(this.depreciatingIndexes[i]);
+        }
+        for (int i = 0; i < this.numberChanged; i++)
+        {
+            out.writeInt(this.changedIndexes[i]);
+        }
+    }
+
+    /**
+     * Read the inventory, allocate the product arrays, and rebuild the index of the products in the model. The index of a
+     * product in the model is read from the stream, since the product itself might not have been read completely yet.
+     * @param in the stream to read the inventory from
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of a product cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        Throw.when(this.size < 0 || this.numberDepreciating < 0 || this.numberChanged < 0, IOException.class,
+                "negative size of Inventory in stream");
+        int capacity = Math.max(INITIAL_CAPACITY, this.size);
+        this.productSet = new LinkedHashSet<>();
+        this.productSlots = new int[INITIAL_CAPACITY];
+        this.products = new Product[capacity];
+        this.actualAmounts = new double[capacity];
+        this.reservedAmounts = new double[capacity];
+        this.orderedAmounts = new double[capacity];
+        this.monetaryValues = new long[capacity];
+        this.dailyDepreciations = new double[capacity];
+        this.depreciating = new boolean[capacity];
+        this.depreciationStartDays = new double[capacity];
+        this.depreciatedDays = new long[capacity];
+        this.depreciatingIndexes = new int[capacity];
+        this.reorderPoints = new double[capacity];
+        this.changed = new boolean[capacity];
+        this.changedIndexes = new int[capacity];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.products[i] = (Product) in.readObject();
+            int modelIndex = in.readInt();
+            if (modelIndex >= this.productSlots.length)
+            {
+                this.productSlots = Arrays.copyOf(this.productSlots, Math.max(modelIndex + 1, 2 * this.productSlots.length));
+            }
+            this.productSlots[modelIndex] = i + 1;
+            this.productSet.add(this.products[i]);
+            this.actualAmounts[i] = in.readDouble();
+            this.reservedAmounts[i] = in.readDouble();
+            this.orderedAmounts[i] = in.readDouble();
+            this.monetaryValues[i] = in.readLong();
+            this.dailyDepreciations[i] = in.readDouble();
+            this.depreciating[i] = in.readBoolean();
+            this.depreciationStartDays[i] = in.readDouble();
+            this.depreciatedDays[i] = in.readLong();
+            this.reorderPoints[i] = in.readDouble();
+            this.changed[i] = in.readBoolean();
+        }
+        for (int i = 0; i < this.numberDepreciating; i++)
+        {
+            this.depreciatingIndexes[i] = in.readInt();
+        }
+        for (int i = 0; i < this.numberChanged; i++)
+        {
+            this.changedIndexes[i] = in.readInt();
+        }
+    }
+
 }
@@ -0,0 +1,22 @@
+package nl.tudelft.simulation.supplychain.role.warehousing;
+
+/**
+ * The ways in which an Inventory can publish the changes of its product amounts to its listeners.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public enum InventoryEventMode
+{
+    /** An INVENTORY_CHANGE_EVENT is fired synchronously for every change of the inventory. */
+    IMMEDIATE,
+
+    /**
+     * Changed products are marked, and at the end of the simulator instant one INVENTORY_CHANGE_EVENT per changed product is
+     * fired with its final amounts, followed by one INVENTORY_BATCH_CHANGE_EVENT with all changed products.
+     */
+    COALESCED;
+
+}
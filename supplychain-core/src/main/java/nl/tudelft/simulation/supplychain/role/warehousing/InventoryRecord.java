@@ -2,18 +2,14 @@ package nl.tudelft.simulation.supplychain.role.warehousing;
 
 import java.io.Serializable;
 
-import org.djunits.unit.DurationUnit;
-import org.djunits.value.vdouble.scalar.Duration;
-import org.pmw.tinylog.Logger;
-
-import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
 import nl.tudelft.simulation.supplychain.money.Money;
-import nl.tudelft.simulation.supplychain.money.MoneyUnit;
 import nl.tudelft.simulation.supplychain.product.Product;
 
 /**
- * A InventoryRecord keeps the information about products, such as actual, ordered and reserved amounts of products. It assists
- * the Inventory object and the restocking policies to assess the needed order amounts.
+ * A InventoryRecord gives access to the information about one product in an Inventory, such as actual, ordered and reserved
+ * amounts of products. It assists the Inventory object and the restocking policies to assess the needed order amounts. The
+ * record is a view on the product arrays of the Inventory, so it does not hold any data itself, and it always shows the
+ * current state of the product. Changes that are made through the record do not fire an inventory change event.
  * <p>
  * Copyright (c) 2003-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
  * The supply chain Java library uses a BSD-3 style license.
@@ -23,52 +19,32 @@ import nl.tudelft.simulation.supplychain.product.Product;
 public class InventoryRecord implements Serializable
 {
     /** the serial version uid. */
-    private static final long serialVersionUID = 20221209L;
-
-    /** the owner. */
-    private WarehousingActor owner = null;
-
-    /** the simulator to schedule the depreciation. */
-    private SupplyChainSimulatorInterface simulator = null;
-
-    /** the product for which to keep information. */
-    private Product product;
+    private static final long serialVersionUID = 20250301L;
 
-    /** the amount currently on inventory. */
-    private double actualAmount;
+    /** the inventory that stores the data of the product. */
+    private final Inventory inventory;
 
-    /** the amount that is reserved by orders, but not yet taken. */
-    private double reservedAmount;
+    /** the index of the product in the inventory. */
+    private final int index;
 
-    /** the amount that has been ordered, but not yet delivered. */
-    private double orderedAmount;
-
-    /** the total monetary value of the amount of these products in inventory. */
-    private Money totalMonetaryValue = new Money(0.0, MoneyUnit.USD);
-
-    /** the depreciation factor per day. */
-    private double dailyDepreciation = 0.0;
+    /**
+     * Create a view on the data of a product in an inventory.
+     * @param inventory the inventory that stores the data of the product
+     * @param index the index of the product in the inventory
+     */
+    InventoryRecord(final Inventory inventory, final int index)
+    {
+        this.inventory = inventory;
+        this.index = index;
+    }
 
     /**
-     * @param owner the trader
-     * @param simulator the simulator
-     * @param product the product
+     * Return the index of the product in the inventory.
+     * @return the index of the product in the inventory
      */
-    public InventoryRecord(final WarehousingActor owner, final SupplyChainSimulatorInterface simulator, final Product product)
+    public int getIndex()
     {
-        this.owner = owner;
-        this.simulator = simulator;
-        this.product = product;
-        this.dailyDepreciation = product.getDepreciation();
-        // start the depreciation process...
-        try
-        {
-            this.simulator.scheduleEventNow(this, "depreciate", null);
-        }
-        catch (Exception exception)
-        {
-            Logger.error(exception, "<init>");
-        }
+        return this.index;
     }
 
     /**
@@ -77,7 +53,7 @@ public class InventoryRecord implements Serializable
      */
     public double getActualAmount()
     {
-        return this.actualAmount;
+        return this.inventory.getActualAmount(this.index);
     }
 
     /**
@@ -86,7 +62,7 @@ public class InventoryRecord implements Serializable
      */
     public double getReservedAmount()
     {
-        return this.reservedAmount;
+        return this.inventory.getReservedAmount(this.index);
     }
 
     /**
@@ -95,7 +71,7 @@ public class InventoryRecord implements Serializable
      */
     public double getOrderedAmount()
     {
-        return this.orderedAmount;
+        return this.inventory.getOrderedAmount(this.index);
     }
 
     /**
@@ -104,7 +80,7 @@ public class InventoryRecord implements Serializable
      */
     public Product getProduct()
     {
-        return this.product;
+        return this.inventory.getProduct(this.index);
     }
 
     /**
@@ -114,8 +90,7 @@ public class InventoryRecord implements Serializable
      */
     public void addActualAmount(final double actualDelta, final Money unitprice)
     {
-        this.actualAmount += actualDelta;
-        this.totalMonetaryValue = this.totalMonetaryValue.plus(unitprice.multiplyBy(actualDelta));
+        this.inventory.addActualAmount(this.index, actualDelta, unitprice);
     }
 
     /**
@@ -124,7 +99,7 @@ public class InventoryRecord implements Serializable
      */
     public void reserveAmount(final double reservedDelta)
     {
-        this.reservedAmount += reservedDelta;
+        this.inventory.reserveAmount(this.index, reservedDelta);
     }
 
     /**
@@ -133,9 +108,7 @@ public class InventoryRecord implements Serializable
      */
     public void releaseReservedAmount(final double releasedDelta)
     {
-        this.reservedAmount -= releasedDelta;
-        this.actualAmount -= releasedDelta;
-        this.totalMonetaryValue = this.totalMonetaryValue.minus(getUnitMonetaryValue().multiplyBy(releasedDelta));
+        this.inventory.releaseReservedAmount(this.index, releasedDelta);
     }
 
     /**
@@ -144,7 +117,7 @@ public class InventoryRecord implements Serializable
      */
     public void orderAmount(final double orderedDelta)
     {
-        this.orderedAmount += orderedDelta;
+        this.inventory.orderAmount(this.index, orderedDelta);
     }
 
     /**
@@ -154,8 +127,7 @@ public class InventoryRecord implements Serializable
      */
     public void enterOrderedAmount(final double enteredDelta, final Money unitprice)
     {
-        this.orderedAmount -= enteredDelta;
-        addActualAmount(enteredDelta, unitprice);
+        this.inventory.enterOrderedAmount(this.index, enteredDelta, unitprice);
     }
 
     /**
@@ -164,7 +136,7 @@ public class InventoryRecord implements Serializable
      */
     public Money getTotalMonetaryValue()
     {
-        return this.totalMonetaryValue;
+        return this.inventory.getTotalMonetaryValue(this.index);
     }
 
     /**
@@ -173,11 +145,7 @@ public class InventoryRecord implements Serializable
      */
     public Money getUnitMonetaryValue()
     {
-        if (this.actualAmount > 0.0)
-        {
-            return this.totalMonetaryValue.divideBy(this.actualAmount);
-        }
-        return this.product.getUnitMarketPrice();
+        return this.inventory.getUnitMonetaryValue(this.index);
     }
 
     /**
@@ -185,24 +153,7 @@ public class InventoryRecord implements Serializable
      */
     public void setDailyDepreciation(final double dailyDepriciation)
     {
-        this.dailyDepreciation = dailyDepriciation;
+        this.inventory.setDailyDepreciation(this.index, dailyDepriciation);
     }
 
-    /**
-     * decrease the value of the inventory according to the current depreciation.
-     */
-    protected void depreciate()
-    {
-        try
-        {
-            this.totalMonetaryValue = this.totalMonetaryValue.multiplyBy(1.0 - this.dailyDepreciation);
-            this.owner.getFinancingRole().getBank().withdrawFromBalance(this.owner,
-                    this.totalMonetaryValue.multiplyBy(this.dailyDepreciation));
-            this.simulator.scheduleEventRel(new Duration(1.0, DurationUnit.DAY), this, "depreciate", null);
-        }
-        catch (Exception exception)
-        {
-            Logger.error(exception, "depreciate");
-        }
-    }
 }
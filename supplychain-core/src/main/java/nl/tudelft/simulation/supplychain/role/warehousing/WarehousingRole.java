@@ -12,6 +12,7 @@ import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
 import nl.tudelft.simulation.supplychain.product.Product;
 import nl.tudelft.simulation.supplychain.product.ProductAmount;
 import nl.tudelft.simulation.supplychain.role.warehousing.process.RestockingProcess;
+import nl.tudelft.simulation.supplychain.role.warehousing.process.RestockingProcessTriggered;
 
 /**
  * The inventory role is a role that handles the storage of products, which can be raw materials for production or finished
@@ -68,12 +69,17 @@ public class WarehousingRole extends Role<WarehousingRole>
     }
 
     /**
-     * Implement to check whether the inventory is below some level, might trigger ordering of extra amount of the product.
+     * Check whether the inventory is below some level, which might trigger ordering of extra amount of the product. The
+     * Inventory calls this method after each change of the product. Only a triggered restocking process for the product acts
+     * on the change; restocking processes that poll the inventory ignore it.
      * @param product the product to check the inventory for.
      */
     public void checkInventory(final Product product)
     {
-        // TODO decide what to do here
+        if (this.restockingProcesses.get(product) instanceof RestockingProcessTriggered triggered)
+        {
+            triggered.inventoryChanged();
+        }
     }
 
     /**
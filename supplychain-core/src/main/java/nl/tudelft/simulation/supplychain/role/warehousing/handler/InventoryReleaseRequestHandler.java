@@ -44,7 +44,7 @@ public class InventoryReleaseRequestHandler extends ContentHandler<InventoryRele
         // Check if the inventory is available. If yes, release. If no, schedule this method again in one day.
         if (getRole().getInventory().getActualAmount(irr.product()) < irr.amount())
         {
-            getSimulator().scheduleEventRel(new Duration(1.0, DurationUnit.DAY), this, "handleContent", new Object[] {irr});
+            getSimulator().scheduleEventRel(new Duration(1.0, DurationUnit.DAY), this::handleContent, irr);
             return true;
         }
 
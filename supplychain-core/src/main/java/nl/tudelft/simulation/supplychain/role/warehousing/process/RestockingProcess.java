@@ -49,6 +49,21 @@ public abstract class RestockingProcess extends AutonomousProcess<WarehousingRol
      */
     public RestockingProcess(final WarehousingActor actor, final Inventory inventory, final Product product,
             final Duration checkInterval, final Duration maxDeliveryDuration)
+    {
+        this(actor, inventory, product, checkInterval, maxDeliveryDuration, true);
+    }
+
+    /**
+     * Construct a new restocking service, which checks the inventory levels every check interval, or only when asked to.
+     * @param actor the warehousing role to which the restocking process belongs
+     * @param inventory the inventory for which the service holds
+     * @param product the product that has to be restocked
+     * @param checkInterval the distribution of the interval for restocking or checking
+     * @param maxDeliveryDuration the maximum delivery time to use
+     * @param periodicCheck whether to check the inventory levels every check interval
+     */
+    protected RestockingProcess(final WarehousingActor actor, final Inventory inventory, final Product product,
+            final Duration checkInterval, final Duration maxDeliveryDuration, final boolean periodicCheck)
     {
         super(actor.getWarehousingRole());
         this.inventory = inventory;
@@ -56,7 +71,10 @@ public abstract class RestockingProcess extends AutonomousProcess<WarehousingRol
         this.checkInterval = checkInterval;
         getRole().addAutonomousProcess(this);
         this.maxDeliveryDuration = maxDeliveryDuration;
-        getSimulator().scheduleEventRel(checkInterval, this, "checkLoop", new Serializable[] {});
+        if (periodicCheck)
+        {
+            getSimulator().scheduleEventRel(checkInterval, this::checkLoop);
+        }
     }
 
     /**
@@ -67,7 +85,7 @@ public abstract class RestockingProcess extends AutonomousProcess<WarehousingRol
         checkInventoryLevel();
         try
         {
-            getSimulator().scheduleEventRel(this.checkInterval, this, "checkLoop", new Serializable[] {});
+            getSimulator().scheduleEventRel(this.checkInterval, this::checkLoop);
         }
         catch (Exception e)
         {
@@ -0,0 +1,229 @@
+package nl.tudelft.simulation.supplychain.role.warehousing.process;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djutils.exceptions.Throw;
+import org.pmw.tinylog.Logger;
+
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.role.warehousing.Inventory;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+
+/**
+ * Generic restocking service that does not poll the inventory, but that is triggered by the changes of the inventory. The
+ * WarehousingRole notifies the process of every change of the product, and the restocking policy is only evaluated when the
+ * inventory level crosses the reorder point downwards. After that, the process is armed again when the inventory level is at
+ * or above the reorder point, e.g., because the ordered products have been registered in the inventory.
+ * <p>
+ * Without a review period, the policy is evaluated at the moment of the crossing (continuous review). With a review period,
+ * the evaluation is postponed to the next multiple of the review period, and it only takes place when the inventory level is
+ * still below the reorder point at that time (periodic review). In both cases, no events are scheduled while the inventory
+ * level stays above the reorder point.
+ * </p>
+ * <p>
+ * An evaluation does not always restore the inventory level, e.g., because the demand could not be fulfilled by any supplier,
+ * or because the ordered amount was smaller than the shortfall. Therefore, as long as the inventory level stays below the
+ * reorder point, the policy is evaluated again every retry interval (continuous review) or every review period (periodic
+ * review), just like the polling restocking processes do.
+ * </p>
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public abstract class RestockingProcessTriggered extends RestockingProcess
+{
+    /** the serial version uid. */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the reorder point of the inventory level. */
+    private final double reorderPoint;
+
+    /** whether to include the claims in the inventory level or not. */
+    private final boolean includeClaims;
+
+    /** the review period, or null for continuous review. */
+    private Duration reviewPeriod = null;
+
+    /** whether the inventory level is below the reorder point, i.e., whether the process waits to be armed again. */
+    private boolean below = false;
+
+    /** the interval after which the policy is evaluated again when the inventory level is still below the reorder point. */
+    private Duration retryInterval = new Duration(1.0, DurationUnit.DAY);
+
+    /** the scheduled review or retry, or null when none has been scheduled. */
+    private SimEventInterface<Duration> reviewEvent = null;
+
+    /**
+     * Construct a new restocking service that is triggered when the inventory level crosses the reorder point. The process
+     * registers itself with the WarehousingRole, and checks the inventory level at the current time.
+     * @param actor the warehousing actor to which the restocking process belongs
+     * @param inventory the inventory for which the service holds
+     * @param product the product that has to be restocked
+     * @param reorderPoint the inventory level below which the restocking policy is evaluated
+     * @param includeClaims whether to include the claims in the inventory level or not
+     * @param maxDeliveryTime the maximum delivery time to use
+     */
+    public RestockingProcessTriggered(final WarehousingActor actor, final Inventory inventory, final Product product,
+            final double reorderPoint, final boolean includeClaims, final Duration maxDeliveryTime)
+    {
+        super(actor, inventory, product, Duration.ZERO, maxDeliveryTime, false);
+        Throw.when(Double.isNaN(reorderPoint), IllegalArgumentException.class, "reorderPoint cannot be NaN");
+        this.reorderPoint = reorderPoint;
+        this.includeClaims = includeClaims;
+        inventory.setReorderPoint(product, reorderPoint);
+        getRole().addRestockingService(this);
+        getSimulator().scheduleEventNow(this::inventoryChanged);
+    }
+
+    /**
+     * Set the review period. When the review period is set, the restocking policy is evaluated at the next multiple of the
+     * review period after the inventory level crossed the reorder point, instead of immediately.
+     * @param reviewPeriod the review period, or null for continuous review
+     * @return the restocking process for method chaining
+     */
+    public RestockingProcessTriggered setReviewPeriod(final Duration reviewPeriod)
+    {
+        Throw.when(reviewPeriod != null && reviewPeriod.si <= 0.0, IllegalArgumentException.class,
+                "reviewPeriod should be positive");
+        this.reviewPeriod = reviewPeriod;
+        return this;
+    }
+
+    /**
+     * Return the review period.
+     * @return the review period, or null for continuous review
+     */
+    public Duration getReviewPeriod()
+    {
+        return this.reviewPeriod;
+    }
+
+    /**
+     * Set the retry interval. Under continuous review, the restocking policy is evaluated again after the retry interval when
+     * the inventory level is still below the reorder point. Under periodic review, the review period is used instead.
+     * @param retryInterval the retry interval
+     * @return the restocking process for method chaining
+     */
+    public RestockingProcessTriggered setRetryInterval(final Duration retryInterval)
+    {
+        Throw.whenNull(retryInterval, "retryInterval");
+        Throw.when(retryInterval.si <= 0.0, IllegalArgumentException.class, "retryInterval should be positive");
+        this.retryInterval = retryInterval;
+        return this;
+    }
+
+    /**
+     * Return the retry interval.
+     * @return the interval after which the policy is evaluated again under continuous review
+     */
+    public Duration getRetryInterval()
+    {
+        return this.retryInterval;
+    }
+
+    /**
+     * Notify the process of a change of the product in the inventory. The restocking policy is evaluated (or a review is
+     * scheduled) when the inventory level crosses the reorder point downwards.
+     */
+    public void inventoryChanged()
+    {
+        if (getInventoryLevel() >= this.reorderPoint)
+        {
+            this.below = false;
+            return;
+        }
+        if (this.below)
+        {
+            return;
+        }
+        this.below = true;
+        if (this.reviewPeriod == null)
+        {
+            checkInventoryLevel();
+            if (this.reviewEvent != null)
+            {
+                // a retry of an earlier crossing is still pending; count the retry interval from this evaluation
+                getSimulator().cancelEvent(this.reviewEvent);
+                this.reviewEvent = null;
+            }
+            scheduleReview(this.retryInterval);
+        }
+        else if (this.reviewEvent == null)
+        {
+            double now = getSimulatorTime().si;
+            double period = this.reviewPeriod.si;
+            scheduleReview(Duration.instantiateSI(Math.ceil(now / period) * period - now));
+        }
+    }
+
+    /**
+     * Evaluate the restocking policy at a review moment or retry, when the inventory level is still below the reorder point.
+     * As long as the inventory level stays below the reorder point, the next review or retry is scheduled.
+     */
+    protected void review()
+    {
+        this.reviewEvent = null;
+        if (getInventoryLevel() < this.reorderPoint)
+        {
+            checkInventoryLevel();
+            scheduleReview(this.reviewPeriod == null ? this.retryInterval : this.reviewPeriod);
+        }
+        else
+        {
+            this.below = false;
+        }
+    }
+
+    /**
+     * Schedule the next review or retry.
+     * @param delay the time from now until the review or retry
+     */
+    private void scheduleReview(final Duration delay)
+    {
+        try
+        {
+            this.reviewEvent = getSimulator().scheduleEventRel(delay, this::review);
+        }
+        catch (Exception e)
+        {
+            Logger.error(e, "scheduleReview");
+        }
+    }
+
+    /**
+     * Return the inventory level of the product: the actual amount plus the ordered amount, minus the reserved amount when the
+     * claims are included.
+     * @return the inventory level of the product
+     */
+    protected double getInventoryLevel()
+    {
+        double inventoryLevel = getInventory().getActualAmount(getProduct()) + getInventory().getOrderedAmount(getProduct());
+        if (this.includeClaims)
+        {
+            inventoryLevel -= getInventory().getReservedAmount(getProduct());
+        }
+        return inventoryLevel;
+    }
+
+    /**
+     * Return the inventory level below which the restocking policy is evaluated.
+     * @return the reorder point
+     */
+    public double getReorderPoint()
+    {
+        return this.reorderPoint;
+    }
+
+    /**
+     * @return whether we include claims in the inventory level or not.
+     */
+    protected boolean isIncludeClaims()
+    {
+        return this.includeClaims;
+    }
+
+}
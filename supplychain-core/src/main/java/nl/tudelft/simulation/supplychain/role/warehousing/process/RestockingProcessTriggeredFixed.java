@@ -0,0 +1,77 @@
+package nl.tudelft.simulation.supplychain.role.warehousing.process;
+
+import org.djunits.value.vdouble.scalar.Duration;
+
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.role.warehousing.Inventory;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+
+/**
+ * This triggered RestockingProcess either orders a fixed amount of goods, or supplements the number of products till a fixed
+ * amount is reached, when the inventory level crosses the reorder point. It is the event-driven counterpart of the
+ * {@link RestockingProcessFixed}.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class RestockingProcessTriggeredFixed extends RestockingProcessTriggered
+{
+    /** the serial version uid. */
+    private static final long serialVersionUID = 20250301L;
+
+    /** fixed ceiling (true) or fixed amount (false). */
+    private final boolean ceiling;
+
+    /** the amount in the service. */
+    private final double amount;
+
+    /**
+     * Construct a new triggered restocking service, which works with fixed amounts.
+     * @param actor the warehousing actor to which the restocking process belongs
+     * @param inventory the inventory for which the service holds
+     * @param product the product that has to be restocked
+     * @param reorderPoint the inventory level below which the stock is supplemented
+     * @param ceiling fixed ceiling (true) or fixed amount (false)
+     * @param amount the amount with which or to which stock is supplemented
+     * @param includeClaims whether to include the claims in the stock or not
+     * @param maxDeliveryTime the maximum delivery time to use
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    public RestockingProcessTriggeredFixed(final WarehousingActor actor, final Inventory inventory, final Product product,
+            final double reorderPoint, final boolean ceiling, final double amount, final boolean includeClaims,
+            final Duration maxDeliveryTime)
+    {
+        super(actor, inventory, product, reorderPoint, includeClaims, maxDeliveryTime);
+        this.ceiling = ceiling;
+        this.amount = amount;
+    }
+
+    @Override
+    protected void checkInventoryLevel()
+    {
+        double orderAmount = this.ceiling ? Math.max(0.0, this.amount - getInventoryLevel()) : this.amount;
+        if (orderAmount > 0.0)
+        {
+            createDemand(orderAmount);
+        }
+    }
+
+    /**
+     * @return the amount (ceiling or amount).
+     */
+    protected double getAmount()
+    {
+        return this.amount;
+    }
+
+    /**
+     * @return whether we work with a ceiling or fixed amount.
+     */
+    protected boolean isCeiling()
+    {
+        return this.ceiling;
+    }
+
+}
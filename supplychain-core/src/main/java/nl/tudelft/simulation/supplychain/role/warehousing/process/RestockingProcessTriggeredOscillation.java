@@ -0,0 +1,79 @@
+package nl.tudelft.simulation.supplychain.role.warehousing.process;
+
+import org.djunits.value.vdouble.scalar.Duration;
+
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.role.warehousing.Inventory;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+
+/**
+ * This triggered restocking service supplements the stock till a fixed amount when the inventory level crosses the reorder
+ * point. If we committed more than we ordered and have on hand, we overreact and order more products than strictly necessary.
+ * It is the event-driven counterpart of the {@link RestockingProcessOscillation}.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class RestockingProcessTriggeredOscillation extends RestockingProcessTriggeredFixed
+{
+    /** the serial version uid. */
+    private static final long serialVersionUID = 20250301L;
+
+    /** The oscillation margin. */
+    private double oscillationMargin = 0.0;
+
+    /**
+     * Construct a new triggered restocking service that overreacts on a negative inventory level.
+     * @param actor the warehousing actor to which the restocking process belongs
+     * @param inventory the inventory for which the service holds
+     * @param product the product that has to be restocked
+     * @param reorderPoint the inventory level below which the stock is supplemented
+     * @param amount the amount to which stock is supplemented
+     * @param includeClaims whether to include the claims in the stock or not
+     * @param overReactionMargin the over reaction margin
+     * @param maxDeliveryTime the maximum delivery time to use
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    public RestockingProcessTriggeredOscillation(final WarehousingActor actor, final Inventory inventory,
+            final Product product, final double reorderPoint, final double amount, final boolean includeClaims,
+            final double overReactionMargin, final Duration maxDeliveryTime)
+    {
+        super(actor, inventory, product, reorderPoint, true, amount, includeClaims, maxDeliveryTime);
+        this.oscillationMargin = overReactionMargin;
+    }
+
+    @Override
+    protected void checkInventoryLevel()
+    {
+        double stockLevel = getInventoryLevel();
+        double orderAmount = Math.max(0.0, getAmount() - stockLevel);
+        if (stockLevel <= 0.0)
+        {
+            // let's overreact!
+            orderAmount = Math.ceil(orderAmount + (Math.abs(stockLevel) * (this.oscillationMargin)));
+        }
+        if (orderAmount > 0.0)
+        {
+            createDemand(orderAmount);
+        }
+    }
+
+    /**
+     * @return the overReactionMargin.
+     */
+    public double getOscillationMargin()
+    {
+        return this.oscillationMargin;
+    }
+
+    /**
+     * @param overReactionMargin The overReactionMargin to set.
+     */
+    public void setOscillationMargin(final double overReactionMargin)
+    {
+        this.oscillationMargin = overReactionMargin;
+    }
+
+}
@@ -0,0 +1,51 @@
+package nl.tudelft.simulation.supplychain.role.warehousing.process;
+
+import org.djunits.value.vdouble.scalar.Duration;
+
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.role.warehousing.Inventory;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+
+/**
+ * This triggered RestockingProcess orders a fixed amount of goods, or supplements the number of products till a fixed amount is
+ * reached, when the inventory level drops below the safety stock level. It is the event-driven counterpart of the
+ * {@link RestockingProcessSafety}, with the safety stock level as the reorder point.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class RestockingProcessTriggeredSafety extends RestockingProcessTriggeredFixed
+{
+    /** the serial version uid. */
+    private static final long serialVersionUID = 20250301L;
+
+    /**
+     * Construct a new triggered restocking service based on a safety stock level.
+     * @param actor the warehousing actor to which the restocking process belongs
+     * @param inventory the inventory for which the service holds
+     * @param product the product that has to be restocked
+     * @param ceiling fixed ceiling (true) or fixed amount (false)
+     * @param amount the amount with which or to which stock is supplemented
+     * @param includeClaims whether to include the claims in the stock or not
+     * @param safetyAmount the safety stock level for the product
+     * @param maxDeliveryTime the maximum delivery time to use
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    public RestockingProcessTriggeredSafety(final WarehousingActor actor, final Inventory inventory, final Product product,
+            final boolean ceiling, final double amount, final boolean includeClaims, final double safetyAmount,
+            final Duration maxDeliveryTime)
+    {
+        super(actor, inventory, product, safetyAmount, ceiling, amount, includeClaims, maxDeliveryTime);
+    }
+
+    /**
+     * @return the safetyAmount.
+     */
+    protected double getSafetyAmount()
+    {
+        return getReorderPoint();
+    }
+
+}
@@ -0,0 +1,36 @@
+package nl.tudelft.simulation.supplychain.synthetic;
+
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.actor.Geography;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+import nl.tudelft.simulation.supplychain.reference.Manufacturer;
+import nl.tudelft.simulation.supplychain.role.selling.SellingActorRFQ;
+
+/**
+ * SyntheticManufacturer is a manufacturer that sells with the request-for-quote protocol. The roles and handlers are added by the
+ * SyntheticNetworkModel, so the class only combines the reference Manufacturer with the SellingActorRFQ interface.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SyntheticManufacturer extends Manufacturer implements SellingActorRFQ
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /**
+     * Create a manufacturer for a synthetic network, with the default content store of the model.
+     * @param id String, the unique id of the manufacturer
+     * @param model the model
+     * @param geography the geography of the actor
+     * @throws ActorAlreadyDefinedException when the actor was already registered in the model
+     */
+    public SyntheticManufacturer(final String id, final SupplyChainModelInterface model, final Geography geography)
+            throws ActorAlreadyDefinedException
+    {
+        super(id, id, model, geography);
+    }
+
+}
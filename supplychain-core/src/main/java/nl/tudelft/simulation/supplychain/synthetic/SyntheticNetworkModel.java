@@ -0,0 +1,659 @@
+package nl.tudelft.simulation.supplychain.synthetic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.unit.LengthUnit;
+import org.djunits.unit.MassUnit;
+import org.djunits.unit.VolumeUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Length;
+import org.djunits.value.vdouble.scalar.Mass;
+import org.djunits.value.vdouble.scalar.Volume;
+import org.djutils.draw.point.Point;
+import org.djutils.draw.point.Point2d;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.dsol.SimRuntimeException;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.jstats.distributions.DistDiscreteUniform;
+import nl.tudelft.simulation.jstats.distributions.DistExponential;
+import nl.tudelft.simulation.jstats.distributions.DistUniform;
+import nl.tudelft.simulation.jstats.distributions.unit.DistContinuousDuration;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.Geography;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModel;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.product.BillOfMaterials;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.product.Sku;
+import nl.tudelft.simulation.supplychain.reference.Bank;
+import nl.tudelft.simulation.supplychain.reference.Customer;
+import nl.tudelft.simulation.supplychain.reference.Directory;
+import nl.tudelft.simulation.supplychain.reference.Transporter;
+import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
+import nl.tudelft.simulation.supplychain.role.banking.handler.BankTransferHandler;
+import nl.tudelft.simulation.supplychain.role.banking.handler.InterbankTransferHandler;
+import nl.tudelft.simulation.supplychain.role.banking.process.InterestProcess;
+import nl.tudelft.simulation.supplychain.role.consuming.ConsumingRole;
+import nl.tudelft.simulation.supplychain.role.consuming.process.DemandGeneratingProcess;
+import nl.tudelft.simulation.supplychain.role.directing.DirectingRoleSelling;
+import nl.tudelft.simulation.supplychain.role.directing.DirectingRoleTransporting;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingRole;
+import nl.tudelft.simulation.supplychain.role.financing.handler.FulfillmentHandler;
+import nl.tudelft.simulation.supplychain.role.financing.handler.InventoryReleaseHandler;
+import nl.tudelft.simulation.supplychain.role.financing.handler.InvoiceHandler;
+import nl.tudelft.simulation.supplychain.role.financing.handler.PaymentHandler;
+import nl.tudelft.simulation.supplychain.role.financing.handler.PaymentPolicyEnum;
+import nl.tudelft.simulation.supplychain.role.financing.handler.TransportConfirmationHandler;
+import nl.tudelft.simulation.supplychain.role.financing.handler.TransportInvoiceHandler;
+import nl.tudelft.simulation.supplychain.role.financing.handler.TransportPaymentHandler;
+import nl.tudelft.simulation.supplychain.role.manufacturing.ManufacturingRole;
+import nl.tudelft.simulation.supplychain.role.manufacturing.ManufacturingServiceDelay;
+import nl.tudelft.simulation.supplychain.role.purchasing.PurchasingActor;
+import nl.tudelft.simulation.supplychain.role.purchasing.PurchasingRoleSearch;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.DemandHandlerSearch;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.OrderConfirmationHandler;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.QuoteComparatorEnum;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.QuoteHandlerAll;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.QuoteNoHandler;
+import nl.tudelft.simulation.supplychain.role.purchasing.handler.SearchAnswerHandler;
+import nl.tudelft.simulation.supplychain.role.receiving.ReceivingRole;
+import nl.tudelft.simulation.supplychain.role.receiving.handler.TransportDeliveryHandlerConsume;
+import nl.tudelft.simulation.supplychain.role.receiving.handler.TransportDeliveryHandlerStock;
+import nl.tudelft.simulation.supplychain.role.searching.SearchingRole;
+import nl.tudelft.simulation.supplychain.role.searching.Topic;
+import nl.tudelft.simulation.supplychain.role.searching.handler.SearchRequestHandler;
+import nl.tudelft.simulation.supplychain.role.selling.SellingActorRFQ;
+import nl.tudelft.simulation.supplychain.role.selling.SellingRoleRFQ;
+import nl.tudelft.simulation.supplychain.role.selling.handler.InventoryQuoteHandler;
+import nl.tudelft.simulation.supplychain.role.selling.handler.InventoryReservationHandler;
+import nl.tudelft.simulation.supplychain.role.selling.handler.OrderHandlerStock;
+import nl.tudelft.simulation.supplychain.role.selling.handler.RequestForQuoteHandler;
+import nl.tudelft.simulation.supplychain.role.selling.handler.TransportQuoteHandler;
+import nl.tudelft.simulation.supplychain.role.shipping.ShippingRole;
+import nl.tudelft.simulation.supplychain.role.shipping.handler.ShippingOrderHandler;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportMode;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportPreference;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportPreference.CostTimeImportance;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportingActor;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportingRole;
+import nl.tudelft.simulation.supplychain.role.transporting.handler.TransportOrderHandler;
+import nl.tudelft.simulation.supplychain.role.transporting.handler.TransportQuoteRequestHandler;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingRole;
+import nl.tudelft.simulation.supplychain.role.warehousing.handler.InventoryEntryHandler;
+import nl.tudelft.simulation.supplychain.role.warehousing.handler.InventoryQuoteRequestHandler;
+import nl.tudelft.simulation.supplychain.role.warehousing.handler.InventoryReleaseRequestHandler;
+import nl.tudelft.simulation.supplychain.role.warehousing.handler.InventoryReservationRequestHandler;
+import nl.tudelft.simulation.supplychain.role.warehousing.process.RestockingProcessSafety;
+import nl.tudelft.simulation.supplychain.util.DistConstantDuration;
+
+/**
+ * SyntheticNetworkModel generates a configurable N-tier supply chain network with the reference actors, to measure how the
+ * framework scales with the number of actors and products. The products form a layered bill of materials: tier 0 contains the
+ * raw materials, and each product of tier t is assembled from randomly chosen components of tier t - 1. Each landmass gets its
+ * own bank, directories and transporters, and the suppliers, manufacturers (one group per tier), distribution centers,
+ * retailers and markets are placed at random locations on the landmass. The products of a tier are divided round robin over
+ * the actors that sell them, and each seller registers in the directory of its tier, where the buyers of the next tier search
+ * for quotes. The roles and handlers are the same as the ones of the demo actors, so the generated network runs the full
+ * search, quote, order, transport and payment protocol. The distribution centers, retailers and manufacturers restock with a
+ * safety stock policy; the manufacturers restock the components of their products, and get a production service per product.
+ * The network is generated with the "default" stream, so a network is reproducible from its seed. Each landmass gets its own
+ * stream, named after the landmass and seeded from the "default" stream, which the actors of the landmass use for their
+ * distributions. The landmasses therefore do not share random state, and the model can be run with a
+ * SupplyChainParallelSimulator that partitions the actors by landmass.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SyntheticNetworkModel extends SupplyChainModel
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the parameters that describe the size and shape of the network. */
+    private final SyntheticNetworkParameters parameters;
+
+    /** the products per tier; tier 0 contains the raw materials, the highest tier the end products. */
+    private final List<List<Product>> tiers = new ArrayList<>();
+
+    /** the generated actors per type, e.g., "Supplier" or "Retailer". */
+    private final Map<String, List<Actor>> actors = new LinkedHashMap<>();
+
+    /** the random stream for the generation of the network. */
+    private transient StreamInterface stream;
+
+    /** the random stream per landmass for the distributions of the actors on that landmass. */
+    private final Map<String, StreamInterface> landmassStreams = new LinkedHashMap<>();
+
+    /**
+     * Create a synthetic network model with a specific set of random streams for this replication, e.g., for the
+     * ReplicationRunner.
+     * @param simulator the simulator
+     * @param streamInformation the random streams; the "default" stream is used
+     * @param parameters the parameters that describe the size and shape of the network
+     */
+    public SyntheticNetworkModel(final SupplyChainSimulatorInterface simulator, final StreamInformation streamInformation,
+            final SyntheticNetworkParameters parameters)
+    {
+        super(simulator, streamInformation);
+        Throw.whenNull(parameters, "parameters cannot be null");
+        this.parameters = parameters;
+    }
+
+    /**
+     * Create a synthetic network model with a "default" stream that is seeded with the given seed.
+     * @param simulator the simulator
+     * @param parameters the parameters that describe the size and shape of the network
+     * @param seed the seed of the default stream, larger than 0
+     */
+    public SyntheticNetworkModel(final SupplyChainSimulatorInterface simulator, final SyntheticNetworkParameters parameters,
+            final long seed)
+    {
+        this(simulator, new StreamInformation(new MersenneTwister(seed)), parameters);
+    }
+
+    @Override
+    public void constructModel() throws SimRuntimeException
+    {
+        this.tiers.clear();
+        this.actors.clear();
+        this.landmassStreams.clear();
+        this.stream = getStreamInformation().getStream("default");
+        makeProducts();
+        for (int landmass = 0; landmass < this.parameters.getLandmasses(); landmass++)
+        {
+            makeLandmass(landmass);
+        }
+    }
+
+    /**
+     * Make the products of all tiers, and the bill of materials for the products of tier 1 and higher. The unit market price
+     * of a manufactured product is the price of its components plus a margin of 20%.
+     */
+    private void makeProducts()
+    {
+        int n = this.parameters.getProductsPerTier();
+        int c = Math.min(this.parameters.getComponentsPerProduct(), n);
+        for (int tier = 0; tier <= this.parameters.getBomDepth(); tier++)
+        {
+            List<Product> products = new ArrayList<>(n);
+            for (int i = 0; i < n; i++)
+            {
+                if (tier == 0)
+                {
+                    products.add(makeProduct(tier, i, 5.0 + 45.0 * this.stream.nextDouble()));
+                    continue;
+                }
+                // draw c distinct components from the lower tier; rejection is cheap since c is small compared to n
+                List<Product> lower = this.tiers.get(tier - 1);
+                Map<Product, Double> components = new LinkedHashMap<>();
+                double price = 0.0;
+                while (components.size() < c)
+                {
+                    Product component = lower.get(draw(n));
+                    if (!components.containsKey(component))
+                    {
+                        double amount = 1.0 + draw(3);
+                        components.put(component, amount);
+                        price += amount * component.getUnitMarketPrice().getAmount();
+                    }
+                }
+                Product product = makeProduct(tier, i, 1.2 * price);
+                BillOfMaterials bom = new BillOfMaterials(product);
+                components.forEach(bom::add);
+                product.setBillOfMaterials(bom);
+                products.add(product);
+            }
+            this.tiers.add(products);
+        }
+    }
+
+    /**
+     * Make a product with a fixed weight and volume.
+     * @param tier the tier of the product
+     * @param index the index of the product in the tier
+     * @param price the unit market price
+     * @return the new product
+     */
+    private Product makeProduct(final int tier, final int index, final double price)
+    {
+        return new Product(this, "P" + tier + "_" + index, Sku.PIECE,
+                new Money(price, this.parameters.getInitialBalance().getMoneyUnit()), new Mass(1.0, MassUnit.KILOGRAM),
+                new Volume(0.01, VolumeUnit.CUBIC_METER), this.parameters.getDepreciation());
+    }
+
+    /**
+     * Make the actors of one landmass: the bank, the directories, the transporters, and the actors of all tiers. The
+     * directories are layered: the sellers of a layer register in the directory of that layer, and the buyers of the next
+     * layer search in it.
+     * @param landmassNumber the number of the landmass
+     */
+    private void makeLandmass(final int landmassNumber)
+    {
+        SyntheticNetworkParameters p = this.parameters;
+        String landmass = "L" + landmassNumber;
+        double size = p.getLandmassSize().getInUnit(LengthUnit.KILOMETER);
+        Point2d center = new Point2d((2.0 * landmassNumber + 0.5) * size, 0.5 * size);
+        StreamInterface landmassStream = new MersenneTwister(1L + this.stream.nextInt(0, Integer.MAX_VALUE - 1));
+        getStreamInformation().addStream(landmass, landmassStream);
+        this.landmassStreams.put(landmass, landmassStream);
+
+        Bank bank = new Bank(landmass + "_Bank", landmass + "_Bank", this, center, landmass, landmass);
+        bank.setBankingRole(new BankingRole(bank.getId(), bank));
+        new InterestProcess(bank);
+        new BankTransferHandler(bank);
+        new InterbankTransferHandler(bank);
+        addActor("Bank", bank);
+
+        TransportingActor[] transporters = new TransportingActor[p.getTransporters()];
+        for (int i = 0; i < transporters.length; i++)
+        {
+            transporters[i] = makeTransporter(landmass + "_Transporter_" + i, landmassNumber, landmass, bank);
+        }
+
+        // suppliers of raw materials
+        Directory directory = makeDirectory(landmass + "_Directory_Supplier", center, landmass);
+        for (int i = 0; i < p.getSuppliers(); i++)
+        {
+            var supplier = new SyntheticSupplier(landmass + "_Supplier_" + i, this, randomGeography(landmassNumber, landmass));
+            makeSeller(supplier, bank, directory, assignedProducts(this.tiers.get(0), i, p.getSuppliers()), transporters);
+            addActor("Supplier", supplier);
+        }
+
+        // manufacturers per tier, buying the components of their products from the previous layer
+        for (int tier = 1; tier <= p.getBomDepth(); tier++)
+        {
+            Directory supplyDirectory = directory;
+            directory = makeDirectory(landmass + "_Directory_Manufacturer_T" + tier, center, landmass);
+            for (int i = 0; i < p.getManufacturersPerTier(); i++)
+            {
+                var manufacturer = new SyntheticManufacturer(landmass + "_Manufacturer_T" + tier + "_" + i, this,
+                        randomGeography(landmassNumber, landmass));
+                List<Product> products = assignedProducts(this.tiers.get(tier), i, p.getManufacturersPerTier());
+                makeSeller(manufacturer, bank, directory, products, transporters);
+                makeBuyer(manufacturer, supplyDirectory);
+                makeManufacturing(manufacturer, products);
+                addActor("Manufacturer", manufacturer);
+            }
+        }
+
+        // distribution centers and retailers for the end products
+        List<Product> endProducts = this.tiers.get(p.getBomDepth());
+        if (p.getDistributionCenters() > 0)
+        {
+            Directory supplyDirectory = directory;
+            directory = makeDirectory(landmass + "_Directory_DistributionCenter", center, landmass);
+            for (int i = 0; i < p.getDistributionCenters(); i++)
+            {
+                var dc = new SyntheticDistributionCenter(landmass + "_DistributionCenter_" + i, this,
+                        randomGeography(landmassNumber, landmass));
+                makeSeller(dc, bank, directory, assignedProducts(endProducts, i, p.getDistributionCenters()), transporters);
+                makeBuyer(dc, supplyDirectory);
+                addRestocking(dc, dc.getWarehousingRole().getProductsInInventory());
+                addActor("DistributionCenter", dc);
+            }
+        }
+        Directory supplyDirectory = directory;
+        directory = makeDirectory(landmass + "_Directory_Retailer", center, landmass);
+        for (int i = 0; i < p.getRetailers(); i++)
+        {
+            var retailer = new SyntheticRetailer(landmass + "_Retailer_" + i, this, randomGeography(landmassNumber, landmass));
+            makeSeller(retailer, bank, directory, assignedProducts(endProducts, i, p.getRetailers()), transporters);
+            makeBuyer(retailer, supplyDirectory);
+            addRestocking(retailer, retailer.getWarehousingRole().getProductsInInventory());
+            addActor("Retailer", retailer);
+        }
+
+        // markets with demand for the end products
+        for (int i = 0; i < p.getMarkets(); i++)
+        {
+            makeMarket(landmass + "_Market_" + i, landmassNumber, landmass, bank, directory,
+                    assignedProducts(endProducts, i, p.getMarkets()));
+        }
+    }
+
+    /**
+     * Make a directory with a searching role.
+     * @param id the id of the directory
+     * @param location the location of the directory
+     * @param landmass the landmass of the directory
+     * @return the new directory
+     */
+    private Directory makeDirectory(final String id, final Point2d location, final String landmass)
+    {
+        Directory directory = new Directory(id, id, this, location, id, landmass);
+        directory.setSearchingRole(new SearchingRole(directory));
+        new SearchRequestHandler(directory, new DistConstantDuration(new Duration(10.0, DurationUnit.MINUTE)));
+        addActor("Directory", directory);
+        return directory;
+    }
+
+    /**
+     * Make a truck transporter that only operates on its own landmass.
+     * @param id the id of the transporter
+     * @param landmassNumber the number of the landmass
+     * @param landmass the name of the landmass
+     * @param bank the bank of the landmass
+     * @return the new transporter
+     */
+    private Transporter makeTransporter(final String id, final int landmassNumber, final String landmass, final Bank bank)
+    {
+        Geography geography = randomGeography(landmassNumber, landmass);
+        Transporter transporter =
+                new Transporter(id, id, this, geography.location(), geography.locationDescription(), landmass);
+        transporter.setTransportingRole(new TransportingRole(transporter));
+        transporter.setFinancingRole(new FinancingRole(transporter, bank, this.parameters.getInitialBalance()));
+        var transportModeProfitMarginMap = new LinkedHashMap<TransportMode, Double>();
+        transportModeProfitMarginMap.put(TransportMode.TRUCK, 0.2);
+        var directingRole = new DirectingRoleTransporting(transporter, transportModeProfitMarginMap);
+        directingRole.addTransportOnLandmass(landmass);
+        transporter.setDirectingRole(directingRole);
+        new TransportQuoteRequestHandler(transporter);
+        new TransportOrderHandler(transporter);
+        new TransportConfirmationHandler(transporter);
+        new TransportPaymentHandler(transporter);
+        addActor("Transporter", transporter);
+        return transporter;
+    }
+
+    /**
+     * Give a selling actor its roles and selling handlers, register it in the directory for its products, and put the initial
+     * stock of the products in its inventory.
+     * @param seller the selling actor
+     * @param bank the bank of the landmass
+     * @param directory the directory in which the seller registers its products
+     * @param products the products that the actor sells
+     * @param transporters the transporters that the actor can use
+     */
+    private void makeSeller(final SellingActorRFQ seller, final Bank bank, final Directory directory,
+            final List<Product> products, final TransportingActor[] transporters)
+    {
+        seller.setFinancingRole(new FinancingRole(seller, bank, this.parameters.getInitialBalance()));
+        seller.setWarehousingRole(new WarehousingRole(seller));
+        seller.setShippingRole(new ShippingRole(seller));
+        seller.setReceivingRole(new ReceivingRole(seller));
+        var sellingRole = new SellingRoleRFQ(seller);
+        seller.setSellingRole(sellingRole);
+        sellingRole.addTransporters(transporters);
+        seller.setDirectingRole(new DirectingRoleSelling(seller));
+
+        directory.getSearchingRole().register(seller, Topic.DEFAULT);
+        for (Product product : products)
+        {
+            directory.getSearchingRole().addSupplier(product, seller);
+            addStock(seller, product);
+        }
+
+        new RequestForQuoteHandler(seller);
+        new InventoryQuoteRequestHandler(seller);
+        new InventoryQuoteHandler(seller);
+        new TransportQuoteHandler(seller);
+        new OrderHandlerStock(seller);
+        new InventoryReservationRequestHandler(seller);
+        new InventoryReservationHandler(seller);
+        new InventoryReleaseRequestHandler(seller);
+        new InventoryReleaseHandler(seller);
+        new ShippingOrderHandler(seller);
+        new TransportInvoiceHandler(seller, PaymentPolicyEnum.PAYMENT_IMMEDIATE, new DistConstantDuration(Duration.ZERO));
+        new PaymentHandler(seller);
+    }
+
+    /**
+     * Give a selling actor a purchasing role and buying handlers, which search for suppliers in the given directory. The
+     * selling roles should have been set with makeSeller.
+     * @param buyer the buying actor
+     * @param supplyDirectory the directory in which the actor searches for suppliers
+     * @param <A> the type of the buying actor
+     */
+    private <A extends PurchasingActor & SellingActorRFQ> void makeBuyer(final A buyer, final Directory supplyDirectory)
+    {
+        buyer.setPurchasingRole(new PurchasingRoleSearch(buyer));
+        new DemandHandlerSearch(buyer, supplyDirectory, searchDistance(), 10);
+        TransportPreference transportPreference = new TransportPreference(new ArrayList<>(), CostTimeImportance.COST);
+        new SearchAnswerHandler(buyer, new Duration(1.0, DurationUnit.DAY), transportPreference);
+        new QuoteNoHandler(buyer);
+        new QuoteHandlerAll(buyer, QuoteComparatorEnum.SORT_PRICE_DATE_DISTANCE, 2.0, 0.1);
+        new OrderConfirmationHandler(buyer);
+        new InvoiceHandler(buyer, PaymentPolicyEnum.PAYMENT_IMMEDIATE, new DistConstantDuration(Duration.ZERO));
+        new TransportDeliveryHandlerStock(buyer);
+        new InventoryEntryHandler(buyer);
+        new FulfillmentHandler(buyer);
+    }
+
+    /**
+     * Give a manufacturer a manufacturing role with a production service per product, stock the components of the products,
+     * and restock the components from the previous layer.
+     * @param manufacturer the manufacturer
+     * @param products the products that the manufacturer makes
+     */
+    private void makeManufacturing(final SyntheticManufacturer manufacturer, final List<Product> products)
+    {
+        manufacturer.setManufacturingRole(new ManufacturingRole(manufacturer));
+        Map<Product, Boolean> components = new LinkedHashMap<>();
+        for (Product product : products)
+        {
+            manufacturer.getManufacturingRole().addProductionService(new ManufacturingServiceDelay(
+                    manufacturer.getWarehousingRole(), product,
+                    new DistContinuousDuration(new DistUniform(getDefaultStream(manufacturer), 1.0, 3.0), DurationUnit.DAY), true,
+                    true, 0.2));
+            for (Product component : product.getBillOfMaterials().getMaterials().keySet())
+            {
+                components.put(component, Boolean.TRUE);
+            }
+        }
+        for (Product component : components.keySet())
+        {
+            addStock(manufacturer, component);
+        }
+        addRestocking(manufacturer, components.keySet());
+    }
+
+    /**
+     * Make a market that generates demand for the given end products, and buys them from the retailers.
+     * @param id the id of the market
+     * @param landmassNumber the number of the landmass
+     * @param landmass the name of the landmass
+     * @param bank the bank of the landmass
+     * @param retailDirectory the directory of the retailers
+     * @param products the end products for which the market generates demand
+     */
+    private void makeMarket(final String id, final int landmassNumber, final String landmass, final Bank bank,
+            final Directory retailDirectory, final List<Product> products)
+    {
+        Customer market = new Customer(id, id, this, randomGeography(landmassNumber, landmass));
+        market.setPurchasingRole(new PurchasingRoleSearch(market));
+        market.setConsumingRole(new ConsumingRole(market, new DistConstantDuration(Duration.ZERO)));
+        market.setFinancingRole(new FinancingRole(market, bank, this.parameters.getInitialBalance()));
+        market.setReceivingRole(new ReceivingRole(market));
+
+        new DemandHandlerSearch(market, retailDirectory, searchDistance(), 100);
+        TransportPreference transportPreference = new TransportPreference(new ArrayList<>(), CostTimeImportance.COST);
+        new SearchAnswerHandler(market, new Duration(24.0, DurationUnit.HOUR), transportPreference);
+        new QuoteNoHandler(market);
+        new QuoteHandlerAll(market, QuoteComparatorEnum.SORT_PRICE_DATE_DISTANCE, 2.0, 0.0);
+        new OrderConfirmationHandler(market);
+        new InvoiceHandler(market, PaymentPolicyEnum.PAYMENT_ON_TIME, new DistConstantDuration(Duration.ZERO));
+        new TransportInvoiceHandler(market, PaymentPolicyEnum.PAYMENT_ON_TIME, new DistConstantDuration(Duration.ZERO));
+        new TransportDeliveryHandlerConsume(market);
+        new FulfillmentHandler(market);
+
+        double meanHours = this.parameters.getDemandInterval().getInUnit(DurationUnit.HOUR);
+        StreamInterface marketStream = getDefaultStream(market);
+        for (Product product : products)
+        {
+            new DemandGeneratingProcess(market, product)
+                    .setIntervalDistribution(
+                            new DistContinuousDuration(new DistExponential(marketStream, meanHours), DurationUnit.HOUR))
+                    .setAmountDistribution(new DistDiscreteUniform(marketStream, 1, 4))
+                    .setEarliestDeliveryDuration(new Duration(2.0, DurationUnit.DAY))
+                    .setLatestDeliveryDuration(new Duration(7.0, DurationUnit.DAY)).setStartAfterInterval().start();
+        }
+        addActor("Market", market);
+    }
+
+    /**
+     * Put the initial stock of a product in the inventory of an actor, valued at the unit market price.
+     * @param actor the warehousing actor
+     * @param product the product to stock
+     */
+    private void addStock(final WarehousingActor actor, final Product product)
+    {
+        double amount = this.parameters.getInitialStock();
+        actor.getWarehousingRole().getInventory().addToInventory(product, amount,
+                product.getUnitMarketPrice().multiplyBy(amount));
+    }
+
+    /**
+     * Add a safety stock restocking process for each of the given products to the inventory of an actor. The restocking
+     * process generates Demand that is handled by the purchasing role of the actor.
+     * @param actor the warehousing actor
+     * @param products the products to restock
+     */
+    private void addRestocking(final WarehousingActor actor, final Iterable<Product> products)
+    {
+        double amount = this.parameters.getInitialStock();
+        for (Product product : products)
+        {
+            new RestockingProcessSafety(actor, actor.getWarehousingRole().getInventory(), product,
+                    new Duration(24.0, DurationUnit.HOUR), false, amount, true, 2.0 * amount,
+                    new Duration(14.0, DurationUnit.DAY));
+        }
+    }
+
+    /**
+     * Return the products of a tier that are assigned to actor i of n. When there are at least as many products as actors, the
+     * products are divided round robin; otherwise, each actor gets one product, and products are sold by several actors.
+     * @param products the products of the tier
+     * @param i the index of the actor
+     * @param n the number of actors that sell the products of the tier
+     * @return the products assigned to the actor
+     */
+    static List<Product> assignedProducts(final List<Product> products, final int i, final int n)
+    {
+        if (n > products.size())
+        {
+            return List.of(products.get(i % products.size()));
+        }
+        List<Product> result = new ArrayList<>(products.size() / n + 1);
+        for (int j = i; j < products.size(); j += n)
+        {
+            result.add(products.get(j));
+        }
+        return result;
+    }
+
+    /**
+     * Return a geography at a random location on the square area of a landmass.
+     * @param landmassNumber the number of the landmass
+     * @param landmass the name of the landmass
+     * @return a geography at a random location on the landmass
+     */
+    private Geography randomGeography(final int landmassNumber, final String landmass)
+    {
+        double size = this.parameters.getLandmassSize().getInUnit(LengthUnit.KILOMETER);
+        double x = (2.0 * landmassNumber + this.stream.nextDouble()) * size;
+        double y = this.stream.nextDouble() * size;
+        return new Geography(new Point2d(x, y), landmass, landmass);
+    }
+
+    /**
+     * Return the maximum search distance, which covers the whole area of a landmass.
+     * @return the maximum search distance
+     */
+    private Length searchDistance()
+    {
+        return this.parameters.getLandmassSize().times(2.0);
+    }
+
+    /**
+     * Return a uniformly distributed integer between 0 (inclusive) and n (exclusive).
+     * @param n the number of values
+     * @return a uniformly distributed integer between 0 and n - 1
+     */
+    private int draw(final int n)
+    {
+        return n == 1 ? 0 : this.stream.nextInt(0, n - 1);
+    }
+
+    /**
+     * Register a generated actor under its type.
+     * @param type the type of the actor, e.g., "Retailer"
+     * @param actor the actor
+     */
+    private void addActor(final String type, final Actor actor)
+    {
+        this.actors.computeIfAbsent(type, t -> new ArrayList<>()).add(actor);
+    }
+
+    /**
+     * Return the parameters of the network.
+     * @return the parameters of the network
+     */
+    public SyntheticNetworkParameters getParameters()
+    {
+        return this.parameters;
+    }
+
+    /**
+     * Return the products of a tier; tier 0 contains the raw materials, and tier bomDepth the end products.
+     * @param tier the tier, between 0 and bomDepth
+     * @return an unmodifiable list with the products of the tier
+     */
+    public List<Product> getProducts(final int tier)
+    {
+        Throw.when(tier < 0 || tier >= this.tiers.size(), IndexOutOfBoundsException.class, "tier %d does not exist", tier);
+        return Collections.unmodifiableList(this.tiers.get(tier));
+    }
+
+    /**
+     * Return the generated actors of a type, e.g., "Supplier", "Manufacturer", "DistributionCenter", "Retailer", "Market",
+     * "Transporter", "Directory", or "Bank".
+     * @param type the type of the actors
+     * @return an unmodifiable list with the actors of the type; empty when there are no actors of the type
+     */
+    public List<Actor> getActors(final String type)
+    {
+        return Collections.unmodifiableList(this.actors.getOrDefault(type, List.of()));
+    }
+
+    /**
+     * Return the total number of generated actors.
+     * @return the total number of generated actors
+     */
+    public int getNumberOfActors()
+    {
+        int n = 0;
+        for (List<Actor> list : this.actors.values())
+        {
+            n += list.size();
+        }
+        return n;
+    }
+
+    @Override
+    public StreamInterface getDefaultStream(final Actor actor)
+    {
+        StreamInterface landmassStream = this.landmassStreams.get(actor.getGeography().landmass());
+        return landmassStream != null ? landmassStream : getDefaultStream();
+    }
+
+    @Override
+    public Length calculateDistance(final Point<?> loc1, final Point<?> loc2)
+    {
+        double dx = loc2.getX() - loc1.getX();
+        double dy = loc2.getY() - loc1.getY();
+        return new Length(Math.sqrt(dx * dx + dy * dy), LengthUnit.KILOMETER);
+    }
+
+}
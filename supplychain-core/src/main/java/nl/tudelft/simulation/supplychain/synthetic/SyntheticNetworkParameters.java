@@ -0,0 +1,428 @@
+package nl.tudelft.simulation.supplychain.synthetic;
+
+import java.io.Serializable;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.unit.LengthUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Length;
+import org.djutils.exceptions.Throw;
+
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
+
+/**
+ * SyntheticNetworkParameters describes the size and shape of a network that is generated by the SyntheticNetworkModel. The
+ * numbers of actors are given per landmass, and the numbers of products per tier of the bill of materials. The setters return
+ * the parameters object, so they can be chained, e.g., <code>new SyntheticNetworkParameters().setLandmasses(4).setBomDepth(3)
+ * .setProductsPerTier(2500)</code>. The defaults describe a small network of about 20 actors on one landmass.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SyntheticNetworkParameters implements Serializable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the number of landmasses, each with its own bank, directories, transporters and actors. */
+    private int landmasses = 1;
+
+    /** the number of manufacturing tiers; tier 0 contains the raw materials of the suppliers. */
+    private int bomDepth = 2;
+
+    /** the number of products in each tier of the bill of materials. */
+    private int productsPerTier = 4;
+
+    /** the number of components in the bill of materials of a manufactured product. */
+    private int componentsPerProduct = 2;
+
+    /** the number of suppliers of raw materials per landmass. */
+    private int suppliers = 2;
+
+    /** the number of manufacturers per manufacturing tier per landmass. */
+    private int manufacturersPerTier = 2;
+
+    /** the number of distribution centers per landmass; 0 means that retailers buy from the last manufacturing tier. */
+    private int distributionCenters = 2;
+
+    /** the number of retailers per landmass. */
+    private int retailers = 4;
+
+    /** the number of markets (customers) per landmass. */
+    private int markets = 2;
+
+    /** the number of transporters per landmass. */
+    private int transporters = 1;
+
+    /** the width and height of the square area of each landmass on which the actors are placed. */
+    private Length landmassSize = new Length(1000.0, LengthUnit.KILOMETER);
+
+    /** the mean interval of the demand of a market for one end product. */
+    private Duration demandInterval = new Duration(24.0, DurationUnit.HOUR);
+
+    /** the initial stock of each product in each inventory. */
+    private double initialStock = 20.0;
+
+    /** the initial bank balance of each actor. */
+    private Money initialBalance = new Money(1.0E6, MoneyUnit.USD);
+
+    /** the depreciation of the products as a factor per day. */
+    private double depreciation = 0.0;
+
+    /**
+     * Return the number of landmasses.
+     * @return the number of landmasses
+     */
+    public int getLandmasses()
+    {
+        return this.landmasses;
+    }
+
+    /**
+     * Set the number of landmasses, each with its own bank, directories, transporters and actors.
+     * @param landmasses the number of landmasses, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setLandmasses(final int landmasses)
+    {
+        Throw.when(landmasses < 1, IllegalArgumentException.class, "landmasses should be at least 1");
+        this.landmasses = landmasses;
+        return this;
+    }
+
+    /**
+     * Return the number of manufacturing tiers.
+     * @return the number of manufacturing tiers
+     */
+    public int getBomDepth()
+    {
+        return this.bomDepth;
+    }
+
+    /**
+     * Set the number of manufacturing tiers. Tier 0 contains the raw materials, and the products of tier t are assembled from
+     * the products of tier t - 1. The products of the highest tier are the end products that are sold to the markets.
+     * @param bomDepth the number of manufacturing tiers, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setBomDepth(final int bomDepth)
+    {
+        Throw.when(bomDepth < 1, IllegalArgumentException.class, "bomDepth should be at least 1");
+        this.bomDepth = bomDepth;
+        return this;
+    }
+
+    /**
+     * Return the number of products in each tier.
+     * @return the number of products in each tier
+     */
+    public int getProductsPerTier()
+    {
+        return this.productsPerTier;
+    }
+
+    /**
+     * Set the number of products in each tier of the bill of materials. The total number of products is productsPerTier *
+     * (bomDepth + 1).
+     * @param productsPerTier the number of products in each tier, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setProductsPerTier(final int productsPerTier)
+    {
+        Throw.when(productsPerTier < 1, IllegalArgumentException.class, "productsPerTier should be at least 1");
+        this.productsPerTier = productsPerTier;
+        return this;
+    }
+
+    /**
+     * Return the number of components in the bill of materials of a manufactured product.
+     * @return the number of components in the bill of materials of a manufactured product
+     */
+    public int getComponentsPerProduct()
+    {
+        return this.componentsPerProduct;
+    }
+
+    /**
+     * Set the number of components in the bill of materials of a manufactured product. When there are fewer products per tier,
+     * all products of the lower tier are used.
+     * @param componentsPerProduct the number of components per product, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setComponentsPerProduct(final int componentsPerProduct)
+    {
+        Throw.when(componentsPerProduct < 1, IllegalArgumentException.class, "componentsPerProduct should be at least 1");
+        this.componentsPerProduct = componentsPerProduct;
+        return this;
+    }
+
+    /**
+     * Return the number of suppliers per landmass.
+     * @return the number of suppliers per landmass
+     */
+    public int getSuppliers()
+    {
+        return this.suppliers;
+    }
+
+    /**
+     * Set the number of suppliers of raw materials per landmass.
+     * @param suppliers the number of suppliers per landmass, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setSuppliers(final int suppliers)
+    {
+        Throw.when(suppliers < 1, IllegalArgumentException.class, "suppliers should be at least 1");
+        this.suppliers = suppliers;
+        return this;
+    }
+
+    /**
+     * Return the number of manufacturers per manufacturing tier per landmass.
+     * @return the number of manufacturers per manufacturing tier per landmass
+     */
+    public int getManufacturersPerTier()
+    {
+        return this.manufacturersPerTier;
+    }
+
+    /**
+     * Set the number of manufacturers per manufacturing tier per landmass.
+     * @param manufacturersPerTier the number of manufacturers per tier per landmass, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setManufacturersPerTier(final int manufacturersPerTier)
+    {
+        Throw.when(manufacturersPerTier < 1, IllegalArgumentException.class, "manufacturersPerTier should be at least 1");
+        this.manufacturersPerTier = manufacturersPerTier;
+        return this;
+    }
+
+    /**
+     * Return the number of distribution centers per landmass.
+     * @return the number of distribution centers per landmass
+     */
+    public int getDistributionCenters()
+    {
+        return this.distributionCenters;
+    }
+
+    /**
+     * Set the number of distribution centers per landmass. When the number is 0, the retailers buy directly from the
+     * manufacturers of the highest tier.
+     * @param distributionCenters the number of distribution centers per landmass, at least 0
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setDistributionCenters(final int distributionCenters)
+    {
+        Throw.when(distributionCenters < 0, IllegalArgumentException.class, "distributionCenters cannot be negative");
+        this.distributionCenters = distributionCenters;
+        return this;
+    }
+
+    /**
+     * Return the number of retailers per landmass.
+     * @return the number of retailers per landmass
+     */
+    public int getRetailers()
+    {
+        return this.retailers;
+    }
+
+    /**
+     * Set the number of retailers per landmass.
+     * @param retailers the number of retailers per landmass, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setRetailers(final int retailers)
+    {
+        Throw.when(retailers < 1, IllegalArgumentException.class, "retailers should be at least 1");
+        this.retailers = retailers;
+        return this;
+    }
+
+    /**
+     * Return the number of markets per landmass.
+     * @return the number of markets per landmass
+     */
+    public int getMarkets()
+    {
+        return this.markets;
+    }
+
+    /**
+     * Set the number of markets (customers) per landmass.
+     * @param markets the number of markets per landmass, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setMarkets(final int markets)
+    {
+        Throw.when(markets < 1, IllegalArgumentException.class, "markets should be at least 1");
+        this.markets = markets;
+        return this;
+    }
+
+    /**
+     * Return the number of transporters per landmass.
+     * @return the number of transporters per landmass
+     */
+    public int getTransporters()
+    {
+        return this.transporters;
+    }
+
+    /**
+     * Set the number of transporters per landmass.
+     * @param transporters the number of transporters per landmass, at least 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setTransporters(final int transporters)
+    {
+        Throw.when(transporters < 1, IllegalArgumentException.class, "transporters should be at least 1");
+        this.transporters = transporters;
+        return this;
+    }
+
+    /**
+     * Return the width and height of the area of each landmass.
+     * @return the width and height of the area of each landmass
+     */
+    public Length getLandmassSize()
+    {
+        return this.landmassSize;
+    }
+
+    /**
+     * Set the width and height of the square area of each landmass on which the actors are placed at random.
+     * @param landmassSize the width and height of the area of each landmass, larger than 0
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setLandmassSize(final Length landmassSize)
+    {
+        Throw.whenNull(landmassSize, "landmassSize cannot be null");
+        Throw.when(landmassSize.si <= 0.0, IllegalArgumentException.class, "landmassSize should be larger than 0");
+        this.landmassSize = landmassSize;
+        return this;
+    }
+
+    /**
+     * Return the mean interval of the demand of a market for one end product.
+     * @return the mean interval of the demand of a market for one end product
+     */
+    public Duration getDemandInterval()
+    {
+        return this.demandInterval;
+    }
+
+    /**
+     * Set the mean of the exponentially distributed interval of the demand of a market for one end product.
+     * @param demandInterval the mean demand interval, larger than 0
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setDemandInterval(final Duration demandInterval)
+    {
+        Throw.whenNull(demandInterval, "demandInterval cannot be null");
+        Throw.when(demandInterval.si <= 0.0, IllegalArgumentException.class, "demandInterval should be larger than 0");
+        this.demandInterval = demandInterval;
+        return this;
+    }
+
+    /**
+     * Return the initial stock of each product in each inventory.
+     * @return the initial stock of each product in each inventory
+     */
+    public double getInitialStock()
+    {
+        return this.initialStock;
+    }
+
+    /**
+     * Set the initial stock of each product in each inventory. The restocking processes use the same amount as their order
+     * amount, and twice the amount as their safety stock.
+     * @param initialStock the initial stock, larger than 0
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setInitialStock(final double initialStock)
+    {
+        Throw.when(!(initialStock > 0.0), IllegalArgumentException.class, "initialStock should be larger than 0");
+        this.initialStock = initialStock;
+        return this;
+    }
+
+    /**
+     * Return the initial bank balance of each actor.
+     * @return the initial bank balance of each actor
+     */
+    public Money getInitialBalance()
+    {
+        return this.initialBalance;
+    }
+
+    /**
+     * Set the initial bank balance of each actor.
+     * @param initialBalance the initial bank balance of each actor
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setInitialBalance(final Money initialBalance)
+    {
+        Throw.whenNull(initialBalance, "initialBalance cannot be null");
+        this.initialBalance = initialBalance;
+        return this;
+    }
+
+    /**
+     * Return the depreciation of the products as a factor per day.
+     * @return the depreciation of the products as a factor per day
+     */
+    public double getDepreciation()
+    {
+        return this.depreciation;
+    }
+
+    /**
+     * Set the depreciation of all products as a factor per day.
+     * @param depreciation the depreciation as a factor per day, between 0 and 1
+     * @return the parameters for method chaining
+     */
+    public SyntheticNetworkParameters setDepreciation(final double depreciation)
+    {
+        Throw.when(!(depreciation >= 0.0 && depreciation < 1.0), IllegalArgumentException.class,
+                "depreciation should be between 0 and 1");
+        this.depreciation = depreciation;
+        return this;
+    }
+
+    /**
+     * Return the total number of products that will be generated.
+     * @return the total number of products
+     */
+    public int getNumberOfProducts()
+    {
+        return this.productsPerTier * (this.bomDepth + 1);
+    }
+
+    /**
+     * Return the total number of actors that will be generated, including the banks, directories and transporters.
+     * @return the total number of actors
+     */
+    public int getNumberOfActors()
+    {
+        int directories = this.bomDepth + 2 + (this.distributionCenters > 0 ? 1 : 0);
+        return this.landmasses * (1 + directories + this.transporters + this.suppliers
+                + this.bomDepth * this.manufacturersPerTier + this.distributionCenters + this.retailers + this.markets);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SyntheticNetworkParameters [landmasses=" + this.landmasses + ", bomDepth=" + this.bomDepth
+                + ", productsPerTier=" + this.productsPerTier + ", componentsPerProduct=" + this.componentsPerProduct
+                + ", suppliers=" + this.suppliers + ", manufacturersPerTier=" + this.manufacturersPerTier
+                + ", distributionCenters=" + this.distributionCenters + ", retailers=" + this.retailers + ", markets="
+                + this.markets + ", transporters=" + this.transporters + "]";
+    }
+
+}
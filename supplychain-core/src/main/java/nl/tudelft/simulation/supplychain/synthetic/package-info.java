@@ -0,0 +1,10 @@
+/**
+ * Generation of synthetic supply chain networks of configurable size, with many tiers, actors and products, built from the
+ * reference actors. The networks are the workload to measure how the framework scales.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+package nl.tudelft.simulation.supplychain.synthetic;
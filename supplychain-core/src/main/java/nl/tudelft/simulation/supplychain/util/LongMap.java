@@ -0,0 +1,339 @@
+package nl.tudelft.simulation.supplychain.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * LongMap is a compact, unsynchronized hash map with primitive long keys and non-null values. It uses open addressing with
+ * linear probing, so no Long objects or map entries are created when storing or retrieving values. The map is meant for the hot
+ * paths of single-threaded simulations, where keys are ids such as the uniqueId or groupingId of content. The map is serialized
+ * as its number of entries followed by the key-value pairs, without the empty slots of the table.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ * @param <V> the value type
+ */
+public class LongMap<V> implements Serializable
+{
+    /** */
+    private static final long serialVersionUID = 20250301L;
+
+    /** the keys. */
+    private transient long[] keys;
+
+    /** the values; a null value indicates an empty slot. */
+    private transient Object[] values;
+
+    /** the number of stored entries. */
+    private transient int size;
+
+    /** mask to map the hash onto the table length (table length is always a power of 2). */
+    private transient int mask;
+
+    /**
+     * Create an empty map with a default initial capacity.
+     */
+    public LongMap()
+    {
+        this(16);
+    }
+
+    /**
+     * Create an empty map that can hold the indicated number of entries without resizing.
+     * @param initialCapacity the expected number of entries
+     */
+    public LongMap(final int initialCapacity)
+    {
+        Throw.when(initialCapacity < 0, IllegalArgumentException.class, "initialCapacity cannot be negative");
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Allocate an empty table that can hold the indicated number of entries without resizing.
+     * @param initialCapacity the expected number of entries
+     */
+    private void allocate(final int initialCapacity)
+    {
+        int capacity = Integer.highestOneBit(Math.max(4, initialCapacity * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.size = 0;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Spread the bits of the key to get a good distribution for sequential ids.
+     * @param key the key
+     * @return the start slot for the key
+     */
+    private int slot(final long key)
+    {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & this.mask;
+    }
+
+    /**
+     * Return the slot where the key is stored, or -1 when the key is not in the map.
+     * @param key the key to look up
+     * @return the slot where the key is stored, or -1 when the key is not in the map
+     */
+    private int find(final long key)
+    {
+        int i = slot(key);
+        while (this.values[i] != null)
+        {
+            if (this.keys[i] == key)
+            {
+                return i;
+            }
+            i = (i + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Return the value for the key, or null when the key is not in the map.
+     * @param key the key to look up
+     * @return the value for the key, or null when the key is not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long key)
+    {
+        int i = find(key);
+        return i < 0 ? null : (V) this.values[i];
+    }
+
+    /**
+     * Return whether the map contains the key.
+     * @param key the key to look up
+     * @return whether the map contains the key
+     */
+    public boolean containsKey(final long key)
+    {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Store a value for the key, replacing an earlier value for the same key.
+     * @param key the key
+     * @param value the value, not null
+     * @return the previous value for the key, or null when the key was not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final long key, final V value)
+    {
+        Throw.whenNull(value, "value cannot be null");
+        int i = slot(key);
+        while (this.values[i] != null)
+        {
+            if (this.keys[i] == key)
+            {
+                V old = (V) this.values[i];
+                this.values[i] = value;
+                return old;
+            }
+            i = (i + 1) & this.mask;
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+        if (++this.size * 2 > this.values.length)
+        {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Return the value for the key; when the key is not in the map, create the value with the given function and store it.
+     * @param key the key
+     * @param function the function to create a value for the key when it is not in the map
+     * @return the (possibly new) value for the key
+     */
+    public V computeIfAbsent(final long key, final LongFunction<V> function)
+    {
+        V value = get(key);
+        if (value == null)
+        {
+            value = function.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove the key from the map.
+     * @param key the key to remove
+     * @return the value that was stored for the key, or null when the key was not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final long key)
+    {
+        int i = find(key);
+        if (i < 0)
+        {
+            return null;
+        }
+        V old = (V) this.values[i];
+        this.values[i] = null;
+        this.size--;
+        // shift the following entries of the probe sequence back, so lookups do not stop at the emptied slot
+        int j = (i + 1) & this.mask;
+        while (this.values[j] != null)
+        {
+            int home = slot(this.keys[j]);
+            if (((j - home) & this.mask) >= ((j - i) & this.mask))
+            {
+                this.keys[i] = this.keys[j];
+                this.values[i] = this.values[j];
+                this.values[j] = null;
+                i = j;
+            }
+            j = (j + 1) & this.mask;
+        }
+        return old;
+    }
+
+    /**
+     * Double the table size and rehash all entries.
+     */
+    private void resize()
+    {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new Object[oldValues.length * 2];
+        this.mask = this.keys.length - 1;
+        for (int k = 0; k < oldValues.length; k++)
+        {
+            if (oldValues[k] != null)
+            {
+                int i = slot(oldKeys[k]);
+                while (this.values[i] != null)
+                {
+                    i = (i + 1) & this.mask;
+                }
+                this.keys[i] = oldKeys[k];
+                this.values[i] = oldValues[k];
+            }
+        }
+    }
+
+    /**
+     * Return the number of entries in the map.
+     * @return the number of entries in the map
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Return whether the map is empty.
+     * @return whether the map is empty
+     */
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Return a new list with the values in the map. The order of the values is deterministic, but not the insertion order.
+     * @return a new list with the values in the map
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values()
+    {
+        List<V> result = new ArrayList<>(this.size);
+        for (Object value : this.values)
+        {
+            if (value != null)
+            {
+                result.add((V) value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return a new array with the keys in the map, in the same order as the values() method.
+     * @return a new array with the keys in the map
+     */
+    public long[] keys()
+    {
+        long[] result = new long[this.size];
+        int n = 0;
+        for (int i = 0; i < this.values.length; i++)
+        {
+            if (this.values[i] != null)
+            {
+                result[n++] = this.keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove all entries from the map.
+     */
+    public void clear()
+    {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Write the number of entries and the key-value pairs of the map.
+     * @param out the stream to write the map to
+     * @throws IOException on I/O error
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        out.writeInt(this.size);
+        for (int i = 0; i < this.values.length; i++)
+        {
+            if (this.values[i] != null)
+            {
+                out.writeLong(this.keys[i]);
+                out.writeObject(this.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Read the number of entries and the key-value pairs of the map, and rebuild the table.
+     * @param in the stream to read the map from
+     * @throws IOException on I/O error
+     * @throws ClassNotFoundException when the class of a value cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        int n = in.readInt();
+        Throw.when(n < 0, IOException.class, "negative size of LongMap in stream");
+        allocate(n);
+        for (int i = 0; i < n; i++)
+        {
+            long key = in.readLong();
+            put(key, (V) in.readObject());
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LongMap [size=" + this.size + "]";
+    }
+
+}
@@ -0,0 +1,66 @@
+package nl.tudelft.supplychain.actor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.supplychain.actor.RoleDispatchTest.RecordingHandler;
+import nl.tudelft.supplychain.actor.RoleTest.TestRole;
+import nl.tudelft.supplychain.content.ContentTest.TestContent;
+import nl.tudelft.supplychain.content.store.ContentStoreIndexedTest.TestGroupedContent;
+
+/**
+ * ActorRoutingTest tests the routing of received content to the roles of an actor.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ActorRoutingTest
+{
+    /**
+     * Test that content is only offered to the roles with a handler, and that unrouted content is counted.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testRouting() throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        TestRole role = new TestRole("ROLE", actor1, new ContentReceiverDirect());
+        actor1.registerRole(TestRole.class, role);
+        assertTrue(actor1.getRoutedRoles(TestGroupedContent.class).isEmpty());
+
+        TestGroupedContent grouped = new TestGroupedContent(actor2, actor1, 1L);
+        actor1.receiveContent(grouped);
+        assertEquals(1L, actor1.getUnroutedContentCount());
+
+        // registering a handler in the role updates the routing of the actor
+        RecordingHandler<GroupedContent> handler = new RecordingHandler<>("GH", role, GroupedContent.class);
+        assertEquals(List.of(role), actor1.getRoutedRoles(TestGroupedContent.class));
+        actor1.receiveContent(grouped);
+        assertEquals(1L, actor1.getUnroutedContentCount());
+        assertEquals(1, handler.getHandled().size());
+
+        actor1.receiveContent(new TestContent(actor2, actor1));
+        assertEquals(2L, actor1.getUnroutedContentCount());
+    }
+}
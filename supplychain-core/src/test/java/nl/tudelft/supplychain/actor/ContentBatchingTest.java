@@ -0,0 +1,82 @@
+package nl.tudelft.supplychain.actor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.supplychain.actor.RoleDispatchTest.RecordingHandler;
+import nl.tudelft.supplychain.actor.RoleTest.TestRole;
+import nl.tudelft.supplychain.content.store.ContentStoreIndexedTest.TestGroupedContent;
+
+/**
+ * ContentBatchingTest tests the delivery of content in batches per receiver and delivery time.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentBatchingTest
+{
+    /**
+     * Test that content for the same receiver and delivery time results in one event, delivered in order of sending.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testContentBatching() throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor sender = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor receiver = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        TestActor other = new TestActor("TA3", "TestActor3", model, new Point2d(30, 30), "Houston, TX");
+        TestRole role = new TestRole("ROLE", receiver, new ContentReceiverDirect());
+        receiver.registerRole(TestRole.class, role);
+        RecordingHandler<GroupedContent> handler = new RecordingHandler<>("GH", role, GroupedContent.class);
+
+        assertFalse(sender.isContentBatching());
+        sender.setContentBatching(true);
+        assertTrue(sender.isContentBatching());
+        List<SimEventInterface<Duration>> before = new ArrayList<>();
+        simulator.getEventList().forEach(before::add);
+
+        List<TestGroupedContent> sent = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+        {
+            TestGroupedContent content = new TestGroupedContent(sender, receiver, i);
+            sent.add(content);
+            sender.sendContent(content, Duration.ZERO);
+        }
+        sender.sendContent(new TestGroupedContent(sender, other, 10L), Duration.ZERO);
+        sender.sendContent(new TestGroupedContent(sender, receiver, 11L), new Duration(1.0, DurationUnit.HOUR));
+        assertEquals(before.size() + 3, simulator.getEventList().size());
+
+        // execute the batch for the receiver at time zero
+        for (SimEventInterface<Duration> event : simulator.getEventList())
+        {
+            if (!before.contains(event) && event.getAbsoluteExecutionTime().si == 0.0)
+            {
+                event.execute();
+            }
+        }
+        assertEquals(sent, handler.getHandled());
+    }
+}
@@ -0,0 +1,114 @@
+package nl.tudelft.supplychain.actor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.handler.ContentHandler;
+import nl.tudelft.supplychain.actor.RoleTest.TestRole;
+import nl.tudelft.supplychain.content.ContentTest.TestContent;
+import nl.tudelft.supplychain.content.store.ContentStoreIndexedTest.TestGroupedContent;
+
+/**
+ * RoleDispatchTest tests the cached dispatch of content to the content handlers of a Role.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class RoleDispatchTest
+{
+    /**
+     * Test resolving handlers via the interfaces of the content class, and invalidating the cache when a handler is set.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testDispatch() throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        TestRole role = new TestRole("ROLE", actor1, new ContentReceiverDirect());
+
+        TestGroupedContent grouped = new TestGroupedContent(actor2, actor1, 1L);
+        assertTrue(role.getContentHandlers(TestGroupedContent.class).isEmpty());
+        assertFalse(role.handleContent(grouped));
+
+        // a handler for the GroupedContent interface is found through the interfaces of the content class
+        RecordingHandler<GroupedContent> groupedHandler = new RecordingHandler<>("GH", role, GroupedContent.class);
+        assertEquals(List.of(groupedHandler), role.getContentHandlers(TestGroupedContent.class));
+        assertSame(role.getContentHandlers(TestGroupedContent.class), role.getContentHandlers(TestGroupedContent.class));
+        assertTrue(role.handleContent(grouped));
+        assertEquals(List.of(grouped), groupedHandler.handled);
+
+        // content that only implements Content does not reach the GroupedContent handler
+        TestContent ungrouped = new TestContent(actor2, actor1);
+        assertFalse(role.handleContent(ungrouped));
+
+        // an exact handler takes precedence, and setting it invalidates the cached resolution
+        RecordingHandler<TestGroupedContent> exactHandler = new RecordingHandler<>("EH", role, TestGroupedContent.class);
+        assertEquals(List.of(exactHandler), role.getContentHandlers(TestGroupedContent.class));
+        assertTrue(role.handleContent(grouped));
+        assertEquals(1, groupedHandler.handled.size());
+        assertEquals(List.of(grouped), exactHandler.handled);
+    }
+
+    /**
+     * Content handler that records the content it handles.
+     * @param <C> the content class
+     */
+    static class RecordingHandler<C extends Content> extends ContentHandler<C, TestRole>
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the handled content. */
+        private final List<Content> handled = new ArrayList<>();
+
+        /**
+         * @param id the id of the handler
+         * @param role the role that owns this handler
+         * @param contentClass the content type that this handler can process
+         */
+        RecordingHandler(final String id, final TestRole role, final Class<C> contentClass)
+        {
+            super(id, role, contentClass);
+        }
+
+        @Override
+        public boolean handleContent(final C content)
+        {
+            this.handled.add(content);
+            return true;
+        }
+
+        /**
+         * @return the handled content
+         */
+        List<Content> getHandled()
+        {
+            return this.handled;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package nl.tudelft.supplychain.content.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.content.journal.ContentJournal;
+import nl.tudelft.simulation.supplychain.content.journal.ContentJournalReader;
+import nl.tudelft.simulation.supplychain.content.journal.ContentJournalRecord;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.supplychain.actor.TestActor;
+import nl.tudelft.supplychain.actor.TestModel;
+import nl.tudelft.supplychain.content.ContentTest.TestContent;
+import nl.tudelft.supplychain.content.store.ContentStoreIndexedTest.TestGroupedContent;
+
+/**
+ * ContentJournalTest writes content to a journal with small segments, and reads it back.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentJournalTest
+{
+    /** temporary directory for the journal. */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Test writing and reading the content journal.
+     * @throws ActorAlreadyDefinedException on error
+     * @throws IOException on error
+     */
+    @Test
+    public void testContentJournal() throws ActorAlreadyDefinedException, IOException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+
+        try (ContentJournal journal = new ContentJournal(this.tempDir, "journal", 1024))
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                journal.write(new TestGroupedContent(actor1, actor2, i));
+                journal.write(new TestContent(actor2, actor1));
+            }
+            assertEquals(200, journal.getRecordCount());
+            assertTrue(journal.getNumberOfSegments() > 1);
+        }
+
+        ContentJournalReader reader = new ContentJournalReader(this.tempDir, "journal");
+        assertTrue(reader.getNumberOfSegments() > 1);
+        List<ContentJournalRecord> records = reader.stream().toList();
+        assertEquals(200, records.size());
+        ContentJournalRecord r0 = records.get(0);
+        assertEquals("TestGroupedContent", r0.contentType());
+        assertEquals("TA1", r0.senderId());
+        assertEquals("TA2", r0.receiverId());
+        assertEquals(0L, r0.groupingId());
+        assertNull(r0.product());
+        assertTrue(Double.isNaN(r0.price()));
+        ContentJournalRecord r199 = records.get(199);
+        assertEquals("TestContent", r199.contentType());
+        assertFalse(r199.hasGroupingId());
+        assertEquals(99L, records.get(198).groupingId());
+        for (int i = 1; i < records.size(); i++)
+        {
+            assertTrue(records.get(i).uniqueId() > records.get(i - 1).uniqueId());
+        }
+    }
+
+    /**
+     * Test that a new journal removes the segments of an earlier, longer journal with the same name, and that a string that
+     * does not fit in a segment is refused with a clear exception.
+     * @throws ActorAlreadyDefinedException on error
+     * @throws IOException on error
+     */
+    @Test
+    public void testReuseAndRecordSize() throws ActorAlreadyDefinedException, IOException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+
+        try (ContentJournal journal = new ContentJournal(this.tempDir, "journal", 1024))
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                journal.write(new TestContent(actor1, actor2));
+            }
+        }
+        ContentJournalReader reader = new ContentJournalReader(this.tempDir, "journal");
+        assertTrue(reader.getNumberOfSegments() > 2);
+        try (ContentJournal journal = new ContentJournal(this.tempDir, "journal", 1024))
+        {
+            for (int i = 0; i < 3; i++)
+            {
+                journal.write(new TestContent(actor2, actor1));
+            }
+        }
+        assertEquals(1, reader.getNumberOfSegments());
+        List<ContentJournalRecord> records = reader.stream().toList();
+        assertEquals(3, records.size());
+        assertTrue(records.stream().allMatch(r -> r.senderId().equals("TA2")));
+
+        TestActor longId = new TestActor("L".repeat(2000), "TestActorLong", model, new Point2d(30, 30), "Houston, TX");
+        try (ContentJournal journal = new ContentJournal(this.tempDir, "long", 1024))
+        {
+            assertThrows(IllegalArgumentException.class, () -> journal.write(new TestContent(longId, actor1)));
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+package nl.tudelft.supplychain.content.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.actor.Geography;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.OrderBasedOnQuote;
+import nl.tudelft.simulation.supplychain.content.OrderConfirmation;
+import nl.tudelft.simulation.supplychain.content.OrderStandalone;
+import nl.tudelft.simulation.supplychain.content.Quote;
+import nl.tudelft.simulation.supplychain.content.RequestForQuote;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreFull;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreIndexed;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreInterface;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+import nl.tudelft.supplychain.actor.TestActor;
+import nl.tudelft.supplychain.actor.TestModel;
+import nl.tudelft.supplychain.content.ContentTest.TestContent;
+
+/**
+ * ContentStoreIndexedTest tests the indexed content store.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentStoreIndexedTest
+{
+    /**
+     * Test storing, retrieving and removing content in the ContentStoreIndexed.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testContentStoreIndexed() throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        ContentStoreIndexed store = new ContentStoreIndexed();
+        store.setOwner(actor1);
+        assertEquals(actor1, store.getOwner());
+
+        TestGroupedContent c1a = new TestGroupedContent(actor1, actor2, 1L);
+        TestGroupedContent c1b = new TestGroupedContent(actor1, actor2, 1L);
+        TestGroupedContent c2 = new TestGroupedContent(actor2, actor1, 2L);
+        TestContent ungrouped = new TestContent(actor1, actor2);
+        store.addContent(c1a, true);
+        store.addContent(c1b, true);
+        store.addContent(c2, false);
+        store.addContent(ungrouped, true);
+
+        assertEquals(2, store.getContentList(1L, TestGroupedContent.class, true).size());
+        assertEquals(c1a, store.getContentList(1L, TestGroupedContent.class, true).get(0));
+        assertEquals(0, store.getContentList(1L, TestGroupedContent.class, false).size());
+        assertEquals(1, store.getContentList(2L, TestGroupedContent.class, false).size());
+        assertEquals(0, store.getContentList(3L, TestGroupedContent.class).size());
+        assertTrue(store.contains(c1a));
+        assertTrue(store.contains(c2));
+        assertTrue(store.contains(ungrouped));
+        assertTrue(store.contains(1L, TestGroupedContent.class));
+        assertFalse(store.contains(3L, TestGroupedContent.class));
+
+        store.removeSentReceivedContent(c1a, true);
+        assertFalse(store.contains(c1a));
+        assertEquals(1, store.getContentList(1L, TestGroupedContent.class, true).size());
+        assertEquals(2, store.getContentList(1L, TestGroupedContent.class).size());
+
+        store.removeContent(ungrouped, true);
+        assertFalse(store.contains(ungrouped));
+
+        store.removeAllContent(1L);
+        assertFalse(store.contains(c1b));
+        assertFalse(store.contains(1L, TestGroupedContent.class));
+        assertEquals(0, store.getContentList(1L, TestGroupedContent.class, true).size());
+        assertTrue(store.contains(c2));
+    }
+
+    /**
+     * Test that storing new content retires the old state content of the transaction in the ContentStoreIndexed.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testStateTransitions() throws ActorAlreadyDefinedException
+    {
+        checkStateTransitions(new ContentStoreIndexed());
+    }
+
+    /**
+     * Check that storing new content retires the old state content of the transaction from the sent / received
+     * administration, while all content of the transaction remains available. The Order that is retired by an
+     * OrderConfirmation is looked up through the Order interface, since the index is keyed on the concrete content class.
+     * @param store the empty content store to test, without an owner
+     * @throws ActorAlreadyDefinedException on error
+     */
+    static void checkStateTransitions(final ContentStoreInterface store) throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        simulator.initialize(model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY)));
+        Retailer buyer = new Retailer("buyer", "Buyer", model, new Geography(new Point2d(10, 10), "Delft", "Europe"),
+                new ContentStoreFull());
+        Retailer seller = new Retailer("seller", "Seller", model, new Geography(new Point2d(20, 20), "Delft", "Europe"),
+                new ContentStoreFull());
+        store.setOwner(buyer);
+        Time now = Time.ZERO;
+
+        // a received Quote retires the sent RequestForQuote
+        RequestForQuote rfq = new RequestForQuote(buyer, seller, now, model.getUniqueContentId(), 5L, null, null, now);
+        store.addContent(rfq, true);
+        assertTrue(store.contains(rfq));
+        Quote quote = new Quote(seller, buyer, now, model.getUniqueContentId(), 5L, rfq, null, now, null, now);
+        store.addContent(quote, false);
+        assertFalse(store.contains(rfq));
+        assertEquals(0, store.getContentList(5L, RequestForQuote.class, true).size());
+        assertEquals(1, store.getContentList(5L, RequestForQuote.class).size());
+        assertTrue(store.contains(quote));
+
+        // a sent OrderBasedOnQuote retires the received Quote
+        OrderBasedOnQuote order = new OrderBasedOnQuote(buyer, seller, now, model.getUniqueContentId(), 5L, quote, now);
+        store.addContent(order, true);
+        assertFalse(store.contains(quote));
+        assertTrue(store.contains(order));
+
+        // a received OrderConfirmation retires the sent Order of any implementing class
+        store.addContent(new OrderConfirmation(seller, buyer, now, model.getUniqueContentId(), 5L, order, true), false);
+        assertFalse(store.contains(order));
+        assertEquals(0, store.getContentList(5L, OrderBasedOnQuote.class, true).size());
+        assertEquals(1, store.getContentList(5L, OrderBasedOnQuote.class).size());
+        OrderStandalone standalone =
+                new OrderStandalone(buyer, seller, now, model.getUniqueContentId(), 6L, now, null, 1.0, null, null);
+        store.addContent(standalone, true);
+        store.addContent(new OrderConfirmation(seller, buyer, now, model.getUniqueContentId(), 6L, standalone, true), false);
+        assertFalse(store.contains(standalone));
+        assertEquals(1, store.getContentList(6L, OrderStandalone.class).size());
+
+        // a transition without old state content, or for another transaction, does not remove anything
+        RequestForQuote rfq7 = new RequestForQuote(buyer, seller, now, model.getUniqueContentId(), 7L, null, null, now);
+        store.addContent(rfq7, true);
+        store.addContent(new Quote(seller, buyer, now, model.getUniqueContentId(), 8L, rfq7, null, now, null, now), false);
+        assertTrue(store.contains(rfq7));
+    }
+
+    /**
+     * Test content with a grouping id.
+     * @param sender sender
+     * @param receiver receiver
+     * @param timestamp timestamp
+     * @param uniqueId unique id
+     * @param groupingId grouping id
+     */
+    public record TestGroupedContent(Actor sender, Actor receiver, Time timestamp, long uniqueId, long groupingId)
+            implements GroupedContent
+    {
+        public TestGroupedContent(final Actor sender, final Actor receiver, final long groupingId)
+        {
+            this(sender, receiver, sender.getSimulatorTime(), sender.getModel().getUniqueContentId(), groupingId);
+        }
+    }
+}
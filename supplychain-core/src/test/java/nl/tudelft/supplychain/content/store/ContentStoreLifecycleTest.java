@@ -0,0 +1,96 @@
+package nl.tudelft.supplychain.content.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.GroupedContent;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreIndexed;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreLifecycle;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.supplychain.actor.TestActor;
+import nl.tudelft.supplychain.actor.TestModel;
+import nl.tudelft.supplychain.content.store.ContentStoreIndexedTest.TestGroupedContent;
+
+/**
+ * ContentStoreLifecycleTest tests retiring transactions from the content store.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentStoreLifecycleTest
+{
+    /**
+     * Test that terminal content retires the transaction and hands the content to the archive.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testContentStoreLifecycle() throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        List<Content> archived = new ArrayList<>();
+        ContentStoreLifecycle store = new ContentStoreLifecycle(new ContentStoreIndexed())
+                .setTerminalContentClasses(Set.of(TestTerminalContent.class))
+                .setArchive((owner, groupingId, contentList) -> archived.addAll(contentList));
+        store.setOwner(actor1);
+        assertEquals(actor1, store.getOwner());
+
+        TestGroupedContent c1 = new TestGroupedContent(actor1, actor2, 1L);
+        TestGroupedContent c2 = new TestGroupedContent(actor1, actor2, 2L);
+        store.addContent(c1, true);
+        store.addContent(c2, true);
+        assertEquals(2, store.getNumberOpenTransactions());
+        assertTrue(store.contains(c1));
+
+        TestTerminalContent t1 = new TestTerminalContent(actor2, actor1, model.getUniqueContentId(), 1L);
+        store.addContent(t1, false);
+        assertEquals(1, store.getNumberOpenTransactions());
+        assertEquals(1, store.getRetiredCount());
+        assertFalse(store.contains(c1));
+        assertFalse(store.contains(t1));
+        assertTrue(store.contains(c2));
+        assertEquals(List.of(c1, t1), archived);
+
+        store.removeAllContent(2L);
+        assertEquals(0, store.getNumberOpenTransactions());
+        assertFalse(store.contains(c2));
+    }
+
+    /**
+     * Test terminal content.
+     * @param sender sender
+     * @param receiver receiver
+     * @param uniqueId unique id
+     * @param groupingId grouping id
+     */
+    public record TestTerminalContent(Actor sender, Actor receiver, long uniqueId, long groupingId) implements GroupedContent
+    {
+        @Override
+        public Time timestamp()
+        {
+            return Time.ZERO;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package nl.tudelft.supplychain.content.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreSingleThreaded;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.util.LongMap;
+import nl.tudelft.supplychain.actor.TestActor;
+import nl.tudelft.supplychain.actor.TestModel;
+import nl.tudelft.supplychain.content.store.ContentStoreIndexedTest.TestGroupedContent;
+
+/**
+ * ContentStoreSingleThreadedTest tests the lock-free content store and the LongMap on which it is based.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentStoreSingleThreadedTest
+{
+    /**
+     * Test that storing new content retires the old state content of the transaction in the ContentStoreSingleThreaded.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testStateTransitions() throws ActorAlreadyDefinedException
+    {
+        ContentStoreIndexedTest.checkStateTransitions(new ContentStoreSingleThreaded());
+    }
+
+    /**
+     * Test storing, retrieving and removing content, and the thread confinement check.
+     * @throws ActorAlreadyDefinedException on error
+     * @throws InterruptedException on error
+     */
+    @Test
+    public void testContentStoreSingleThreaded() throws ActorAlreadyDefinedException, InterruptedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        ContentStoreSingleThreaded store = new ContentStoreSingleThreaded();
+        store.setOwner(actor1);
+
+        TestGroupedContent c1a = new TestGroupedContent(actor1, actor2, 1L);
+        TestGroupedContent c1b = new TestGroupedContent(actor1, actor2, 1L);
+        TestGroupedContent c2 = new TestGroupedContent(actor2, actor1, 2L);
+        store.addContent(c1a, true);
+        store.addContent(c1b, true);
+        store.addContent(c2, false);
+        assertEquals(2, store.getContentList(1L, TestGroupedContent.class, true).size());
+        assertEquals(c1a, store.getContentList(1L, TestGroupedContent.class, true).get(0));
+        assertTrue(store.contains(c1b));
+        assertTrue(store.contains(2L, TestGroupedContent.class));
+        store.removeContent(c1a, true);
+        assertFalse(store.contains(c1a));
+        assertEquals(1, store.getContentList(1L, TestGroupedContent.class).size());
+        store.removeAllContent(1L);
+        assertFalse(store.contains(1L, TestGroupedContent.class));
+        assertTrue(store.contains(c2));
+
+        // when assertions are enabled, use from another thread should fail
+        boolean assertionsEnabled = false;
+        assert assertionsEnabled = true;
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread thread = new Thread(() ->
+        {
+            try
+            {
+                store.contains(c2);
+            }
+            catch (Throwable t)
+            {
+                error.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (assertionsEnabled)
+        {
+            assertTrue(error.get() instanceof IllegalStateException);
+        }
+        else
+        {
+            assertNull(error.get());
+        }
+    }
+
+    /**
+     * Test the LongMap, including removal within probe sequences and resizing.
+     */
+    @Test
+    public void testLongMap()
+    {
+        LongMap<String> map = new LongMap<>(2);
+        assertTrue(map.isEmpty());
+        for (long i = 0; i < 1000; i++)
+        {
+            assertNull(map.put(i * 16, "v" + i));
+        }
+        assertEquals(1000, map.size());
+        assertEquals("v10", map.put(160, "x"));
+        assertEquals("x", map.get(160));
+        for (long i = 0; i < 1000; i += 2)
+        {
+            assertEquals(i == 10 ? "x" : "v" + i, map.remove(i * 16));
+        }
+        assertEquals(500, map.size());
+        for (long i = 0; i < 1000; i++)
+        {
+            assertEquals(i % 2 == 1, map.containsKey(i * 16));
+        }
+        assertEquals(500, map.values().size());
+        assertEquals(500, map.keys().length);
+        assertEquals("y", map.computeIfAbsent(-5L, k -> "y"));
+        assertEquals("y", map.computeIfAbsent(-5L, k -> "z"));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(16));
+    }
+}
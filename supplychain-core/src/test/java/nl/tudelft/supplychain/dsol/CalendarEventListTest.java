@@ -0,0 +1,159 @@
+package nl.tudelft.supplychain.dsol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nl.tudelft.simulation.dsol.eventlists.RedBlackTree;
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.dsol.formalisms.eventscheduling.SimEventInterface;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.supplychain.dsol.CalendarEventList;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainCalendarSimulator;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimEvent;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.dsol.trace.EventTraceDiff;
+import nl.tudelft.simulation.supplychain.dsol.trace.EventTraceRecorder;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkModel;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkParameters;
+
+/**
+ * CalendarEventListTest tests that the calendar event list orders events exactly like the RedBlackTree of DSOL.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class CalendarEventListTest
+{
+    /** the directory for the traces. */
+    @TempDir
+    Path directory;
+
+    /**
+     * Test a random mix of periodic daily events, near-term deliveries and cancellations against the RedBlackTree.
+     */
+    @Test
+    public void testAgainstRedBlackTree()
+    {
+        CalendarEventList calendar = new CalendarEventList();
+        RedBlackTree<Duration> tree = new RedBlackTree<>();
+        assertTrue(calendar.isEmpty());
+        assertNull(calendar.first());
+        assertNull(calendar.removeFirst());
+        Random random = new Random(11L);
+        List<SimEventInterface<Duration>> scheduled = new ArrayList<>();
+        double now = 0.0;
+        for (int step = 0; step < 200_000; step++)
+        {
+            double u = random.nextDouble();
+            if (u < 0.45 || tree.isEmpty())
+            {
+                double time = random.nextDouble() < 0.6 ? Math.floor(now / 86400.0 + 1.0 + random.nextInt(3)) * 86400.0
+                        : now + Math.round(-3600.0 * Math.log(random.nextDouble()));
+                short priority = (short) (1 + random.nextInt(10));
+                SimEventInterface<Duration> event = new SupplyChainSimEvent(Duration.instantiateSI(time), priority, () ->
+                {
+                    // no action
+                });
+                calendar.add(event);
+                tree.add(event);
+                scheduled.add(event);
+            }
+            else if (u < 0.5)
+            {
+                SimEventInterface<Duration> event = scheduled.get(random.nextInt(scheduled.size()));
+                assertEquals(tree.contains(event), calendar.contains(event));
+                assertEquals(tree.remove(event), calendar.remove(event));
+            }
+            else
+            {
+                assertSame(tree.first(), calendar.first());
+                SimEventInterface<Duration> event = tree.removeFirst();
+                assertSame(event, calendar.removeFirst());
+                assertFalse(calendar.contains(event));
+                now = event.getAbsoluteExecutionTime().si;
+            }
+            assertEquals(tree.size(), calendar.size());
+        }
+        Iterator<SimEventInterface<Duration>> treeIterator = tree.iterator();
+        for (SimEventInterface<Duration> event : calendar)
+        {
+            assertSame(treeIterator.next(), event);
+        }
+        assertFalse(treeIterator.hasNext());
+        assertTrue(calendar.getNumberOfBuckets() >= 16);
+        assertTrue(calendar.getBucketWidth().si > 0.0);
+        while (!tree.isEmpty())
+        {
+            assertSame(tree.removeFirst(), calendar.removeFirst());
+        }
+        assertTrue(calendar.isEmpty());
+        assertEquals(16, calendar.getNumberOfBuckets());
+        calendar.clear();
+        assertEquals(0, calendar.size());
+        assertThrows(IllegalArgumentException.class, () -> new CalendarEventList(0.0));
+    }
+
+    /**
+     * Run the synthetic model for 30 days and record the trace.
+     * @param simulator the simulator
+     * @param name the name of the replication and of the trace file
+     * @return the recorder
+     * @throws Exception on error
+     */
+    private EventTraceRecorder trace(final SupplyChainSimulator simulator, final String name) throws Exception
+    {
+        EventTraceRecorder recorder = EventTraceRecorder.install(simulator, this.directory.resolve(name + ".trace"));
+        SyntheticNetworkModel model = new SyntheticNetworkModel(simulator, new StreamInformation(new MersenneTwister(9L)),
+                new SyntheticNetworkParameters().setLandmasses(1).setBomDepth(2));
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.initialize(model,
+                new SingleReplication<Duration>(name, Duration.ZERO, Duration.ZERO, new Duration(30.0, DurationUnit.DAY)));
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        return recorder;
+    }
+
+    /**
+     * Test that a model executes the same events in the same order with the calendar event list as with the RedBlackTree. The
+     * calendar event list is installed on a SupplyChainSimulator, since the trace contains the class of the simulator as the
+     * source of its own events.
+     * @throws Exception on error
+     */
+    @Test
+    public void testCalendarSimulator() throws Exception
+    {
+        SupplyChainCalendarSimulator calendarSimulator = new SupplyChainCalendarSimulator("calendar", Time.ZERO);
+        assertInstanceOf(CalendarEventList.class, calendarSimulator.getEventList());
+        EventTraceRecorder expected = trace(new SupplyChainSimulator("tree", Time.ZERO), "tree");
+        SupplyChainSimulator simulator = new SupplyChainSimulator("calendar", Time.ZERO);
+        simulator.setEventList(new CalendarEventList());
+        EventTraceRecorder actual = trace(simulator, "calendar");
+        assertTrue(actual.getCount() > 0);
+        assertNull(EventTraceDiff.compare(expected.getPath(), actual.getPath()));
+    }
+
+}
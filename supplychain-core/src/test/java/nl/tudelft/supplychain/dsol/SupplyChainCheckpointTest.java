@@ -0,0 +1,217 @@
+package nl.tudelft.supplychain.dsol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreInterface;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreSingleThreaded;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainCheckpoint;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationResult;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationRunner;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingActor;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkModel;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkParameters;
+
+/**
+ * SupplyChainCheckpointTest tests that a model that is restored from a checkpoint continues in the same way as the original
+ * model, and that forks of a checkpoint are reproducible.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SupplyChainCheckpointTest
+{
+    /** the time of the checkpoint. */
+    private static final Duration WARMUP = new Duration(10.0, DurationUnit.DAY);
+
+    /** the end time of the runs. */
+    private static final Duration END = new Duration(20.0, DurationUnit.DAY);
+
+    /** the parameters of the synthetic network. */
+    private final SyntheticNetworkParameters parameters = new SyntheticNetworkParameters().setLandmasses(2).setBomDepth(2)
+            .setDemandInterval(new Duration(12.0, DurationUnit.HOUR));
+
+    /**
+     * Test that a model that is restored from a checkpoint file gives the same results as the run in which the checkpoint was
+     * captured.
+     * @throws Exception on error
+     */
+    @Test
+    public void testContinuation() throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("original", Time.ZERO);
+        checkContinuation(simulator,
+                new SyntheticNetworkModel(simulator, new StreamInformation(new MersenneTwister(11L)), this.parameters));
+    }
+
+    /**
+     * Test the continuation of a model of which the actors use the ContentStoreSingleThreaded.
+     * @throws Exception on error
+     */
+    @Test
+    public void testContinuationSingleThreaded() throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("original", Time.ZERO);
+        checkContinuation(simulator, new SingleThreadedNetworkModel(simulator, this.parameters));
+    }
+
+    /**
+     * Run the model with a checkpoint after the warmup, and check that the model that is restored from the checkpoint file gives
+     * the same results.
+     * @param simulator the simulator of the model
+     * @param model the model
+     * @throws Exception on error
+     */
+    private void checkContinuation(final SupplyChainSimulator simulator, final SyntheticNetworkModel model) throws Exception
+    {
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.initialize(model, new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, END));
+        simulator.runUpTo(WARMUP);
+        while (simulator.isStartingOrRunning() || simulator.getSimulatorTime().lt(WARMUP))
+        {
+            Thread.sleep(1);
+        }
+        SupplyChainCheckpoint checkpoint = SupplyChainCheckpoint.capture(simulator);
+        assertEquals(WARMUP.si, checkpoint.getSimulatorTime().si, 1E-9);
+        assertTrue(checkpoint.getSize() > 0);
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        Map<String, Double> original = outputs(model);
+
+        Path file = Files.createTempFile("checkpoint", ".sccp");
+        try
+        {
+            checkpoint.write(file);
+            SupplyChainCheckpoint read = SupplyChainCheckpoint.read(file);
+            assertEquals(checkpoint.getSize(), read.getSize());
+            for (int i = 0; i < 2; i++)
+            {
+                SupplyChainSimulator restoredSimulator = new SupplyChainSimulator("restored" + i, Time.ZERO);
+                CountDownLatch restoredEnded = new CountDownLatch(1);
+                restoredSimulator.addListener(event -> restoredEnded.countDown(), Replication.END_REPLICATION_EVENT);
+                SyntheticNetworkModel restored = read.restore(restoredSimulator,
+                        new SingleReplication<Duration>("rep", WARMUP, Duration.ZERO, END.minus(WARMUP)));
+                restoredSimulator.start();
+                restoredEnded.await();
+                restoredSimulator.cleanUp();
+                assertEquals(original, outputs(restored));
+            }
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+
+        // the start of the replication has to be the time of the checkpoint
+        assertThrows(IllegalArgumentException.class, () -> checkpoint.restore(new SupplyChainSimulator("wrong", Time.ZERO),
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, END)));
+    }
+
+    /**
+     * Test that the replications that are forked from a checkpoint are reproducible, and differ from each other.
+     * @throws Exception on error
+     */
+    @Test
+    public void testFork() throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("warmup", Time.ZERO);
+        SyntheticNetworkModel model =
+                new SyntheticNetworkModel(simulator, new StreamInformation(new MersenneTwister(11L)), this.parameters);
+        simulator.initialize(model, new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, END));
+        simulator.runUpTo(WARMUP);
+        while (simulator.isStartingOrRunning() || simulator.getSimulatorTime().lt(WARMUP))
+        {
+            Thread.sleep(1);
+        }
+        SupplyChainCheckpoint checkpoint = SupplyChainCheckpoint.capture(simulator);
+        simulator.cleanUp();
+
+        ReplicationRunner<SyntheticNetworkModel> runner = new ReplicationRunner<>("fork", checkpoint, this::outputs,
+                Duration.ZERO, END);
+        runner.setParallelism(2);
+        ReplicationResult[] results = runner.run(3).toArray(new ReplicationResult[3]);
+        assertNotEquals(results[0].outputs(), results[1].outputs());
+        assertEquals(results[1].outputs(), runner.runReplication(1).outputs());
+    }
+
+    /**
+     * Return the balance and the actual inventory of every actor of the synthetic network, and the next draw from the default
+     * stream, which shows whether the state of the random streams was continued or reseeded.
+     * @param model the model after the run
+     * @return the balance and inventory of every actor, and the next random draw
+     */
+    private Map<String, Double> outputs(final SyntheticNetworkModel model)
+    {
+        Map<String, Double> outputs = new LinkedHashMap<>();
+        for (String type : new String[] {"Supplier", "Manufacturer", "DistributionCenter", "Retailer", "Market"})
+        {
+            for (Actor actor : model.getActors(type))
+            {
+                FinancingActor financingActor = (FinancingActor) actor;
+                outputs.put(actor.getId() + ".balance",
+                        financingActor.getFinancingRole().getBank().getBalance(financingActor).getAmount());
+                if (actor instanceof WarehousingActor warehousingActor && warehousingActor.getWarehousingRole() != null)
+                {
+                    for (Product product : warehousingActor.getWarehousingRole().getInventory().getProducts())
+                    {
+                        outputs.put(actor.getId() + "." + product.getName(),
+                                warehousingActor.getWarehousingRole().getInventory().getActualAmount(product));
+                    }
+                }
+            }
+        }
+        outputs.put("draw", model.getDefaultStream().nextDouble());
+        return outputs;
+    }
+
+    /**
+     * SyntheticNetworkModel of which the actors use the ContentStoreSingleThreaded.
+     */
+    static class SingleThreadedNetworkModel extends SyntheticNetworkModel
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Create the model.
+         * @param simulator the simulator
+         * @param parameters the parameters of the synthetic network
+         */
+        SingleThreadedNetworkModel(final SupplyChainSimulator simulator, final SyntheticNetworkParameters parameters)
+        {
+            super(simulator, new StreamInformation(new MersenneTwister(11L)), parameters);
+        }
+
+        @Override
+        public ContentStoreInterface createContentStore()
+        {
+            return new ContentStoreSingleThreaded();
+        }
+    }
+
+}
@@ -0,0 +1,665 @@
+package nl.tudelft.supplychain.dsol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Length;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.SimRuntimeException;
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.Geography;
+import nl.tudelft.simulation.supplychain.actor.SupplyChainActor;
+import nl.tudelft.simulation.supplychain.content.BankTransfer;
+import nl.tudelft.simulation.supplychain.content.Content;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreFull;
+import nl.tudelft.simulation.supplychain.dsol.ActorPartitioner;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModel;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainParallelSimulator;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationRunner;
+import nl.tudelft.simulation.supplychain.metrics.HandlerMetricsRegistry;
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.reference.Bank;
+import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
+import nl.tudelft.simulation.supplychain.role.banking.handler.BankTransferHandler;
+import nl.tudelft.simulation.supplychain.role.banking.handler.InterbankTransferHandler;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingActor;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingRole;
+import nl.tudelft.simulation.supplychain.role.financing.process.FixedCostProcess;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkModel;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkParameters;
+import nl.tudelft.simulation.supplychain.util.DistConstantDuration;
+
+/**
+ * SupplyChainParallelSimulatorTest tests that the parallel simulator gives the same results as the sequential simulator.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SupplyChainParallelSimulatorTest
+{
+    /** the lookahead between the partitions. */
+    private static final Duration LOOKAHEAD = new Duration(1.0, DurationUnit.HOUR);
+
+    /**
+     * Test that a synthetic network with three landmasses gives the same balances and inventories on the parallel simulator as
+     * on the sequential simulator.
+     */
+    @Test
+    public void testSyntheticNetwork()
+    {
+        SyntheticNetworkParameters parameters = new SyntheticNetworkParameters().setLandmasses(3).setBomDepth(2)
+                .setDemandInterval(new Duration(12.0, DurationUnit.HOUR));
+        ReplicationRunner<SyntheticNetworkModel> runner =
+                new ReplicationRunner<>("synthetic", (sim, streams) -> new SyntheticNetworkModel(sim, streams, parameters),
+                        this::outputs, Duration.ZERO, new Duration(20.0, DurationUnit.DAY));
+        Map<String, Double> sequential = runner.runReplication(0).outputs();
+        runner.setSimulatorFactory(id -> new SupplyChainParallelSimulator(id, Time.ZERO, ActorPartitioner.BY_LANDMASS,
+                LOOKAHEAD, 3));
+        Map<String, Double> parallel = runner.runReplication(0).outputs();
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Return the balance and the actual inventory of every actor of the synthetic network.
+     * @param model the model after the run
+     * @return the balance and inventory of every actor
+     */
+    private Map<String, Double> outputs(final SyntheticNetworkModel model)
+    {
+        Map<String, Double> outputs = new LinkedHashMap<>();
+        for (String type : new String[] {"Supplier", "Manufacturer", "DistributionCenter", "Retailer", "Market"})
+        {
+            for (Actor actor : model.getActors(type))
+            {
+                FinancingActor financingActor = (FinancingActor) actor;
+                outputs.put(actor.getId() + ".balance",
+                        financingActor.getFinancingRole().getBank().getBalance(financingActor).getAmount());
+                if (actor instanceof WarehousingActor warehousingActor && warehousingActor.getWarehousingRole() != null)
+                {
+                    for (Product product : warehousingActor.getWarehousingRole().getInventory().getProducts())
+                    {
+                        outputs.put(actor.getId() + "." + product.getName(),
+                                warehousingActor.getWarehousingRole().getInventory().getActualAmount(product));
+                    }
+                }
+            }
+        }
+        if (model.getSimulator() instanceof SupplyChainParallelSimulator parallelSimulator)
+        {
+            assertEquals(List.of("L0", "L1", "L2"), parallelSimulator.getPartitionNames());
+            assertTrue(parallelSimulator.getNumberOfWindows() > 0);
+        }
+        return outputs;
+    }
+
+    /**
+     * Test content that travels between partitions with the lookahead as delay, and events at the same time in several
+     * partitions. The trace of every actor has to be the same on the parallel simulator as on the sequential simulator.
+     * @throws Exception on error
+     */
+    @Test
+    public void testPingPong() throws Exception
+    {
+        Map<String, List<String>> sequential = runPingModel(new SupplyChainSimulator("seq", Time.ZERO));
+        SupplyChainParallelSimulator simulator =
+                new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, LOOKAHEAD, 2);
+        Map<String, List<String>> parallel = runPingModel(simulator);
+        assertEquals(sequential, parallel);
+        assertTrue(sequential.get("E1").size() > 100);
+        assertEquals(List.of("East", "West"), simulator.getPartitionNames());
+        assertTrue(simulator.getNumberOfWindows() > 10);
+    }
+
+    /**
+     * Run the ping model for two days on a simulator.
+     * @param simulator the simulator
+     * @return the trace per actor
+     * @throws Exception on error
+     */
+    private Map<String, List<String>> runPingModel(final SupplyChainSimulator simulator) throws Exception
+    {
+        PingModel model = new PingModel(simulator);
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.initialize(model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(2.0, DurationUnit.DAY)));
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        Map<String, List<String>> traces = new LinkedHashMap<>();
+        for (PingActor actor : model.actors)
+        {
+            traces.put(actor.getId(), actor.trace);
+        }
+        return traces;
+    }
+
+    /**
+     * Test a network that trades and pays across the landmasses. Every trader delivers to its partner on the other landmass,
+     * and pays for the deliveries it receives through its own bank, which sends an InterbankTransfer to the bank of the
+     * partner. The traces and balances have to be the same on the parallel simulator as on the sequential simulator. A network
+     * in which the traders of both landmasses use one bank is refused by the parallel simulator.
+     * @throws Exception on error
+     */
+    @Test
+    public void testCrossPartitionPayments() throws Exception
+    {
+        Map<String, List<String>> sequential = runTradeModel(new SupplyChainSimulator("seq", Time.ZERO), false);
+        SupplyChainParallelSimulator simulator =
+                new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, LOOKAHEAD, 2);
+        Map<String, List<String>> parallel = runTradeModel(simulator, false);
+        assertEquals(sequential, parallel);
+        assertEquals(List.of("East", "West"), simulator.getPartitionNames());
+        assertTrue(sequential.get("E1").stream().filter(line -> line.contains(" delivery ")).count() > 10);
+        // E1 has paid for its deliveries and 14 times rent, and has received payments from the bank on West
+        double balance = Double.parseDouble(sequential.get("E1.balance").get(0));
+        double paid = Double.parseDouble(sequential.get("E1.paid").get(0));
+        assertTrue(balance > 1000.0 - 14.0 - paid + 100.0, "balance=" + balance + ", paid=" + paid);
+
+        Map<String, List<String>> sharedSequential = runTradeModel(new SupplyChainSimulator("seq", Time.ZERO), true);
+        assertTrue(Double.parseDouble(sharedSequential.get("W1.balance").get(0)) > 0.0);
+        assertThrows(SimRuntimeException.class, () -> runTradeModel(
+                new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, LOOKAHEAD, 2), true));
+    }
+
+    /**
+     * Run the trade model for three days on a simulator.
+     * @param simulator the simulator
+     * @param sharedBank whether all traders use the bank on East
+     * @return the trace and the final balance per trader
+     * @throws Exception on error
+     */
+    private Map<String, List<String>> runTradeModel(final SupplyChainSimulator simulator, final boolean sharedBank)
+            throws Exception
+    {
+        TradeModel model = runTrade(simulator, sharedBank);
+        Map<String, List<String>> traces = new LinkedHashMap<>();
+        for (Trader trader : model.traders)
+        {
+            traces.put(trader.getId(), trader.trace);
+            traces.put(trader.getId() + ".balance", List.of(
+                    String.valueOf(trader.getFinancingRole().getBank().getBalance(trader).getAmount())));
+            traces.put(trader.getId() + ".paid", List.of(String.valueOf(trader.paid)));
+        }
+        return traces;
+    }
+
+    /**
+     * Run the trade model for three days on a simulator.
+     * @param simulator the simulator
+     * @param sharedBank whether all traders use the bank on East
+     * @return the model after the run
+     * @throws Exception on error
+     */
+    private TradeModel runTrade(final SupplyChainSimulator simulator, final boolean sharedBank) throws Exception
+    {
+        TradeModel model = new TradeModel(simulator, sharedBank);
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.initialize(model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(3.0, DurationUnit.DAY)));
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        return model;
+    }
+
+    /**
+     * Test that the ids of the content that is created in a partition are allocated from a counter of the partition. The ids
+     * of the deliveries that a trader receives have to be the same when the partitions are executed by one thread as when
+     * they are executed by two threads, and carry the index of the partition of the sender in their high bits.
+     * @throws Exception on error
+     */
+    @Test
+    public void testContentIds() throws Exception
+    {
+        TradeModel oneThread = runTrade(
+                new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, LOOKAHEAD, 1), false);
+        TradeModel twoThreads = runTrade(
+                new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, LOOKAHEAD, 2), false);
+        for (int i = 0; i < oneThread.traders.size(); i++)
+        {
+            Trader trader = oneThread.traders.get(i);
+            assertTrue(trader.received.size() > 10);
+            assertEquals(trader.received, twoThreads.traders.get(i).received);
+            // the partitions are indexed in the order of their names, so East has index 0 and West has index 1
+            long partition = trader.getGeography().landmass().equals("East") ? 2L : 1L;
+            for (long id : trader.received)
+            {
+                assertEquals(partition, id >>> 40, trader.getId() + " received " + id);
+            }
+            assertEquals(trader.received.stream().distinct().count(), trader.received.size());
+        }
+
+        // the content of the sequential simulator is numbered by the counter of the model
+        TradeModel sequential = runTrade(new SupplyChainSimulator("seq", Time.ZERO), false);
+        assertTrue(sequential.traders.get(0).received.stream().allMatch(id -> id >>> 40 == 0L));
+    }
+
+    /**
+     * Test that the parallel simulator refuses to instrument the content handlers, since the registry of the handler metrics
+     * is not thread-safe.
+     */
+    @Test
+    public void testHandlerMetrics()
+    {
+        SupplyChainParallelSimulator simulator =
+                new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, LOOKAHEAD, 2);
+        TradeModel model = new TradeModel(simulator, false);
+        assertThrows(IllegalStateException.class, () -> model.setHandlerMetrics(new HandlerMetricsRegistry()));
+        model.setHandlerMetrics(null);
+        assertNull(model.getHandlerMetrics());
+
+        // a model that provides its own registry is refused when the simulator is initialized
+        TradeModel instrumented = new TradeModel(simulator, false)
+        {
+            /** */
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public HandlerMetricsRegistry getHandlerMetrics()
+            {
+                return new HandlerMetricsRegistry();
+            }
+        };
+        assertThrows(SimRuntimeException.class, () -> simulator.initialize(instrumented,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1.0, DurationUnit.DAY))));
+
+        SupplyChainSimulator sequential = new SupplyChainSimulator("seq", Time.ZERO);
+        TradeModel sequentialModel = new TradeModel(sequential, false);
+        sequentialModel.setHandlerMetrics(new HandlerMetricsRegistry());
+        assertNotNull(sequentialModel.getHandlerMetrics());
+    }
+
+    /**
+     * Test the assignment of actors to partitions, and the check of the lookahead for content between partitions.
+     * @throws Exception on error
+     */
+    @Test
+    public void testLookahead() throws Exception
+    {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, Duration.ZERO, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SupplyChainParallelSimulator("par", Time.ZERO, ActorPartitioner.BY_LANDMASS, LOOKAHEAD, 0));
+
+        SupplyChainParallelSimulator simulator = new SupplyChainParallelSimulator("par", Time.ZERO, LOOKAHEAD);
+        PingModel model = new PingModel(simulator);
+        simulator.initialize(model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1.0, DurationUnit.DAY)));
+        PingActor east = model.actors.get(0);
+        PingActor west = model.actors.get(2);
+        assertSame(east.getSimulator(), model.actors.get(1).getSimulator());
+        assertNotSame(east.getSimulator(), west.getSimulator());
+        assertSame(simulator, east.getModel().getSimulator());
+
+        // content between partitions with a delay shorter than the lookahead is refused
+        List<Exception> errors = new ArrayList<>();
+        east.getSimulator().scheduleEventRel(new Duration(1.0, DurationUnit.MINUTE), () ->
+        {
+            try
+            {
+                east.sendContent(new Ping(east, west, 0), new Duration(30.0, DurationUnit.MINUTE));
+            }
+            catch (SimRuntimeException exception)
+            {
+                errors.add(exception);
+            }
+        });
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        assertEquals(1, errors.size());
+        assertNotNull(errors.get(0).getMessage());
+    }
+
+    /**
+     * Test that the lookahead is checked against the minimum delay between the partitions that the partitioner declares, when
+     * the partitions are created.
+     * @throws Exception on error
+     */
+    @Test
+    public void testMinimumDelay() throws Exception
+    {
+        SupplyChainParallelSimulator tooLong = new SupplyChainParallelSimulator("par", Time.ZERO,
+                new DelayPartitioner(new Duration(30.0, DurationUnit.MINUTE)), LOOKAHEAD, 2);
+        SimRuntimeException exception = assertThrows(SimRuntimeException.class, () -> tooLong.initialize(new PingModel(tooLong),
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1.0, DurationUnit.DAY))));
+        assertTrue(exception.getMessage().contains("minimum delay"), exception.getMessage());
+
+        Map<String, List<String>> sequential = runPingModel(new SupplyChainSimulator("seq", Time.ZERO));
+        SupplyChainParallelSimulator simulator =
+                new SupplyChainParallelSimulator("par", Time.ZERO, new DelayPartitioner(LOOKAHEAD), LOOKAHEAD, 2);
+        assertEquals(sequential, runPingModel(simulator));
+        assertEquals(List.of("East", "West"), simulator.getPartitionNames());
+    }
+
+    /**
+     * DelayPartitioner partitions the actors by landmass, and declares the same minimum delay between all landmasses.
+     */
+    static class DelayPartitioner implements ActorPartitioner
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the minimum delay between the landmasses. */
+        private final Duration minimumDelay;
+
+        /**
+         * @param minimumDelay the minimum delay between the landmasses
+         */
+        DelayPartitioner(final Duration minimumDelay)
+        {
+            this.minimumDelay = minimumDelay;
+        }
+
+        @Override
+        public String partition(final Actor actor)
+        {
+            return actor.getGeography().landmass();
+        }
+
+        @Override
+        public Duration minimumDelay(final String fromPartition, final String toPartition)
+        {
+            return this.minimumDelay;
+        }
+    }
+
+    /**
+     * PingModel has two actors on the landmass East and two actors on the landmass West that send content to each other.
+     */
+    static class PingModel extends SupplyChainModel
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the actors. */
+        private final List<PingActor> actors = new ArrayList<>();
+
+        /**
+         * @param simulator the simulator
+         */
+        PingModel(final SupplyChainSimulatorInterface simulator)
+        {
+            super(simulator);
+        }
+
+        @Override
+        public void constructModel() throws SimRuntimeException
+        {
+            this.actors.clear();
+            PingActor e1 = new PingActor("E1", this, "East");
+            PingActor e2 = new PingActor("E2", this, "East");
+            PingActor w1 = new PingActor("W1", this, "West");
+            PingActor w2 = new PingActor("W2", this, "West");
+            e1.partner = w1;
+            e2.partner = w2;
+            w1.partner = e2;
+            w2.partner = e1;
+            e1.neighbour = e2;
+            e2.neighbour = e1;
+            w1.neighbour = w2;
+            w2.neighbour = w1;
+            this.actors.addAll(List.of(e1, e2, w1, w2));
+            for (PingActor actor : this.actors)
+            {
+                actor.getSimulator().scheduleEventRel(Duration.ZERO, actor::tick);
+            }
+        }
+
+        @Override
+        public Length calculateDistance(final Point<?> loc1, final Point<?> loc2)
+        {
+            return Length.instantiateSI(Math.hypot(loc2.getX() - loc1.getX(), loc2.getY() - loc1.getY()));
+        }
+    }
+
+    /**
+     * PingActor ticks every half hour, sends content to its partner on the other landmass every third tick, and answers
+     * received content to its partner and its neighbour. All activity is recorded in a trace.
+     */
+    static class PingActor extends SupplyChainActor
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the partner on the other landmass. */
+        private PingActor partner;
+
+        /** the neighbour on the same landmass. */
+        private PingActor neighbour;
+
+        /** the number of ticks. */
+        private int ticks = 0;
+
+        /** the trace of activity. */
+        private final List<String> trace = new ArrayList<>();
+
+        /**
+         * @param id the id of the actor
+         * @param model the model
+         * @param landmass the landmass of the actor
+         */
+        PingActor(final String id, final SupplyChainModelInterface model, final String landmass)
+        {
+            super(id, id, model, new Geography(new Point2d(0, 0), id, landmass), new ContentStoreFull());
+        }
+
+        /**
+         * Tick, and send content to the partner every third tick.
+         */
+        void tick()
+        {
+            this.ticks++;
+            this.trace.add(getSimulator().getSimulatorTime().si + " tick " + this.ticks);
+            if (this.ticks % 3 == 0)
+            {
+                sendContent(new Ping(this, this.partner, 0), LOOKAHEAD);
+            }
+            getSimulator().scheduleEventRel(new Duration(30.0, DurationUnit.MINUTE), this::tick);
+        }
+
+        @Override
+        public void receiveContent(final Content content)
+        {
+            Ping ping = (Ping) content;
+            this.trace.add(getSimulator().getSimulatorTime().si + " ping " + ping.sender().getId() + " " + ping.hops());
+            if (ping.hops() < 3)
+            {
+                sendContent(new Ping(this, this.neighbour, ping.hops() + 1), Duration.ZERO);
+                sendContent(new Ping(this, this.partner, ping.hops() + 1),
+                        LOOKAHEAD.times(1 + ping.hops() % 2));
+            }
+        }
+    }
+
+    /**
+     * TradeModel has a bank and two traders on the landmass East and on the landmass West. Each trader delivers to a partner on
+     * the other landmass. Every landmass has its own random stream.
+     */
+    static class TradeModel extends SupplyChainModel
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** whether all traders use the bank on East. */
+        private final boolean sharedBank;
+
+        /** the traders. */
+        private final List<Trader> traders = new ArrayList<>();
+
+        /** the random stream per landmass. */
+        private final Map<String, StreamInterface> streams = new LinkedHashMap<>();
+
+        /**
+         * @param simulator the simulator
+         * @param sharedBank whether all traders use the bank on East
+         */
+        TradeModel(final SupplyChainSimulatorInterface simulator, final boolean sharedBank)
+        {
+            super(simulator);
+            this.sharedBank = sharedBank;
+        }
+
+        @Override
+        public void constructModel() throws SimRuntimeException
+        {
+            this.traders.clear();
+            this.streams.put("East", new MersenneTwister(11L));
+            this.streams.put("West", new MersenneTwister(12L));
+            Bank eastBank = makeBank("BankEast", "East");
+            Bank westBank = this.sharedBank ? eastBank : makeBank("BankWest", "West");
+            Trader e1 = new Trader("E1", this, "East", eastBank);
+            Trader e2 = new Trader("E2", this, "East", eastBank);
+            Trader w1 = new Trader("W1", this, "West", westBank);
+            Trader w2 = new Trader("W2", this, "West", westBank);
+            e1.partner = w1;
+            e2.partner = w2;
+            w1.partner = e2;
+            w2.partner = e1;
+            this.traders.addAll(List.of(e1, e2, w1, w2));
+            for (Trader trader : this.traders)
+            {
+                new FixedCostProcess(trader, "rent", new Duration(5.0, DurationUnit.HOUR), new Money(1.0, MoneyUnit.USD));
+                trader.getSimulator().scheduleEventRel(Duration.ZERO, trader::tick);
+            }
+        }
+
+        /**
+         * Make a bank that sends interbank transfers after two hours.
+         * @param id the id of the bank
+         * @param landmass the landmass of the bank
+         * @return the bank
+         */
+        private Bank makeBank(final String id, final String landmass)
+        {
+            Bank bank = new Bank(id, id, this, new Point2d(0, 0), id, landmass);
+            bank.setBankingRole(new BankingRole(id, bank));
+            new BankTransferHandler(bank).setHandlingTime(new DistConstantDuration(LOOKAHEAD.times(2.0)));
+            new InterbankTransferHandler(bank);
+            return bank;
+        }
+
+        @Override
+        public StreamInterface getDefaultStream(final Actor actor)
+        {
+            return this.streams.get(actor.getGeography().landmass());
+        }
+
+        @Override
+        public Length calculateDistance(final Point<?> loc1, final Point<?> loc2)
+        {
+            return Length.ZERO;
+        }
+    }
+
+    /**
+     * Trader delivers to its partner every two hours, and pays a random amount through its bank for every delivery it receives.
+     */
+    static class Trader extends SupplyChainActor implements FinancingActor
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the partner on the other landmass. */
+        private Trader partner;
+
+        /** the bank of the trader. */
+        private final Bank bank;
+
+        /** the trace of activity. */
+        private final List<String> trace = new ArrayList<>();
+
+        /** the total amount that the trader has paid for deliveries. */
+        private double paid = 0.0;
+
+        /** the unique ids of the deliveries that the trader has received. */
+        private final List<Long> received = new ArrayList<>();
+
+        /**
+         * @param id the id of the trader
+         * @param model the model
+         * @param landmass the landmass of the trader
+         * @param bank the bank of the trader
+         */
+        Trader(final String id, final SupplyChainModelInterface model, final String landmass, final Bank bank)
+        {
+            super(id, id, model, new Geography(new Point2d(0, 0), id, landmass), new ContentStoreFull());
+            this.bank = bank;
+            setFinancingRole(new FinancingRole(this, bank, new Money(1000.0, MoneyUnit.USD)));
+        }
+
+        /**
+         * Deliver to the partner, and tick again after two hours.
+         */
+        void tick()
+        {
+            sendContent(new Ping(this, this.partner, 0), LOOKAHEAD);
+            getSimulator().scheduleEventRel(new Duration(2.0, DurationUnit.HOUR), this::tick);
+        }
+
+        @Override
+        public void receiveContent(final Content content)
+        {
+            Money price = new Money(getModel().getDefaultStream(this).nextInt(10, 99), MoneyUnit.USD);
+            this.trace.add(getSimulatorTime().si + " delivery " + content.sender().getId() + " " + price.getAmount() + " "
+                    + getFinancingRole().getBank().getBalance(this).getAmount());
+            this.paid += price.getAmount();
+            this.received.add(content.uniqueId());
+            sendContent(new BankTransfer(this, this.bank, (Trader) content.sender(), price), Duration.ZERO);
+        }
+    }
+
+    /**
+     * Content that is sent between the ping actors.
+     * @param sender the sender
+     * @param receiver the receiver
+     * @param timestamp the time of sending
+     * @param uniqueId the unique id
+     * @param hops the number of times the content has been passed on
+     */
+    record Ping(Actor sender, Actor receiver, Time timestamp, long uniqueId, int hops) implements Content
+    {
+        /**
+         * @param sender the sender
+         * @param receiver the receiver
+         * @param hops the number of times the content has been passed on
+         */
+        Ping(final Actor sender, final Actor receiver, final int hops)
+        {
+            this(sender, receiver, sender.getSimulatorTime(), sender.getModel().getUniqueContentId(), hops);
+        }
+    }
+}
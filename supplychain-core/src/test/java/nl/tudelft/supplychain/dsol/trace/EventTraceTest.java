@@ -0,0 +1,176 @@
+package nl.tudelft.supplychain.dsol.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.dsol.trace.EventTraceDiff;
+import nl.tudelft.simulation.supplychain.dsol.trace.EventTraceReader;
+import nl.tudelft.simulation.supplychain.dsol.trace.EventTraceRecord;
+import nl.tudelft.simulation.supplychain.dsol.trace.EventTraceRecorder;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkModel;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkParameters;
+
+/**
+ * EventTraceTest tests the recording, reading and comparison of event traces of a synthetic supply chain network.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class EventTraceTest
+{
+    /** the directory for the traces. */
+    @TempDir
+    Path directory;
+
+    /**
+     * Run the synthetic model for 30 days and record the trace.
+     * @param name the name of the run and of the trace file
+     * @param seed the seed of the model
+     * @return the recorder
+     * @throws Exception on error
+     */
+    private EventTraceRecorder trace(final String name, final long seed) throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator(name, Time.ZERO);
+        EventTraceRecorder recorder = EventTraceRecorder.install(simulator, this.directory.resolve(name + ".trace"));
+        assertSame(recorder, simulator.getEventList());
+        SyntheticNetworkModel model = new SyntheticNetworkModel(simulator, new StreamInformation(new MersenneTwister(seed)),
+                new SyntheticNetworkParameters().setLandmasses(1).setBomDepth(2));
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.initialize(model,
+                new SingleReplication<Duration>(name, Duration.ZERO, Duration.ZERO, new Duration(30.0, DurationUnit.DAY)));
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        return recorder;
+    }
+
+    /**
+     * Test that runs with the same seed give identical traces, and that runs with a different seed diverge.
+     * @throws Exception on error
+     */
+    @Test
+    public void testTraceAndDiff() throws Exception
+    {
+        EventTraceRecorder golden = trace("golden", 5L);
+        EventTraceRecorder same = trace("same", 5L);
+        EventTraceRecorder other = trace("other", 6L);
+        assertTrue(golden.getCount() > 0);
+        assertEquals(golden.getCount(), same.getCount());
+        assertEquals(golden.getHash(), same.getHash());
+
+        List<EventTraceRecord> records = new EventTraceReader(golden.getPath()).stream().toList();
+        assertEquals(golden.getCount(), records.size());
+        assertEquals(golden.getHash(), records.get(records.size() - 1).hash());
+        double previousTime = 0.0;
+        for (int i = 0; i < records.size(); i++)
+        {
+            assertEquals(i, records.get(i).index());
+            assertTrue(records.get(i).time() >= previousTime);
+            previousTime = records.get(i).time();
+        }
+        assertTrue(records.stream().anyMatch(r -> "RestockingProcess.checkLoop".equals(r.source()) && r.target() != null));
+        assertTrue(records.stream().anyMatch(r -> r.contentId() >= 0 && r.contentType() != null && r.target() != null));
+
+        assertNull(EventTraceDiff.compare(golden.getPath(), same.getPath()));
+        EventTraceDiff.Divergence divergence = EventTraceDiff.compare(golden.getPath(), other.getPath());
+        assertNotNull(divergence);
+        assertTrue(divergence.index() >= 0 && divergence.index() < golden.getCount());
+        assertTrue(divergence.toString().startsWith("traces diverge at event " + divergence.index()));
+    }
+
+    /**
+     * Test that the source and the priority of the events are diagnostic fields outside the hash: a trace in which a method has
+     * been renamed and all priorities have been changed still verifies, and does not diverge from the original trace.
+     * @throws Exception on error
+     */
+    @Test
+    public void testSourceAndPriorityOutsideHash() throws Exception
+    {
+        EventTraceRecorder recorder = trace("renamed", 5L);
+        byte[] bytes = Files.readAllBytes(recorder.getPath());
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(8); // magic and version
+        int renamed = 0;
+        int reprioritized = 0;
+        while (buffer.get(buffer.position()) != 0) // TAG_END
+        {
+            byte tag = buffer.get();
+            if (tag == 1) // TAG_STRING: int id, unsigned short length, bytes
+            {
+                buffer.getInt();
+                int length = buffer.getShort() & 0xFFFF;
+                String string = new String(bytes, buffer.position(), length, StandardCharsets.UTF_8);
+                if (string.equals("RestockingProcess.checkLoop"))
+                {
+                    byte[] replacement = "RestockingProcess.checkLoqp".getBytes(StandardCharsets.UTF_8);
+                    System.arraycopy(replacement, 0, bytes, buffer.position(), length);
+                    renamed++;
+                }
+                buffer.position(buffer.position() + length);
+            }
+            else // TAG_EVENT: double time, short priority, int source, int target, long contentId, int contentType, long hash
+            {
+                buffer.getDouble();
+                buffer.putShort(buffer.position(), (short) (buffer.getShort() + 1));
+                reprioritized++;
+                buffer.position(buffer.position() + 4 + 4 + 8 + 4 + 8);
+            }
+        }
+        assertEquals(1, renamed);
+        assertEquals(recorder.getCount(), reprioritized);
+        Path changed = this.directory.resolve("changed.trace");
+        Files.write(changed, bytes);
+
+        List<EventTraceRecord> original = new EventTraceReader(recorder.getPath()).stream().toList();
+        List<EventTraceRecord> records = new EventTraceReader(changed).stream().toList();
+        assertEquals(original.size(), records.size());
+        assertTrue(records.stream().anyMatch(r -> "RestockingProcess.checkLoqp".equals(r.source())));
+        assertEquals(original.get(0).priority() + 1, records.get(0).priority());
+        assertEquals(recorder.getHash(), records.get(records.size() - 1).hash());
+        assertNull(EventTraceDiff.compare(recorder.getPath(), changed));
+    }
+
+    /**
+     * Test that a trace with a changed final hash is reported as corrupt.
+     * @throws Exception on error
+     */
+    @Test
+    public void testCorruptTrace() throws Exception
+    {
+        EventTraceRecorder recorder = trace("corrupt", 7L);
+        byte[] bytes = Files.readAllBytes(recorder.getPath());
+        bytes[bytes.length - 1] ^= 1;
+        Path corrupt = this.directory.resolve("changed.trace");
+        Files.write(corrupt, bytes);
+        assertThrows(SupplyChainRuntimeException.class, () -> new EventTraceReader(corrupt).stream().count());
+        assertThrows(NullPointerException.class, () -> EventTraceRecorder.install(null, corrupt));
+    }
+
+}
@@ -0,0 +1,104 @@
+package nl.tudelft.supplychain.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.supplychain.experiment.ExperimentDesign;
+import nl.tudelft.simulation.supplychain.experiment.Factor;
+import nl.tudelft.simulation.supplychain.experiment.ParameterSweep;
+import nl.tudelft.simulation.supplychain.experiment.SweepResultsTable;
+import nl.tudelft.supplychain.experiment.ReplicationRunnerTest.ArrivalModel;
+
+/**
+ * ParameterSweepTest tests the experiment designs and the parameter sweep with common random numbers.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ParameterSweepTest
+{
+    /**
+     * Test the full factorial and Latin hypercube designs.
+     */
+    @Test
+    public void testDesigns()
+    {
+        List<Factor> factors = List.of(new Factor("a", 0.0, 1.0, 2), new Factor("b", 10.0, 20.0, 3));
+        ExperimentDesign full = ExperimentDesign.fullFactorial(factors);
+        assertEquals(6, full.getNumberOfPoints());
+        assertEquals(0.0, full.getPoint(0)[0]);
+        assertEquals(10.0, full.getPoint(0)[1]);
+        assertEquals(15.0, full.getPoint(1)[1]);
+        assertEquals(1.0, full.getPoint(5)[0]);
+        assertEquals(20.0, full.getParameters(5).get("b"));
+
+        int n = 10;
+        ExperimentDesign lhs = ExperimentDesign.latinHypercube(factors, n, new MersenneTwister(5L));
+        assertEquals(n, lhs.getNumberOfPoints());
+        for (int f = 0; f < factors.size(); f++)
+        {
+            Factor factor = factors.get(f);
+            boolean[] stratumUsed = new boolean[n];
+            for (int p = 0; p < n; p++)
+            {
+                double u = (lhs.getPoint(p)[f] - factor.low()) / (factor.high() - factor.low());
+                int stratum = (int) (u * n);
+                assertTrue(!stratumUsed[stratum], "stratum " + stratum + " of factor " + factor.name() + " used twice");
+                stratumUsed[stratum] = true;
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new Factor("x", 1.0, 0.0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new Factor("x", 0.0, 1.0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> ExperimentDesign.fullFactorial(List.of(new Factor("x", 0, 1, 2), new Factor("x", 0, 1, 2))));
+    }
+
+    /**
+     * Test a sweep over the mean interarrival time, with a dummy factor to check the common random numbers.
+     * @throws IOException on error
+     */
+    @Test
+    public void testSweep() throws IOException
+    {
+        List<Factor> factors = List.of(new Factor("meanHours", 1.0, 2.0, 2), new Factor("dummy", 0.0, 1.0, 2));
+        ExperimentDesign design = ExperimentDesign.fullFactorial(factors);
+        ParameterSweep<ArrivalModel> sweep = new ParameterSweep<>("sweep", design,
+                (simulator, streams, parameters) -> new ArrivalModel(simulator, streams, parameters.get("meanHours")),
+                m -> Map.of("arrivals", (double) m.getArrivals()), Duration.ZERO, new Duration(5.0, DurationUnit.DAY));
+        sweep.setParallelism(4);
+        SweepResultsTable table = sweep.run(3);
+        assertEquals(12, table.size());
+        assertEquals(List.of("arrivals"), table.getOutputNames());
+        for (int r = 0; r < 3; r++)
+        {
+            // the dummy factor does not influence the model, so with common random numbers the outputs are equal
+            assertEquals(table.getOutput(0, r, "arrivals"), table.getOutput(1, r, "arrivals"));
+            assertEquals(table.getOutput(2, r, "arrivals"), table.getOutput(3, r, "arrivals"));
+        }
+        assertTrue(sweep.getStatistics(0).getMean("arrivals") > sweep.getStatistics(2).getMean("arrivals"));
+        assertEquals(3L, sweep.getStatistics(3).getN("arrivals"));
+
+        StringWriter writer = new StringWriter();
+        table.writeCsv(writer);
+        String[] lines = writer.toString().split("\n");
+        assertEquals(13, lines.length);
+        assertEquals("designPoint,replication,seed,meanHours,dummy,arrivals", lines[0]);
+        assertTrue(lines[1].startsWith("0,0,"));
+        assertTrue(lines[12].startsWith("3,2,"));
+    }
+
+}
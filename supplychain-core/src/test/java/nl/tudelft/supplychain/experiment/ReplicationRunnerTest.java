@@ -0,0 +1,216 @@
+package nl.tudelft.supplychain.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Length;
+import org.djutils.draw.point.Point;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.SimRuntimeException;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
+import nl.tudelft.simulation.supplychain.SupplyChainRuntimeException;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModel;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationResult;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationRunner;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationStatistics;
+
+/**
+ * ReplicationRunnerTest tests the parallel execution of replications and the aggregation of their outputs.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ReplicationRunnerTest
+{
+    /**
+     * Create a runner for the arrival model with a run length of 10 days.
+     * @return a runner for the arrival model
+     */
+    private static ReplicationRunner<ArrivalModel> createRunner()
+    {
+        return new ReplicationRunner<>("arrivals", ArrivalModel::new, m -> Map.of("arrivals", (double) m.getArrivals()),
+                Duration.ZERO, new Duration(10.0, DurationUnit.DAY));
+    }
+
+    /**
+     * Test that replications run in parallel, are reproducible, and that their outputs are aggregated.
+     */
+    @Test
+    public void testParallelReplications()
+    {
+        ReplicationRunner<ArrivalModel> runner = createRunner();
+        runner.setParallelism(4);
+        List<ReplicationResult> results = runner.run(8);
+        assertEquals(8, results.size());
+        for (int i = 0; i < results.size(); i++)
+        {
+            assertEquals(i, results.get(i).replicationNumber());
+            assertEquals(ReplicationRunner.seed(runner.getBaseSeed(), i), results.get(i).seed());
+        }
+        assertNotEquals(results.get(0).outputs().get("arrivals"), results.get(1).outputs().get("arrivals"));
+
+        ReplicationStatistics statistics = runner.getStatistics();
+        assertEquals(8L, statistics.getN("arrivals"));
+        double mean = statistics.getMean("arrivals");
+        assertTrue(mean > 200.0 && mean < 280.0, "mean=" + mean);
+        double[] ci = statistics.getConfidenceInterval("arrivals", 0.05);
+        assertTrue(ci[0] < mean && mean < ci[1]);
+        assertThrows(IllegalArgumentException.class, () -> statistics.getMean("unknown"));
+
+        // the same replications on a single thread give the same outputs
+        ReplicationRunner<ArrivalModel> sequential = createRunner();
+        sequential.setParallelism(1);
+        List<ReplicationResult> sequentialResults = sequential.run(8);
+        for (int i = 0; i < results.size(); i++)
+        {
+            assertEquals(results.get(i).outputs(), sequentialResults.get(i).outputs());
+        }
+    }
+
+    /**
+     * Test that no more replications run at the same time than the parallelism of the runner, that the replications are
+     * started from the threads of the runner, and that a failing replication fails the run.
+     */
+    @Test
+    public void testBoundedParallelism()
+    {
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ReplicationRunner<ArrivalModel> runner = new ReplicationRunner<>("bounded", (simulator, streamInformation) ->
+        {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            threads.add(Thread.currentThread().getName());
+            return new ArrivalModel(simulator, streamInformation);
+        }, m ->
+        {
+            running.decrementAndGet();
+            return Map.of("arrivals", (double) m.getArrivals());
+        }, Duration.ZERO, new Duration(10.0, DurationUnit.DAY));
+        runner.setParallelism(2);
+        assertEquals(6, runner.run(6).size());
+        assertTrue(maxRunning.get() <= 2, "maxRunning=" + maxRunning.get());
+        assertTrue(threads.size() <= 2 && threads.stream().allMatch(name -> name.startsWith("bounded-")), threads.toString());
+
+        ReplicationRunner<ArrivalModel> failing = new ReplicationRunner<>("failing", ArrivalModel::new, m ->
+        {
+            throw new IllegalStateException("output failed");
+        }, Duration.ZERO, new Duration(1.0, DurationUnit.DAY));
+        failing.setParallelism(2);
+        assertThrows(SupplyChainRuntimeException.class, () -> failing.run(4));
+    }
+
+    /**
+     * Test the statistics for a single value, and the argument checks of the runner.
+     */
+    @Test
+    public void testArguments()
+    {
+        ReplicationStatistics statistics = new ReplicationStatistics();
+        statistics.register("x", 2.0);
+        assertEquals(1L, statistics.getN("x"));
+        assertNull(statistics.getConfidenceInterval("x", 0.05));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getConfidenceInterval("x", 1.5));
+
+        // the interval uses the Student's t quantile: t(0.975, 2) = 4.3027, so the half-width of 1, 2, 3 is 4.3027 / sqrt(3)
+        statistics.register("y", 1.0);
+        statistics.register("y", 2.0);
+        statistics.register("y", 3.0);
+        double[] ci = statistics.getConfidenceInterval("y", 0.05);
+        assertEquals(2.0 - 4.3027 / Math.sqrt(3.0), ci[0], 1.0E-3);
+        assertEquals(2.0 + 4.3027 / Math.sqrt(3.0), ci[1], 1.0E-3);
+
+        ReplicationRunner<ArrivalModel> runner = createRunner();
+        assertThrows(IllegalArgumentException.class, () -> runner.run(0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setParallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationRunner<ArrivalModel>("x", ArrivalModel::new,
+                m -> Map.of(), Duration.ZERO, Duration.ZERO));
+    }
+
+    /**
+     * ArrivalModel counts arrivals with exponentially distributed interarrival times with a mean of one hour.
+     */
+    static class ArrivalModel extends SupplyChainModel
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the mean interarrival time in hours. */
+        private final double meanHours;
+
+        /** the number of arrivals. */
+        private int arrivals = 0;
+
+        /**
+         * @param simulator the simulator
+         * @param streamInformation the random streams
+         */
+        ArrivalModel(final SupplyChainSimulatorInterface simulator, final StreamInformation streamInformation)
+        {
+            this(simulator, streamInformation, 1.0);
+        }
+
+        /**
+         * @param simulator the simulator
+         * @param streamInformation the random streams
+         * @param meanHours the mean interarrival time in hours
+         */
+        ArrivalModel(final SupplyChainSimulatorInterface simulator, final StreamInformation streamInformation,
+                final double meanHours)
+        {
+            super(simulator, streamInformation);
+            this.meanHours = meanHours;
+        }
+
+        @Override
+        public void constructModel() throws SimRuntimeException
+        {
+            scheduleArrival();
+        }
+
+        /**
+         * Count an arrival and schedule the next one.
+         */
+        private void scheduleArrival()
+        {
+            StreamInterface stream = getStreamInformation().getStream("default");
+            double delay = -this.meanHours * Math.log(1.0 - stream.nextDouble());
+            getSimulator().scheduleEventRel(new Duration(delay, DurationUnit.HOUR), () ->
+            {
+                this.arrivals++;
+                scheduleArrival();
+            });
+        }
+
+        /**
+         * @return the number of arrivals
+         */
+        int getArrivals()
+        {
+            return this.arrivals;
+        }
+
+        @Override
+        public Length calculateDistance(final Point<?> loc1, final Point<?> loc2)
+        {
+            return Length.ZERO;
+        }
+    }
+
+}
@@ -0,0 +1,280 @@
+package nl.tudelft.supplychain.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Length;
+import org.djutils.draw.point.Point;
+import org.djutils.event.EventType;
+import org.djutils.event.LocalEventProducer;
+import org.djutils.event.TimedEvent;
+import org.djutils.metadata.MetaData;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.SimRuntimeException;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.jstats.streams.StreamInterface;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainModel;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulatorInterface;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationOutput;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationResult;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationRunner;
+import nl.tudelft.simulation.supplychain.experiment.SteadyStateDetector;
+
+/**
+ * SteadyStateDetectorTest tests the MSER-5 warm-up detection, and the early end of replications when the target precision has
+ * been reached.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SteadyStateDetectorTest
+{
+    /**
+     * Test the detection of a transient that decays to a stationary level, with bounded memory.
+     */
+    @Test
+    public void testTransient()
+    {
+        SteadyStateDetector detector = new SteadyStateDetector("kpi", event -> 0.0, 16);
+        List<Double> events = new ArrayList<>();
+        detector.addListener(event -> events.add((Double) ((Object[]) event.getContent())[1]),
+                SteadyStateDetector.STEADY_STATE_EVENT);
+        Random random = new Random(5L);
+        for (int i = 0; i < 2000; i++)
+        {
+            double offset = i < 200 ? 50.0 * (1.0 - i / 200.0) : 0.0;
+            detector.register(10.0 + offset + random.nextGaussian(), i);
+        }
+        assertTrue(detector.isSteadyState());
+        assertEquals(1, events.size());
+        assertTrue(detector.getNumberOfBatches() < 16);
+        assertEquals(2000L, detector.getObservations());
+        assertTrue(detector.getTruncationTime() >= 100.0, "truncation=" + detector.getTruncationTime());
+        assertEquals(10.0, detector.getMean(), 0.5);
+        assertTrue(detector.getHalfWidth() < 0.5);
+
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateDetector("x", event -> 0.0, 5));
+        assertThrows(IllegalArgumentException.class, () -> detector.setAlpha(0.0));
+        assertThrows(IllegalArgumentException.class, () -> detector.setTargetRelativeHalfWidth(0.0));
+    }
+
+    /**
+     * Test the Student's t quantiles against tabulated values, and that the half-width of the confidence interval uses them.
+     */
+    @Test
+    public void testStudentT()
+    {
+        assertEquals(12.7062, SteadyStateDetector.studentTQuantile(0.975, 1), 1E-3);
+        assertEquals(4.3027, SteadyStateDetector.studentTQuantile(0.975, 2), 1E-3);
+        assertEquals(3.1824, SteadyStateDetector.studentTQuantile(0.975, 3), 2E-3);
+        assertEquals(2.2622, SteadyStateDetector.studentTQuantile(0.975, 9), 2E-3);
+        assertEquals(2.0423, SteadyStateDetector.studentTQuantile(0.975, 30), 2E-3);
+        assertEquals(1.8125, SteadyStateDetector.studentTQuantile(0.95, 10), 2E-3);
+        assertEquals(5.8409, SteadyStateDetector.studentTQuantile(0.995, 3), 2E-3);
+        assertEquals(4.7809, SteadyStateDetector.studentTQuantile(0.9995, 9), 2E-3);
+        assertEquals(-2.2622, SteadyStateDetector.studentTQuantile(0.025, 9), 2E-3);
+        assertEquals(0.0, SteadyStateDetector.studentTQuantile(0.5, 9), 1E-9);
+        assertEquals(1.96, SteadyStateDetector.studentTQuantile(0.975, 100000), 1E-2);
+        assertThrows(IllegalArgumentException.class, () -> SteadyStateDetector.studentTQuantile(1.0, 9));
+        assertThrows(IllegalArgumentException.class, () -> SteadyStateDetector.studentTQuantile(0.975, 0));
+
+        // 4 batches of 5 identical observations: no truncation, so the half-width is t(0.975, 3) * s / sqrt(4)
+        SteadyStateDetector detector = new SteadyStateDetector("kpi", event -> 0.0);
+        double[] batchMeans = {2.0, 4.0, 1.0, 3.0};
+        for (double batchMean : batchMeans)
+        {
+            for (int i = 0; i < SteadyStateDetector.INITIAL_BATCH_SIZE; i++)
+            {
+                detector.register(batchMean, Double.NaN);
+            }
+        }
+        assertEquals(2.5, detector.getMean(), 1E-9);
+        double s = Math.sqrt(5.0 / 3.0);
+        assertEquals(SteadyStateDetector.studentTQuantile(0.975, 3) * s / 2.0, detector.getHalfWidth(), 1E-9);
+    }
+
+    /**
+     * Test that a replication ends early when its detector has reached the target precision, and that the detector outputs are
+     * added to the outputs of the replication.
+     */
+    @Test
+    public void testEarlyEnd()
+    {
+        Duration runLength = new Duration(1000.0, DurationUnit.DAY);
+        ReplicationRunner<InterarrivalModel> runner = new ReplicationRunner<>("steady", InterarrivalModel::new,
+                m -> Map.of("arrivals", (double) m.getArrivals()), Duration.ZERO, runLength);
+        runner.setSteadyStateDetectorFactory(model ->
+        {
+            SteadyStateDetector detector = new SteadyStateDetector("interarrival", event -> (Double) event.getContent());
+            return List.of(detector.attach(model.getProducer(), InterarrivalModel.ARRIVAL_EVENT));
+        });
+        runner.setParallelism(2);
+        List<ReplicationResult> results = runner.run(2);
+        for (ReplicationResult result : results)
+        {
+            Map<String, Double> outputs = result.outputs();
+            assertTrue(outputs.get("endTime") < runLength.si, "endTime=" + outputs.get("endTime"));
+            assertEquals(1.0, outputs.get("interarrival.mean"), 0.1);
+            assertTrue(outputs.get("interarrival.halfWidth") <= 0.05 * outputs.get("interarrival.mean"));
+            assertFalse(Double.isNaN(outputs.get("interarrival.truncationTime")));
+        }
+    }
+
+    /**
+     * Test that the ReplicationOutput resets its statistics when all detectors have reached steady state, so the outputs do not
+     * include the warm-up period.
+     */
+    @Test
+    public void testResetAtSteadyState()
+    {
+        Duration runLength = new Duration(1000.0, DurationUnit.DAY);
+        ReplicationOutput<InterarrivalModel> output = new ReplicationOutput<>()
+        {
+            @Override
+            public Map<String, Double> extract(final InterarrivalModel model)
+            {
+                return Map.of("arrivals", (double) (model.getArrivals() - model.getArrivalsAtReset()), "total",
+                        (double) model.getArrivals());
+            }
+
+            @Override
+            public void resetStatistics(final InterarrivalModel model)
+            {
+                model.resetArrivals();
+            }
+        };
+        ReplicationRunner<InterarrivalModel> runner =
+                new ReplicationRunner<>("reset", InterarrivalModel::new, output, Duration.ZERO, runLength);
+        runner.setSteadyStateDetectorFactory(model ->
+        {
+            SteadyStateDetector detector = new SteadyStateDetector("interarrival", event -> (Double) event.getContent());
+            return List.of(detector.attach(model.getProducer(), InterarrivalModel.ARRIVAL_EVENT));
+        });
+        runner.setParallelism(1);
+        for (ReplicationResult result : runner.run(2))
+        {
+            Map<String, Double> outputs = result.outputs();
+            double resetTime = outputs.get("resetTime");
+            assertFalse(Double.isNaN(resetTime));
+            assertTrue(resetTime <= outputs.get("endTime"), outputs.toString());
+            assertTrue(outputs.get("arrivals") < outputs.get("total"), outputs.toString());
+            // with one arrival per hour, the arrivals after the reset are about the number of hours after the reset
+            double expected = (outputs.get("endTime") - resetTime) / 3600.0;
+            assertEquals(expected, outputs.get("arrivals"), 5.0 * Math.sqrt(expected) + 5.0, outputs.toString());
+        }
+
+        // without an override, nothing is reset, and the outputs include the warm-up period
+        ReplicationRunner<InterarrivalModel> plain = new ReplicationRunner<>("plain", InterarrivalModel::new,
+                m -> Map.of("arrivals", (double) (m.getArrivals() - m.getArrivalsAtReset())), Duration.ZERO, runLength);
+        plain.setSteadyStateDetectorFactory(model ->
+        {
+            SteadyStateDetector detector = new SteadyStateDetector("interarrival", event -> (Double) event.getContent());
+            return List.of(detector.attach(model.getProducer(), InterarrivalModel.ARRIVAL_EVENT));
+        });
+        Map<String, Double> outputs = plain.run(1).get(0).outputs();
+        assertEquals(outputs.get("endTime") / 3600.0, outputs.get("arrivals"), 5.0 * Math.sqrt(outputs.get("arrivals")) + 5.0);
+    }
+
+    /**
+     * InterarrivalModel fires an event with the interarrival time in hours for every arrival; the interarrival times are
+     * exponentially distributed with a mean of one hour.
+     */
+    static class InterarrivalModel extends SupplyChainModel
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /** the event with the interarrival time in hours. */
+        static final EventType ARRIVAL_EVENT = new EventType("ARRIVAL_EVENT", MetaData.NO_META_DATA);
+
+        /** the producer of the arrival events. */
+        private final LocalEventProducer producer = new LocalEventProducer();
+
+        /** the number of arrivals. */
+        private int arrivals = 0;
+
+        /** the number of arrivals at the last reset. */
+        private int arrivalsAtReset = 0;
+
+        /**
+         * @param simulator the simulator
+         * @param streamInformation the random streams
+         */
+        InterarrivalModel(final SupplyChainSimulatorInterface simulator, final StreamInformation streamInformation)
+        {
+            super(simulator, streamInformation);
+        }
+
+        @Override
+        public void constructModel() throws SimRuntimeException
+        {
+            scheduleArrival();
+        }
+
+        /**
+         * Schedule the next arrival, which fires its interarrival time.
+         */
+        private void scheduleArrival()
+        {
+            StreamInterface stream = getStreamInformation().getStream("default");
+            double delay = -Math.log(1.0 - stream.nextDouble());
+            getSimulator().scheduleEventRel(new Duration(delay, DurationUnit.HOUR), () ->
+            {
+                this.arrivals++;
+                this.producer.fireEvent(new TimedEvent<>(ARRIVAL_EVENT, delay, getSimulator().getSimulatorTime()));
+                scheduleArrival();
+            });
+        }
+
+        /**
+         * @return the producer of the arrival events
+         */
+        LocalEventProducer getProducer()
+        {
+            return this.producer;
+        }
+
+        /**
+         * @return the number of arrivals
+         */
+        int getArrivals()
+        {
+            return this.arrivals;
+        }
+
+        /**
+         * @return the number of arrivals at the last reset
+         */
+        int getArrivalsAtReset()
+        {
+            return this.arrivalsAtReset;
+        }
+
+        /**
+         * Reset the count of the arrivals.
+         */
+        void resetArrivals()
+        {
+            this.arrivalsAtReset = this.arrivals;
+        }
+
+        @Override
+        public Length calculateDistance(final Point<?> loc1, final Point<?> loc2)
+        {
+            return Length.ZERO;
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package nl.tudelft.supplychain.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Mass;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djunits.value.vdouble.scalar.Volume;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.actor.Role;
+import nl.tudelft.simulation.supplychain.content.ProductContent;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiver;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.handler.ContentHandler;
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.product.Sku;
+import nl.tudelft.supplychain.actor.TestActor;
+import nl.tudelft.supplychain.actor.TestModel;
+
+/**
+ * ContentHandlerTest tests the dense indexes of products and actors, and the valid product and partner filters of a
+ * ContentHandler.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class ContentHandlerTest
+{
+    /**
+     * Test the valid product and valid partner filters.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testValidContent() throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        TestActor actor3 = new TestActor("TA3", "TestActor3", model, new Point2d(30, 30), "Houston, TX");
+        assertEquals(0, actor1.getIndex());
+        assertEquals(2, actor3.getIndex());
+
+        Product p1 = product(model, "p1");
+        Product p2 = product(model, "p2");
+        Product p1Again = product(model, "p1");
+        assertEquals(0, p1.getIndex());
+        assertEquals(1, p2.getIndex());
+        assertEquals(p1.getIndex(), p1Again.getIndex());
+        assertEquals(p1, p1Again);
+        assertEquals(p1.hashCode(), p1Again.hashCode());
+        assertNotEquals(p1, p2);
+
+        TestRole role = new TestRole("ROLE", actor1, new ContentReceiverDirect());
+        ValidatingHandler handler = new ValidatingHandler("VH", role);
+        assertTrue(handler.handleContent(new TestProductContent(actor2, actor1, p1)));
+        assertFalse(handler.handleContent(new TestProductContent(actor1, actor2, p1)));
+
+        handler.addValidProduct(p1Again);
+        assertTrue(handler.handleContent(new TestProductContent(actor2, actor1, p1)));
+        assertFalse(handler.handleContent(new TestProductContent(actor2, actor1, p2)));
+
+        handler.setValidPartners(Set.of(actor3));
+        assertFalse(handler.handleContent(new TestProductContent(actor2, actor1, p1)));
+        assertTrue(handler.handleContent(new TestProductContent(actor3, actor1, p1)));
+        assertThrows(UnsupportedOperationException.class, () -> handler.getValidPartners().add(actor2));
+
+        handler.setValidProducts(Set.of());
+        handler.setValidPartners(Set.of());
+        assertTrue(handler.handleContent(new TestProductContent(actor2, actor1, p2)));
+    }
+
+    /**
+     * Create a product.
+     * @param model the model
+     * @param name the product name
+     * @return a new product
+     */
+    private static Product product(final TestModel model, final String name)
+    {
+        return new Product(model, name, Sku.PIECE, new Money(1.0, MoneyUnit.USD), Mass.ONE, Volume.ONE, 0.0);
+    }
+
+    /**
+     * Role for testing.
+     */
+    static class TestRole extends Role<TestRole>
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param id the id of the role
+         * @param actor the actor to which this role belongs
+         * @param contentReceiver the content receiver
+         */
+        TestRole(final String id, final Actor actor, final ContentReceiver contentReceiver)
+        {
+            super(id, actor, contentReceiver);
+        }
+    }
+
+    /**
+     * Handler that returns whether the content is valid.
+     */
+    static class ValidatingHandler extends ContentHandler<TestProductContent, TestRole>
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param id the id of the handler
+         * @param role the role that owns this handler
+         */
+        ValidatingHandler(final String id, final TestRole role)
+        {
+            super(id, role, TestProductContent.class);
+        }
+
+        @Override
+        public boolean handleContent(final TestProductContent content)
+        {
+            return isValidContent(content);
+        }
+    }
+
+    /**
+     * Product content for testing.
+     * @param sender the sender
+     * @param receiver the receiver
+     * @param timestamp the time of sending
+     * @param uniqueId the unique id
+     * @param product the product
+     * @param amount the amount of product
+     */
+    public record TestProductContent(Actor sender, Actor receiver, Time timestamp, long uniqueId, Product product,
+            double amount) implements ProductContent
+    {
+        /**
+         * @param sender the sender
+         * @param receiver the receiver
+         * @param product the product
+         */
+        public TestProductContent(final Actor sender, final Actor receiver, final Product product)
+        {
+            this(sender, receiver, sender.getSimulatorTime(), sender.getModel().getUniqueContentId(), product, 1.0);
+        }
+    }
+}
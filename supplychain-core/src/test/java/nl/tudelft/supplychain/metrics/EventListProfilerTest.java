@@ -0,0 +1,83 @@
+package nl.tudelft.supplychain.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.dsol.experiment.StreamInformation;
+import nl.tudelft.simulation.jstats.streams.MersenneTwister;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.metrics.EventListMetrics;
+import nl.tudelft.simulation.supplychain.metrics.EventListProfiler;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkModel;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkParameters;
+
+/**
+ * EventListProfilerTest tests the profiling of the event list of a simulator that runs a synthetic supply chain network.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class EventListProfilerTest
+{
+    /**
+     * Test that the profiler counts the scheduled, executed and cancelled events per source, and prints its report at the end
+     * of the replication.
+     * @throws Exception on error
+     */
+    @Test
+    public void testProfiler() throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("profiled", Time.ZERO);
+        EventListProfiler profiler = EventListProfiler.install(simulator);
+        assertSame(profiler, simulator.getEventList());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        profiler.printReportAtEndOfReplication(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+        SyntheticNetworkModel model = new SyntheticNetworkModel(simulator, new StreamInformation(new MersenneTwister(3L)),
+                new SyntheticNetworkParameters().setLandmasses(1).setBomDepth(2));
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.initialize(model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(30.0, DurationUnit.DAY)));
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+
+        assertTrue(profiler.getPeakSize() > 0);
+        assertTrue(profiler.getAllMetrics().size() > 1);
+        long previous = Long.MAX_VALUE;
+        for (EventListMetrics metrics : profiler.getAllMetrics())
+        {
+            assertTrue(metrics.getScheduledCount() <= previous);
+            previous = metrics.getScheduledCount();
+            assertTrue(metrics.getPendingCount() >= 0);
+        }
+        EventListMetrics checkLoop = profiler.getMetricsFor("RestockingProcess.checkLoop");
+        assertNotNull(checkLoop, profiler.getReport());
+        assertTrue(checkLoop.getExecutedCount() > 0);
+        assertEquals(0L, checkLoop.getCancelledCount());
+        String report = bytes.toString(StandardCharsets.UTF_8);
+        assertTrue(report.startsWith("Event list profile at t="), report);
+        assertTrue(report.contains("RestockingProcess.checkLoop"));
+
+        assertThrows(NullPointerException.class, () -> EventListProfiler.install(null));
+    }
+
+}
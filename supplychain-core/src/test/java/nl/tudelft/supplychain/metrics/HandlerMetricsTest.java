@@ -0,0 +1,150 @@
+package nl.tudelft.supplychain.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.actor.Role;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiver;
+import nl.tudelft.simulation.supplychain.content.receiver.ContentReceiverDirect;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.handler.ContentHandler;
+import nl.tudelft.simulation.supplychain.metrics.HandlerMetrics;
+import nl.tudelft.simulation.supplychain.metrics.HandlerMetricsRegistry;
+import nl.tudelft.simulation.supplychain.metrics.LogHistogram;
+import nl.tudelft.supplychain.actor.TestActor;
+import nl.tudelft.supplychain.actor.TestModel;
+import nl.tudelft.supplychain.handler.ContentHandlerTest.TestProductContent;
+
+/**
+ * HandlerMetricsTest tests the LogHistogram and the HandlerMetricsRegistry.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class HandlerMetricsTest
+{
+    /**
+     * Test the percentiles of the LogHistogram.
+     */
+    @Test
+    public void testLogHistogram()
+    {
+        LogHistogram histogram = new LogHistogram();
+        assertEquals(0L, histogram.getPercentile(0.5));
+        for (long v = 1; v <= 1000; v++)
+        {
+            histogram.record(v);
+        }
+        assertEquals(1000L, histogram.getCount());
+        assertEquals(500.5, histogram.getMean(), 1E-9);
+        assertEquals(1000L, histogram.getMax());
+        assertEquals(1000L, histogram.getPercentile(1.0));
+        long p50 = histogram.getPercentile(0.5);
+        assertTrue(p50 >= 500 && p50 <= 500 * 1.125, "p50=" + p50);
+        long p99 = histogram.getPercentile(0.99);
+        assertTrue(p99 >= 990 && p99 <= 1000, "p99=" + p99);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(1.0));
+    }
+
+    /**
+     * Test the recording of invocations and rejections, and the CSV output.
+     * @throws ActorAlreadyDefinedException on error
+     * @throws IOException on error
+     */
+    @Test
+    public void testHandlerMetrics() throws ActorAlreadyDefinedException, IOException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        SingleReplication<Duration> replication =
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1, DurationUnit.DAY));
+        simulator.initialize(model, replication);
+        TestActor actor1 = new TestActor("TA1", "TestActor1", model, new Point2d(10, 10), "Dallas, TX");
+        TestActor actor2 = new TestActor("TA2", "TestActor2", model, new Point2d(20, 20), "Austin, TX");
+        MetricsRole role = new MetricsRole("ROLE", actor1, new ContentReceiverDirect());
+        MetricsHandler handler = new MetricsHandler("MH", role);
+        handler.addValidPartner(actor2);
+
+        // not instrumented
+        role.handleContent(new TestProductContent(actor2, actor1, null));
+        HandlerMetricsRegistry registry = new HandlerMetricsRegistry();
+        assertEquals(0, registry.getAllMetrics().size());
+
+        model.setHandlerMetrics(registry);
+        role.handleContent(new TestProductContent(actor2, actor1, null));
+        role.handleContent(new TestProductContent(actor2, actor1, null));
+        role.handleContent(new TestProductContent(actor1, actor1, null));
+        assertEquals(1, registry.getAllMetrics().size());
+        HandlerMetrics metrics = registry.getAllMetrics().get(0);
+        assertEquals("TA1", metrics.getActorId());
+        assertEquals("ROLE", metrics.getRoleId());
+        assertEquals("MH", metrics.getHandlerId());
+        assertEquals(3L, metrics.getInvocationCount());
+        assertEquals(1L, metrics.getRejectedCount());
+        assertEquals(0.0, metrics.getMaxQueueingDelaySi(), 0.0);
+
+        StringWriter writer = new StringWriter();
+        registry.writeCsv(writer);
+        String[] lines = writer.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(HandlerMetricsRegistry.CSV_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith("TA1,ROLE,MH,TestProductContent,3,1,"), lines[1]);
+
+        registry.reset();
+        assertEquals(0, registry.getAllMetrics().size());
+    }
+
+    /** Role for testing. */
+    static class MetricsRole extends Role<MetricsRole>
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param id the id of the role
+         * @param actor the actor to which this role belongs
+         * @param contentReceiver the content receiver
+         */
+        MetricsRole(final String id, final Actor actor, final ContentReceiver contentReceiver)
+        {
+            super(id, actor, contentReceiver);
+        }
+    }
+
+    /** Handler for testing that validates the content. */
+    static class MetricsHandler extends ContentHandler<TestProductContent, MetricsRole>
+    {
+        /** */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param id the id of the handler
+         * @param role the role that owns this handler
+         */
+        MetricsHandler(final String id, final MetricsRole role)
+        {
+            super(id, role, TestProductContent.class);
+        }
+
+        @Override
+        public boolean handleContent(final TestProductContent content)
+        {
+            return isValidContent(content);
+        }
+    }
+}
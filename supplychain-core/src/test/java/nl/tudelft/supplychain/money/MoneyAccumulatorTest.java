@@ -0,0 +1,126 @@
+package nl.tudelft.supplychain.money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyAccumulator;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
+
+/**
+ * MoneyAccumulatorTest tests the fixed-point money representation in minor units, and its exact rounding.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class MoneyAccumulatorTest
+{
+    /**
+     * Test the exact rounding of amounts to minor units, and the conversion back to amounts.
+     */
+    @Test
+    public void testRounding()
+    {
+        MoneyUnit usd = MoneyUnit.USD;
+        assertEquals(2, usd.getFractionDigits());
+        assertEquals(100L, usd.getMinorUnitsPerUnit());
+        assertEquals(101L, usd.toMinorUnits(1.005));
+        assertEquals(-101L, usd.toMinorUnits(-1.005));
+        assertEquals(100L, usd.toMinorUnits(1.0049));
+        assertEquals(30L, usd.toMinorUnits(0.1 + 0.2));
+        assertEquals(0L, usd.toMinorUnits(0.004));
+        assertEquals(0.07, usd.toAmount(7L));
+        assertEquals(1234567.89, usd.toAmount(123456789L));
+        assertEquals(3L, MoneyUnit.multiply(5L, 0.5));
+        assertEquals(-3L, MoneyUnit.multiply(-5L, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> usd.toMinorUnits(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> usd.toMinorUnits(Double.NaN));
+
+        MoneyUnit yen = new MoneyUnit("JPY", "\u00A5", 0);
+        assertEquals(3L, yen.toMinorUnits(2.5));
+        assertEquals(2.0, Money.ofMinorUnits(2L, yen).getAmount());
+        assertThrows(IllegalArgumentException.class, () -> new MoneyUnit("XXX", "x", 7));
+
+        assertEquals(1.01, new Money(1.005, usd).round().getAmount());
+        assertEquals(101L, new Money(1.005, usd).toMinorUnits());
+    }
+
+    /**
+     * Test that equal money units share their ordinal, also after deserialization.
+     * @throws Exception on error
+     */
+    @Test
+    public void testOrdinal() throws Exception
+    {
+        MoneyUnit usd2 = new MoneyUnit("USD", "$");
+        assertNotSame(MoneyUnit.USD, usd2);
+        assertEquals(MoneyUnit.USD.getOrdinal(), usd2.getOrdinal());
+        assertSame(MoneyUnit.USD, MoneyUnit.ofOrdinal(usd2.getOrdinal()));
+        assertFalse(MoneyUnit.USD.getOrdinal() == MoneyUnit.EUR.getOrdinal());
+
+        // a unit with the same name and symbol but other fraction digits is a different unit with its own ordinal
+        MoneyUnit usd0 = new MoneyUnit("USD", "$", 0);
+        assertNotEquals(MoneyUnit.USD, usd0);
+        assertNotEquals(MoneyUnit.USD.getOrdinal(), usd0.getOrdinal());
+        assertSame(usd0, MoneyUnit.ofOrdinal(usd0.getOrdinal()));
+        assertEquals(usd0.getOrdinal(), new MoneyUnit("USD", "$", 0).getOrdinal());
+        assertThrows(IllegalArgumentException.class, () -> new MoneyAccumulator(MoneyUnit.USD).add(new Money(1.0, usd0)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(usd2);
+            out.writeObject(usd0);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            assertSame(MoneyUnit.USD, in.readObject());
+            assertSame(usd0, in.readObject());
+        }
+    }
+
+    /**
+     * Test that the accumulator sums exactly in minor units.
+     */
+    @Test
+    public void testAccumulator()
+    {
+        MoneyAccumulator accumulator = new MoneyAccumulator(MoneyUnit.USD);
+        double sum = 0.0;
+        for (int i = 0; i < 1000; i++)
+        {
+            accumulator.add(new Money(0.1, MoneyUnit.USD));
+            sum += 0.1;
+        }
+        assertEquals(10000L, accumulator.getMinorUnits());
+        assertEquals(100.0, accumulator.getAmount());
+        assertFalse(sum == 100.0);
+
+        accumulator.subtract(new Money(0.01, new MoneyUnit("USD", "$"))).addProduct(new Money(2.5, MoneyUnit.USD), 3.0)
+                .subtractProduct(new Money(1.0, MoneyUnit.USD), 0.5).addMinorUnits(1L);
+        assertEquals(10000L - 1L + 750L - 50L + 1L, accumulator.getMinorUnits());
+        accumulator.multiplyBy(0.5);
+        assertEquals(5350L, accumulator.getMinorUnits());
+        assertEquals(53.5, accumulator.toMoney().getAmount());
+        assertSame(MoneyUnit.USD, accumulator.toMoney().getMoneyUnit());
+        assertEquals(1250L, new MoneyAccumulator(new Money(12.5, MoneyUnit.USD)).getMinorUnits());
+        assertEquals(0L, accumulator.reset().getMinorUnits());
+        assertEquals(199L, accumulator.set(new Money(1.985, MoneyUnit.USD)).getMinorUnits());
+        assertThrows(IllegalArgumentException.class, () -> accumulator.add(new Money(1.0, MoneyUnit.EUR)));
+        assertThrows(NullPointerException.class, () -> new MoneyAccumulator((MoneyUnit) null));
+    }
+
+}
@@ -0,0 +1,155 @@
+package nl.tudelft.supplychain.money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Mass;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djunits.value.vdouble.scalar.Volume;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.actor.Geography;
+import nl.tudelft.simulation.supplychain.content.Demand;
+import nl.tudelft.simulation.supplychain.content.RequestForQuote;
+import nl.tudelft.simulation.supplychain.content.TransportQuote;
+import nl.tudelft.simulation.supplychain.content.TransportQuoteRequest;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreFull;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.product.Sku;
+import nl.tudelft.simulation.supplychain.reference.Bank;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+import nl.tudelft.simulation.supplychain.reference.Transporter;
+import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
+import nl.tudelft.simulation.supplychain.role.directing.DirectingRoleTransporting;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingRole;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportMode;
+import nl.tudelft.simulation.supplychain.role.transporting.TransportingRole;
+import nl.tudelft.supplychain.actor.TestModel;
+
+/**
+ * MoneyRoundingTest tests the rounding of bank balances and transport quote prices to whole minor units (e.g., cents).
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class MoneyRoundingTest
+{
+    /**
+     * Test that every update of a bank balance is rounded with roundBalance, also when a subclass overrides it.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testBankBalance() throws ActorAlreadyDefinedException
+    {
+        TestModel model = model();
+        Bank bank = new Bank("bank", "Bank", model, new Point2d(0, 0), "Delft", "Europe");
+        bank.setBankingRole(new BankingRole("bank", bank));
+        Retailer retailer = retailer(model, "retailer", new Point2d(10, 10));
+        retailer.setFinancingRole(new FinancingRole(retailer, bank, new Money(1000.0, MoneyUnit.USD)));
+        BankingRole bankingRole = bank.getBankingRole();
+        bankingRole.addToBalance(retailer, new Money(0.005, MoneyUnit.USD));
+        assertEquals(1000.01, bankingRole.getBalance(retailer).getAmount());
+        bankingRole.withdrawFromBalance(retailer, new Money(0.333, MoneyUnit.USD));
+        assertEquals(999.68, bankingRole.getBalance(retailer).getAmount());
+
+        // a bank that keeps balances in whole dollars
+        Bank wholeBank = new Bank("wholeBank", "Whole Bank", model, new Point2d(0, 0), "Delft", "Europe");
+        wholeBank.setBankingRole(new BankingRole("wholeBank", wholeBank)
+        {
+            /** */
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Money roundBalance(final Money money)
+            {
+                return new Money(Math.floor(money.getAmount()), money.getMoneyUnit());
+            }
+        });
+        Retailer wholeRetailer = retailer(model, "wholeRetailer", new Point2d(20, 20));
+        wholeRetailer.setFinancingRole(new FinancingRole(wholeRetailer, wholeBank, new Money(1000.75, MoneyUnit.USD)));
+        assertEquals(1000.0, wholeBank.getBankingRole().getBalance(wholeRetailer).getAmount());
+        wholeBank.getBankingRole().addToBalance(wholeRetailer, new Money(0.75, MoneyUnit.USD));
+        assertEquals(1000.0, wholeBank.getBankingRole().getBalance(wholeRetailer).getAmount());
+    }
+
+    /**
+     * Test that the price of a single-leg truck quote is rounded to whole cents, where the cost per SKU is a fraction of a cent.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testSingleLegTransportQuote() throws ActorAlreadyDefinedException
+    {
+        TestModel model = model();
+        Retailer buyer = retailer(model, "buyer", new Point2d(0, 0));
+        Retailer seller = retailer(model, "seller", new Point2d(3000, 4000));
+        Transporter transporter = new Transporter("transporter", "Transporter", model, new Point2d(0, 0), "Delft", "Europe");
+        TransportingRole transportingRole = new TransportingRole(transporter);
+        transporter.setTransportingRole(transportingRole);
+        Map<TransportMode, Double> profitMargins = new LinkedHashMap<>();
+        profitMargins.put(TransportMode.TRUCK, 0.1);
+        DirectingRoleTransporting directingRole = new DirectingRoleTransporting(transporter, profitMargins);
+        directingRole.addTransportOnLandmass("Europe");
+        transporter.setDirectingRole(directingRole);
+
+        Product product =
+                new Product(model, "product", Sku.PIECE, new Money(10.0, MoneyUnit.USD), Mass.ONE, Volume.ONE, 0.0);
+        transportingRole.setEstimatedLoadingCost(Sku.PIECE, new Money(0.1, MoneyUnit.USD));
+        transportingRole.setEstimatedUnloadingCost(Sku.PIECE, new Money(0.1, MoneyUnit.USD));
+        transportingRole.setEstimatedTransportCostPerKm(Sku.PIECE, new Money(0.0111, MoneyUnit.USD));
+
+        // the seller is 5 km from the buyer, so the cost is 0.2555 per piece, and 3 pieces with a 10% margin cost 0.84315
+        Time now = Time.ZERO;
+        Demand demand = new Demand(buyer, buyer, now, model.getUniqueContentId(), 5L, product, 3.0, now, now);
+        RequestForQuote rfq = new RequestForQuote(buyer, seller, now, model.getUniqueContentId(), 5L, demand, null, now);
+        TransportQuoteRequest tqr =
+                new TransportQuoteRequest(buyer, transporter, now, model.getUniqueContentId(), 5L, rfq, now);
+        List<TransportQuote> quotes = transportingRole.makeTransportQuotes(tqr);
+        assertEquals(1, quotes.size());
+        Money price = quotes.get(0).price();
+        assertEquals(0.84, price.getAmount());
+        assertEquals(MoneyUnit.USD, price.getMoneyUnit());
+        assertNotEquals(0.2555 * 3.0 * 1.1, price.getAmount());
+    }
+
+    /**
+     * Make an initialized test model.
+     * @return an initialized test model
+     */
+    private static TestModel model()
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        simulator.initialize(model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(1.0, DurationUnit.DAY)));
+        return model;
+    }
+
+    /**
+     * Make a retailer in Europe.
+     * @param model the model
+     * @param id the id of the retailer
+     * @param location the location of the retailer
+     * @return the retailer
+     * @throws ActorAlreadyDefinedException on error
+     */
+    private static Retailer retailer(final TestModel model, final String id, final Point2d location)
+            throws ActorAlreadyDefinedException
+    {
+        return new Retailer(id, id, model, new Geography(location, "Delft", "Europe"), new ContentStoreFull());
+    }
+
+}
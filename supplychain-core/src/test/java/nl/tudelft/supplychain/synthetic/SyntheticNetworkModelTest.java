@@ -0,0 +1,102 @@
+package nl.tudelft.supplychain.synthetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.supplychain.actor.Actor;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationResult;
+import nl.tudelft.simulation.supplychain.experiment.ReplicationRunner;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkModel;
+import nl.tudelft.simulation.supplychain.synthetic.SyntheticNetworkParameters;
+
+/**
+ * SyntheticNetworkModelTest tests the generation of a synthetic network, and runs it for a short period.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class SyntheticNetworkModelTest
+{
+    /**
+     * Test the structure of a generated network with two landmasses, and run it for 30 days.
+     */
+    @Test
+    public void testNetwork()
+    {
+        SyntheticNetworkParameters parameters = new SyntheticNetworkParameters().setLandmasses(2).setBomDepth(3)
+                .setProductsPerTier(6).setComponentsPerProduct(3).setDemandInterval(new Duration(12.0, DurationUnit.HOUR));
+        ReplicationRunner<SyntheticNetworkModel> runner =
+                new ReplicationRunner<>("synthetic", (sim, streams) -> new SyntheticNetworkModel(sim, streams, parameters),
+                        this::outputs, Duration.ZERO, new Duration(30.0, DurationUnit.DAY));
+        ReplicationResult result = runner.runReplication(0);
+        assertEquals(parameters.getNumberOfActors(), result.outputs().get("actors").intValue());
+        assertEquals(parameters.getNumberOfProducts(), result.outputs().get("products").intValue());
+        assertTrue(result.outputs().get("sold") > 0.0, "retailers did not sell anything");
+
+        // the network is reproducible from the seed
+        assertEquals(result.outputs(), runner.runReplication(0).outputs());
+    }
+
+    /**
+     * Return the outputs of a run: the number of actors and products, and the end product stock that the retailers sold.
+     * @param model the model after the run
+     * @return the outputs of the run
+     */
+    private Map<String, Double> outputs(final SyntheticNetworkModel model)
+    {
+        SyntheticNetworkParameters parameters = model.getParameters();
+        int products = 0;
+        for (int tier = 0; tier <= parameters.getBomDepth(); tier++)
+        {
+            List<Product> tierProducts = model.getProducts(tier);
+            products += tierProducts.size();
+            for (Product product : tierProducts)
+            {
+                assertEquals(tier == 0, product.getBillOfMaterials().getMaterials().isEmpty());
+            }
+        }
+        assertEquals(2 * parameters.getRetailers(), model.getActors("Retailer").size());
+        assertFalse(model.getActors("Bank").isEmpty());
+        double sold = 0.0;
+        for (Actor actor : model.getActors("Retailer"))
+        {
+            var inventory = ((Retailer) actor).getWarehousingRole().getInventory();
+            for (Product product : inventory.getProducts())
+            {
+                sold += Math.max(0.0, parameters.getInitialStock() - inventory.getActualAmount(product));
+            }
+        }
+        return Map.of("actors", (double) model.getNumberOfActors(), "products", (double) products, "sold", sold);
+    }
+
+    /**
+     * Test the checks of the parameters.
+     */
+    @Test
+    public void testParameters()
+    {
+        SyntheticNetworkParameters parameters = new SyntheticNetworkParameters();
+        assertEquals(21, parameters.getNumberOfActors());
+        assertEquals(12, parameters.getNumberOfProducts());
+        assertThrows(IllegalArgumentException.class, () -> parameters.setLandmasses(0));
+        assertThrows(IllegalArgumentException.class, () -> parameters.setBomDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> parameters.setDistributionCenters(-1));
+        assertThrows(IllegalArgumentException.class, () -> parameters.setInitialStock(0.0));
+        assertThrows(IllegalArgumentException.class, () -> parameters.setDepreciation(1.0));
+        assertEquals(18, parameters.setDistributionCenters(0).getNumberOfActors());
+    }
+
+}
@@ -0,0 +1,349 @@
+package nl.tudelft.supplychain.warehousing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiConsumer;
+
+import org.djunits.unit.DurationUnit;
+import org.djunits.value.vdouble.scalar.Duration;
+import org.djunits.value.vdouble.scalar.Mass;
+import org.djunits.value.vdouble.scalar.Time;
+import org.djunits.value.vdouble.scalar.Volume;
+import org.djutils.draw.point.Point2d;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.simulation.dsol.experiment.Replication;
+import nl.tudelft.simulation.dsol.experiment.SingleReplication;
+import nl.tudelft.simulation.supplychain.actor.ActorAlreadyDefinedException;
+import nl.tudelft.simulation.supplychain.actor.Geography;
+import nl.tudelft.simulation.supplychain.content.store.ContentStoreFull;
+import nl.tudelft.simulation.supplychain.dsol.SerializableExecutable;
+import nl.tudelft.simulation.supplychain.dsol.SupplyChainSimulator;
+import nl.tudelft.simulation.supplychain.money.Money;
+import nl.tudelft.simulation.supplychain.money.MoneyUnit;
+import nl.tudelft.simulation.supplychain.product.Product;
+import nl.tudelft.simulation.supplychain.product.Sku;
+import nl.tudelft.simulation.supplychain.reference.Bank;
+import nl.tudelft.simulation.supplychain.reference.Retailer;
+import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
+import nl.tudelft.simulation.supplychain.role.financing.FinancingRole;
+import nl.tudelft.simulation.supplychain.role.warehousing.Inventory;
+import nl.tudelft.simulation.supplychain.role.warehousing.InventoryEventMode;
+import nl.tudelft.simulation.supplychain.role.warehousing.InventoryUpdateData;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingActor;
+import nl.tudelft.simulation.supplychain.role.warehousing.WarehousingRole;
+import nl.tudelft.simulation.supplychain.role.warehousing.process.RestockingProcessTriggeredFixed;
+import nl.tudelft.supplychain.actor.TestModel;
+
+/**
+ * InventoryTest tests the amounts, values and product indexes of the Inventory, the bulk query for the products that are below
+ * their reorder point, the coalesced inventory change events, the lazy depreciation, and the triggered restocking.
+ * <p>
+ * Copyright (c) 2025-2025 Delft University of Technology, Delft, the Netherlands. All rights reserved. <br>
+ * The supply chain Java library uses a BSD-3 style license.
+ * </p>
+ * @author <a href="https://www.tudelft.nl/averbraeck">Alexander Verbraeck</a>
+ */
+public class InventoryTest
+{
+    /**
+     * Test the inventory with more products than its initial capacity.
+     * @throws ActorAlreadyDefinedException on error
+     */
+    @Test
+    public void testInventory() throws ActorAlreadyDefinedException
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        Inventory inventory = inventory(simulator, model, 1.0);
+
+        // a product that is registered in the model before, but not stocked, has no index in the inventory
+        Product unused = product(model, "unused", 1.0);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 40; i++)
+        {
+            Product product = product(model, "p" + i, 1.0 + i);
+            products.add(product);
+            inventory.addToInventory(product, 10.0, new Money(10.0 * (1.0 + i), MoneyUnit.USD));
+        }
+        assertEquals(40, inventory.numberOfProducts());
+        assertEquals(products, new ArrayList<>(inventory.getProducts()));
+        assertEquals(-1, inventory.getProductIndex(unused));
+        assertEquals(0.0, inventory.getActualAmount(unused));
+        assertEquals(1.0, inventory.getUnitPrice(unused).getAmount());
+        for (int i = 0; i < 40; i++)
+        {
+            assertEquals(i, inventory.getProductIndex(products.get(i)));
+            assertEquals(products.get(i), inventory.getProduct(i));
+            assertEquals(10.0, inventory.getActualAmount(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> inventory.getActualAmount(40));
+
+        // amounts and values
+        Product p3 = products.get(3);
+        inventory.reserveAmount(p3, 4.0);
+        inventory.orderedAmount(p3, 5.0);
+        assertEquals(11.0, inventory.getVirtualAmount(p3));
+        inventory.releaseReservedAmount(p3, 4.0);
+        assertEquals(6.0, inventory.getActualAmount(p3));
+        assertEquals(0.0, inventory.getReservedAmount(p3));
+        assertEquals(24.0, inventory.getTotalMonetaryValue(3).getAmount());
+        inventory.enterOrderedAmount(p3, 5.0, new Money(2.5, MoneyUnit.USD));
+        assertEquals(11.0, inventory.getActualAmount(p3));
+        assertEquals(0.0, inventory.getOrderedAmount(p3));
+        assertEquals(36.5, inventory.getTotalMonetaryValue(3).getAmount());
+        assertEquals(36.5 / 11.0, inventory.getUnitPrice(p3).getAmount(), 1.0E-12);
+        assertThrows(IllegalArgumentException.class,
+                () -> inventory.addToInventory(p3, 1.0, new Money(1.0, MoneyUnit.EUR)));
+
+        // bulk query on the reorder points
+        assertEquals(List.of(), inventory.getProductsBelowReorderPoint());
+        inventory.setReorderPoint(products.get(5), 10.5);
+        inventory.setReorderPoint(p3, 10.5);
+        inventory.setReorderPoint(products.get(30), 5.0);
+        assertEquals(List.of(products.get(5)), inventory.getProductsBelowReorderPoint());
+        inventory.reserveAmount(products.get(30), 6.0);
+        assertEquals(List.of(products.get(5), products.get(30)), inventory.getProductsBelowReorderPoint());
+        assertEquals(List.of(products.get(30)), inventory.getProductsBelow(5.0));
+        assertEquals(Double.NEGATIVE_INFINITY, inventory.getReorderPoint(products.get(6)));
+    }
+
+    /**
+     * Test that the changes of one instant are published as one change per product in the COALESCED event mode.
+     * @throws Exception on error
+     */
+    @Test
+    public void testCoalescedEvents() throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        Inventory inventory = inventory(simulator, model, 1.0);
+        Product p0 = product(model, "p0", 1.0);
+        Product p1 = product(model, "p1", 2.0);
+        inventory.addToInventory(p0, 10.0, new Money(10.0, MoneyUnit.USD));
+        inventory.addToInventory(p1, 10.0, new Money(20.0, MoneyUnit.USD));
+        inventory.setEventMode(InventoryEventMode.COALESCED);
+        List<InventoryUpdateData> changes = new ArrayList<>();
+        List<Double> changeTimes = new ArrayList<>();
+        List<List<?>> batches = new ArrayList<>();
+        inventory.addListener(event ->
+        {
+            changes.add((InventoryUpdateData) event.getContent());
+            changeTimes.add(simulator.getSimulatorTime().getInUnit(DurationUnit.HOUR));
+        }, Inventory.INVENTORY_CHANGE_EVENT);
+        inventory.addListener(event -> batches.add((List<?>) event.getContent()), Inventory.INVENTORY_BATCH_CHANGE_EVENT);
+        simulator.scheduleEventAbs(new Duration(1.0, DurationUnit.HOUR), () ->
+        {
+            inventory.reserveAmount(p0, 4.0);
+            inventory.orderedAmount(p1, 5.0);
+            inventory.releaseReservedAmount(p0, 4.0);
+            inventory.enterOrderedAmount(p1, 5.0, new Money(2.0, MoneyUnit.USD));
+        });
+        simulator.scheduleEventAbs(new Duration(2.0, DurationUnit.HOUR), () -> inventory.reserveAmount(p1, 1.0));
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+
+        assertEquals(List.of(new InventoryUpdateData("p0", 6.0, 0.0, 0.0), new InventoryUpdateData("p1", 15.0, 0.0, 0.0),
+                new InventoryUpdateData("p1", 15.0, 1.0, 0.0)), changes);
+        assertEquals(List.of(1.0, 1.0, 2.0), changeTimes);
+        assertEquals(List.of(changes.subList(0, 2), changes.subList(2, 3)), batches);
+    }
+
+    /**
+     * Test that the value of a product depreciates per full day, and that the cost is posted once per day for the inventory.
+     * @throws Exception on error
+     */
+    @Test
+    public void testDepreciation() throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        Inventory inventory = inventory(simulator, model, 3.0);
+        Retailer retailer = (Retailer) inventory.getActor();
+
+        // a product without depreciation does not schedule anything
+        int events = simulator.getEventList().size();
+        inventory.addToInventory(product(model, "fixed", 1.0), 10.0, new Money(10.0, MoneyUnit.USD));
+        assertEquals(events, simulator.getEventList().size());
+
+        Product product = new Product(model, "perishable", Sku.PIECE, new Money(10.0, MoneyUnit.USD), Mass.ONE, Volume.ONE,
+                0.1);
+        inventory.addToInventory(product, 10.0, new Money(100.0, MoneyUnit.USD));
+        inventory.addToInventory(product(model, "other", 1.0), 10.0, new Money(10.0, MoneyUnit.USD));
+        assertEquals(events + 1, simulator.getEventList().size());
+        List<Double> values = new ArrayList<>();
+        List<Double> balances = new ArrayList<>();
+        for (double day : new double[] {0.5, 1.5, 2.5})
+        {
+            simulator.scheduleEventAbs(new Duration(day, DurationUnit.DAY), () ->
+            {
+                values.add(inventory.getTotalMonetaryValue(inventory.getProductIndex(product)).getAmount());
+                balances.add(retailer.getFinancingRole().getBank().getBalance(retailer).getAmount());
+            });
+        }
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+
+        assertEquals(List.of(100.0, 90.0, 81.0), values);
+        assertEquals(List.of(1000.0, 990.0, 981.0), balances);
+        assertEquals(27.1, inventory.getPostedDepreciation().getAmount(), 1.0E-9);
+        assertEquals(20.0 + 72.9, inventory.getTotalMonetaryValue().getAmount(), 1.0E-9);
+        assertThrows(IllegalArgumentException.class, () -> inventory.setDepreciationPostingInterval(Duration.ZERO));
+    }
+
+    /**
+     * Test that a triggered restocking process only orders when the inventory level crosses the reorder point, and that the
+     * review period postpones the order to the next review moment. The demands are not entered as ordered, so the level stays
+     * below the reorder point after the last crossing and the policy is evaluated again after the retry interval.
+     * @throws Exception on error
+     */
+    @Test
+    public void testTriggeredRestocking() throws Exception
+    {
+        BiConsumer<Inventory, Product> changes = (inventory, product) ->
+        {
+            change(inventory, 1.0, () -> inventory.reserveAmount(product, 3.0));
+            change(inventory, 2.0, () -> inventory.reserveAmount(product, 3.0));
+            change(inventory, 3.0, () -> inventory.reserveAmount(product, 1.0));
+            change(inventory, 4.0, () -> inventory.orderedAmount(product, 8.0));
+            change(inventory, 5.0, () -> inventory.reserveAmount(product, 7.0));
+        };
+        assertEquals(List.of(List.of(2.0, 8.0), List.of(5.0, 8.0), List.of(29.0, 8.0), List.of(53.0, 8.0)),
+                restock(null, true, 12.0, Integer.MAX_VALUE, changes));
+        assertEquals(List.of(List.of(24.0, 8.0), List.of(48.0, 8.0)), restock(new Duration(1.0, DurationUnit.DAY), true, 12.0, Integer.MAX_VALUE,
+                changes));
+    }
+
+    /**
+     * Test that a triggered restocking process orders again when its first order failed, i.e., when nothing has been entered
+     * as ordered and the inventory level stays below the reorder point. Further changes below the reorder point do not order.
+     * @throws Exception on error
+     */
+    @Test
+    public void testTriggeredRestockingFailedOrder() throws Exception
+    {
+        BiConsumer<Inventory, Product> changes = (inventory, product) ->
+        {
+            change(inventory, 1.0, () -> inventory.reserveAmount(product, 6.0));
+            change(inventory, 3.0, () -> inventory.reserveAmount(product, 1.0));
+        };
+        assertEquals(List.of(List.of(1.0, 8.0), List.of(25.0, 9.0)), restock(null, true, 12.0, 1, changes));
+        assertEquals(List.of(List.of(24.0, 9.0), List.of(48.0, 9.0)),
+                restock(new Duration(1.0, DurationUnit.DAY), true, 12.0, 1, changes));
+    }
+
+    /**
+     * Test that a triggered restocking process with a fixed order amount that is smaller than the shortfall orders again until
+     * the inventory level is at or above the reorder point.
+     * @throws Exception on error
+     */
+    @Test
+    public void testTriggeredRestockingSmallAmount() throws Exception
+    {
+        BiConsumer<Inventory, Product> changes =
+                (inventory, product) -> change(inventory, 1.0, () -> inventory.reserveAmount(product, 10.0));
+        assertEquals(List.of(List.of(1.0, 2.0), List.of(25.0, 2.0), List.of(49.0, 2.0)), restock(null, false, 2.0, 0, changes));
+    }
+
+    /**
+     * Run a replication in which the reserved and ordered amounts of a product with a triggered restocking process change, and
+     * return the demand of the restocking process. The inventory starts with 10 units, and the reorder point is 5 units.
+     * @param reviewPeriod the review period of the restocking process, or null for continuous review
+     * @param ceiling fixed ceiling (true) or fixed amount (false)
+     * @param amount the amount with which or to which stock is supplemented
+     * @param firstEntered the number of the first demand that is entered as ordered; earlier demands fail
+     * @param changes schedules the changes of the inventory
+     * @return the time in hours and the amount of each demand of the restocking process
+     * @throws Exception on error
+     */
+    private List<List<Double>> restock(final Duration reviewPeriod, final boolean ceiling, final double amount,
+            final int firstEntered, final BiConsumer<Inventory, Product> changes) throws Exception
+    {
+        SupplyChainSimulator simulator = new SupplyChainSimulator("sim", Time.ZERO);
+        TestModel model = new TestModel(simulator);
+        Inventory inventory = inventory(simulator, model, 2.5);
+        Product product = product(model, "p", 1.0);
+        inventory.addToInventory(product, 10.0, new Money(10.0, MoneyUnit.USD));
+        List<List<Double>> demands = new ArrayList<>();
+        new RestockingProcessTriggeredFixed((WarehousingActor) inventory.getActor(), inventory, product, 5.0, ceiling, amount,
+                true, Duration.ZERO)
+        {
+            /** */
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void createDemand(final double orderAmount)
+            {
+                demands.add(List.of(getSimulator().getSimulatorTime().getInUnit(DurationUnit.HOUR), orderAmount));
+                if (demands.size() > firstEntered)
+                {
+                    inventory.orderedAmount(product, orderAmount);
+                }
+            }
+        }.setReviewPeriod(reviewPeriod);
+        assertEquals(5.0, inventory.getReorderPoint(product));
+        changes.accept(inventory, product);
+        CountDownLatch ended = new CountDownLatch(1);
+        simulator.addListener(event -> ended.countDown(), Replication.END_REPLICATION_EVENT);
+        simulator.start();
+        ended.await();
+        simulator.cleanUp();
+        return demands;
+    }
+
+    /**
+     * Schedule a change of the inventory.
+     * @param inventory the inventory
+     * @param hours the time of the change in hours
+     * @param change the change
+     */
+    private void change(final Inventory inventory, final double hours, final SerializableExecutable change)
+    {
+        inventory.getActor().getSimulator().scheduleEventAbs(new Duration(hours, DurationUnit.HOUR), change);
+    }
+
+    /**
+     * Initialize the simulator, and make the inventory of a retailer with a bank account.
+     * @param simulator the simulator
+     * @param model the model
+     * @param days the run length of the replication in days
+     * @return the inventory of the retailer
+     * @throws ActorAlreadyDefinedException on error
+     */
+    private Inventory inventory(final SupplyChainSimulator simulator, final TestModel model, final double days)
+            throws ActorAlreadyDefinedException
+    {
+        simulator.initialize(model,
+                new SingleReplication<Duration>("rep", Duration.ZERO, Duration.ZERO, new Duration(days, DurationUnit.DAY)));
+        Bank bank = new Bank("bank", "Bank", model, new Point2d(0, 0), "Delft", "Europe");
+        bank.setBankingRole(new BankingRole("bank", bank));
+        Retailer retailer = new Retailer("retailer", "Retailer", model, new Geography(new Point2d(10, 10), "Delft", "Europe"),
+                new ContentStoreFull());
+        retailer.setFinancingRole(new FinancingRole(retailer, bank, new Money(1000.0, MoneyUnit.USD)));
+        retailer.setWarehousingRole(new WarehousingRole(retailer));
+        return retailer.getWarehousingRole().getInventory();
+    }
+
+    /**
+     * Make a product without depreciation.
+     * @param model the model
+     * @param name the name of the product
+     * @param price the unit market price of the product
+     * @return the product
+     */
+    private Product product(final TestModel model, final String name, final double price)
+    {
+        return new Product(model, name, Sku.PIECE, new Money(price, MoneyUnit.USD), Mass.ONE, Volume.ONE, 0.0);
+    }
+
+}
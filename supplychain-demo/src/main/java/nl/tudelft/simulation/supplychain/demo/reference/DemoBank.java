@@ -14,6 +14,7 @@ import nl.tudelft.simulation.supplychain.dsol.SupplyChainModelInterface;
 import nl.tudelft.simulation.supplychain.reference.Bank;
 import nl.tudelft.simulation.supplychain.role.banking.BankingRole;
 import nl.tudelft.simulation.supplychain.role.banking.handler.BankTransferHandler;
+import nl.tudelft.simulation.supplychain.role.banking.handler.InterbankTransferHandler;
 import nl.tudelft.simulation.supplychain.role.banking.process.InterestProcess;
 
 /**
@@ -51,6 +52,7 @@ public class DemoBank extends Bank
         getBankingRole().setAnnualInterestRateNeg(-0.080);
         getBankingRole().setAnnualInterestRatePos(0.025);
         new BankTransferHandler(this);
+        new InterbankTransferHandler(this);
         if (getSimulator() instanceof AnimatorInterface)
         {
             new SingleImageRenderable<>(this, getSimulator(),
@@ -111,7 +111,7 @@ public class ContentAnimation implements Locatable, Serializable
             this.imageRenderable.setScale(true);
 
             // We schedule its destroy.
-            this.simulator.scheduleEventRel(delay, this.imageRenderable, "destroy", new Object[] {this.simulator});
+            this.simulator.scheduleEventRel(delay, this.imageRenderable::destroy, this.simulator);
         }
         catch (Exception remoteException)
         {